@@ -0,0 +1,241 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import org.eclipse.xpanse.modules.models.common.enums.Category;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.service.deploy.DeployRequest;
+import org.eclipse.xpanse.modules.models.servicetemplate.DeployVariable;
+import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
+import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.eclipse.xpanse.modules.models.servicetemplate.ServiceFlavorWithPrice;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployVariableDataType;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployVariableKind;
+import org.eclipse.xpanse.modules.models.servicetemplate.utils.OclLoader;
+import org.eclipse.xpanse.modules.security.common.AesUtil;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Fixtures shared by the benchmarks. The fixtures are sized like the larger service templates
+ * and deployments seen in production, so that costs which grow with the template or the state
+ * are visible in the results.
+ */
+public final class BenchmarkFixtures {
+
+    public static final int FLAVORS_COUNT = 50;
+    public static final int ADDITIONAL_VARIABLES_COUNT = 26;
+    public static final String FLAVOR_NAME_PREFIX = "flavor-";
+    public static final String AES_KEY_FILE_NAME = "target/benchmark_aes_key";
+    private static final String OCL_FILE_NAME = "ocl_benchmark.yml";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Load the service template with 50 flavors and 30 deploy variables.
+     *
+     * @return service template.
+     */
+    public static Ocl getOcl() {
+        URL oclUrl = BenchmarkFixtures.class.getClassLoader().getResource(OCL_FILE_NAME);
+        Objects.requireNonNull(oclUrl, OCL_FILE_NAME + " not found in the classpath.");
+        Ocl ocl;
+        try {
+            ocl = new OclLoader().getOcl(oclUrl);
+        } catch (Exception e) {
+            throw new IllegalStateException("Load " + OCL_FILE_NAME + " failed.", e);
+        }
+        ServiceFlavorWithPrice templateFlavor = ocl.getFlavors().getServiceFlavors().getFirst();
+        List<ServiceFlavorWithPrice> flavors = new ArrayList<>();
+        for (int i = 0; i < FLAVORS_COUNT; i++) {
+            ServiceFlavorWithPrice flavor =
+                    OBJECT_MAPPER.convertValue(templateFlavor, ServiceFlavorWithPrice.class);
+            flavor.setName(FLAVOR_NAME_PREFIX + i);
+            flavor.setPriority(i);
+            Map<String, String> properties = new HashMap<>();
+            properties.put("flavor_id", "s6.large." + i + ".linux");
+            properties.put("volume_size", String.valueOf(40 + i));
+            flavor.setProperties(properties);
+            flavors.add(flavor);
+        }
+        ocl.getFlavors().setServiceFlavors(flavors);
+        for (int i = 0; i < ADDITIONAL_VARIABLES_COUNT; i++) {
+            ocl.getDeployment().getVariables().add(getDeployVariable(i));
+        }
+        return ocl;
+    }
+
+    /**
+     * Create the AesUtil with the same configuration as the runtime and a generated key file.
+     *
+     * @return AesUtil ready to encode and decode.
+     */
+    public static AesUtil getAesUtil() {
+        Path keyFile = Path.of(System.getProperty("user.dir"), AES_KEY_FILE_NAME);
+        try {
+            if (!Files.exists(keyFile)) {
+                Files.createDirectories(keyFile.getParent());
+                byte[] key = new byte[32];
+                new SecureRandom().nextBytes(key);
+                Files.write(keyFile, key);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Create AES key file failed.", e);
+        }
+        AesUtil aesUtil = new AesUtil();
+        ReflectionTestUtils.setField(aesUtil, "aesKeyFileName", AES_KEY_FILE_NAME);
+        ReflectionTestUtils.setField(aesUtil, "algorithmType", "AES");
+        ReflectionTestUtils.setField(aesUtil, "vi", "c558Gq0YQK2QUlMc");
+        ReflectionTestUtils.setField(aesUtil, "cipherAlgorithm", "AES/CBC/ISO10126Padding");
+        ReflectionTestUtils.setField(aesUtil, "keyFileCheckIntervalInSeconds", 10L);
+        return aesUtil;
+    }
+
+    /**
+     * Build the deploy request for the service template with all variables filled.
+     *
+     * @param ocl service template.
+     * @return deploy request.
+     */
+    public static DeployRequest getDeployRequest(Ocl ocl) {
+        DeployRequest deployRequest = new DeployRequest();
+        deployRequest.setServiceId(UUID.randomUUID());
+        deployRequest.setUserId("benchmark-user");
+        deployRequest.setCategory(Category.COMPUTE);
+        deployRequest.setServiceName(ocl.getName());
+        deployRequest.setCustomerServiceName("benchmark-service");
+        deployRequest.setVersion(ocl.getServiceVersion());
+        Region region = new Region();
+        region.setName(ocl.getCloudServiceProvider().getRegions().getFirst().getName());
+        deployRequest.setRegion(region);
+        deployRequest.setCsp(Csp.HUAWEI_CLOUD);
+        deployRequest.setFlavor(FLAVOR_NAME_PREFIX + (FLAVORS_COUNT - 1));
+        deployRequest.setServiceHostingType(ocl.getServiceHostingType());
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("admin_passwd", "Benchmark@2024");
+        properties.put("vpc_name", "vpc-benchmark");
+        properties.put("subnet_name", "subnet-benchmark");
+        properties.put("secgroup_name", "secgroup-benchmark");
+        for (int i = 0; i < ADDITIONAL_VARIABLES_COUNT; i++) {
+            properties.put(getVariableName(i), "value-" + i);
+        }
+        deployRequest.setServiceRequestProperties(properties);
+        deployRequest.setAvailabilityZones(Map.of("availability_zone", "cn-north-4a"));
+        return deployRequest;
+    }
+
+    /**
+     * Build the state of a deployment with the VMs and their volumes, public IPs and the
+     * network resources around them.
+     *
+     * @param vmCount number of VMs in the state.
+     * @return content of the state file.
+     */
+    public static String getTfState(int vmCount) {
+        ObjectNode state = OBJECT_MAPPER.createObjectNode();
+        state.put("version", 4);
+        state.put("terraform_version", "1.6.5");
+        state.put("serial", vmCount);
+        state.put("lineage", UUID.randomUUID().toString());
+        ObjectNode outputs = state.putObject("outputs");
+        for (int i = 0; i < 10; i++) {
+            ObjectNode output = outputs.putObject("output_" + i);
+            output.put("value", "output-value-" + i);
+            output.put("type", "string");
+        }
+        ArrayNode resources = state.putArray("resources");
+        addResource(resources, "huaweicloud_vpc", "vpc", 1, i -> Map.of(
+                "name", "vpc-benchmark", "cidr", "192.168.0.0/16", "region", "cn-north-4"));
+        addResource(resources, "huaweicloud_vpc_subnet", "subnet", 1, i -> Map.of(
+                "name", "subnet-benchmark", "cidr", "192.168.0.0/24",
+                "gateway_ip", "192.168.0.1", "vpc_id", UUID.randomUUID().toString()));
+        addResource(resources, "huaweicloud_networking_secgroup", "secgroup", 1, i -> Map.of(
+                "name", "secgroup-benchmark", "description", "benchmark"));
+        addResource(resources, "huaweicloud_networking_secgroup_rule", "rule", 10, i -> Map.of(
+                "direction", "ingress", "protocol", "tcp", "port_range_min", 8000 + i,
+                "port_range_max", 8000 + i, "remote_ip_prefix", "0.0.0.0/0"));
+        addResource(resources, "huaweicloud_compute_instance", "vm", vmCount, i -> Map.of(
+                "name", "vm-" + i, "access_ip_v4", "192.168.0." + (i % 250 + 2),
+                "image_id", UUID.randomUUID().toString(), "image_name", "Ubuntu 22.04 server",
+                "region", "cn-north-4", "flavor_id", "s6.large.2",
+                "availability_zone", "cn-north-4a", "status", "ACTIVE",
+                "security_groups", List.of("secgroup-benchmark"),
+                "tags", Map.of("owner", "benchmark", "index", String.valueOf(i))));
+        addResource(resources, "huaweicloud_evs_volume", "volume", vmCount, i -> Map.of(
+                "name", "volume-" + i, "size", 40, "volume_type", "SSD",
+                "availability_zone", "cn-north-4a", "region", "cn-north-4"));
+        addResource(resources, "huaweicloud_vpc_eip", "eip", vmCount, i -> Map.of(
+                "address", "100.64." + (i / 250) + "." + (i % 250 + 1),
+                "region", "cn-north-4", "bandwidth", List.of(Map.of(
+                        "share_type", "PER", "size", 5, "charge_mode", "traffic"))));
+        addResource(resources, "random_password", "password", 1, i -> Map.of(
+                "result", "Benchmark@2024", "length", 12, "special", true));
+        return state.toString();
+    }
+
+    private static void addResource(ArrayNode resources, String type, String name, int count,
+                                    IntFunction<Map<String, Object>> attributesOfInstance) {
+        ObjectNode resource = resources.addObject();
+        resource.put("mode", "managed");
+        resource.put("type", type);
+        resource.put("name", name);
+        resource.put("provider",
+                "provider[\"registry.terraform.io/huaweicloud/huaweicloud\"]");
+        ArrayNode instances = resource.putArray("instances");
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> attributes = new LinkedHashMap<>(attributesOfInstance.apply(i));
+            attributes.put("id", UUID.randomUUID().toString());
+            // providers return many more attributes than the handlers read.
+            for (int j = 0; j < 30; j++) {
+                attributes.put("attribute_" + j, "value-" + j);
+            }
+            ObjectNode instance = instances.addObject();
+            instance.put("index_key", i);
+            instance.put("schema_version", 0);
+            instance.set("attributes", OBJECT_MAPPER.valueToTree(attributes));
+            instance.putArray("sensitive_attributes");
+        }
+    }
+
+    private static DeployVariable getDeployVariable(int index) {
+        DeployVariable deployVariable = new DeployVariable();
+        deployVariable.setName(getVariableName(index));
+        deployVariable.setKind(index % 2 == 0 ? DeployVariableKind.VARIABLE
+                : DeployVariableKind.ENV);
+        deployVariable.setDataType(DeployVariableDataType.STRING);
+        deployVariable.setDescription("Benchmark variable " + index + ".");
+        deployVariable.setExample("value-" + index);
+        deployVariable.setMandatory(index % 3 == 0);
+        Map<String, Object> valueSchema = new HashMap<>();
+        valueSchema.put("minLength", 1);
+        valueSchema.put("maxLength", 64);
+        valueSchema.put("pattern", "^[a-z0-9-]+$");
+        deployVariable.setValueSchema(valueSchema);
+        return deployVariable;
+    }
+
+    private static String getVariableName(int index) {
+        return "benchmark_variable_" + index;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and compares the results with the baseline. The run fails when the score
+ * of a benchmark is worse than the baseline by more than the regression threshold.
+ *
+ * <p>The baseline is only meaningful for the machine on which it was recorded. Record it on the
+ * reference machine with {@code -Dbenchmark.update.baseline=true}.
+ */
+public final class XpanseBenchmarksRunner {
+
+    private static final String RESULT_FILE = "target/jmh-result.json";
+    private static final String THROUGHPUT_MODE = "thrpt";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private XpanseBenchmarksRunner() {
+    }
+
+    /**
+     * Run the benchmarks.
+     *
+     * @param args unused.
+     */
+    public static void main(String[] args) throws RunnerException, IOException {
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("benchmark.include", ".*"))
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULT_FILE)
+                .build();
+        new Runner(options).run();
+
+        Path result = Path.of(RESULT_FILE);
+        Path baseline = Path.of(System.getProperty("benchmark.baseline.file",
+                "baseline/jmh-baseline.json"));
+        if (Boolean.parseBoolean(System.getProperty("benchmark.update.baseline", "false"))) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline " + baseline + " updated.");
+            return;
+        }
+        if (!Files.exists(baseline)) {
+            System.out.println("Baseline " + baseline + " not found, comparison skipped.");
+            return;
+        }
+        double threshold =
+                Double.parseDouble(System.getProperty("benchmark.regression.threshold", "0.15"));
+        List<String> regressions = compare(readScores(baseline), readScores(result), threshold);
+        if (!regressions.isEmpty()) {
+            regressions.forEach(System.err::println);
+            System.exit(1);
+        }
+        System.out.println("No regression beyond " + threshold * 100 + "% of the baseline.");
+    }
+
+    private static List<String> compare(Map<String, Score> baselineScores,
+                                        Map<String, Score> resultScores, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        resultScores.forEach((benchmark, score) -> {
+            Score baselineScore = baselineScores.get(benchmark);
+            if (baselineScore == null || baselineScore.value() == 0) {
+                return;
+            }
+            double change = (score.value() - baselineScore.value()) / baselineScore.value();
+            // a lower throughput or a higher time per operation is a regression.
+            double regression = THROUGHPUT_MODE.equals(score.mode()) ? -change : change;
+            if (regression > threshold) {
+                regressions.add(String.format("Regression of %s: %.3f %s, baseline %.3f %s.",
+                        benchmark, score.value(), score.unit(), baselineScore.value(),
+                        baselineScore.unit()));
+            }
+        });
+        return regressions;
+    }
+
+    private static Map<String, Score> readScores(Path file) throws IOException {
+        Map<String, Score> scores = new HashMap<>();
+        for (JsonNode run : OBJECT_MAPPER.readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            run.path("params").fields().forEachRemaining(param ->
+                    key.append(':').append(param.getKey()).append('=')
+                            .append(param.getValue().asText()));
+            JsonNode primaryMetric = run.path("primaryMetric");
+            scores.put(key.toString(), new Score(run.path("mode").asText(),
+                    primaryMetric.path("score").asDouble(),
+                    primaryMetric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+
+    private record Score(String mode, double value, String unit) {
+    }
+}
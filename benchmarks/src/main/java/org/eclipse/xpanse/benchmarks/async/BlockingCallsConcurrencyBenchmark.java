@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.benchmarks.async;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import org.eclipse.xpanse.modules.async.ServiceThreadPoolTaskExecutor;
+import org.eclipse.xpanse.modules.async.TaskConfiguration;
+import org.eclipse.xpanse.modules.models.monitor.Metric;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
+import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Load test of the metrics and the start and stop requests, which are blocked on the APIs of the
+ * cloud service providers. Each operation serves a burst of concurrent requests against a
+ * provider answering after a fixed latency, once on platform threads sized like the default
+ * servlet container pool and once on virtual threads, to show how both modes scale with the
+ * number of concurrent requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class BlockingCallsConcurrencyBenchmark {
+
+    private static final long PROVIDER_LATENCY_MILLIS = 50;
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String threadMode;
+
+    @Param({"64", "256", "1024"})
+    private int concurrentRequests;
+
+    private AsyncTaskExecutor executor;
+    private OrchestratorPlugin orchestratorPlugin;
+    private ServiceMetricsRequest metricsRequest;
+    private ServiceStateManageRequest stateManageRequest;
+
+    /**
+     * Create the executor of the thread mode and the provider with a fixed latency.
+     */
+    @Setup
+    public void setUp() {
+        if ("virtual".equals(threadMode)) {
+            executor = new TaskConfiguration().virtualThreadTaskExecutor(-1);
+        } else {
+            ServiceThreadPoolTaskExecutor platformExecutor = new ServiceThreadPoolTaskExecutor();
+            platformExecutor.setCorePoolSize(PLATFORM_THREADS);
+            platformExecutor.setMaxPoolSize(PLATFORM_THREADS);
+            platformExecutor.setThreadNamePrefix("benchmark-platform-thread-");
+            platformExecutor.initialize();
+            executor = platformExecutor;
+        }
+        // stub only, the invocations of the load test are not recorded.
+        orchestratorPlugin = mock(OrchestratorPlugin.class, withSettings().stubOnly());
+        doAnswer(invocation -> waitForProvider(List.<Metric>of()))
+                .when(orchestratorPlugin).getMetricsForService(any());
+        doAnswer(invocation -> waitForProvider(true))
+                .when(orchestratorPlugin).startService(any());
+        doAnswer(invocation -> waitForProvider(true))
+                .when(orchestratorPlugin).stopService(any());
+        metricsRequest = new ServiceMetricsRequest(UUID.randomUUID(), List.of(), null,
+                null, null, null, false, "userId");
+        stateManageRequest = new ServiceStateManageRequest();
+        stateManageRequest.setServiceId(UUID.randomUUID());
+    }
+
+    /**
+     * Stop the executor of the thread mode.
+     */
+    @TearDown
+    public void tearDown() {
+        if (executor instanceof SimpleAsyncTaskExecutor virtualThreadExecutor) {
+            virtualThreadExecutor.close();
+        } else if (executor instanceof ServiceThreadPoolTaskExecutor platformExecutor) {
+            platformExecutor.shutdown();
+        }
+    }
+
+    @Benchmark
+    public List<Object> getMetrics() {
+        return serveRequests(index -> orchestratorPlugin.getMetricsForService(metricsRequest));
+    }
+
+    @Benchmark
+    public List<Object> startAndStopServices() {
+        return serveRequests(index -> index % 2 == 0
+                ? orchestratorPlugin.startService(stateManageRequest)
+                : orchestratorPlugin.stopService(stateManageRequest));
+    }
+
+    private List<Object> serveRequests(IntFunction<Object> request) {
+        List<CompletableFuture<Object>> futures = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            int index = i;
+            futures.add(CompletableFuture.supplyAsync(() -> request.apply(index), executor));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static <T> T waitForProvider(T response) throws InterruptedException {
+        Thread.sleep(PROVIDER_LATENCY_MILLIS);
+        return response;
+    }
+}
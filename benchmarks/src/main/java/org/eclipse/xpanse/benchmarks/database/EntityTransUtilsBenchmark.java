@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.benchmarks.database;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.xpanse.benchmarks.BenchmarkFixtures;
+import org.eclipse.xpanse.modules.database.resource.DeployResourceEntity;
+import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
+import org.eclipse.xpanse.modules.database.utils.EntityTransUtils;
+import org.eclipse.xpanse.modules.models.service.deploy.DeployRequest;
+import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.eclipse.xpanse.modules.models.service.enums.TaskStatus;
+import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
+import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversion of the entities to the API models, which runs for each service and
+ * order returned by the listing APIs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityTransUtilsBenchmark {
+
+    private static final int RESOURCES_COUNT = 300;
+
+    private DeployServiceEntity deployServiceEntity;
+    private ServiceOrderEntity serviceOrderEntity;
+
+    /**
+     * Create the entities of a deployed service with its resources and an order.
+     */
+    @Setup
+    public void setUp() {
+        Ocl ocl = BenchmarkFixtures.getOcl();
+        DeployRequest deployRequest = BenchmarkFixtures.getDeployRequest(ocl);
+        deployServiceEntity = new DeployServiceEntity();
+        deployServiceEntity.setId(deployRequest.getServiceId());
+        deployServiceEntity.setUserId(deployRequest.getUserId());
+        deployServiceEntity.setCategory(deployRequest.getCategory());
+        deployServiceEntity.setName(deployRequest.getServiceName());
+        deployServiceEntity.setCustomerServiceName(deployRequest.getCustomerServiceName());
+        deployServiceEntity.setVersion(deployRequest.getVersion());
+        deployServiceEntity.setCsp(deployRequest.getCsp());
+        deployServiceEntity.setFlavor(deployRequest.getFlavor());
+        deployServiceEntity.setServiceDeploymentState(ServiceDeploymentState.DEPLOY_SUCCESS);
+        deployServiceEntity.setServiceTemplateId(UUID.randomUUID());
+        deployServiceEntity.setDeployRequest(deployRequest);
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            properties.put("output_" + i, "output-value-" + i);
+        }
+        deployServiceEntity.setProperties(properties);
+        List<DeployResourceEntity> resources = new ArrayList<>();
+        for (int i = 0; i < RESOURCES_COUNT; i++) {
+            DeployResourceEntity resource = new DeployResourceEntity();
+            resource.setId(UUID.randomUUID());
+            resource.setGroupType("huaweicloud_compute_instance");
+            resource.setGroupName("vm");
+            resource.setResourceId(UUID.randomUUID().toString());
+            resource.setResourceName("vm-" + i);
+            resource.setResourceKind(DeployResourceKind.VM);
+            resource.setDeployService(deployServiceEntity);
+            resource.setProperties(Map.of("ip", "192.168.0." + (i % 250 + 2),
+                    "image_id", UUID.randomUUID().toString(), "region", "cn-north-4"));
+            resources.add(resource);
+        }
+        deployServiceEntity.setDeployResourceList(resources);
+
+        serviceOrderEntity = new ServiceOrderEntity();
+        serviceOrderEntity.setOrderId(UUID.randomUUID());
+        serviceOrderEntity.setServiceId(deployServiceEntity.getId());
+        serviceOrderEntity.setTaskType(ServiceOrderType.DEPLOY);
+        serviceOrderEntity.setUserId(deployRequest.getUserId());
+        serviceOrderEntity.setTaskStatus(TaskStatus.SUCCESSFUL);
+        serviceOrderEntity.setStartedTime(OffsetDateTime.now());
+        serviceOrderEntity.setCompletedTime(OffsetDateTime.now());
+        serviceOrderEntity.setNewDeployRequest(deployRequest);
+    }
+
+    @Benchmark
+    public Object convertToDeployedService() {
+        return EntityTransUtils.convertToDeployedService(deployServiceEntity);
+    }
+
+    @Benchmark
+    public Object transToDeployedServiceDetails() {
+        return EntityTransUtils.transToDeployedServiceDetails(deployServiceEntity);
+    }
+
+    @Benchmark
+    public Object transToVendorHostedServiceDetails() {
+        return EntityTransUtils.transToVendorHostedServiceDetails(deployServiceEntity);
+    }
+
+    @Benchmark
+    public Object transToServiceOrderDetails() {
+        return EntityTransUtils.transToServiceOrderDetails(serviceOrderEntity);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.benchmarks.database;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.xpanse.benchmarks.BenchmarkFixtures;
+import org.eclipse.xpanse.modules.database.common.ObjectJsonConverter;
+import org.eclipse.xpanse.modules.models.service.deploy.DeployRequest;
+import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversion of the JSON columns of the service templates and the deployed
+ * services, which runs each time an entity is read or written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectJsonConverterBenchmark {
+
+    private ObjectJsonConverter objectJsonConverter;
+    private Ocl ocl;
+    private String oclJson;
+    private DeployRequest deployRequest;
+    private String deployRequestJson;
+
+    /**
+     * Create the converter and the columns to read.
+     */
+    @Setup
+    public void setUp() {
+        objectJsonConverter = new ObjectJsonConverter();
+        ocl = BenchmarkFixtures.getOcl();
+        oclJson = objectJsonConverter.convertToDatabaseColumn(ocl);
+        deployRequest = BenchmarkFixtures.getDeployRequest(ocl);
+        deployRequestJson = objectJsonConverter.convertToDatabaseColumn(deployRequest);
+    }
+
+    @Benchmark
+    public String writeOcl() {
+        return objectJsonConverter.convertToDatabaseColumn(ocl);
+    }
+
+    @Benchmark
+    public Object readOcl() {
+        return objectJsonConverter.convertToEntityAttribute(oclJson);
+    }
+
+    @Benchmark
+    public String writeDeployRequest() {
+        return objectJsonConverter.convertToDatabaseColumn(deployRequest);
+    }
+
+    @Benchmark
+    public Object readDeployRequest() {
+        return objectJsonConverter.convertToEntityAttribute(deployRequestJson);
+    }
+}
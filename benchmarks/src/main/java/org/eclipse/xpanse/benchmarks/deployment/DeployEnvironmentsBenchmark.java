@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.benchmarks.deployment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.xpanse.benchmarks.BenchmarkFixtures;
+import org.eclipse.xpanse.modules.credential.CredentialCenter;
+import org.eclipse.xpanse.modules.deployment.utils.DeployEnvironments;
+import org.eclipse.xpanse.modules.models.service.deploy.DeployRequest;
+import org.eclipse.xpanse.modules.models.servicetemplate.DeployVariable;
+import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.SensitiveScope;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
+import org.eclipse.xpanse.modules.security.common.AesUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * Measures the preparation of the variables and the environment of a deployment from the order
+ * and the service template, which runs before each deployer invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeployEnvironmentsBenchmark {
+
+    private DeployEnvironments deployEnvironments;
+    private DeployTask deployTask;
+
+    /**
+     * Create the deploy task with a part of the variables sensitive and encoded.
+     */
+    @Setup
+    public void setUp() {
+        AesUtil aesUtil = BenchmarkFixtures.getAesUtil();
+        OrchestratorPlugin orchestratorPlugin = mock(OrchestratorPlugin.class);
+        when(orchestratorPlugin.getEnvVarKeysMappingMap()).thenReturn(
+                Map.of("OS_AUTH_URL", "huaweicloud.auth.url"));
+        PluginManager pluginManager = mock(PluginManager.class);
+        when(pluginManager.getOrchestratorPlugin(any())).thenReturn(orchestratorPlugin);
+        deployEnvironments = new DeployEnvironments(mock(CredentialCenter.class), aesUtil,
+                pluginManager, new StandardEnvironment());
+
+        Ocl ocl = BenchmarkFixtures.getOcl();
+        DeployRequest deployRequest = BenchmarkFixtures.getDeployRequest(ocl);
+        List<DeployVariable> variables = ocl.getDeployment().getVariables();
+        for (int i = 0; i < variables.size(); i += 4) {
+            DeployVariable variable = variables.get(i);
+            variable.setSensitiveScope(SensitiveScope.ONCE);
+            Map<String, Object> properties = deployRequest.getServiceRequestProperties();
+            properties.put(variable.getName(),
+                    aesUtil.encode(properties.get(variable.getName()).toString()));
+        }
+        deployTask = new DeployTask();
+        deployTask.setOrderId(UUID.randomUUID());
+        deployTask.setServiceId(deployRequest.getServiceId());
+        deployTask.setUserId(deployRequest.getUserId());
+        deployTask.setDeployRequest(deployRequest);
+        deployTask.setOcl(ocl);
+        deployTask.setServiceTemplateId(UUID.randomUUID());
+    }
+
+    @Benchmark
+    public Map<String, String> getEnvFromDeployTask() {
+        return deployEnvironments.getEnvFromDeployTask(deployTask);
+    }
+
+    @Benchmark
+    public Map<String, Object> getVariablesFromDeployTask() {
+        return deployEnvironments.getVariablesFromDeployTask(deployTask, true);
+    }
+
+    @Benchmark
+    public Map<String, String> getFlavorVariables() {
+        return deployEnvironments.getFlavorVariables(deployTask);
+    }
+
+    @Benchmark
+    public Map<String, String> getAvailabilityZoneVariables() {
+        return deployEnvironments.getAvailabilityZoneVariables(deployTask);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.benchmarks.deployment;
+
+import static org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformlocal.TerraformLocalDeployment.STATE_FILE_NAME;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.xpanse.benchmarks.BenchmarkFixtures;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfState;
+import org.eclipse.xpanse.modules.orchestrator.deployment.DeployResult;
+import org.eclipse.xpanse.plugins.huaweicloud.resourcehandler.HuaweiCloudTerraformResourceHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the parsing of the Terraform state of a deployment and the extraction of the deployed
+ * resources from it, which runs after each deploy, modify and destroy task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TfStateParsingBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int vmCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HuaweiCloudTerraformResourceHandler resourceHandler =
+            new HuaweiCloudTerraformResourceHandler();
+    private String tfState;
+
+    /**
+     * Generate the state with the configured number of VMs.
+     */
+    @Setup
+    public void setUp() {
+        tfState = BenchmarkFixtures.getTfState(vmCount);
+    }
+
+    /**
+     * Parsing of the state only.
+     */
+    @Benchmark
+    public TfState parseTfState() throws Exception {
+        return objectMapper.readValue(tfState, TfState.class);
+    }
+
+    /**
+     * Parsing of the state and extraction of the outputs and the deployed resources.
+     */
+    @Benchmark
+    public DeployResult handleDeployResult() {
+        DeployResult deployResult = new DeployResult();
+        deployResult.getPrivateProperties().put(STATE_FILE_NAME, tfState);
+        resourceHandler.handler(deployResult);
+        return deployResult;
+    }
+}
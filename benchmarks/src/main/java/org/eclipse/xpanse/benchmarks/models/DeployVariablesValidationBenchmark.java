@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.benchmarks.models;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.xpanse.benchmarks.BenchmarkFixtures;
+import org.eclipse.xpanse.modules.models.service.utils.CompiledJsonSchemaCache;
+import org.eclipse.xpanse.modules.models.service.utils.ServiceDeployVariablesJsonSchemaGenerator;
+import org.eclipse.xpanse.modules.models.service.utils.ServiceDeployVariablesJsonSchemaValidator;
+import org.eclipse.xpanse.modules.models.servicetemplate.DeployVariable;
+import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
+import org.eclipse.xpanse.modules.models.servicetemplate.utils.JsonObjectSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Measures the validation of the deploy variables of an order against the JSON schema of the
+ * service template. The throughput with several threads is the order submission rate one node
+ * can validate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class DeployVariablesValidationBenchmark {
+
+    private final UUID serviceTemplateId = UUID.randomUUID();
+    private ServiceDeployVariablesJsonSchemaValidator validator;
+    private List<DeployVariable> deployVariables;
+    private Map<String, Object> deployProperties;
+    private JsonObjectSchema jsonObjectSchema;
+    private String version;
+
+    /**
+     * Create the validator and the schema of the service template.
+     */
+    @Setup
+    public void setUp() {
+        Ocl ocl = BenchmarkFixtures.getOcl();
+        validator = new ServiceDeployVariablesJsonSchemaValidator();
+        ReflectionTestUtils.setField(validator, "compiledJsonSchemaCache",
+                new CompiledJsonSchemaCache(1000));
+        deployVariables = ocl.getDeployment().getVariables();
+        deployProperties =
+                BenchmarkFixtures.getDeployRequest(ocl).getServiceRequestProperties();
+        jsonObjectSchema = new ServiceDeployVariablesJsonSchemaGenerator()
+                .buildDeployVariableJsonSchema(deployVariables);
+        version = ocl.getServiceVersion();
+    }
+
+    /**
+     * Validation with the schema compiled for each order.
+     */
+    @Benchmark
+    public void validateWithSchemaCompiledPerOrder() {
+        validator.validateDeployVariables(deployVariables, deployProperties, jsonObjectSchema);
+    }
+
+    /**
+     * Validation with the compiled schema of the service template reused from the cache.
+     */
+    @Benchmark
+    public void validateWithCachedSchema() {
+        validator.validateDeployVariables(serviceTemplateId, version, deployVariables,
+                deployProperties, jsonObjectSchema);
+    }
+}
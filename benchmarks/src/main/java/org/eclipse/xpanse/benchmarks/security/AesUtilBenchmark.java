@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.benchmarks.security;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.eclipse.xpanse.benchmarks.BenchmarkFixtures;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployVariableDataType;
+import org.eclipse.xpanse.modules.security.common.AesUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the AES encoding and decoding of the sensitive variables, which runs for every order
+ * and every deployment of a service with sensitive variables. The legacy benchmarks replay the
+ * previous implementation, which read the key file and created a new Cipher on each call, so
+ * that the gain of the cached key and cipher pool stays visible in the results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AesUtilBenchmark {
+
+    private static final String ALGORITHM_TYPE = "AES";
+    private static final String VI = "c558Gq0YQK2QUlMc";
+    private static final String CIPHER_ALGORITHM = "AES/CBC/ISO10126Padding";
+    private static final String CONTENT = "sensitive-variable-value";
+
+    private AesUtil aesUtil;
+    private String encodedContent;
+    private Map<String, String> variables;
+    private Map<String, String> encodedVariables;
+
+    /**
+     * Create the AesUtil with a generated key.
+     */
+    @Setup
+    public void setUp() {
+        aesUtil = BenchmarkFixtures.getAesUtil();
+        encodedContent = aesUtil.encode(CONTENT);
+        variables = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            variables.put("variable_" + i, CONTENT + i);
+        }
+        encodedVariables = aesUtil.encode(variables);
+    }
+
+    @Benchmark
+    public String encode() {
+        return aesUtil.encode(CONTENT);
+    }
+
+    @Benchmark
+    public String decode() {
+        return aesUtil.decode(encodedContent);
+    }
+
+    @Benchmark
+    public Map<String, String> encodeMap() {
+        return aesUtil.encode(variables);
+    }
+
+    @Benchmark
+    public Map<String, String> decodeMap() {
+        return aesUtil.decode(encodedVariables);
+    }
+
+    @Benchmark
+    public Object decodeBackToOriginalType() {
+        return aesUtil.decodeBackToOriginalType(DeployVariableDataType.STRING, encodedContent);
+    }
+
+    @Benchmark
+    public String legacyEncode() throws Exception {
+        return legacyEncode(CONTENT);
+    }
+
+    @Benchmark
+    public Map<String, String> legacyEncodeMap() throws Exception {
+        Map<String, String> results = new HashMap<>();
+        for (Map.Entry<String, String> entry : variables.entrySet()) {
+            results.put(entry.getKey(), legacyEncode(entry.getValue()));
+        }
+        return results;
+    }
+
+    private String legacyEncode(String content) throws Exception {
+        File keyFile = new File(System.getProperty("user.dir") + File.separator
+                + BenchmarkFixtures.AES_KEY_FILE_NAME);
+        if (!keyFile.exists() || keyFile.length() == 0) {
+            return content;
+        }
+        try (InputStream is = new FileInputStream(keyFile)) {
+            Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE,
+                    new SecretKeySpec(new byte[is.available()], ALGORITHM_TYPE),
+                    new IvParameterSpec(VI.getBytes()));
+            return Base64.getEncoder().encodeToString(
+                    cipher.doFinal(content.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.benchmarks.servicetemplate;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.xpanse.benchmarks.BenchmarkFixtures;
+import org.eclipse.xpanse.common.openapi.OpenApiUrlManage;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.service.utils.ServiceDeployVariablesJsonSchemaGenerator;
+import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.servicetemplate.utils.OpenApiHtmlStore;
+import org.eclipse.xpanse.modules.servicetemplate.utils.ServiceTemplateOpenApiGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Measures the building of the OpenAPI document of a service template. The rendering of the
+ * HTML from the document is not part of the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceTemplateOpenApiGeneratorBenchmark {
+
+    private ServiceTemplateOpenApiGenerator openApiGenerator;
+    private ServiceTemplateEntity serviceTemplate;
+
+    /**
+     * Create the generator and the registered service template.
+     */
+    @Setup
+    public void setUp() {
+        OpenApiUrlManage openApiUrlManage = mock(OpenApiUrlManage.class);
+        when(openApiUrlManage.getServiceUrl()).thenReturn("http://localhost:8080");
+        PluginManager pluginManager = mock(PluginManager.class);
+        when(pluginManager.getPluginsMap()).thenReturn(
+                Map.of(Csp.HUAWEI_CLOUD, mock(OrchestratorPlugin.class)));
+        openApiGenerator = new ServiceTemplateOpenApiGenerator(openApiUrlManage,
+                mock(OpenApiHtmlStore.class), pluginManager, 1);
+        ReflectionTestUtils.setField(openApiGenerator, "webSecurityIsEnabled", true);
+        ReflectionTestUtils.setField(openApiGenerator, "roleProtectionIsEnabled", true);
+
+        Ocl ocl = BenchmarkFixtures.getOcl();
+        serviceTemplate = new ServiceTemplateEntity();
+        serviceTemplate.setId(UUID.randomUUID());
+        serviceTemplate.setName(ocl.getName());
+        serviceTemplate.setVersion(ocl.getServiceVersion());
+        serviceTemplate.setCsp(ocl.getCloudServiceProvider().getName());
+        serviceTemplate.setCategory(ocl.getCategory());
+        serviceTemplate.setServiceHostingType(ocl.getServiceHostingType());
+        serviceTemplate.setOcl(ocl);
+        serviceTemplate.setJsonObjectSchema(new ServiceDeployVariablesJsonSchemaGenerator()
+                .buildDeployVariableJsonSchema(ocl.getDeployment().getVariables()));
+    }
+
+    @Benchmark
+    public String getApiDocsJson() {
+        return ReflectionTestUtils.invokeMethod(openApiGenerator, "getApiDocsJson",
+                serviceTemplate);
+    }
+}
@@ -7,9 +7,14 @@ package org.eclipse.xpanse.api.config;
 
 import jakarta.annotation.Resource;
 import jakarta.servlet.http.HttpServletRequest;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -24,16 +29,18 @@ import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicyUpdateReque
 import org.eclipse.xpanse.modules.models.service.deploy.DeployRequest;
 import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
 import org.eclipse.xpanse.modules.models.workflow.migrate.MigrateRequest;
-import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
 import org.eclipse.xpanse.modules.orchestrator.PluginManager;
 import org.eclipse.xpanse.modules.orchestrator.audit.AuditLog;
+import org.eclipse.xpanse.modules.orchestrator.audit.AuditLogPipeline;
 import org.eclipse.xpanse.modules.security.UserServiceHelper;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
- * Writer for audit logs.
+ * Writer for audit logs. The audit logs are written in the background by the audit log
+ * pipeline. The way to get the csp of a controller method is resolved once and reused for all
+ * requests of the method.
  */
 @Slf4j
 @Aspect
@@ -41,13 +48,17 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 public class AuditLogWriter {
 
     private static final String DEFAULT_GET_CSP_METHOD_NAME = "getCspFromRequestUri";
+    private static final CspResolver NO_CSP_RESOLVER = args -> null;
 
+    private final Map<Method, CspResolver> cspResolvers = new ConcurrentHashMap<>();
     @Resource
     private PluginManager pluginManager;
     @Resource
     private UserServiceHelper userServiceHelper;
     @Resource
     private GetCspInfoFromRequest getCspInfoFromRequest;
+    @Resource
+    private AuditLogPipeline auditLogPipeline;
 
     /**
      * Pointcut for all controller methods.
@@ -69,10 +80,8 @@ public class AuditLogWriter {
             HttpServletRequest request =
                     ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
                             .getRequest();
-            OrchestratorPlugin orchestratorPlugin = pluginManager.getOrchestratorPlugin(csp);
-            orchestratorPlugin.auditApiRequest(
-                    getAuditLog(csp, joinPoint.getSignature().getName(), request,
-                            joinPoint.getArgs(), result));
+            auditLogPipeline.submit(getAuditLog(csp, joinPoint.getSignature().getName(), request,
+                    joinPoint.getArgs(), result));
         }
         return result;
     }
@@ -82,32 +91,46 @@ public class AuditLogWriter {
             return pluginManager.getPluginsMap().keySet().iterator().next();
         }
         Method requestMethod = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return cspResolvers.computeIfAbsent(requestMethod, this::getCspResolver)
+                .getCsp(joinPoint.getArgs());
+    }
+
+    private CspResolver getCspResolver(Method requestMethod) {
         AuditApiRequest auditApiRequest = requestMethod.getAnnotation(AuditApiRequest.class);
         if (Objects.isNull(auditApiRequest) || !auditApiRequest.enabled()) {
-            return null;
+            return NO_CSP_RESOLVER;
         }
-        return getCspFromMethodInfo(auditApiRequest, joinPoint.getArgs());
-    }
-
-    private Csp getCspFromMethodInfo(AuditApiRequest auditApiRequest, Object[] args) {
         String methodName = auditApiRequest.methodName();
         if (DEFAULT_GET_CSP_METHOD_NAME.equals(methodName)) {
-            return getCspFromRequestParams(args);
+            return this::getCspFromRequestParams;
         }
+        MethodHandle methodHandle;
+        try {
+            Method method = auditApiRequest.clazz().getMethod(methodName,
+                    auditApiRequest.paramTypes());
+            methodHandle = MethodHandles.publicLookup().unreflect(method)
+                    .bindTo(getCspInfoFromRequest)
+                    .asSpreader(Object[].class, method.getParameterCount());
+        } catch (Exception e) {
+            log.error("Get csp with method {} error.", methodName, e);
+            return NO_CSP_RESOLVER;
+        }
+        int[] paramIndexes = auditApiRequest.paramIndexes();
+        return args -> getCspWithMethod(methodName, methodHandle, paramIndexes, args);
+    }
+
+    private Csp getCspWithMethod(String methodName, MethodHandle methodHandle,
+                                 int[] paramIndexes, Object[] args) {
         try {
-            Class<?> clazz = auditApiRequest.clazz();
-            Class<?>[] paramTypes = auditApiRequest.paramTypes();
-            Method method = clazz.getMethod(methodName, paramTypes);
-            int[] paramIndexes = auditApiRequest.paramIndexes();
             Object[] paramValues = new Object[paramIndexes.length];
             for (int i = 0; i < paramIndexes.length; i++) {
                 paramValues[i] = args[paramIndexes[i]];
             }
-            Object result = method.invoke(getCspInfoFromRequest, paramValues);
+            Object result = methodHandle.invoke(paramValues);
             if (result instanceof Csp csp) {
                 return csp;
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             log.error("Get csp with method {} error.", methodName, e);
         }
         return null;
@@ -140,12 +163,31 @@ public class AuditLogWriter {
         AuditLog auditLog = new AuditLog();
         auditLog.setMethodName(methodName);
         auditLog.setMethodType(request.getMethod());
-        auditLog.setParams(args);
-        auditLog.setResult(result);
+        // the audit log is written later in the background, while the arguments and the result
+        // may still be changed by the tasks started by the request. Their state is kept as text.
+        auditLog.setParams(Arrays.stream(args).map(this::toText).toArray());
+        auditLog.setResult(toText(result));
         auditLog.setUrl(String.valueOf(request.getRequestURL()));
         auditLog.setCsp(csp);
         auditLog.setOperatingTime(OffsetDateTime.now());
         auditLog.setUserId(userServiceHelper.getCurrentUserId());
         return auditLog;
     }
+
+    private String toText(Object value) {
+        try {
+            return String.valueOf(value);
+        } catch (RuntimeException e) {
+            log.warn("Convert {} to text for audit log failed.", value.getClass().getName(), e);
+            return value.getClass().getName();
+        }
+    }
+
+    /**
+     * Gets the csp of a request from the arguments of the controller method.
+     */
+    @FunctionalInterface
+    private interface CspResolver {
+        Csp getCsp(Object[] args);
+    }
 }
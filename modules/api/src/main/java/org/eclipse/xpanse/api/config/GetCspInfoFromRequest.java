@@ -18,6 +18,7 @@ import org.activiti.engine.task.Task;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.xpanse.modules.database.service.DatabaseDeployServiceStorage;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
+import org.eclipse.xpanse.modules.database.service.DeployServiceFetchPlan;
 import org.eclipse.xpanse.modules.database.servicemigration.DatabaseServiceMigrationStorage;
 import org.eclipse.xpanse.modules.database.servicemigration.ServiceMigrationEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.DatabaseServiceOrderStorage;
@@ -105,7 +106,8 @@ public class GetCspInfoFromRequest {
     public Csp getCspFromServiceId(String id) {
         try {
             DeployServiceEntity deployService =
-                    deployServiceStorage.findDeployServiceById(UUID.fromString(id));
+                    deployServiceStorage.findDeployServiceById(UUID.fromString(id),
+                            DeployServiceFetchPlan.BASIC);
             if (Objects.nonNull(deployService)) {
                 return deployService.getCsp();
             }
@@ -131,7 +133,8 @@ public class GetCspInfoFromRequest {
             if (Objects.nonNull(serviceMigrationEntity)) {
                 DeployServiceEntity deployService =
                         deployServiceStorage.findDeployServiceById(
-                                serviceMigrationEntity.getOldServiceId());
+                                serviceMigrationEntity.getOldServiceId(),
+                                DeployServiceFetchPlan.BASIC);
                 return deployService.getCsp();
             }
         } catch (Exception e) {
@@ -196,7 +199,8 @@ public class GetCspInfoFromRequest {
                     if (Objects.nonNull(serviceMigrationEntity)) {
                         DeployServiceEntity deployService =
                                 deployServiceStorage.findDeployServiceById(
-                                        serviceMigrationEntity.getOldServiceId());
+                                        serviceMigrationEntity.getOldServiceId(),
+                                        DeployServiceFetchPlan.BASIC);
                         return deployService.getCsp();
                     }
                 }
@@ -219,7 +223,8 @@ public class GetCspInfoFromRequest {
                     managementTaskStorage.getTaskById(UUID.fromString(managementTaskId));
             if (Objects.nonNull(task) && Objects.nonNull(task.getServiceId())) {
                 DeployServiceEntity deployService =
-                        deployServiceStorage.findDeployServiceById(task.getServiceId());
+                        deployServiceStorage.findDeployServiceById(task.getServiceId(),
+                                DeployServiceFetchPlan.BASIC);
                 return deployService.getCsp();
             }
         } catch (Exception e) {
@@ -242,7 +247,8 @@ public class GetCspInfoFromRequest {
                     serviceOrderTaskStorage.getEntityById(UUID.fromString(orderId));
             if (Objects.nonNull(order) && Objects.nonNull(order.getServiceId())) {
                 DeployServiceEntity deployService =
-                        deployServiceStorage.findDeployServiceById(order.getServiceId());
+                        deployServiceStorage.findDeployServiceById(order.getServiceId(),
+                                DeployServiceFetchPlan.BASIC);
                 return deployService.getCsp();
             }
         } catch (Exception e) {
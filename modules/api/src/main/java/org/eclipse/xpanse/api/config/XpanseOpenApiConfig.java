@@ -6,7 +6,9 @@
 
 package org.eclipse.xpanse.api.config;
 
+import jakarta.annotation.Resource;
 import java.io.File;
+import org.eclipse.xpanse.modules.servicetemplate.utils.OpenApiHtmlStore;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,20 +32,25 @@ public class XpanseOpenApiConfig implements WebMvcConfigurer {
     @Value("${openapi.url:/openapi/*}")
     private String openapiUrl;
 
+    @Resource
+    private OpenApiHtmlStore openApiHtmlStore;
+
     @Bean
     ForwardedHeaderFilter forwardedHeaderFilter() {
         return new ForwardedHeaderFilter();
     }
 
     /**
-     * registered service openapi.
+     * registered service openapi. The documents published by the OpenApiHtmlStore are served with
+     * the digest of their content as ETag.
      *
      * @param registry ResourceHandlerRegistry.
      */
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler(openapiUrl).addResourceLocations(openapiPath)
-                .addResourceLocations(PROJECT_PATH + openapiPath);
+                .addResourceLocations(PROJECT_PATH + openapiPath)
+                .setEtagGenerator(resource -> openApiHtmlStore.getEtag(resource.getFilename()));
     }
 
     /**
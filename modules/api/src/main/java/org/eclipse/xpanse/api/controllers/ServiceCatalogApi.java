@@ -15,8 +15,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.annotation.Resource;
+import jakarta.servlet.http.HttpServletResponse;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.api.config.AuditApiRequest;
@@ -25,6 +27,8 @@ import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateQueryModel;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceHostingType;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceRegistrationState;
 import org.eclipse.xpanse.modules.models.servicetemplate.exceptions.ServiceTemplateNotApproved;
@@ -63,6 +67,9 @@ public class ServiceCatalogApi {
      * @param serviceName        name of the service.
      * @param serviceVersion     version of the service.
      * @param serviceHostingType type of the service hosting.
+     * @param limit              maximum number of services to be returned.
+     * @param cursor             cursor of the page to be returned.
+     * @param response           response to which the cursor of the next page is added.
      * @return service templates
      */
     @Tag(name = "ServiceCatalog", description =
@@ -84,11 +91,31 @@ public class ServiceCatalogApi {
             @RequestParam(name = "serviceVersion", required = false) String serviceVersion,
             @Parameter(name = "serviceHostingType", description = "who hosts ths cloud resources")
             @RequestParam(name = "serviceHostingType", required = false)
-            ServiceHostingType serviceHostingType) {
+            ServiceHostingType serviceHostingType,
+            @Parameter(name = "limit", description = "maximum number of services to be returned."
+                    + " All services are returned when neither limit nor cursor is set.")
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @Parameter(name = "cursor", description = "cursor of the page to be returned. The "
+                    + "cursor of the next page is returned in the header X-Next-Cursor.")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            HttpServletResponse response) {
 
         ServiceTemplateQueryModel queryRequest = new ServiceTemplateQueryModel(categoryName,
                 cspName, serviceName, serviceVersion, serviceHostingType,
                 ServiceRegistrationState.APPROVED, false);
+        KeysetPageRequest pageRequest = KeysetPageRequest.of(limit, cursor);
+        if (Objects.nonNull(pageRequest)) {
+            // pages are ordered by the creation time so that the cursor stays stable.
+            KeysetPage<ServiceTemplateEntity> page =
+                    serviceTemplateManage.listServiceTemplates(queryRequest, pageRequest);
+            if (Objects.nonNull(page.nextCursor())) {
+                response.setHeader(KeysetPage.NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            log.info(page.items().size() + " orderable services found.");
+            return page.items().stream()
+                    .map(ServiceTemplateEntityConverter::convertToUserOrderableServiceVo)
+                    .toList();
+        }
         List<ServiceTemplateEntity> serviceTemplateEntities =
                 serviceTemplateManage.listServiceTemplates(queryRequest);
         log.info(serviceTemplateEntities.size() + " orderable services found.");
@@ -16,9 +16,11 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.annotation.Resource;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +31,8 @@ import org.eclipse.xpanse.modules.deployment.DeployService;
 import org.eclipse.xpanse.modules.deployment.ServiceDetailsViewManager;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
 import org.eclipse.xpanse.modules.models.service.config.ServiceLockConfig;
 import org.eclipse.xpanse.modules.models.service.deploy.DeployRequest;
 import org.eclipse.xpanse.modules.models.service.deploy.DeployResource;
@@ -136,9 +140,21 @@ public class ServiceDeployerApi {
             @RequestParam(name = "serviceVersion", required = false) String serviceVersion,
             @Parameter(name = "serviceState", description = "deployment state of the service")
             @RequestParam(name = "serviceState", required = false)
-            ServiceDeploymentState serviceState) {
-        return this.serviceDetailsViewManager.listDeployedServices(
-                category, csp, serviceName, serviceVersion, serviceState);
+            ServiceDeploymentState serviceState,
+            @Parameter(name = "limit", description = "maximum number of services to be returned."
+                    + " All services are returned when neither limit nor cursor is set.")
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @Parameter(name = "cursor", description = "cursor of the page to be returned. The "
+                    + "cursor of the next page is returned in the header X-Next-Cursor.")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            HttpServletResponse response) {
+        KeysetPage<DeployedService> page = this.serviceDetailsViewManager.listDeployedServices(
+                category, csp, serviceName, serviceVersion, serviceState,
+                KeysetPageRequest.of(limit, cursor));
+        if (Objects.nonNull(page.nextCursor())) {
+            response.setHeader(KeysetPage.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return page.items();
     }
 
     /**
@@ -163,11 +179,24 @@ public class ServiceDeployerApi {
             @RequestParam(name = "serviceVersion", required = false) String serviceVersion,
             @Parameter(name = "serviceState", description = "deployment state of the service")
             @RequestParam(name = "serviceState", required = false)
-            ServiceDeploymentState serviceState) {
+            ServiceDeploymentState serviceState,
+            @Parameter(name = "limit", description = "maximum number of services to be returned."
+                    + " All services are returned when neither limit nor cursor is set.")
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @Parameter(name = "cursor", description = "cursor of the page to be returned. The "
+                    + "cursor of the next page is returned in the header X-Next-Cursor.")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            HttpServletResponse response) {
         // return type is DeployedService but actually returns one of the child types
         // VendorHostedDeployedServiceDetails or DeployedServiceDetails
-        return this.serviceDetailsViewManager.listDeployedServicesDetails(
-                category, csp, serviceName, serviceVersion, serviceState);
+        KeysetPage<DeployedService> page =
+                this.serviceDetailsViewManager.listDeployedServicesDetails(category, csp,
+                        serviceName, serviceVersion, serviceState,
+                        KeysetPageRequest.of(limit, cursor));
+        if (Objects.nonNull(page.nextCursor())) {
+            response.setHeader(KeysetPage.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return page.items();
     }
 
     /**
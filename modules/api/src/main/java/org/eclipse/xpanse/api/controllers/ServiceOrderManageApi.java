@@ -14,11 +14,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.annotation.Resource;
+import jakarta.servlet.http.HttpServletResponse;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.api.config.AuditApiRequest;
 import org.eclipse.xpanse.modules.deployment.ServiceOrderManager;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
 import org.eclipse.xpanse.modules.models.service.enums.TaskStatus;
 import org.eclipse.xpanse.modules.models.service.order.ServiceOrderDetails;
 import org.eclipse.xpanse.modules.models.service.order.ServiceOrderStatusUpdate;
@@ -54,6 +58,9 @@ public class ServiceOrderManageApi {
      * @param serviceId  id of the service.
      * @param taskType   task type of the service order.
      * @param taskStatus task status of the order.
+     * @param limit      maximum number of orders to be returned.
+     * @param cursor     cursor of the page to be returned.
+     * @param response   response to which the cursor of the next page is added.
      * @return service orders.
      */
     @Tag(name = "ServiceOrders",
@@ -71,9 +78,21 @@ public class ServiceOrderManageApi {
             ServiceOrderType taskType,
             @Parameter(name = "taskStatus", description = "Task status of the service order")
             @RequestParam(name = "taskStatus", required = false)
-            TaskStatus taskStatus) {
-        return serviceOrderManager.listServiceOrders(
-                UUID.fromString(serviceId), taskType, taskStatus);
+            TaskStatus taskStatus,
+            @Parameter(name = "limit", description = "maximum number of orders to be returned."
+                    + " All orders are returned when neither limit nor cursor is set.")
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @Parameter(name = "cursor", description = "cursor of the page to be returned. The "
+                    + "cursor of the next page is returned in the header X-Next-Cursor.")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            HttpServletResponse response) {
+        KeysetPage<ServiceOrderDetails> page = serviceOrderManager.listServiceOrders(
+                UUID.fromString(serviceId), taskType, taskStatus,
+                KeysetPageRequest.of(limit, cursor));
+        if (Objects.nonNull(page.nextCursor())) {
+            response.setHeader(KeysetPage.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return page.items();
     }
 
     /**
@@ -132,6 +151,25 @@ public class ServiceOrderManageApi {
         serviceOrderManager.deleteOrderByOrderId(UUID.fromString(orderId));
     }
 
+    /**
+     * Get the latest output of the commands run for the service order.
+     *
+     * @param orderId id of the service order.
+     * @return latest output lines.
+     */
+    @Tag(name = "ServiceOrders",
+            description = "APIs to manage orders of services")
+    @Operation(description = "Get the latest output lines of the deployment tool run for the "
+            + "service order. The output is kept for a limited time only.")
+    @GetMapping(value = "/services/orders/{orderId}/output",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @AuditApiRequest(methodName = "getCspFromServiceOrderId")
+    public List<String> getOrderOutputTail(
+            @Parameter(name = "orderId", description = "Id of the service order")
+            @PathVariable(name = "orderId") String orderId) {
+        return serviceOrderManager.getOrderOutputTail(UUID.fromString(orderId));
+    }
 
     /**
      * Method to fetch status of service deployment.
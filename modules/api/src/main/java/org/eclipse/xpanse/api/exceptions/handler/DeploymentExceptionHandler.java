@@ -7,6 +7,7 @@ package org.eclipse.xpanse.api.exceptions.handler;
 
 import static org.eclipse.xpanse.api.exceptions.handler.CommonExceptionHandler.getErrorResponse;
 
+import jakarta.servlet.http.HttpServletResponse;
 import java.util.Collections;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.exceptions.TerraformBootRequestFailedException;
@@ -17,6 +18,7 @@ import org.eclipse.xpanse.modules.models.response.ResultType;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.ActivitiTaskNotFoundException;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.BillingModeNotSupported;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.DeployerNotFoundException;
+import org.eclipse.xpanse.modules.models.service.deploy.exceptions.DeploymentQueueFullException;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.EulaNotAccepted;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.FileLockedException;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.FlavorInvalidException;
@@ -32,6 +34,7 @@ import org.eclipse.xpanse.modules.models.service.order.exceptions.ServiceOrderNo
 import org.eclipse.xpanse.modules.models.service.statemanagement.exceptions.ServiceStateManagementTaskNotFound;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -258,4 +261,17 @@ public class DeploymentExceptionHandler {
     public Response handleFileLockedException(FileLockedException ex) {
         return getErrorResponse(ResultType.FILE_LOCKED, Collections.singletonList(ex.getMessage()));
     }
+
+    /**
+     * Exception handler for DeploymentQueueFullException.
+     */
+    @ExceptionHandler({DeploymentQueueFullException.class})
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ResponseBody
+    public Response handleDeploymentQueueFullException(DeploymentQueueFullException ex,
+                                                       HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        return getErrorResponse(ResultType.DEPLOYMENT_QUEUE_FULL,
+                Collections.singletonList(ex.getMessage()));
+    }
 }
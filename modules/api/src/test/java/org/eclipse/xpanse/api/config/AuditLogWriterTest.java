@@ -0,0 +1,83 @@
+package org.eclipse.xpanse.api.config;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.audit.AuditLog;
+import org.eclipse.xpanse.modules.orchestrator.audit.AuditLogPipeline;
+import org.eclipse.xpanse.modules.security.UserServiceHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterTest {
+
+    @Mock
+    private PluginManager mockPluginManager;
+    @Mock
+    private UserServiceHelper mockUserServiceHelper;
+    @Mock
+    private AuditLogPipeline mockAuditLogPipeline;
+    @Mock
+    private ProceedingJoinPoint mockJoinPoint;
+    @Mock
+    private Signature mockSignature;
+    @Mock
+    private OrchestratorPlugin mockOrchestratorPlugin;
+    @InjectMocks
+    private AuditLogWriter auditLogWriterUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/xpanse/services");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testAuditRequestKeepsStateOfRequest() throws Throwable {
+        List<String> param = new ArrayList<>(List.of("flavor-1"));
+        List<String> result = new ArrayList<>(List.of("order-1"));
+        when(mockPluginManager.getPluginsMap())
+                .thenReturn(Map.of(Csp.HUAWEI_CLOUD, mockOrchestratorPlugin));
+        when(mockJoinPoint.getArgs()).thenReturn(new Object[] {param, null});
+        when(mockJoinPoint.getSignature()).thenReturn(mockSignature);
+        when(mockSignature.getName()).thenReturn("deploy");
+        when(mockJoinPoint.proceed()).thenReturn(result);
+
+        auditLogWriterUnderTest.auditRequest(mockJoinPoint);
+        // the request is changed by the tasks started by it before the audit log is written.
+        param.add("flavor-2");
+        result.clear();
+
+        ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
+        verify(mockAuditLogPipeline).submit(auditLogCaptor.capture());
+        AuditLog auditLog = auditLogCaptor.getValue();
+        assertArrayEquals(new Object[] {"[flavor-1]", "null"}, auditLog.getParams());
+        assertEquals("[order-1]", auditLog.getResult());
+        assertEquals(Csp.HUAWEI_CLOUD, auditLog.getCsp());
+    }
+}
@@ -8,6 +8,7 @@ package org.eclipse.xpanse.api.exceptions.handler;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -21,6 +22,7 @@ import org.eclipse.xpanse.modules.deployment.DeployerKindManager;
 import org.eclipse.xpanse.modules.deployment.ServiceDetailsViewManager;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.exceptions.TerraformExecutorException;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.DeployerNotFoundException;
+import org.eclipse.xpanse.modules.models.service.deploy.exceptions.DeploymentQueueFullException;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.EulaNotAccepted;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.FlavorInvalidException;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.InvalidDeploymentVariableException;
@@ -81,7 +83,7 @@ class DeploymentExceptionHandlerTest {
     @Test
     void testFlavorInvalidException() throws Exception {
         when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(),
-                any())).thenThrow(new FlavorInvalidException("test error"));
+                any(), any())).thenThrow(new FlavorInvalidException("test error"));
 
         this.mockMvc.perform(get("/xpanse/services")).andExpect(status().is(400))
                 .andExpect(jsonPath("$.resultType").value("Flavor Invalid"))
@@ -91,7 +93,7 @@ class DeploymentExceptionHandlerTest {
     @Test
     void testTerraformExecutorException() throws Exception {
         when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(),
-                any())).thenThrow(new TerraformExecutorException("test error"));
+                any(), any())).thenThrow(new TerraformExecutorException("test error"));
 
         this.mockMvc.perform(get("/xpanse/services")).andExpect(status().is(502))
                 .andExpect(jsonPath("$.resultType").value("Terraform Execution Failed"))
@@ -101,7 +103,7 @@ class DeploymentExceptionHandlerTest {
     @Test
     void testPluginNotFoundException() throws Exception {
         when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(),
-                any())).thenThrow(new PluginNotFoundException("test error"));
+                any(), any())).thenThrow(new PluginNotFoundException("test error"));
 
         this.mockMvc.perform(get("/xpanse/services")).andExpect(status().is(400))
                 .andExpect(jsonPath("$.resultType").value("Plugin Not Found"))
@@ -111,7 +113,7 @@ class DeploymentExceptionHandlerTest {
     @Test
     void testDeployerNotFoundException() throws Exception {
         when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(),
-                any())).thenThrow(new DeployerNotFoundException("test error"));
+                any(), any())).thenThrow(new DeployerNotFoundException("test error"));
 
         this.mockMvc.perform(get("/xpanse/services")).andExpect(status().is(400))
                 .andExpect(jsonPath("$.resultType").value("Deployer Not Found"))
@@ -121,7 +123,7 @@ class DeploymentExceptionHandlerTest {
     @Test
     void testInvalidServiceStateException() throws Exception {
         when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(),
-                any())).thenThrow(new InvalidServiceStateException("test error"));
+                any(), any())).thenThrow(new InvalidServiceStateException("test error"));
 
         this.mockMvc.perform(get("/xpanse/services")).andExpect(status().is(400))
                 .andExpect(jsonPath("$.resultType").value("Invalid Service State"))
@@ -142,7 +144,7 @@ class DeploymentExceptionHandlerTest {
     @Test
     void testInvalidDeploymentVariableException() throws Exception {
         when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(),
-                any())).thenThrow(new InvalidDeploymentVariableException("test error"));
+                any(), any())).thenThrow(new InvalidDeploymentVariableException("test error"));
 
         this.mockMvc.perform(get("/xpanse/services")).andExpect(status().is(400))
                 .andExpect(jsonPath("$.resultType").value("Deployment Variable Invalid"))
@@ -152,7 +154,7 @@ class DeploymentExceptionHandlerTest {
     @Test
     void testVariableInvalidException() throws Exception {
         when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(),
-                any())).thenThrow(new VariableValidationFailedException(List.of("test error")));
+                any(), any())).thenThrow(new VariableValidationFailedException(List.of("test error")));
 
         this.mockMvc.perform(get("/xpanse/services")).andExpect(status().is(400))
                 .andExpect(jsonPath("$.resultType").value("Variable Validation Failed")).andExpect(
@@ -162,7 +164,7 @@ class DeploymentExceptionHandlerTest {
     @Test
     void testServiceIsLockedException() throws Exception {
         when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(),
-                any())).thenThrow(new ServiceLockedException("test error"));
+                any(), any())).thenThrow(new ServiceLockedException("test error"));
 
         this.mockMvc.perform(get("/xpanse/services")).andExpect(status().is(400))
                 .andExpect(jsonPath("$.resultType").value("Service Locked"))
@@ -172,7 +174,7 @@ class DeploymentExceptionHandlerTest {
     @Test
     void testEulaNotAcceptedException() throws Exception {
         when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(),
-                any())).thenThrow(new EulaNotAccepted("test error"));
+                any(), any())).thenThrow(new EulaNotAccepted("test error"));
 
         this.mockMvc.perform(get("/xpanse/services")).andExpect(status().is(400))
                 .andExpect(jsonPath("$.resultType").value("Eula Not Accepted"))
@@ -183,10 +185,21 @@ class DeploymentExceptionHandlerTest {
     @Test
     void testServiceFlavorDowngradeNotAllowed() throws Exception {
         when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(),
-                any())).thenThrow(new ServiceFlavorDowngradeNotAllowed("test error"));
+                any(), any())).thenThrow(new ServiceFlavorDowngradeNotAllowed("test error"));
 
         this.mockMvc.perform(get("/xpanse/services")).andExpect(status().is(400))
                 .andExpect(jsonPath("$.resultType").value("Service Flavor Downgrade Not Allowed"))
                 .andExpect(jsonPath("$.details[0]").value("test error"));
     }
+
+    @Test
+    void testDeploymentQueueFullException() throws Exception {
+        when(serviceDetailsViewManager.listDeployedServices(any(), any(), any(), any(),
+                any(), any())).thenThrow(new DeploymentQueueFullException("test error", 30));
+
+        this.mockMvc.perform(get("/xpanse/services")).andExpect(status().is(429))
+                .andExpect(header().string("Retry-After", "30"))
+                .andExpect(jsonPath("$.resultType").value("Deployment Queue Full"))
+                .andExpect(jsonPath("$.details[0]").value("test error"));
+    }
 }
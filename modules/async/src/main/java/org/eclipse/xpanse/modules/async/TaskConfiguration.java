@@ -8,8 +8,13 @@ package org.eclipse.xpanse.modules.async;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
  * Customize the thread pool. Define ThreadPoolTaskExecutor named taskExecutor to replace @Async's
@@ -19,6 +24,9 @@ import org.springframework.context.annotation.Configuration;
 public class TaskConfiguration {
 
     public static final String ASYNC_EXECUTOR_NAME = "xpanseAsyncTaskExecutor";
+    public static final String VIRTUAL_THREAD_EXECUTOR_NAME = "xpanseVirtualThreadTaskExecutor";
+    public static final String TASK_SCHEDULER_NAME = "xpanseTaskScheduler";
+    public static final String VIRTUAL_THREADS_ENABLED_PROPERTY = "spring.threads.virtual.enabled";
     private static final int CPU_COUNT = Runtime.getRuntime().availableProcessors();
 
     /**
@@ -40,4 +48,48 @@ public class TaskConfiguration {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Define the executor which runs each task in a new virtual thread. Used for the tasks which
+     * are blocked most of the time on the APIs of the cloud service providers, when the virtual
+     * thread mode is enabled.
+     *
+     * @param concurrencyLimit maximum number of tasks running at the same time, -1 for no limit.
+     * @return executor
+     */
+    @Bean(VIRTUAL_THREAD_EXECUTOR_NAME)
+    @ConditionalOnProperty(name = VIRTUAL_THREADS_ENABLED_PROPERTY, havingValue = "true")
+    public SimpleAsyncTaskExecutor virtualThreadTaskExecutor(
+            @Value("${xpanse.virtual.thread.executor.concurrency.limit:-1}")
+            int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor =
+                new SimpleAsyncTaskExecutor("xpanse-virtual-thread-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskDecorator(
+                runnable -> ThreadMdcUtil.wrap(runnable, MDC.getCopyOfContextMap()));
+        executor.setTaskTerminationTimeout(300 * 1000L);
+        return executor;
+    }
+
+    /**
+     * Define the scheduler which runs the scheduled tasks of all modules. Replaces the default
+     * scheduler with a single thread, so that a long running task does not delay the others.
+     *
+     * @param poolSize number of threads running the scheduled tasks.
+     * @return scheduler
+     */
+    @Bean(TASK_SCHEDULER_NAME)
+    public ThreadPoolTaskScheduler taskScheduler(
+            @Value("${xpanse.task.scheduler.pool.size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Math.max(1, poolSize));
+        scheduler.setThreadNamePrefix("xpanse-task-scheduler-");
+        // cancelled timeouts are removed at once instead of being kept until they are due.
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        scheduler.initialize();
+        return scheduler;
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.async;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Detects the virtual threads pinned to their carrier thread while blocked, for example in the
+ * synchronized blocks of the SDK clients of the cloud service providers. A pinned virtual thread
+ * blocks its carrier, so that the pinning hot spots limit the concurrency of the virtual thread
+ * mode.
+ *
+ * <p>The pinned events are read from the JDK flight recorder. Each hot spot is logged with its
+ * stack trace the first time it is seen, and the summary of all hot spots is logged on
+ * shutdown.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = TaskConfiguration.VIRTUAL_THREADS_ENABLED_PROPERTY,
+        havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final int MAX_LOGGED_FRAMES = 15;
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.");
+
+    private final Map<String, HotSpotStatistics> hotSpots = new ConcurrentHashMap<>();
+    private final boolean isMonitorEnabled;
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    /**
+     * Constructor for VirtualThreadPinningMonitor.
+     *
+     * @param isMonitorEnabled whether the pinned virtual threads are recorded.
+     * @param thresholdMillis  minimum time a virtual thread is pinned to be recorded.
+     */
+    public VirtualThreadPinningMonitor(
+            @Value("${xpanse.virtual.thread.pinning.monitor.enabled:true}")
+            boolean isMonitorEnabled,
+            @Value("${xpanse.virtual.thread.pinning.threshold.millis:20}") long thresholdMillis) {
+        this.isMonitorEnabled = isMonitorEnabled;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    /**
+     * Start to record the pinned events of the virtual threads.
+     */
+    @PostConstruct
+    public void start() {
+        if (!isMonitorEnabled) {
+            return;
+        }
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT_NAME).withThreshold(threshold).withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT_NAME, this::onPinnedEvent);
+            recordingStream.startAsync();
+            log.info("Virtual thread pinning monitor started with threshold {} ms.",
+                    threshold.toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Virtual thread pinning monitor not started. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stop the recording and log the summary of the pinning hot spots.
+     */
+    @PreDestroy
+    public void stop() {
+        if (Objects.nonNull(recordingStream)) {
+            recordingStream.close();
+        }
+        getPinnedHotSpots().forEach(hotSpot -> log.warn(
+                "Virtual threads pinned at {} for {} times, total {} ms, max {} ms.",
+                hotSpot.location(), hotSpot.count(), hotSpot.totalMillis(),
+                hotSpot.maxMillis()));
+    }
+
+    /**
+     * Get the pinning hot spots ordered by the total time of pinned virtual threads.
+     *
+     * @return pinning hot spots.
+     */
+    public List<PinnedHotSpot> getPinnedHotSpots() {
+        return hotSpots.entrySet().stream()
+                .map(entry -> new PinnedHotSpot(entry.getKey(), entry.getValue().count.sum(),
+                        entry.getValue().totalMillis.sum(), entry.getValue().maxMillis.get()))
+                .sorted(Comparator.comparingLong(PinnedHotSpot::totalMillis).reversed())
+                .toList();
+    }
+
+    void recordPinnedThread(String location, String stackTrace, Duration duration) {
+        HotSpotStatistics statistics = hotSpots.computeIfAbsent(location, key -> {
+            log.warn("Virtual thread pinned at {} for {} ms, carrier thread blocked at:\n{}",
+                    location, duration.toMillis(), stackTrace);
+            return new HotSpotStatistics();
+        });
+        statistics.count.increment();
+        statistics.totalMillis.add(duration.toMillis());
+        statistics.maxMillis.accumulateAndGet(duration.toMillis(), Math::max);
+    }
+
+    private void onPinnedEvent(RecordedEvent event) {
+        if (Objects.isNull(event.getStackTrace())) {
+            return;
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        String location = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> JDK_PACKAGES.stream().noneMatch(
+                        frame.getMethod().getType().getName()::startsWith))
+                .findFirst()
+                .map(VirtualThreadPinningMonitor::formatFrame)
+                .orElse(frames.isEmpty() ? "unknown" : formatFrame(frames.getFirst()));
+        String stackTrace = frames.stream()
+                .limit(MAX_LOGGED_FRAMES)
+                .map(frame -> "\tat " + formatFrame(frame))
+                .collect(Collectors.joining("\n"));
+        recordPinnedThread(location, stackTrace, event.getDuration());
+    }
+
+    private static String formatFrame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    /**
+     * Code location at which the virtual threads were pinned.
+     *
+     * @param location    first frame of the stack outside the JDK.
+     * @param count       number of the pinned events.
+     * @param totalMillis total time of the pinned events.
+     * @param maxMillis   longest pinned event.
+     */
+    public record PinnedHotSpot(String location, long count, long totalMillis, long maxMillis) {
+    }
+
+    private static final class HotSpotStatistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final AtomicLong maxMillis = new AtomicLong();
+    }
+}
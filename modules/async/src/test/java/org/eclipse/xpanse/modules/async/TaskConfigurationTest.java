@@ -7,10 +7,16 @@ package org.eclipse.xpanse.modules.async;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
  * Test of TaskConfiguration.
@@ -38,4 +44,32 @@ class TaskConfigurationTest {
         assertEquals(ServiceThreadPoolTaskExecutor.class, result.getClass());
     }
 
+    @Test
+    public void testVirtualThreadTaskExecutor() throws Exception {
+        SimpleAsyncTaskExecutor executor = taskConfiguration.virtualThreadTaskExecutor(-1);
+        MDC.put("TRACKING_ID", "tracking-id");
+        try {
+            Future<String> future = executor.submit(
+                    () -> MDC.get("TRACKING_ID") + "@" + Thread.currentThread().isVirtual());
+
+            assertEquals("tracking-id@true", future.get(10, TimeUnit.SECONDS));
+            assertTrue(executor.isActive());
+        } finally {
+            MDC.clear();
+            executor.close();
+        }
+    }
+
+    @Test
+    public void testTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = taskConfiguration.taskScheduler(4);
+        try {
+            assertEquals(4, scheduler.getScheduledThreadPoolExecutor().getCorePoolSize());
+            assertEquals("xpanse-task-scheduler-", scheduler.getThreadNamePrefix());
+            assertTrue(scheduler.isRemoveOnCancelPolicy());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
 }
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.async;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of VirtualThreadPinningMonitor.
+ */
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    void testRecordPinnedThread() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(true, 20);
+        monitor.recordPinnedThread("com.huaweicloud.sdk.Client.invoke:10", "stack",
+                Duration.ofMillis(30));
+        monitor.recordPinnedThread("com.huaweicloud.sdk.Client.invoke:10", "stack",
+                Duration.ofMillis(50));
+        monitor.recordPinnedThread("org.openstack4j.Client.request:20", "stack",
+                Duration.ofMillis(100));
+
+        List<VirtualThreadPinningMonitor.PinnedHotSpot> hotSpots = monitor.getPinnedHotSpots();
+
+        assertEquals(2, hotSpots.size());
+        assertEquals(new VirtualThreadPinningMonitor.PinnedHotSpot(
+                "org.openstack4j.Client.request:20", 1, 100, 100), hotSpots.get(0));
+        assertEquals(new VirtualThreadPinningMonitor.PinnedHotSpot(
+                "com.huaweicloud.sdk.Client.invoke:10", 2, 80, 50), hotSpots.get(1));
+    }
+
+    @Test
+    void testStartAndStop() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(true, 20);
+
+        assertDoesNotThrow(monitor::start);
+        assertDoesNotThrow(monitor::stop);
+    }
+
+    @Test
+    void testMonitorDisabled() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(false, 20);
+
+        assertDoesNotThrow(monitor::start);
+        assertDoesNotThrow(monitor::stop);
+    }
+}
@@ -9,6 +9,7 @@ package org.eclipse.xpanse.modules.cache;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.CREDENTIAL_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.MONITOR_METRICS_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.POLICY_EVALUATION_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.REGION_AZS_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_FLAVOR_PRICE_CACHE_NAME;
 
@@ -43,6 +44,12 @@ public class CaffeineCacheConfig {
     @Value("${service.monitor.metrics.cache.expire.time.in.minutes:60}")
     private long monitorMetricsCacheDuration;
 
+    @Value("${policy.evaluation.cache.expire.time.in.minutes:60}")
+    private long policyEvaluationCacheDuration;
+
+    @Value("${policy.evaluation.cache.maximum.size:1000}")
+    private long policyEvaluationCacheMaximumSize;
+
     /**
      * Config cache manager with caffeine.
      *
@@ -56,6 +63,8 @@ public class CaffeineCacheConfig {
                 getServiceFlavorPriceCache());
         cacheManager.registerCustomCache(CREDENTIAL_CACHE_NAME, getCredentialsCache());
         cacheManager.registerCustomCache(MONITOR_METRICS_CACHE_NAME, getMonitorMetricsCache());
+        cacheManager.registerCustomCache(POLICY_EVALUATION_CACHE_NAME,
+                getPolicyEvaluationCache());
         return cacheManager;
     }
 
@@ -96,4 +105,13 @@ public class CaffeineCacheConfig {
                 .build();
     }
 
+    private Cache<Object, Object> getPolicyEvaluationCache() {
+        long duration = policyEvaluationCacheDuration > 0 ? policyEvaluationCacheDuration
+                : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+        return Caffeine.newBuilder()
+                .maximumSize(policyEvaluationCacheMaximumSize)
+                .expireAfterWrite(duration, TimeUnit.MINUTES)
+                .build();
+    }
+
 }
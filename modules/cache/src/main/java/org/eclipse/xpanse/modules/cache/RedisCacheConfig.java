@@ -10,6 +10,7 @@ import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.CACHE_PROVI
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.CREDENTIAL_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.MONITOR_METRICS_CACHE_NAME;
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.POLICY_EVALUATION_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.REGION_AZS_CACHE_NAME;
 import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_FLAVOR_PRICE_CACHE_NAME;
 
@@ -34,6 +35,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -58,6 +60,9 @@ public class RedisCacheConfig {
     @Value("${service.monitor.metrics.cache.expire.time.in.minutes:60}")
     private long monitorMetricsCacheDuration;
 
+    @Value("${policy.evaluation.cache.expire.time.in.minutes:60}")
+    private long policyEvaluationCacheDuration;
+
     @Value("${spring.data.redis.host}")
     private String redisHost;
 
@@ -81,6 +86,8 @@ public class RedisCacheConfig {
                 getServiceFlavorPriceCache());
         builder.withCacheConfiguration(CREDENTIAL_CACHE_NAME, getCredentialCache());
         builder.withCacheConfiguration(MONITOR_METRICS_CACHE_NAME, getMonitorMetricsCache());
+        builder.withCacheConfiguration(POLICY_EVALUATION_CACHE_NAME,
+                getPolicyEvaluationCache());
         return builder.build();
     }
 
@@ -151,6 +158,17 @@ public class RedisCacheConfig {
                 .serializeValuesWith(getRedisValueSerializer());
     }
 
+    private RedisCacheConfiguration getPolicyEvaluationCache() {
+        long duration = policyEvaluationCacheDuration > 0 ? policyEvaluationCacheDuration
+                : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+        // the type of the evaluation results is stored with the values to read them back.
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(duration))
+                .serializeKeysWith(getRedisKeySerializer())
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new GenericJackson2JsonRedisSerializer()));
+    }
+
 
     /**
      * Config redis template.
@@ -0,0 +1,18 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.client;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Defines a cloud provider SDK client kept in the clients store together with its resources.
+ *
+ * @param client    SDK client.
+ * @param resources resources of the client, e.g. connection and thread pools, released when the
+ *                  client is removed from the store. Null if nothing has to be released.
+ */
+public record CspClient<T>(T client, @Nullable AutoCloseable resources) {
+}
@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.client;
+
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+
+/**
+ * Defines the key of a cloud provider SDK client in the clients store.
+ *
+ * @param csp                   cloud service provider.
+ * @param credentialFingerprint fingerprint of the credential used by the client.
+ * @param region                region of the client.
+ * @param service               name of the cloud service of the client.
+ */
+public record CspClientCacheKey(Csp csp,
+                                String credentialFingerprint,
+                                String region,
+                                String service) {
+}
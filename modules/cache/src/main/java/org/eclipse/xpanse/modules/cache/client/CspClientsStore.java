@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.client;
+
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.cache.credential.CredentialChangedEvent;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Component for reusing the SDK clients of the cloud service providers. Building a client
+ * creates its own HTTP connection pool, so the clients are kept per credential, region and
+ * service and shared by all calls. The clients are held in the local memory only, because they
+ * cannot be shared between nodes. The resources of a client are released when it is removed.
+ */
+@Slf4j
+@Component
+public class CspClientsStore {
+
+    private static final String PROJECT_ID_SERVICE = "projectId";
+
+    private final Cache<CspClientCacheKey, CspClient<?>> clients;
+    private final Cache<CspClientCacheKey, String> projectIds;
+
+    /**
+     * Constructor for CspClientsStore.
+     *
+     * @param maximumSize             maximum number of clients kept.
+     * @param expireTimeInMinutes     time after which an unused client is removed.
+     */
+    @Autowired
+    public CspClientsStore(
+            @Value("${csp.sdk.clients.cache.maximum.size:500}") long maximumSize,
+            @Value("${csp.sdk.clients.cache.expire.time.in.minutes:60}")
+            long expireTimeInMinutes) {
+        long duration = expireTimeInMinutes > 0 ? expireTimeInMinutes
+                : DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES;
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(duration, TimeUnit.MINUTES)
+                // remove expired clients also when the store is not used.
+                .scheduler(Scheduler.systemScheduler())
+                .<CspClientCacheKey, CspClient<?>>removalListener(this::closeClient)
+                .build();
+        this.projectIds = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(duration, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Get the client from the store or build it when not available.
+     *
+     * @param key           key of the client.
+     * @param clientType    type of the client.
+     * @param clientBuilder builds a new client with its resources.
+     * @return client for the key.
+     */
+    public <T> T getClient(CspClientCacheKey key, Class<T> clientType,
+                           Supplier<CspClient<T>> clientBuilder) {
+        CspClient<?> cspClient = clients.get(key, cacheKey -> {
+            log.info("Build new {} client for region {}.", key.csp(), key.region());
+            return clientBuilder.get();
+        });
+        return clientType.cast(cspClient.client());
+    }
+
+    /**
+     * Get the project id of the credential in the region from the store or load it when not
+     * available. Empty project ids are not stored.
+     *
+     * @param csp                   cloud service provider.
+     * @param credentialFingerprint fingerprint of the credential.
+     * @param region                region of the project.
+     * @param projectIdLoader       loads the project id.
+     * @return project id.
+     */
+    public String getProjectId(Csp csp, String credentialFingerprint, String region,
+                               Supplier<String> projectIdLoader) {
+        CspClientCacheKey key =
+                new CspClientCacheKey(csp, credentialFingerprint, region, PROJECT_ID_SERVICE);
+        String projectId = projectIds.getIfPresent(key);
+        if (Objects.isNull(projectId)) {
+            projectId = projectIdLoader.get();
+            if (Objects.nonNull(projectId) && !projectId.isBlank()) {
+                projectIds.put(key, projectId);
+            }
+        }
+        return projectId;
+    }
+
+    /**
+     * Remove all clients and project ids of the cloud service provider.
+     *
+     * @param csp cloud service provider.
+     */
+    public void evictClients(Csp csp) {
+        clients.asMap().keySet().removeIf(key -> key.csp() == csp);
+        projectIds.asMap().keySet().removeIf(key -> key.csp() == csp);
+    }
+
+    /**
+     * Remove the clients of the cloud service provider when one of its credentials is changed.
+     *
+     * @param event credential changed event.
+     */
+    @EventListener
+    public void onCredentialChanged(CredentialChangedEvent event) {
+        if (Objects.nonNull(event.key()) && Objects.nonNull(event.key().csp())) {
+            log.info("Credential of {} changed, evict the cached SDK clients.", event.key().csp());
+            evictClients(event.key().csp());
+        }
+    }
+
+    /**
+     * Compute the fingerprint of a credential. The secrets of the credential are not kept.
+     *
+     * @param credentialParts parts of the credential, e.g. access key and secret key.
+     * @return hex encoded SHA-256 of the credential parts.
+     */
+    public static String getCredentialFingerprint(String... credentialParts) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            for (String credentialPart : credentialParts) {
+                messageDigest.update(String.valueOf(credentialPart)
+                        .getBytes(StandardCharsets.UTF_8));
+                messageDigest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void closeClient(CspClientCacheKey key, CspClient<?> cspClient, RemovalCause cause) {
+        if (Objects.isNull(key) || Objects.isNull(cspClient)
+                || Objects.isNull(cspClient.resources())) {
+            return;
+        }
+        try {
+            cspClient.resources().close();
+            log.info("Closed {} {} client for region {}, removal cause {}.", key.csp(),
+                    key.service(), key.region(), cause);
+        } catch (Exception e) {
+            log.warn("Close {} {} client for region {} failed.", key.csp(), key.service(),
+                    key.region(), e);
+        }
+    }
+
+    long getClientsCount() {
+        clients.cleanUp();
+        return clients.estimatedSize();
+    }
+}
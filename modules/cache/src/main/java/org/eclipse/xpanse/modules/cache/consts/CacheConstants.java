@@ -19,6 +19,11 @@ public class CacheConstants {
 
     public static final String MONITOR_METRICS_CACHE_NAME = "MONITOR_METRICS_CACHE";
 
+    public static final String POLICY_EVALUATION_CACHE_NAME = "POLICY_EVALUATION_CACHE";
+
+    public static final String POLICY_EVALUATION_CACHE_KEY_GENERATOR =
+            "policyEvaluationCacheKeyGenerator";
+
     public static final int DEFAULT_CACHE_EXPIRE_TIME_IN_MINUTES = 60;
 
     public static final String CACHE_PROVIDER_CAFFEINE = "Caffeine";
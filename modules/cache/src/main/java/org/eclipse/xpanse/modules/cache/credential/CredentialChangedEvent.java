@@ -0,0 +1,14 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.credential;
+
+/**
+ * Event published when a credential is stored to or deleted from the credentials store.
+ *
+ * @param key key of the changed credential.
+ */
+public record CredentialChangedEvent(CredentialCacheKey key) {
+}
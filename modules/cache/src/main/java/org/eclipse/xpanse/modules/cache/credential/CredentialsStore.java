@@ -19,6 +19,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
@@ -31,19 +32,23 @@ public class CredentialsStore {
 
     private final RedisTemplate<String, AbstractCredentialInfo> credentialRedisTemplate;
     private final Boolean redisCacheEnabled;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * Constructor for CredentialsStore.
      *
-     * @param redisCacheEnabled       Enable redis distributed cache.
-     * @param credentialRedisTemplate credentialRedisTemplate.
+     * @param redisCacheEnabled         Enable redis distributed cache.
+     * @param credentialRedisTemplate   credentialRedisTemplate.
+     * @param applicationEventPublisher applicationEventPublisher.
      */
     @Autowired
     public CredentialsStore(
             @Value("${enable.redis.distributed.cache:false}") Boolean redisCacheEnabled,
-            @Nullable RedisTemplate<String, AbstractCredentialInfo> credentialRedisTemplate) {
+            @Nullable RedisTemplate<String, AbstractCredentialInfo> credentialRedisTemplate,
+            ApplicationEventPublisher applicationEventPublisher) {
         this.redisCacheEnabled = redisCacheEnabled;
         this.credentialRedisTemplate = credentialRedisTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -55,6 +60,7 @@ public class CredentialsStore {
     public AbstractCredentialInfo storeCredential(CredentialCacheKey key,
                                                   AbstractCredentialInfo credentialInfo) {
         log.info("Store credential cache entry with key:{}", key);
+        applicationEventPublisher.publishEvent(new CredentialChangedEvent(key));
         return credentialInfo;
     }
 
@@ -78,6 +84,7 @@ public class CredentialsStore {
     public void deleteCredential(CredentialCacheKey key) {
         // This method body is not required when using @CacheEvict.
         log.info("Delete credential cache entry with key:{}", key.toString());
+        applicationEventPublisher.publishEvent(new CredentialChangedEvent(key));
     }
 
 
@@ -0,0 +1,23 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.policy;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Defines policy evaluation cache key. The key holds only the fingerprints of the evaluated
+ * input and policies, the input and policies themselves are not kept in the cache.
+ *
+ * @param inputFingerprint    fingerprint of the normalized input of the evaluation.
+ * @param policiesFingerprint fingerprint of the sorted policies of the evaluation.
+ */
+public record PolicyEvaluationCacheKey(String inputFingerprint, String policiesFingerprint)
+        implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2817480536195338361L;
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.cache.policy;
+
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.POLICY_EVALUATION_CACHE_KEY_GENERATOR;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates the keys of the policy evaluation cache from the policies and the input of an
+ * evaluation. The input is normalized before it is hashed, so the same deployment plan written
+ * with another order of the fields or at another time maps to the same key. The policies are
+ * sorted before they are hashed, the same set of policies maps to the same key in any order.
+ */
+@Slf4j
+@Component(POLICY_EVALUATION_CACHE_KEY_GENERATOR)
+public class PolicyEvaluationCacheKeyGenerator implements KeyGenerator {
+
+    /**
+     * Fields of the plan which change with every plan without changing the planned resources.
+     */
+    private static final List<String> VOLATILE_PLAN_FIELDS = List.of("timestamp");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    /**
+     * Generate the key of the evaluation of the input with the policies.
+     *
+     * @param target the target instance.
+     * @param method the method being called.
+     * @param params the policies and the input of the evaluation.
+     * @return key of the policy evaluation cache.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object generate(Object target, Method method, Object... params) {
+        if (params.length != 2 || !(params[0] instanceof Collection<?>)) {
+            throw new IllegalArgumentException("Policy evaluation cache key requires the policies"
+                    + " and the input of the evaluation.");
+        }
+        return getCacheKey((Collection<String>) params[0], (String) params[1]);
+    }
+
+    /**
+     * Get the key of the evaluation of the input with the policies.
+     *
+     * @param policies policies of the evaluation.
+     * @param input    input of the evaluation.
+     * @return key of the policy evaluation cache.
+     */
+    public PolicyEvaluationCacheKey getCacheKey(Collection<String> policies, String input) {
+        List<String> sortedPolicies = policies.stream().map(String::valueOf).sorted().toList();
+        String inputFingerprint =
+                getFingerprint(Collections.singletonList(normalizeInput(input)));
+        return new PolicyEvaluationCacheKey(inputFingerprint, getFingerprint(sortedPolicies));
+    }
+
+    private String normalizeInput(String input) {
+        if (Objects.isNull(input)) {
+            return null;
+        }
+        try {
+            Object parsedInput = OBJECT_MAPPER.readValue(input, Object.class);
+            if (parsedInput instanceof Map<?, ?> plan) {
+                VOLATILE_PLAN_FIELDS.forEach(plan::remove);
+            }
+            return OBJECT_MAPPER.writeValueAsString(parsedInput);
+        } catch (JsonProcessingException e) {
+            log.debug("Input of the policy evaluation is not JSON, use it as it is.");
+            return input;
+        }
+    }
+
+    private String getFingerprint(List<String> values) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            for (String value : values) {
+                if (Objects.nonNull(value)) {
+                    messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+                }
+                messageDigest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.eclipse.xpanse.modules.cache.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.xpanse.modules.cache.credential.CredentialCacheKey;
+import org.eclipse.xpanse.modules.cache.credential.CredentialChangedEvent;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.credential.enums.CredentialType;
+import org.junit.jupiter.api.Test;
+
+class CspClientsStoreTest {
+
+    private final CspClientsStore cspClientsStore = new CspClientsStore(100, 60);
+
+    @Test
+    void testGetClientReusesClient() {
+        CspClientCacheKey key = new CspClientCacheKey(Csp.HUAWEI_CLOUD,
+                CspClientsStore.getCredentialFingerprint("ak", "sk"), "region", "EcsClient");
+
+        Object client = cspClientsStore.getClient(key, Object.class, this::newClient);
+
+        assertSame(client, cspClientsStore.getClient(key, Object.class, this::newClient));
+        assertEquals(1, cspClientsStore.getClientsCount());
+    }
+
+    @Test
+    void testGetClientWithDifferentRegion() {
+        String fingerprint = CspClientsStore.getCredentialFingerprint("ak", "sk");
+        Object client = cspClientsStore.getClient(
+                new CspClientCacheKey(Csp.HUAWEI_CLOUD, fingerprint, "region", "EcsClient"),
+                Object.class, this::newClient);
+
+        assertNotSame(client, cspClientsStore.getClient(
+                new CspClientCacheKey(Csp.HUAWEI_CLOUD, fingerprint, "region2", "EcsClient"),
+                Object.class, this::newClient));
+        assertEquals(2, cspClientsStore.getClientsCount());
+    }
+
+    @Test
+    void testEvictedClientIsClosed() {
+        CspClientCacheKey key = new CspClientCacheKey(Csp.HUAWEI_CLOUD, "fingerprint",
+                "region", "EcsClient");
+        CountDownLatch closed = new CountDownLatch(1);
+        cspClientsStore.getClient(key, Object.class,
+                () -> new CspClient<>(new Object(), closed::countDown));
+
+        cspClientsStore.evictClients(Csp.HUAWEI_CLOUD);
+
+        assertTrue(awaitClosed(closed));
+        assertEquals(0, cspClientsStore.getClientsCount());
+    }
+
+    @Test
+    void testGetProjectId() {
+        AtomicInteger loadCount = new AtomicInteger();
+
+        assertNull(cspClientsStore.getProjectId(Csp.HUAWEI_CLOUD, "fingerprint", "region",
+                () -> {
+                    loadCount.incrementAndGet();
+                    return null;
+                }));
+        for (int i = 0; i < 2; i++) {
+            assertEquals("projectId", cspClientsStore.getProjectId(Csp.HUAWEI_CLOUD,
+                    "fingerprint", "region", () -> {
+                        loadCount.incrementAndGet();
+                        return "projectId";
+                    }));
+        }
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void testOnCredentialChanged() {
+        CspClientCacheKey huaweiKey = new CspClientCacheKey(Csp.HUAWEI_CLOUD, "fingerprint",
+                "region", "EcsClient");
+        CspClientCacheKey flexibleEngineKey = new CspClientCacheKey(Csp.FLEXIBLE_ENGINE,
+                "fingerprint", "region", "EcsClient");
+        Object huaweiClient = cspClientsStore.getClient(huaweiKey, Object.class, this::newClient);
+        Object flexibleEngineClient =
+                cspClientsStore.getClient(flexibleEngineKey, Object.class, this::newClient);
+
+        cspClientsStore.onCredentialChanged(new CredentialChangedEvent(new CredentialCacheKey(
+                Csp.HUAWEI_CLOUD, CredentialType.VARIABLES, "AK_SK", "userId")));
+
+        assertNotSame(huaweiClient,
+                cspClientsStore.getClient(huaweiKey, Object.class, this::newClient));
+        assertSame(flexibleEngineClient,
+                cspClientsStore.getClient(flexibleEngineKey, Object.class, this::newClient));
+    }
+
+    @Test
+    void testGetCredentialFingerprint() {
+        assertEquals(CspClientsStore.getCredentialFingerprint("ak", "sk"),
+                CspClientsStore.getCredentialFingerprint("ak", "sk"));
+        assertNotEquals(CspClientsStore.getCredentialFingerprint("ak", "sk"),
+                CspClientsStore.getCredentialFingerprint("ak", "sk2"));
+        assertNotEquals(CspClientsStore.getCredentialFingerprint("a", "ksk"),
+                CspClientsStore.getCredentialFingerprint("ak", "sk"));
+    }
+
+    private CspClient<Object> newClient() {
+        return new CspClient<>(new Object(), null);
+    }
+
+    private boolean awaitClosed(CountDownLatch closed) {
+        try {
+            // the removal listener of the store runs asynchronously.
+            return closed.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.eclipse.xpanse.modules.cache.policy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PolicyEvaluationCacheKeyGeneratorTest {
+
+    private static final String PLAN = "{\"format_version\":\"1.2\","
+            + "\"timestamp\":\"2024-07-01T10:00:00Z\","
+            + "\"planned_values\":{\"root_module\":{\"resources\":[{\"type\":\"vm\","
+            + "\"name\":\"vm-1\"}]}}}";
+
+    private final PolicyEvaluationCacheKeyGenerator keyGenerator =
+            new PolicyEvaluationCacheKeyGenerator();
+
+    @Test
+    void testSameKeyForEqualPlansAndPolicySets() {
+        String replannedPlan = "{ \"planned_values\": {\"root_module\": {\"resources\": "
+                + "[{\"name\": \"vm-1\", \"type\": \"vm\"}]}}, "
+                + "\"timestamp\": \"2024-07-02T12:30:00Z\", \"format_version\": \"1.2\" }";
+
+        PolicyEvaluationCacheKey key =
+                keyGenerator.getCacheKey(List.of("policy-a", "policy-b"), PLAN);
+
+        assertEquals(key, keyGenerator.getCacheKey(List.of("policy-b", "policy-a"),
+                replannedPlan));
+        assertEquals(key, keyGenerator.generate(keyGenerator, null,
+                List.of("policy-a", "policy-b"), PLAN));
+    }
+
+    @Test
+    void testDifferentKeyForChangedPlanOrPolicies() {
+        String changedPlan = PLAN.replace("vm-1", "vm-2");
+        PolicyEvaluationCacheKey key = keyGenerator.getCacheKey(List.of("policy-a"), PLAN);
+
+        assertNotEquals(key, keyGenerator.getCacheKey(List.of("policy-a"), changedPlan));
+        assertNotEquals(key, keyGenerator.getCacheKey(List.of("policy-b"), PLAN));
+        assertNotEquals(key, keyGenerator.getCacheKey(List.of("policy-a", "policy-b"), PLAN));
+        // the policies are separated, joining two policies gives another key.
+        assertNotEquals(keyGenerator.getCacheKey(List.of("ab"), PLAN),
+                keyGenerator.getCacheKey(List.of("a", "b"), PLAN));
+    }
+
+    @Test
+    void testKeyForInputWhichIsNotJson() {
+        assertEquals(keyGenerator.getCacheKey(List.of("policy"), "input"),
+                keyGenerator.getCacheKey(List.of("policy"), "input"));
+        assertNotEquals(keyGenerator.getCacheKey(List.of("policy"), "input"),
+                keyGenerator.getCacheKey(List.of("policy"), "input-1"));
+    }
+
+    @Test
+    void testGenerateWithInvalidParams() {
+        assertThrows(IllegalArgumentException.class,
+                () -> keyGenerator.generate(keyGenerator, null, "policy"));
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.common.systemcmd;
+
+/**
+ * Receives the output of an operating system process line by line while the process is running.
+ * Implementations are called from the stream reader threads and must be thread-safe.
+ */
+@FunctionalInterface
+public interface ProcessOutputSink {
+
+    /**
+     * Accept one line of the process output.
+     *
+     * @param type type of the output stream the line was read from.
+     * @param line line without line separator.
+     */
+    void accept(ProcessOutputType type, String line);
+}
@@ -0,0 +1,14 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.common.systemcmd;
+
+/**
+ * Output streams of an operating system process.
+ */
+public enum ProcessOutputType {
+    STDOUT,
+    STDERR
+}
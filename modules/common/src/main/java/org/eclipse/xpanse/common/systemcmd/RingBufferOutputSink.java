@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.common.systemcmd;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Output sink which keeps only the latest lines of the process output. Can be used to provide a
+ * live tail of a running command.
+ */
+public class RingBufferOutputSink implements ProcessOutputSink {
+
+    private final int capacity;
+    private final Deque<String> lines;
+
+    /**
+     * Constructor for RingBufferOutputSink.
+     *
+     * @param capacity maximum number of lines to keep.
+     */
+    public RingBufferOutputSink(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity of the ring buffer must be positive.");
+        }
+        this.capacity = capacity;
+        this.lines = new ArrayDeque<>(capacity);
+    }
+
+    @Override
+    public synchronized void accept(ProcessOutputType type, String line) {
+        if (lines.size() == capacity) {
+            lines.removeFirst();
+        }
+        lines.addLast(line);
+    }
+
+    /**
+     * Get a snapshot of the latest lines of the process output.
+     *
+     * @return latest lines in the order they were received.
+     */
+    public synchronized List<String> getLines() {
+        return new ArrayList<>(lines);
+    }
+}
@@ -8,51 +8,112 @@ package org.eclipse.xpanse.common.systemcmd;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 
 /**
- * Executes operating system commands.
+ * Executes operating system commands. The stdout and stderr streams of the process are drained
+ * in parallel by a shared pool of virtual threads and streamed line by line to the log, to the
+ * result of the command and to the additional output sinks configured.
  */
 @Setter
 @Getter
 @Slf4j
 public class SystemCmd {
 
+    /**
+     * Shared pool for reading the output streams of all processes. Virtual threads are cheap to
+     * block on the process pipes, so no platform thread is held per running command.
+     */
+    private static final ExecutorService STREAM_READER_POOL =
+            Executors.newVirtualThreadPerTaskExecutor();
+
+    private static final ProcessOutputSink LOG_OUTPUT_SINK = (type, line) -> log.info(line);
+
     private Map<String, String> env;
 
+    /**
+     * Whether the process inherits the environment of the application. When false, the process
+     * gets only the variables in env, so it cannot read the secrets of the application.
+     */
+    private boolean inheritEnv = true;
+
     private String workDir = "";
 
+    /**
+     * Additional sinks which receive the output of the command while it is running.
+     */
+    private List<ProcessOutputSink> outputSinks = new ArrayList<>();
+
+    /**
+     * Maximum number of characters of each output stream kept in the result. When the output is
+     * larger, its first and last lines are kept. The whole output is still streamed to the sinks.
+     */
+    private int maxOutputSize = Integer.MAX_VALUE;
+
+    /**
+     * Time to wait for the output streams to be drained after the process is finished. A child
+     * process started in the background can keep the streams open after the process is finished.
+     */
+    private int outputDrainTimeoutSeconds = 10;
+
     public SystemCmdResult execute(String cmd) {
         return execute(cmd, 0);
     }
 
     /**
-     * Executes operating system command.
+     * Executes operating system command. The command is split into its arguments at the spaces.
      *
      * @param cmd        command to be executed.
-     * @param waitSecond time to wait for the command to be completed.
+     * @param waitSecond time to wait for the command to be completed. The process is killed when
+     *                   it is not completed within this time. Zero or negative means no limit.
      * @return returns SystemCmdResult object which has all the execution details.
      */
     public SystemCmdResult execute(String cmd, int waitSecond) {
+        return execute(Arrays.asList(cmd.split(" +")), waitSecond);
+    }
+
+    /**
+     * Executes operating system command given as the list of its arguments. The arguments are
+     * passed to the process as they are, so they can contain spaces.
+     *
+     * @param cmd        executable and arguments of the command to be executed.
+     * @param waitSecond time to wait for the command to be completed. The process is killed when
+     *                   it is not completed within this time. Zero or negative means no limit.
+     * @return returns SystemCmdResult object which has all the execution details.
+     */
+    public SystemCmdResult execute(List<String> cmd, int waitSecond) {
         SystemCmdResult systemCmdResult = new SystemCmdResult();
-        systemCmdResult.setCommandExecuted(cmd);
+        systemCmdResult.setCommandExecuted(String.join(" ", cmd));
         log.info("SystemCmd executing cmd: " + String.join(" ", cmd));
+        long startTime = System.currentTimeMillis();
+        boolean isProcessStarted = false;
+        boolean isTimedOut = false;
         try {
-            String[] safeCmd = cmd.split(" +");
-            ProcessBuilder processBuilder = new ProcessBuilder(safeCmd);
+            ProcessBuilder processBuilder = new ProcessBuilder(cmd);
+            if (!this.inheritEnv) {
+                processBuilder.environment().clear();
+            }
             if (this.env != null) {
                 processBuilder.environment().putAll(this.env);
             }
@@ -60,17 +121,33 @@ public class SystemCmd {
                 processBuilder.directory(new File(workDir));
             }
             Process process = processBuilder.start();
-            readProcessOutput(process, systemCmdResult);
+            isProcessStarted = true;
+            SystemCmdMetrics.processStarted();
+            OutputCollector stdOutCollector = new OutputCollector(maxOutputSize);
+            OutputCollector stdErrCollector = new OutputCollector(maxOutputSize);
+            CompletableFuture<Void> outputFuture =
+                    readProcessOutput(process, stdOutCollector, stdErrCollector);
 
             if (waitSecond <= 0) {
                 process.waitFor();
-            } else {
-                if (!process.waitFor(waitSecond, TimeUnit.SECONDS)) {
-                    log.error("SystemCmd wait process failed");
-                    systemCmdResult.setCommandSuccessful(false);
-                }
+            } else if (!process.waitFor(waitSecond, TimeUnit.SECONDS)) {
+                log.error("SystemCmd process not completed in {} seconds, killing it.",
+                        waitSecond);
+                isTimedOut = true;
+                process.descendants().forEach(ProcessHandle::destroyForcibly);
+                process.destroyForcibly();
+                process.waitFor();
             }
-            if (process.exitValue() != 0) {
+            waitForOutput(outputFuture);
+            systemCmdResult.setCommandStdOutput(stdOutCollector.getOutput());
+            systemCmdResult.setCommandStdError(stdErrCollector.getOutput());
+
+            if (isTimedOut) {
+                systemCmdResult.setCommandSuccessful(false);
+                systemCmdResult.setCommandStdError(stdErrCollector.getOutput()
+                        + System.lineSeparator()
+                        + "Command not completed in " + waitSecond + " seconds.");
+            } else if (process.exitValue() != 0) {
                 log.error("SystemCmd process finished with abnormal value.");
                 systemCmdResult.setCommandSuccessful(false);
             } else {
@@ -86,62 +163,168 @@ public class SystemCmd {
             Thread.currentThread().interrupt();
             systemCmdResult.setCommandSuccessful(false);
             systemCmdResult.setCommandStdError(ex.getMessage());
+        } finally {
+            if (isProcessStarted) {
+                SystemCmdMetrics.processFinished(System.currentTimeMillis() - startTime,
+                        systemCmdResult.isCommandSuccessful(), isTimedOut);
+            }
         }
         return systemCmdResult;
     }
 
-    private String readStream(BufferedReader bufferedReader, Map<String, String> contextMap) {
+    private void waitForOutput(CompletableFuture<Void> outputFuture)
+            throws ExecutionException, InterruptedException {
+        try {
+            // streams are closed once the process is finished, no busy waiting is needed here.
+            outputFuture.get(outputDrainTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            // the readers keep draining the streams until they are closed.
+            log.warn("Output of the process not drained in {} seconds after it is finished. "
+                    + "Using the output read so far.", outputDrainTimeoutSeconds);
+        }
+    }
+
+    private CompletableFuture<Void> readProcessOutput(Process process,
+                                                      OutputCollector stdOutCollector,
+                                                      OutputCollector stdErrCollector) {
+        final Map<String, String> contextMap = new HashMap<>(
+                Objects.nonNull(MDC.getCopyOfContextMap()) ? MDC.getCopyOfContextMap()
+                        : new HashMap<>());
+        // Both stdout and stderr streams must be read in parallel. Otherwise, the process
+        // blocks as soon as the buffer of the stream not being read is full.
+        CompletableFuture<Void> stdOutFuture = CompletableFuture.runAsync(
+                () -> readStream(process.getInputStream(), ProcessOutputType.STDOUT,
+                        stdOutCollector, contextMap), STREAM_READER_POOL);
+        CompletableFuture<Void> stdErrFuture = CompletableFuture.runAsync(
+                () -> readStream(process.getErrorStream(), ProcessOutputType.STDERR,
+                        stdErrCollector, contextMap), STREAM_READER_POOL);
+        return CompletableFuture.allOf(stdOutFuture, stdErrFuture);
+    }
+
+    private void readStream(InputStream inputStream, ProcessOutputType type,
+                            OutputCollector collector, Map<String, String> contextMap) {
         //copying MDC context of the main deployment thread to the stream reader thread.
         MDC.setContextMap(contextMap);
-        StringBuilder stringBuilder = new StringBuilder();
-        bufferedReader.lines().forEach(line -> {
-            log.info(line);
-            // skip adding new line for the first line.
-            if (!stringBuilder.isEmpty()) {
-                stringBuilder.append(System.lineSeparator());
+        CountingInputStream countingInputStream = new CountingInputStream(inputStream);
+        try (BufferedReader bufferedReader =
+                     new BufferedReader(new InputStreamReader(countingInputStream))) {
+            bufferedReader.lines().forEach(line -> {
+                collector.accept(type, line);
+                LOG_OUTPUT_SINK.accept(type, line);
+                outputSinks.forEach(sink -> sendToSink(sink, type, line));
+            });
+        } catch (IOException e) {
+            log.error("Failed to read {} of the process.", type, e);
+        } finally {
+            SystemCmdMetrics.bytesRead(countingInputStream.getCount());
+            if (collector.isTruncated()) {
+                log.warn("{} of the process exceeded {} characters and is truncated.", type,
+                        maxOutputSize);
+                SystemCmdMetrics.outputTruncated();
             }
-            stringBuilder.append(line);
-        });
-        return stringBuilder.toString();
+            MDC.clear();
+        }
     }
 
-    private void readProcessOutput(Process process, SystemCmdResult systemCmdResult)
-            throws IOException, ExecutionException, InterruptedException {
-        if (Objects.isNull(process)) {
-            return;
+    private void sendToSink(ProcessOutputSink sink, ProcessOutputType type, String line) {
+        try {
+            sink.accept(type, line);
+        } catch (RuntimeException e) {
+            // a failing sink must not stop draining the process output.
+            log.debug("Output sink {} failed to accept line.", sink, e);
         }
-        final Map<String, String> contextMap = new HashMap<>(
-                Objects.nonNull(MDC.getCopyOfContextMap()) ? MDC.getCopyOfContextMap()
-                        : new HashMap<>());
+    }
+
+    /**
+     * Collects the output of one stream up to the maximum size. When the output is larger, the
+     * first and the last lines are kept, since the tools print the reason of a failure at the end.
+     */
+    private static class OutputCollector implements ProcessOutputSink {
 
+        private final StringBuilder head = new StringBuilder();
+        private final Deque<String> tail = new ArrayDeque<>();
+        private final int maxHeadSize;
+        private final int maxTailSize;
+        private long tailSize;
+        private long skippedSize;
 
-        // Starting threads in parallel to read stdout and stderr. This is needed because in
-        // some cases reading stdout first works and in some cases reading stderr first works.
-        // we now let both stdout and stderr streams to be fully read in parallel and then read
-        // the output after the buffers are fully read.
-        BufferedReader stdoutReader =
-                new BufferedReader(new InputStreamReader(process.getInputStream()));
-        ExecutorService threadToReadStdout = Executors.newSingleThreadExecutor();
-        Future<String> stdOutFuture =
-                threadToReadStdout.submit(() -> readStream(stdoutReader, contextMap));
-
-        BufferedReader stdErrorReader =
-                new BufferedReader(new InputStreamReader(process.getErrorStream()));
-        ExecutorService threadToReadStdErr = Executors.newSingleThreadExecutor();
-        Future<String> stdErrFuture =
-                threadToReadStdErr.submit(() -> readStream(stdErrorReader, contextMap));
-
-        int count = 0;
-        while (!stdOutFuture.isDone() || !stdErrFuture.isDone()) {
-            if (count++ < 10 || count % 100000 == 0) {
-                log.debug("Command output and error streams are still being read.");
+        OutputCollector(int maxSize) {
+            this.maxHeadSize = maxSize / 2;
+            this.maxTailSize = maxSize - maxHeadSize;
+        }
+
+        @Override
+        public synchronized void accept(ProcessOutputType type, String line) {
+            // skip adding new line for the first line.
+            int lineLength = head.isEmpty()
+                    ? line.length() : line.length() + System.lineSeparator().length();
+            if (tail.isEmpty() && head.length() + lineLength <= maxHeadSize) {
+                if (!head.isEmpty()) {
+                    head.append(System.lineSeparator());
+                }
+                head.append(line);
+                return;
+            }
+            tail.addLast(line);
+            tailSize += line.length() + System.lineSeparator().length();
+            while (tailSize > maxTailSize && !tail.isEmpty()) {
+                String removedLine = tail.removeFirst();
+                tailSize -= removedLine.length() + System.lineSeparator().length();
+                skippedSize += removedLine.length() + System.lineSeparator().length();
             }
         }
 
-        systemCmdResult.setCommandStdError(stdErrFuture.get());
-        systemCmdResult.setCommandStdOutput(stdOutFuture.get());
-        threadToReadStdout.shutdown();
-        threadToReadStdErr.shutdown();
+        synchronized boolean isTruncated() {
+            return skippedSize > 0;
+        }
+
+        synchronized String getOutput() {
+            StringBuilder output = new StringBuilder(head);
+            if (isTruncated()) {
+                output.append(System.lineSeparator()).append("... ").append(skippedSize)
+                        .append(" characters truncated ...");
+            }
+            for (String line : tail) {
+                if (!output.isEmpty()) {
+                    output.append(System.lineSeparator());
+                }
+                output.append(line);
+            }
+            return output.toString();
+        }
     }
 
+    /**
+     * Counts the bytes read from the process output.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream inputStream) {
+            super(inputStream);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int result = super.read();
+            if (result != -1) {
+                count++;
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int result = super.read(bytes, offset, length);
+            if (result > 0) {
+                count += result;
+            }
+            return result;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
 }
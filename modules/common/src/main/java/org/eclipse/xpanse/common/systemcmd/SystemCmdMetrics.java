@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.common.systemcmd;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of the operating system commands executed by {@link SystemCmd}.
+ */
+public final class SystemCmdMetrics {
+
+    private static final AtomicInteger RUNNING_PROCESSES = new AtomicInteger();
+    private static final AtomicLong EXECUTED_COMMANDS = new AtomicLong();
+    private static final AtomicLong FAILED_COMMANDS = new AtomicLong();
+    private static final AtomicLong TIMED_OUT_COMMANDS = new AtomicLong();
+    private static final AtomicLong TOTAL_EXECUTION_TIME_IN_MILLIS = new AtomicLong();
+    private static final AtomicLong MAX_EXECUTION_TIME_IN_MILLIS = new AtomicLong();
+    private static final AtomicLong BYTES_READ = new AtomicLong();
+    private static final AtomicLong TRUNCATED_OUTPUTS = new AtomicLong();
+
+    private SystemCmdMetrics() {
+    }
+
+    static void processStarted() {
+        RUNNING_PROCESSES.incrementAndGet();
+    }
+
+    static void processFinished(long executionTimeInMillis, boolean isSuccessful,
+                                boolean isTimedOut) {
+        RUNNING_PROCESSES.decrementAndGet();
+        EXECUTED_COMMANDS.incrementAndGet();
+        if (!isSuccessful) {
+            FAILED_COMMANDS.incrementAndGet();
+        }
+        if (isTimedOut) {
+            TIMED_OUT_COMMANDS.incrementAndGet();
+        }
+        TOTAL_EXECUTION_TIME_IN_MILLIS.addAndGet(executionTimeInMillis);
+        MAX_EXECUTION_TIME_IN_MILLIS.accumulateAndGet(executionTimeInMillis, Math::max);
+    }
+
+    static void bytesRead(long bytes) {
+        BYTES_READ.addAndGet(bytes);
+    }
+
+    static void outputTruncated() {
+        TRUNCATED_OUTPUTS.incrementAndGet();
+    }
+
+    public static int getRunningProcesses() {
+        return RUNNING_PROCESSES.get();
+    }
+
+    public static long getExecutedCommands() {
+        return EXECUTED_COMMANDS.get();
+    }
+
+    public static long getFailedCommands() {
+        return FAILED_COMMANDS.get();
+    }
+
+    public static long getTimedOutCommands() {
+        return TIMED_OUT_COMMANDS.get();
+    }
+
+    public static long getTotalExecutionTimeInMillis() {
+        return TOTAL_EXECUTION_TIME_IN_MILLIS.get();
+    }
+
+    public static long getMaxExecutionTimeInMillis() {
+        return MAX_EXECUTION_TIME_IN_MILLIS.get();
+    }
+
+    public static long getBytesRead() {
+        return BYTES_READ.get();
+    }
+
+    public static long getTruncatedOutputs() {
+        return TRUNCATED_OUTPUTS.get();
+    }
+}
@@ -5,9 +5,16 @@
 
 package org.eclipse.xpanse.common.systemcmd;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import org.apache.commons.lang3.SystemUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Test of SystemCmd.
@@ -30,4 +37,92 @@ public class SystemCmdTest {
         Assertions.assertNull(systemCmd.getEnv());
         Assertions.assertNotNull(systemCmd.getWorkDir());
     }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void systemCommandExecuteWithOutputSinks() {
+        SystemCmd systemCmd = new SystemCmd();
+        RingBufferOutputSink ringBufferOutputSink = new RingBufferOutputSink(2);
+        systemCmd.setOutputSinks(List.of(ringBufferOutputSink));
+        long bytesReadBefore = SystemCmdMetrics.getBytesRead();
+
+        SystemCmdResult systemCmdResult = systemCmd.execute("seq 1 5");
+
+        Assertions.assertTrue(systemCmdResult.isCommandSuccessful());
+        Assertions.assertEquals(String.join(System.lineSeparator(), "1", "2", "3", "4", "5"),
+                systemCmdResult.getCommandStdOutput());
+        Assertions.assertEquals(List.of("4", "5"), ringBufferOutputSink.getLines());
+        Assertions.assertTrue(SystemCmdMetrics.getBytesRead() >= bytesReadBefore + 10);
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void systemCommandExecuteWithMaxOutputSize() {
+        SystemCmd systemCmd = new SystemCmd();
+        systemCmd.setMaxOutputSize(4 + 4 * System.lineSeparator().length());
+
+        SystemCmdResult systemCmdResult = systemCmd.execute("seq 1 9");
+
+        Assertions.assertTrue(systemCmdResult.isCommandSuccessful());
+        Assertions.assertEquals(String.join(System.lineSeparator(), "1", "2",
+                        "... " + 5 * (1 + System.lineSeparator().length())
+                                + " characters truncated ...", "8", "9"),
+                systemCmdResult.getCommandStdOutput());
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void systemCommandExecuteWithTimeout() {
+        SystemCmd systemCmd = new SystemCmd();
+        long timedOutCommandsBefore = SystemCmdMetrics.getTimedOutCommands();
+
+        SystemCmdResult systemCmdResult = systemCmd.execute("sleep 30", 1);
+
+        Assertions.assertFalse(systemCmdResult.isCommandSuccessful());
+        Assertions.assertTrue(systemCmdResult.getCommandStdError().contains("1 seconds"));
+        Assertions.assertEquals(timedOutCommandsBefore + 1,
+                SystemCmdMetrics.getTimedOutCommands());
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void systemCommandExecuteWithoutInheritedEnv() {
+        SystemCmd systemCmd = new SystemCmd();
+        systemCmd.setInheritEnv(false);
+        systemCmd.setEnv(Map.of("XPANSE_TEST", "value"));
+
+        SystemCmdResult systemCmdResult = systemCmd.execute("env");
+
+        Assertions.assertTrue(systemCmdResult.isCommandSuccessful());
+        Assertions.assertEquals("XPANSE_TEST=value", systemCmdResult.getCommandStdOutput());
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void systemCommandExecuteWithArguments() {
+        SystemCmd systemCmd = new SystemCmd();
+
+        SystemCmdResult systemCmdResult =
+                systemCmd.execute(List.of("printf", "%s|", "hello  world", "x"), 0);
+
+        Assertions.assertTrue(systemCmdResult.isCommandSuccessful());
+        Assertions.assertEquals("hello  world|x|", systemCmdResult.getCommandStdOutput());
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void systemCommandExecuteWithOutputHeldByChildProcess(@TempDir Path tempDir)
+            throws Exception {
+        Path script = tempDir.resolve("background.sh");
+        Files.writeString(script, "echo started\nsleep 30 &\n");
+        SystemCmd systemCmd = new SystemCmd();
+        systemCmd.setOutputDrainTimeoutSeconds(1);
+        long startTime = System.currentTimeMillis();
+
+        SystemCmdResult systemCmdResult = systemCmd.execute("sh " + script);
+
+        Assertions.assertTrue(systemCmdResult.isCommandSuccessful());
+        Assertions.assertEquals("started", systemCmdResult.getCommandStdOutput());
+        Assertions.assertTrue(System.currentTimeMillis() - startTime < 20000);
+    }
 }
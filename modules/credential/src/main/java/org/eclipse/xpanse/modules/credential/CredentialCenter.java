@@ -8,7 +8,9 @@ package org.eclipse.xpanse.modules.credential;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -252,29 +254,39 @@ public class CredentialCenter {
 
     private void encodeSensitiveVariables(CreateCredential createCredential) {
         List<CredentialVariable> variables = createCredential.getVariables();
-        variables.forEach(variable -> {
-            if (!Objects.isNull(variable) && variable.getIsSensitive()) {
-                if (StringUtils.isNotBlank(variable.getValue())) {
-                    variable.setValue(aesUtil.encode(variable.getValue()));
-                }
-            }
-        });
+        setSensitiveValues(variables, aesUtil.encode(getSensitiveValues(variables)));
     }
 
     private CredentialVariables decodeSensitiveVariables(
             AbstractCredentialInfo abstractCredentialInfo) {
         CredentialVariables credentialVariables = (CredentialVariables) abstractCredentialInfo;
         List<CredentialVariable> variables = credentialVariables.getVariables();
-        variables.forEach(variable -> {
-            if (!Objects.isNull(variable) && variable.getIsSensitive()) {
-                if (StringUtils.isNotBlank(variable.getValue())) {
-                    variable.setValue(aesUtil.decode(variable.getValue()));
-                }
-            }
-        });
+        setSensitiveValues(variables, aesUtil.decode(getSensitiveValues(variables)));
         return credentialVariables;
     }
 
+    /**
+     * Get the sensitive values of the credential, mapped by the position of their variables, so
+     * that all values are encoded or decoded with one call.
+     */
+    private Map<String, String> getSensitiveValues(List<CredentialVariable> variables) {
+        Map<String, String> sensitiveValues = new LinkedHashMap<>();
+        for (int i = 0; i < variables.size(); i++) {
+            CredentialVariable variable = variables.get(i);
+            if (!Objects.isNull(variable) && variable.getIsSensitive()
+                    && StringUtils.isNotBlank(variable.getValue())) {
+                sensitiveValues.put(String.valueOf(i), variable.getValue());
+            }
+        }
+        return sensitiveValues;
+    }
+
+    private void setSensitiveValues(List<CredentialVariable> variables,
+                                    Map<String, String> sensitiveValues) {
+        sensitiveValues.forEach((position, value) ->
+                variables.get(Integer.parseInt(position)).setValue(value));
+    }
+
     /**
      * Check the input credential whether is valid.
      *
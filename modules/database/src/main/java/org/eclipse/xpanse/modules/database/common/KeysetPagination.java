@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.database.common;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetCursor;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+/**
+ * Keyset pagination of the entities sorted descending by a time and the id. A page is read
+ * with a range condition on the sort columns of the last item of the previous page, so the
+ * database reads only the rows of the page from the index instead of skipping an offset.
+ */
+public final class KeysetPagination {
+
+    /**
+     * Sort time of the entities without a time when the time attribute is nullable. The entities
+     * without a time are sorted after all entities with a time.
+     */
+    public static final OffsetDateTime MISSING_TIME =
+            OffsetDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC);
+
+    private KeysetPagination() {
+        // static methods only.
+    }
+
+    /**
+     * Find one page of the entities.
+     *
+     * @param repository    repository of the entities.
+     * @param specification filter of the entities.
+     * @param timeAttribute name of the time attribute to sort by.
+     * @param idAttribute   name of the id attribute to sort by.
+     * @param pageRequest   requested page, null for all entities.
+     * @param cursorOf      creates the cursor of an entity.
+     * @param <T>           type of the entities.
+     * @return page of the entities.
+     */
+    public static <T> KeysetPage<T> findPage(JpaSpecificationExecutor<T> repository,
+                                             Specification<T> specification,
+                                             String timeAttribute, String idAttribute,
+                                             KeysetPageRequest pageRequest,
+                                             Function<T, KeysetCursor> cursorOf) {
+        return findPage(repository, specification, timeAttribute, false, idAttribute,
+                pageRequest, cursorOf);
+    }
+
+    /**
+     * Find one page of the entities sorted by a time attribute which may be null. The entities
+     * without a time are sorted by {@link #MISSING_TIME}, so the cursor of such an entity must be
+     * created with {@link #getSortTime(OffsetDateTime)}.
+     *
+     * @param repository     repository of the entities.
+     * @param specification  filter of the entities.
+     * @param timeAttribute  name of the time attribute to sort by.
+     * @param isTimeNullable whether the time attribute may be null.
+     * @param idAttribute    name of the id attribute to sort by.
+     * @param pageRequest    requested page, null for all entities.
+     * @param cursorOf       creates the cursor of an entity.
+     * @param <T>            type of the entities.
+     * @return page of the entities.
+     */
+    public static <T> KeysetPage<T> findPage(JpaSpecificationExecutor<T> repository,
+                                             Specification<T> specification,
+                                             String timeAttribute, boolean isTimeNullable,
+                                             String idAttribute,
+                                             KeysetPageRequest pageRequest,
+                                             Function<T, KeysetCursor> cursorOf) {
+        if (Objects.isNull(pageRequest)) {
+            return new KeysetPage<>(repository.findAll(sortedAfter(specification,
+                    timeAttribute, isTimeNullable, idAttribute, null)), null);
+        }
+        int limit = pageRequest.limit();
+        // one more entity is read to know whether there is a next page.
+        List<T> entities = repository.findBy(sortedAfter(specification, timeAttribute,
+                        isTimeNullable, idAttribute, pageRequest.cursor()),
+                query -> query.limit(limit + 1).all());
+        if (entities.size() <= limit) {
+            return new KeysetPage<>(entities, null);
+        }
+        List<T> pageEntities = List.copyOf(entities.subList(0, limit));
+        return new KeysetPage<>(pageEntities, cursorOf.apply(pageEntities.getLast()).encode());
+    }
+
+    /**
+     * Get the sort time of an entity for its cursor.
+     *
+     * @param time time of the entity, null if the entity has no time.
+     * @return sort time of the entity.
+     */
+    public static OffsetDateTime getSortTime(OffsetDateTime time) {
+        return Objects.nonNull(time) ? time : MISSING_TIME;
+    }
+
+    /**
+     * Sort the entities descending by time and id and restrict them to the entities after the
+     * cursor.
+     */
+    private static <T> Specification<T> sortedAfter(Specification<T> specification,
+                                                    String timeAttribute, boolean isTimeNullable,
+                                                    String idAttribute, KeysetCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+            Path<OffsetDateTime> timePath = root.get(timeAttribute);
+            // the entities without a time are neither lost by the range condition nor sorted
+            // differently by each database.
+            Expression<OffsetDateTime> time = isTimeNullable
+                    ? criteriaBuilder.coalesce(timePath, MISSING_TIME) : timePath;
+            Path<UUID> id = root.get(idAttribute);
+            query.orderBy(criteriaBuilder.desc(time), criteriaBuilder.desc(id));
+            if (Objects.isNull(cursor)) {
+                return predicate;
+            }
+            Predicate afterCursor = criteriaBuilder.or(
+                    criteriaBuilder.lessThan(time, cursor.sortTime()),
+                    criteriaBuilder.and(criteriaBuilder.equal(time, cursor.sortTime()),
+                            criteriaBuilder.lessThan(id, cursor.id())));
+            return Objects.isNull(predicate) ? afterCursor
+                    : criteriaBuilder.and(predicate, afterCursor);
+        };
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.deploymentstate;
+
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of the DeploymentStateStorage.
+ */
+@Component
+@Transactional
+public class DatabaseDeploymentStateStorage implements DeploymentStateStorage {
+
+    private static final Sort LATEST_VERSION_FIRST = Sort.by(Sort.Direction.DESC, "stateVersion");
+
+    private final DeploymentStateRepository deploymentStateRepository;
+
+    @Autowired
+    public DatabaseDeploymentStateStorage(DeploymentStateRepository deploymentStateRepository) {
+        this.deploymentStateRepository = deploymentStateRepository;
+    }
+
+    @Override
+    public DeploymentStateEntity storeAndFlush(DeploymentStateEntity deploymentStateEntity) {
+        return deploymentStateRepository.saveAndFlush(deploymentStateEntity);
+    }
+
+    @Override
+    public DeploymentStateEntity findLatestState(UUID serviceId) {
+        return deploymentStateRepository.findBy(
+                equalTo("serviceId", serviceId),
+                query -> query.sortBy(LATEST_VERSION_FIRST).first()).orElse(null);
+    }
+
+    @Override
+    public DeploymentStateEntity findStateByOrderId(UUID orderId) {
+        return deploymentStateRepository.findBy(
+                equalTo("orderId", orderId),
+                query -> query.sortBy(LATEST_VERSION_FIRST).first()).orElse(null);
+    }
+
+    @Override
+    public void deleteStatesOfService(UUID serviceId) {
+        deploymentStateRepository.delete(equalTo("serviceId", serviceId));
+    }
+
+    private Specification<DeploymentStateEntity> equalTo(String attribute, UUID value) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get(attribute), value);
+    }
+}
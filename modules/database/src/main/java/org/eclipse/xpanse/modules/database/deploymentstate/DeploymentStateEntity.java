@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.deploymentstate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.eclipse.xpanse.modules.database.common.CreateModifiedTime;
+
+/**
+ * Persisted version of the state of the deployed resources of a service. Each order which
+ * changes the resources stores a new version. The content is compressed with GZIP.
+ */
+@Table(name = "DEPLOYMENT_STATE", indexes = {
+        @Index(name = "IDX_DEPLOYMENT_STATE_SERVICE_VERSION",
+                columnList = "SERVICE_ID, STATE_VERSION", unique = true),
+        @Index(name = "IDX_DEPLOYMENT_STATE_ORDER", columnList = "ORDER_ID")
+})
+@Entity
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class DeploymentStateEntity extends CreateModifiedTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "ID")
+    private UUID id;
+
+    @Column(name = "SERVICE_ID", nullable = false)
+    private UUID serviceId;
+
+    @Column(name = "ORDER_ID")
+    private UUID orderId;
+
+    /**
+     * Version of the state of the service, increased by one with each stored state.
+     */
+    @Column(name = "STATE_VERSION", nullable = false)
+    private Integer stateVersion;
+
+    /**
+     * Hex encoded SHA-256 of the uncompressed state.
+     */
+    @Column(name = "CONTENT_HASH", nullable = false, length = 64)
+    private String contentHash;
+
+    /**
+     * Size of the uncompressed state in bytes.
+     */
+    @Column(name = "CONTENT_SIZE", nullable = false)
+    private Long contentSize;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Column(name = "COMPRESSED_CONTENT", nullable = false, length = Integer.MAX_VALUE)
+    private byte[] compressedContent;
+}
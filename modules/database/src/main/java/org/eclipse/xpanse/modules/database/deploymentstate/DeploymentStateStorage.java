@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.deploymentstate;
+
+import java.util.UUID;
+
+/**
+ * Interface for persist of DeploymentStateEntity.
+ */
+public interface DeploymentStateStorage {
+
+    /**
+     * Add the state version to the database and flush the data immediately.
+     *
+     * @param deploymentStateEntity the entity of the state version.
+     * @return the stored entity.
+     */
+    DeploymentStateEntity storeAndFlush(DeploymentStateEntity deploymentStateEntity);
+
+    /**
+     * Get the latest version of the state of the service.
+     *
+     * @param serviceId id of the service.
+     * @return latest state version, null if no state is stored for the service.
+     */
+    DeploymentStateEntity findLatestState(UUID serviceId);
+
+    /**
+     * Get the state version stored by the order.
+     *
+     * @param orderId id of the order.
+     * @return state version, null if the order did not store a state.
+     */
+    DeploymentStateEntity findStateByOrderId(UUID orderId);
+
+    /**
+     * Delete all state versions of the service.
+     *
+     * @param serviceId id of the service.
+     */
+    void deleteStatesOfService(UUID serviceId);
+}
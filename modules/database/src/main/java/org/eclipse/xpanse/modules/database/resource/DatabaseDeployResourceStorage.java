@@ -6,6 +6,7 @@
 
 package org.eclipse.xpanse.modules.database.resource;
 
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
 import java.util.List;
@@ -57,12 +58,14 @@ public class DatabaseDeployResourceStorage implements DeployResourceStorage {
      * Get detail of deployed resource using ID.
      *
      * @param resourceId the RESOURCE_ID of deployed resource.
-     * @return DeployResourceEntity
+     * @return DeployResourceEntity with its properties loaded.
      */
     @Override
     public DeployResourceEntity findDeployResourceByResourceId(String resourceId) {
         Specification<DeployResourceEntity> specification =
                 (root, query, criteriaBuilder) -> {
+                    root.fetch("properties", JoinType.LEFT);
+                    query.distinct(true);
                     List<Predicate> predicateList = new ArrayList<>();
                     predicateList.add(criteriaBuilder.equal(root.get("resourceId"),
                             resourceId));
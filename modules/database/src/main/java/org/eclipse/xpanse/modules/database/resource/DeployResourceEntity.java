@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.UUID;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.eclipse.xpanse.modules.database.common.CreateModifiedTime;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
 import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
@@ -92,5 +93,7 @@ public class DeployResourceEntity extends CreateModifiedTime {
             joinColumns = @JoinColumn(name = "deployResource_id", nullable = false))
     @MapKeyColumn(name = "p_key")
     @Column(name = "P_VALUE", length = Integer.MAX_VALUE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Map<String, String> properties;
 }
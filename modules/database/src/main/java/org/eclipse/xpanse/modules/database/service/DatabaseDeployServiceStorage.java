@@ -6,13 +6,21 @@
 
 package org.eclipse.xpanse.modules.database.service;
 
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.database.common.KeysetPagination;
+import org.eclipse.xpanse.modules.database.resource.DeployResourceEntity;
+import org.eclipse.xpanse.modules.database.resource.DeployResourceRepository;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetCursor;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -25,11 +33,19 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class DatabaseDeployServiceStorage implements DeployServiceStorage {
 
+    /**
+     * Maximum number of ids in one IN condition of the batched queries.
+     */
+    private static final int IN_BATCH_SIZE = 500;
+
     private final DeployServiceRepository deployServiceRepository;
+    private final DeployResourceRepository deployResourceRepository;
 
     @Autowired
-    public DatabaseDeployServiceStorage(DeployServiceRepository deployServiceRepository) {
+    public DatabaseDeployServiceStorage(DeployServiceRepository deployServiceRepository,
+                                        DeployResourceRepository deployResourceRepository) {
         this.deployServiceRepository = deployServiceRepository;
+        this.deployResourceRepository = deployResourceRepository;
     }
 
     /**
@@ -53,69 +69,164 @@ public class DatabaseDeployServiceStorage implements DeployServiceStorage {
     public List<DeployServiceEntity> listServices(
             ServiceQueryModel serviceQuery) {
 
-        Specification<DeployServiceEntity> specification =
-                (root, query, criteriaBuilder) -> {
-                    List<Predicate> predicateList = new ArrayList<>();
-                    if (Objects.nonNull(serviceQuery.getServiceTemplateId())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("serviceTemplateId"),
-                                serviceQuery.getServiceTemplateId()));
-                    }
-                    if (Objects.nonNull(serviceQuery.getCategory())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("category"),
-                                serviceQuery.getCategory()));
-                    }
-                    if (Objects.nonNull(serviceQuery.getCsp())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("csp"),
-                                serviceQuery.getCsp()));
-                    }
-                    if (StringUtils.isNotBlank(serviceQuery.getServiceName())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("name"),
-                                StringUtils.lowerCase(serviceQuery.getServiceName())));
-
-                    }
-                    if (StringUtils.isNotBlank(serviceQuery.getServiceVersion())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("version"),
-                                StringUtils.lowerCase(serviceQuery.getServiceVersion())));
-                    }
-
-                    if (Objects.nonNull(serviceQuery.getServiceState())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("serviceDeploymentState"),
-                                serviceQuery.getServiceState()));
-                    }
-                    predicateList.add(
-                            criteriaBuilder.isNotNull(root.get("serviceDeploymentState")));
-
-                    if (Objects.nonNull(serviceQuery.getUserId())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("userId"),
-                                serviceQuery.getUserId()));
-                    }
-
-                    if (Objects.nonNull(serviceQuery.getNamespace())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("namespace"),
-                                serviceQuery.getNamespace()));
-                    }
-
-                    query.where(criteriaBuilder.and(predicateList.toArray(new Predicate[0])))
-                            .getRestriction();
-
-                    query.orderBy(criteriaBuilder.desc(root.get("createTime")));
-
-                    return query.getRestriction();
-                };
-
-        return deployServiceRepository.findAll(specification);
+        return deployServiceRepository.findAll(getServiceSpecification(serviceQuery));
     }
 
     /**
-     * Get detail of deployed service using ID.
+     * Method to list one page of database entries based DeployServiceEntity.
+     *
+     * @param serviceQuery query model for search deploy service entity.
+     * @param pageRequest  requested page, null for all entries.
+     * @return Returns the page of the database entries.
+     */
+    @Override
+    public KeysetPage<DeployServiceEntity> listServices(ServiceQueryModel serviceQuery,
+                                                        KeysetPageRequest pageRequest) {
+        return KeysetPagination.findPage(deployServiceRepository,
+                getServiceSpecification(serviceQuery), "createTime", "id", pageRequest,
+                service -> new KeysetCursor(service.getCreateTime(), service.getId()));
+    }
+
+    /**
+     * Method to list database entries with the resources and properties of the services.
+     * The services are queried once, then the properties, the resources and the properties of
+     * the resources are fetched for all services with IN queries. All entities belong to the
+     * same persistence context, so the fetched collections are attached to the listed services.
+     *
+     * @param serviceQuery query model for search deploy service entity.
+     * @param pageRequest  requested page, null for all entries.
+     * @return Returns the page of the database entries with the associations initialized.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<DeployServiceEntity> listServicesWithDetails(
+            ServiceQueryModel serviceQuery, KeysetPageRequest pageRequest) {
+        KeysetPage<DeployServiceEntity> services = listServices(serviceQuery, pageRequest);
+        List<UUID> serviceIds =
+                services.items().stream().map(DeployServiceEntity::getId).toList();
+        for (int i = 0; i < serviceIds.size(); i += IN_BATCH_SIZE) {
+            List<UUID> batchIds =
+                    serviceIds.subList(i, Math.min(i + IN_BATCH_SIZE, serviceIds.size()));
+            fetchAssociations(batchIds, DeployServiceFetchPlan.DETAILS);
+        }
+        return services;
+    }
+
+    private void fetchAssociations(Collection<UUID> serviceIds,
+                                   DeployServiceFetchPlan fetchPlan) {
+        // each collection is fetched with its own query to avoid a cartesian product.
+        if (fetchPlan.isFetchProperties()) {
+            deployServiceRepository.findAll(fetchServiceCollection("properties", serviceIds));
+        }
+        if (fetchPlan.isFetchPrivateProperties()) {
+            deployServiceRepository.findAll(
+                    fetchServiceCollection("privateProperties", serviceIds));
+        }
+        if (fetchPlan.isFetchResources()) {
+            deployServiceRepository.findAll(
+                    fetchServiceCollection("deployResourceList", serviceIds));
+            deployResourceRepository.findAll(fetchResourceProperties(serviceIds));
+        }
+    }
+
+    private Specification<DeployServiceEntity> fetchServiceCollection(
+            String collectionName, Collection<UUID> serviceIds) {
+        return (root, query, criteriaBuilder) -> {
+            root.fetch(collectionName, JoinType.LEFT);
+            query.distinct(true);
+            return root.get("id").in(serviceIds);
+        };
+    }
+
+    private Specification<DeployResourceEntity> fetchResourceProperties(
+            Collection<UUID> serviceIds) {
+        return (root, query, criteriaBuilder) -> {
+            root.fetch("properties", JoinType.LEFT);
+            query.distinct(true);
+            return root.get("deployService").get("id").in(serviceIds);
+        };
+    }
+
+    private Specification<DeployServiceEntity> getServiceSpecification(
+            ServiceQueryModel serviceQuery) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicateList = new ArrayList<>();
+            if (Objects.nonNull(serviceQuery.getServiceTemplateId())) {
+                predicateList.add(criteriaBuilder.equal(root.get("serviceTemplateId"),
+                        serviceQuery.getServiceTemplateId()));
+            }
+            if (Objects.nonNull(serviceQuery.getCategory())) {
+                predicateList.add(criteriaBuilder.equal(root.get("category"),
+                        serviceQuery.getCategory()));
+            }
+            if (Objects.nonNull(serviceQuery.getCsp())) {
+                predicateList.add(criteriaBuilder.equal(root.get("csp"),
+                        serviceQuery.getCsp()));
+            }
+            if (StringUtils.isNotBlank(serviceQuery.getServiceName())) {
+                predicateList.add(criteriaBuilder.equal(root.get("name"),
+                        StringUtils.lowerCase(serviceQuery.getServiceName())));
+
+            }
+            if (StringUtils.isNotBlank(serviceQuery.getServiceVersion())) {
+                predicateList.add(criteriaBuilder.equal(root.get("version"),
+                        StringUtils.lowerCase(serviceQuery.getServiceVersion())));
+            }
+
+            if (Objects.nonNull(serviceQuery.getServiceState())) {
+                predicateList.add(criteriaBuilder.equal(root.get("serviceDeploymentState"),
+                        serviceQuery.getServiceState()));
+            }
+            predicateList.add(
+                    criteriaBuilder.isNotNull(root.get("serviceDeploymentState")));
+
+            if (Objects.nonNull(serviceQuery.getUserId())) {
+                predicateList.add(criteriaBuilder.equal(root.get("userId"),
+                        serviceQuery.getUserId()));
+            }
+
+            if (Objects.nonNull(serviceQuery.getNamespace())) {
+                predicateList.add(criteriaBuilder.equal(root.get("namespace"),
+                        serviceQuery.getNamespace()));
+            }
+
+            query.where(criteriaBuilder.and(predicateList.toArray(new Predicate[0])))
+                    .getRestriction();
+
+            query.orderBy(criteriaBuilder.desc(root.get("createTime")));
+
+            return query.getRestriction();
+        };
+    }
+
+    /**
+     * Get detail of deployed service using ID with all its associations loaded.
      *
      * @param id the ID of deployed service.
      * @return registerServiceEntity
      */
     @Override
     public DeployServiceEntity findDeployServiceById(UUID id) {
+        return findDeployServiceById(id, DeployServiceFetchPlan.FULL);
+    }
+
+    /**
+     * Get detail of deployed service using ID. The associations of the fetch plan are loaded
+     * in the same transaction, so they can be read after the transaction has ended, also on
+     * other threads, without opening a new session.
+     *
+     * @param id        the ID of deployed service.
+     * @param fetchPlan associations to load with the service.
+     * @return registerServiceEntity
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public DeployServiceEntity findDeployServiceById(UUID id, DeployServiceFetchPlan fetchPlan) {
         Optional<DeployServiceEntity> optional =
                 this.deployServiceRepository.findById(id);
+        if (optional.isPresent()) {
+            fetchAssociations(List.of(id), fetchPlan);
+        }
         return optional.orElse(null);
     }
 
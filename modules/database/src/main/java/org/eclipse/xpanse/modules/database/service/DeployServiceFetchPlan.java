@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.service;
+
+import lombok.Getter;
+
+/**
+ * Associations of the DeployServiceEntity initialized by the storage for a use case. The
+ * associations not in the plan are not loaded and must not be accessed once the entity has left
+ * the transaction of the storage. The service configuration is always loaded with the service.
+ */
+@Getter
+public enum DeployServiceFetchPlan {
+
+    /**
+     * Only the columns of the service, e.g. to check the owner or the csp of the service.
+     */
+    BASIC(false, false, false),
+    /**
+     * Output properties and resources of the service, used by the details view.
+     */
+    DETAILS(true, false, true),
+    /**
+     * Resources of the service, used to look up the metrics of the resources.
+     */
+    METRICS(false, false, true),
+    /**
+     * Resources of the service, used to start, stop and restart the service.
+     */
+    STATE_MANAGEMENT(false, false, true),
+    /**
+     * Private properties with the deployment state and resources of the service, used to
+     * destroy the service.
+     */
+    DESTROY(false, true, true),
+    /**
+     * All associations of the service, used to deploy, modify and migrate the service.
+     */
+    FULL(true, true, true);
+
+    private final boolean fetchProperties;
+    private final boolean fetchPrivateProperties;
+    private final boolean fetchResources;
+
+    DeployServiceFetchPlan(boolean fetchProperties, boolean fetchPrivateProperties,
+                           boolean fetchResources) {
+        this.fetchProperties = fetchProperties;
+        this.fetchPrivateProperties = fetchPrivateProperties;
+        this.fetchResources = fetchResources;
+    }
+}
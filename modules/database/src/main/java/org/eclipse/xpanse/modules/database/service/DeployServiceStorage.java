@@ -8,6 +8,8 @@ package org.eclipse.xpanse.modules.database.service;
 
 import java.util.List;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
 
 /**
  * Interface for persist of DeployService.
@@ -31,13 +33,45 @@ public interface DeployServiceStorage {
     List<DeployServiceEntity> listServices(ServiceQueryModel query);
 
     /**
-     * Get detail of deployed service using ID.
+     * Method to get one page of the stored database entries by query model, sorted by the
+     * creation time descending.
+     *
+     * @param query       service query model.
+     * @param pageRequest requested page, null for all entries.
+     * @return Returns the page of the services.
+     */
+    KeysetPage<DeployServiceEntity> listServices(ServiceQueryModel query,
+                                                 KeysetPageRequest pageRequest);
+
+    /**
+     * Method to get one page of the stored database entries by query model together with their
+     * resources and properties. The associations are loaded in a fixed number of batched
+     * queries instead of one query per service.
+     *
+     * @param query       service query model.
+     * @param pageRequest requested page, null for all entries.
+     * @return page of the services with the resources and properties loaded.
+     */
+    KeysetPage<DeployServiceEntity> listServicesWithDetails(ServiceQueryModel query,
+                                                            KeysetPageRequest pageRequest);
+
+    /**
+     * Get detail of deployed service using ID with all its associations loaded.
      *
      * @param id the ID of deployed service.
      * @return registerServiceEntity
      */
     DeployServiceEntity findDeployServiceById(UUID id);
 
+    /**
+     * Get detail of deployed service using ID with the associations of the fetch plan loaded.
+     *
+     * @param id        the ID of deployed service.
+     * @param fetchPlan associations to load with the service.
+     * @return registerServiceEntity
+     */
+    DeployServiceEntity findDeployServiceById(UUID id, DeployServiceFetchPlan fetchPlan);
+
     /**
      * purge deployed service using service model.
      *
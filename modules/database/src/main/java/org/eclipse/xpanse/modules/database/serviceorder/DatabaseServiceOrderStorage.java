@@ -7,12 +7,22 @@
 package org.eclipse.xpanse.modules.database.serviceorder;
 
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.database.common.KeysetPagination;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetCursor;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
+import org.eclipse.xpanse.modules.models.service.enums.TaskStatus;
+import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
 import org.eclipse.xpanse.modules.models.service.order.exceptions.ServiceOrderNotFound;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
@@ -44,25 +54,39 @@ public class DatabaseServiceOrderStorage implements ServiceOrderStorage {
     @Override
     public List<ServiceOrderEntity> queryEntities(
             ServiceOrderEntity entity) {
+        return repository.findAll(getOrderSpecification(entity));
+    }
+
+    @Override
+    public KeysetPage<ServiceOrderEntity> queryEntities(ServiceOrderEntity entity,
+                                                        KeysetPageRequest pageRequest) {
+        // the started time is set only when the order is started, orders failed before have none.
+        return KeysetPagination.findPage(repository, getOrderSpecification(entity),
+                "startedTime", true, "orderId", pageRequest,
+                order -> new KeysetCursor(KeysetPagination.getSortTime(order.getStartedTime()),
+                        order.getOrderId()));
+    }
+
+    @Override
+    public List<ServiceOrderEntity> queryLatestEntitiesOfServices(Collection<UUID> serviceIds,
+                                                                  ServiceOrderType taskType) {
+        if (serviceIds.isEmpty()) {
+            return List.of();
+        }
         Specification<ServiceOrderEntity> specification =
                 (root, query, criteriaBuilder) -> {
-                    List<Predicate> predicateList = new ArrayList<>();
-                    if (Objects.nonNull(entity.getServiceId())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("serviceId"),
-                                entity.getServiceId()));
-                    }
-                    if (Objects.nonNull(entity.getTaskType())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("taskType"),
-                                entity.getTaskType()));
-                    }
-                    if (Objects.nonNull(entity.getTaskStatus())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("taskStatus"),
-                                entity.getTaskStatus()));
-                    }
-                    query.orderBy(criteriaBuilder.desc(root.get("startedTime")));
-                    query.distinct(true);
-                    return query.where(criteriaBuilder.and(predicateList.toArray(new Predicate[0])))
-                            .getRestriction();
+                    Subquery<OffsetDateTime> latestStartedTime =
+                            query.subquery(OffsetDateTime.class);
+                    Root<ServiceOrderEntity> order =
+                            latestStartedTime.from(ServiceOrderEntity.class);
+                    latestStartedTime.select(criteriaBuilder.greatest(
+                                    order.<OffsetDateTime>get("startedTime")))
+                            .where(criteriaBuilder.equal(order.get("serviceId"),
+                                            root.get("serviceId")),
+                                    criteriaBuilder.equal(order.get("taskType"), taskType));
+                    return criteriaBuilder.and(root.get("serviceId").in(serviceIds),
+                            criteriaBuilder.equal(root.get("taskType"), taskType),
+                            criteriaBuilder.equal(root.get("startedTime"), latestStartedTime));
                 };
         return repository.findAll(specification);
     }
@@ -75,6 +99,21 @@ public class DatabaseServiceOrderStorage implements ServiceOrderStorage {
         ));
     }
 
+    @Override
+    public boolean claimQueuedEntity(UUID orderId, OffsetDateTime queuedStartedTime) {
+        // the row stays locked until the claim is stored, so only one instance can claim it.
+        Optional<ServiceOrderEntity> optional = repository.findWithLockByOrderId(orderId);
+        if (optional.isEmpty() || optional.get().getTaskStatus() != TaskStatus.QUEUED
+                || !isSameTime(optional.get().getStartedTime(), queuedStartedTime)) {
+            return false;
+        }
+        ServiceOrderEntity order = optional.get();
+        order.setTaskStatus(TaskStatus.IN_PROGRESS);
+        order.setStartedTime(OffsetDateTime.now());
+        repository.saveAndFlush(order);
+        return true;
+    }
+
     @Override
     public void deleteBatch(List<ServiceOrderEntity> taskEntities) {
         repository.deleteAllInBatch(taskEntities);
@@ -84,4 +123,36 @@ public class DatabaseServiceOrderStorage implements ServiceOrderStorage {
     public void delete(ServiceOrderEntity taskEntity) {
         repository.delete(taskEntity);
     }
+
+    private Specification<ServiceOrderEntity> getOrderSpecification(ServiceOrderEntity entity) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicateList = new ArrayList<>();
+            if (Objects.nonNull(entity.getServiceId())) {
+                predicateList.add(criteriaBuilder.equal(root.get("serviceId"),
+                        entity.getServiceId()));
+            }
+            if (Objects.nonNull(entity.getTaskType())) {
+                predicateList.add(criteriaBuilder.equal(root.get("taskType"),
+                        entity.getTaskType()));
+            }
+            if (Objects.nonNull(entity.getTaskStatus())) {
+                predicateList.add(criteriaBuilder.equal(root.get("taskStatus"),
+                        entity.getTaskStatus()));
+            }
+            if (Objects.nonNull(entity.getUserId())) {
+                predicateList.add(criteriaBuilder.equal(root.get("userId"),
+                        entity.getUserId()));
+            }
+            // no distinct, the orders are not joined and the keyset pages are sorted by an
+            // expression, which the databases reject when it is not selected by a distinct query.
+            query.orderBy(criteriaBuilder.desc(root.get("startedTime")));
+            return query.where(criteriaBuilder.and(predicateList.toArray(new Predicate[0])))
+                    .getRestriction();
+        };
+    }
+
+    private boolean isSameTime(OffsetDateTime time, OffsetDateTime otherTime) {
+        return Objects.isNull(time) ? Objects.isNull(otherTime)
+                : Objects.nonNull(otherTime) && time.isEqual(otherTime);
+    }
 }
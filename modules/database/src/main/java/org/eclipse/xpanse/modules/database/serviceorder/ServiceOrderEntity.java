@@ -13,6 +13,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -31,7 +32,10 @@ import org.springframework.data.annotation.LastModifiedDate;
 /**
  * ServiceOrderEntity for persistence.
  */
-@Table(name = "SERVICE_ORDER")
+@Table(name = "SERVICE_ORDER", indexes = {
+        @Index(name = "IDX_SERVICE_ORDER_SERVICE_STARTED_TIME",
+                columnList = "SERVICE_ID, STARTED_TIME, ORDER_ID")
+})
 @Entity
 @Data
 public class ServiceOrderEntity {
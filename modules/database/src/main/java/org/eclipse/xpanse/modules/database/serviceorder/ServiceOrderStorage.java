@@ -6,8 +6,13 @@
 
 package org.eclipse.xpanse.modules.database.serviceorder;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
+import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
 
 /**
  * Interface for persist of ServiceModificationAudit.
@@ -30,6 +35,27 @@ public interface ServiceOrderStorage {
      */
     List<ServiceOrderEntity> queryEntities(ServiceOrderEntity query);
 
+    /**
+     * Method to list one page of database entries based ServiceOrderEntity, sorted by the
+     * started time descending.
+     *
+     * @param query       query model for search service order entity.
+     * @param pageRequest requested page, null for all entries.
+     * @return Returns the page of the database entries.
+     */
+    KeysetPage<ServiceOrderEntity> queryEntities(ServiceOrderEntity query,
+                                                 KeysetPageRequest pageRequest);
+
+    /**
+     * Method to list the latest started order of the type of each of the services.
+     *
+     * @param serviceIds ids of the services.
+     * @param taskType   type of the orders.
+     * @return Returns the latest started order per service, services without orders are omitted.
+     */
+    List<ServiceOrderEntity> queryLatestEntitiesOfServices(Collection<UUID> serviceIds,
+                                                           ServiceOrderType taskType);
+
     /**
      * Method to get database entry based ServiceOrderEntity.
      *
@@ -38,6 +64,18 @@ public interface ServiceOrderStorage {
      */
     ServiceOrderEntity getEntityById(UUID uuid);
 
+    /**
+     * Claim the queued order to resume it. The order is claimed only if it is still queued with
+     * the same started time, and its status is changed to in progress with the current time as
+     * the started time, so that the order is resumed only once when several instances share the
+     * database.
+     *
+     * @param orderId           id of the queued order.
+     * @param queuedStartedTime started time of the order when it was listed as queued.
+     * @return true if the order is claimed, false if it has been claimed or changed before.
+     */
+    boolean claimQueuedEntity(UUID orderId, OffsetDateTime queuedStartedTime);
+
     /**
      * Delete service order entity from database by entity.
      *
@@ -6,9 +6,13 @@
 
 package org.eclipse.xpanse.modules.database.servicepolicy;
 
+import jakarta.persistence.criteria.JoinType;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,30 +24,62 @@ import org.springframework.transaction.annotation.Transactional;
 public class DatabaseServicePolicyStorage implements ServicePolicyStorage {
 
     private final ServicePolicyRepository servicePolicyRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
-    public DatabaseServicePolicyStorage(ServicePolicyRepository servicePolicyRepository) {
+    public DatabaseServicePolicyStorage(ServicePolicyRepository servicePolicyRepository,
+                                        ApplicationEventPublisher applicationEventPublisher) {
         this.servicePolicyRepository = servicePolicyRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
     public ServicePolicyEntity storeAndFlush(ServicePolicyEntity servicePolicyEntity) {
-        return servicePolicyRepository.saveAndFlush(servicePolicyEntity);
+        ServicePolicyEntity storedEntity =
+                servicePolicyRepository.saveAndFlush(servicePolicyEntity);
+        publishServiceTemplateChangedEvent(storedEntity);
+        return storedEntity;
     }
 
+    /**
+     * Find the policy by id with its service template and the policies of the template, which
+     * are compared with the policy when it is updated.
+     *
+     * @param id id of the policy.
+     * @return the policy, null if not found.
+     */
     @Override
     public ServicePolicyEntity findPolicyById(UUID id) {
-        Optional<ServicePolicyEntity> optional = servicePolicyRepository.findById(id);
+        Optional<ServicePolicyEntity> optional =
+                servicePolicyRepository.findOne((root, query, criteriaBuilder) -> {
+                    root.fetch("serviceTemplate", JoinType.INNER)
+                            .fetch("servicePolicyList", JoinType.LEFT);
+                    query.distinct(true);
+                    return criteriaBuilder.equal(root.get("id"), id);
+                });
         return optional.orElse(null);
     }
 
     @Override
     public void deletePolicies(ServicePolicyEntity servicePolicyEntity) {
         servicePolicyRepository.delete(servicePolicyEntity);
+        publishServiceTemplateChangedEvent(servicePolicyEntity);
     }
 
     @Override
     public void deletePolicyById(UUID id) {
+        ServicePolicyEntity servicePolicyEntity = findPolicyById(id);
         servicePolicyRepository.deleteById(id);
+        publishServiceTemplateChangedEvent(servicePolicyEntity);
+    }
+
+    private void publishServiceTemplateChangedEvent(ServicePolicyEntity servicePolicyEntity) {
+        // the policies are part of the cached service template.
+        if (Objects.nonNull(servicePolicyEntity)
+                && Objects.nonNull(servicePolicyEntity.getServiceTemplate())
+                && Objects.nonNull(servicePolicyEntity.getServiceTemplate().getId())) {
+            applicationEventPublisher.publishEvent(new ServiceTemplateChangedEvent(
+                    servicePolicyEntity.getServiceTemplate().getId()));
+        }
     }
 }
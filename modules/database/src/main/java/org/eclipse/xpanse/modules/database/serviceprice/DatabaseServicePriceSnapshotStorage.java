@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.serviceprice;
+
+import java.util.List;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of the ServicePriceSnapshotStorage.
+ */
+@Component
+@Transactional
+public class DatabaseServicePriceSnapshotStorage implements ServicePriceSnapshotStorage {
+
+    private final ServicePriceSnapshotRepository servicePriceSnapshotRepository;
+
+    @Autowired
+    public DatabaseServicePriceSnapshotStorage(
+            ServicePriceSnapshotRepository servicePriceSnapshotRepository) {
+        this.servicePriceSnapshotRepository = servicePriceSnapshotRepository;
+    }
+
+    @Override
+    public ServicePriceSnapshotEntity storeAndFlush(ServicePriceSnapshotEntity snapshot) {
+        Specification<ServicePriceSnapshotEntity> sameKey = (root, query, criteriaBuilder) ->
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get("serviceTemplateId"),
+                                snapshot.getServiceTemplateId()),
+                        criteriaBuilder.equal(root.get("regionName"), snapshot.getRegionName()),
+                        criteriaBuilder.equal(root.get("billingMode"),
+                                snapshot.getBillingMode()),
+                        criteriaBuilder.equal(root.get("userId"), snapshot.getUserId()));
+        ServicePriceSnapshotEntity storedSnapshot =
+                servicePriceSnapshotRepository.findOne(sameKey).orElse(snapshot);
+        storedSnapshot.setFlavorPrices(snapshot.getFlavorPrices());
+        storedSnapshot.setCalculatedTime(snapshot.getCalculatedTime());
+        return servicePriceSnapshotRepository.saveAndFlush(storedSnapshot);
+    }
+
+    @Override
+    public List<ServicePriceSnapshotEntity> listSnapshots() {
+        Specification<ServicePriceSnapshotEntity> allSnapshots =
+                (root, query, criteriaBuilder) -> {
+                    query.orderBy(criteriaBuilder.asc(root.get("serviceTemplateId")));
+                    return criteriaBuilder.conjunction();
+                };
+        return servicePriceSnapshotRepository.findAll(allSnapshots);
+    }
+
+    @Override
+    public void deleteSnapshot(UUID serviceTemplateId, String regionName, BillingMode billingMode,
+                               String userId) {
+        Specification<ServicePriceSnapshotEntity> sameKey = (root, query, criteriaBuilder) ->
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get("serviceTemplateId"), serviceTemplateId),
+                        criteriaBuilder.equal(root.get("regionName"), regionName),
+                        criteriaBuilder.equal(root.get("billingMode"), billingMode),
+                        criteriaBuilder.equal(root.get("userId"), userId));
+        servicePriceSnapshotRepository.delete(sameKey);
+    }
+
+    @Override
+    public void deleteSnapshotsOfServiceTemplate(UUID serviceTemplateId) {
+        Specification<ServicePriceSnapshotEntity> ofServiceTemplate =
+                (root, query, criteriaBuilder) ->
+                        criteriaBuilder.equal(root.get("serviceTemplateId"), serviceTemplateId);
+        servicePriceSnapshotRepository.delete(ofServiceTemplate);
+    }
+}
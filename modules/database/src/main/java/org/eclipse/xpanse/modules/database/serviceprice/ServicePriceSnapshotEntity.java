@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.serviceprice;
+
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.eclipse.xpanse.modules.database.common.CreateModifiedTime;
+import org.eclipse.xpanse.modules.database.common.ObjectJsonConverter;
+import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
+import org.hibernate.annotations.Type;
+
+/**
+ * Persisted snapshot of the pre-computed prices of all flavors of a service template in a region
+ * with a billing mode, rated for all users or with the credentials of one user. The snapshots are
+ * loaded into the price catalog on startup.
+ */
+@Table(name = "SERVICE_PRICE_SNAPSHOT", uniqueConstraints = {
+        @UniqueConstraint(name = "UK_SERVICE_PRICE_SNAPSHOT_TEMPLATE_REGION_BILLING_MODE_USER",
+                columnNames = {"SERVICE_TEMPLATE_ID", "REGION_NAME", "BILLING_MODE", "USER_ID"})
+})
+@Entity
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class ServicePriceSnapshotEntity extends CreateModifiedTime {
+
+    /**
+     * User id of the prices shared by all users. Not null, so that the unique key also applies to
+     * the shared prices.
+     */
+    public static final String SHARED_PRICES_USER_ID = "";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "ID")
+    private UUID id;
+
+    @Column(name = "SERVICE_TEMPLATE_ID", nullable = false)
+    private UUID serviceTemplateId;
+
+    @Column(name = "REGION_NAME", nullable = false)
+    private String regionName;
+
+    @Column(name = "BILLING_MODE", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private BillingMode billingMode;
+
+    /**
+     * Id of the user whose credentials rated the prices, {@link #SHARED_PRICES_USER_ID} for the
+     * prices of all users.
+     */
+    @Column(name = "USER_ID", nullable = false)
+    private String userId;
+
+    @Column(name = "FLAVOR_PRICES", columnDefinition = "json", nullable = false)
+    @Type(value = JsonType.class)
+    @Convert(converter = ObjectJsonConverter.class)
+    private List<FlavorPriceResult> flavorPrices;
+
+    /**
+     * Time when the prices were rated with the cloud service provider.
+     */
+    @Column(name = "CALCULATED_TIME", nullable = false)
+    private OffsetDateTime calculatedTime;
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.serviceprice;
+
+import java.util.List;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
+
+/**
+ * Interface for persist of ServicePriceSnapshotEntity.
+ */
+public interface ServicePriceSnapshotStorage {
+
+    /**
+     * Add or replace the snapshot of the service template in the region with the billing mode
+     * rated for the user.
+     *
+     * @param snapshot the entity of the snapshot.
+     * @return the stored entity.
+     * @throws org.springframework.dao.DataIntegrityViolationException when another instance
+     *         added the snapshot with the same key at the same time.
+     */
+    ServicePriceSnapshotEntity storeAndFlush(ServicePriceSnapshotEntity snapshot);
+
+    /**
+     * Get all stored snapshots.
+     *
+     * @return list of snapshots.
+     */
+    List<ServicePriceSnapshotEntity> listSnapshots();
+
+    /**
+     * Delete the snapshot of the service template in the region with the billing mode rated for
+     * the user.
+     *
+     * @param serviceTemplateId id of the service template.
+     * @param regionName        name of the region.
+     * @param billingMode       billing mode.
+     * @param userId            id of the user, or the user id of the shared prices.
+     */
+    void deleteSnapshot(UUID serviceTemplateId, String regionName, BillingMode billingMode,
+                        String userId);
+
+    /**
+     * Delete all snapshots of the service template.
+     *
+     * @param serviceTemplateId id of the service template.
+     */
+    void deleteSnapshotsOfServiceTemplate(UUID serviceTemplateId);
+}
@@ -7,12 +7,17 @@
 package org.eclipse.xpanse.modules.database.servicestatemanagement;
 
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.service.enums.TaskStatus;
 import org.eclipse.xpanse.modules.models.service.statemanagement.exceptions.ServiceStateManagementTaskNotFound;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
@@ -69,6 +74,28 @@ public class DatabaseServiceStateManagementTaskStorage
         return repository.findAll(specification);
     }
 
+    @Override
+    public List<ServiceStateManagementTaskEntity> queryLatestTasksOfServices(
+            Collection<UUID> serviceIds) {
+        if (serviceIds.isEmpty()) {
+            return List.of();
+        }
+        Specification<ServiceStateManagementTaskEntity> specification =
+                (root, query, criteriaBuilder) -> {
+                    Subquery<OffsetDateTime> latestStartedTime =
+                            query.subquery(OffsetDateTime.class);
+                    Root<ServiceStateManagementTaskEntity> task =
+                            latestStartedTime.from(ServiceStateManagementTaskEntity.class);
+                    latestStartedTime.select(criteriaBuilder.greatest(
+                                    task.<OffsetDateTime>get("startedTime")))
+                            .where(criteriaBuilder.equal(task.get("serviceId"),
+                                    root.get("serviceId")));
+                    return criteriaBuilder.and(root.get("serviceId").in(serviceIds),
+                            criteriaBuilder.equal(root.get("startedTime"), latestStartedTime));
+                };
+        return repository.findAll(specification);
+    }
+
     @Override
     public ServiceStateManagementTaskEntity getTaskById(UUID uuid) {
         Optional<ServiceStateManagementTaskEntity> optional = repository.findById(uuid);
@@ -77,6 +104,22 @@ public class DatabaseServiceStateManagementTaskStorage
         ));
     }
 
+    @Override
+    public boolean claimQueuedTask(UUID taskId, OffsetDateTime queuedStartedTime) {
+        // the row stays locked until the claim is stored, so only one instance can claim it.
+        Optional<ServiceStateManagementTaskEntity> optional =
+                repository.findWithLockByTaskId(taskId);
+        if (optional.isEmpty() || optional.get().getTaskStatus() != TaskStatus.QUEUED
+                || !isSameTime(optional.get().getStartedTime(), queuedStartedTime)) {
+            return false;
+        }
+        ServiceStateManagementTaskEntity task = optional.get();
+        task.setTaskStatus(TaskStatus.IN_PROGRESS);
+        task.setStartedTime(OffsetDateTime.now());
+        repository.saveAndFlush(task);
+        return true;
+    }
+
     @Override
     public void deleteBatch(List<ServiceStateManagementTaskEntity> taskEntities) {
         repository.deleteAllInBatch(taskEntities);
@@ -86,4 +129,9 @@ public class DatabaseServiceStateManagementTaskStorage
     public void delete(ServiceStateManagementTaskEntity taskEntity) {
         repository.delete(taskEntity);
     }
+
+    private boolean isSameTime(OffsetDateTime time, OffsetDateTime otherTime) {
+        return Objects.isNull(time) ? Objects.isNull(otherTime)
+                : Objects.nonNull(otherTime) && time.isEqual(otherTime);
+    }
 }
@@ -6,9 +6,12 @@
 
 package org.eclipse.xpanse.modules.database.servicestatemanagement;
 
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
 import java.util.UUID;
 import org.eclipse.xpanse.modules.database.CustomJpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -19,4 +22,12 @@ public interface ServiceStateManagementTaskRepository
         extends CustomJpaRepository<ServiceStateManagementTaskEntity, UUID>,
         JpaSpecificationExecutor<ServiceStateManagementTaskEntity> {
 
+    /**
+     * Find the entity and lock its row until the end of the transaction.
+     *
+     * @param taskId id of the entity.
+     * @return the entity.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ServiceStateManagementTaskEntity> findWithLockByTaskId(UUID taskId);
 }
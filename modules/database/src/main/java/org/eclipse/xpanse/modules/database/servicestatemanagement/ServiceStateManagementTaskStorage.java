@@ -6,6 +6,8 @@
 
 package org.eclipse.xpanse.modules.database.servicestatemanagement;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,6 +32,15 @@ public interface ServiceStateManagementTaskStorage {
      */
     List<ServiceStateManagementTaskEntity> queryTasks(ServiceStateManagementTaskEntity query);
 
+    /**
+     * Method to list the latest started management task of each of the services.
+     *
+     * @param serviceIds ids of the services.
+     * @return Returns the latest started task per service, services without tasks are omitted.
+     */
+    List<ServiceStateManagementTaskEntity> queryLatestTasksOfServices(
+            Collection<UUID> serviceIds);
+
     /**
      * Method to get database entry based ServiceStateManagementTaskEntity.
      *
@@ -38,6 +49,18 @@ public interface ServiceStateManagementTaskStorage {
      */
     ServiceStateManagementTaskEntity getTaskById(UUID uuid);
 
+    /**
+     * Claim the queued task to resume it. The task is claimed only if it is still queued with the
+     * same started time, and its status is changed to in progress with the current time as the
+     * started time, so that the task is resumed only once when several instances share the
+     * database.
+     *
+     * @param taskId            id of the queued task.
+     * @param queuedStartedTime started time of the task when it was listed as queued.
+     * @return true if the task is claimed, false if it has been claimed or changed before.
+     */
+    boolean claimQueuedTask(UUID taskId, OffsetDateTime queuedStartedTime);
+
     /**
      * Remove management task entity from database by entity.
      *
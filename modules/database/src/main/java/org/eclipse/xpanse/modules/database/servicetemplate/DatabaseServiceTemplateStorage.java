@@ -14,8 +14,14 @@ import java.util.Optional;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.database.common.KeysetPagination;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetCursor;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
 import org.eclipse.xpanse.modules.models.servicetemplate.exceptions.ServiceTemplateNotRegistered;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,10 +35,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class DatabaseServiceTemplateStorage implements ServiceTemplateStorage {
 
     private final ServiceTemplateRepository repository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
-    public DatabaseServiceTemplateStorage(ServiceTemplateRepository serviceTemplateRepository) {
+    public DatabaseServiceTemplateStorage(ServiceTemplateRepository serviceTemplateRepository,
+                                          ApplicationEventPublisher applicationEventPublisher) {
         this.repository = serviceTemplateRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -42,7 +51,9 @@ public class DatabaseServiceTemplateStorage implements ServiceTemplateStorage {
      */
     @Override
     public ServiceTemplateEntity storeAndFlush(ServiceTemplateEntity serviceTemplateEntity) {
-        return repository.saveAndFlush(serviceTemplateEntity);
+        ServiceTemplateEntity storedEntity = repository.saveAndFlush(serviceTemplateEntity);
+        publishServiceTemplateChangedEvent(storedEntity);
+        return storedEntity;
     }
 
     /**
@@ -71,6 +82,7 @@ public class DatabaseServiceTemplateStorage implements ServiceTemplateStorage {
                             .getRestriction();
                 };
         Optional<ServiceTemplateEntity> optional = repository.findOne(specification);
+        optional.ifPresent(this::fetchServicePolicies);
         return optional.orElse(null);
 
     }
@@ -84,47 +96,22 @@ public class DatabaseServiceTemplateStorage implements ServiceTemplateStorage {
     @Override
     public List<ServiceTemplateEntity> listServiceTemplates(
             ServiceTemplateQueryModel serviceQuery) {
+        return repository.findAll(getServiceTemplateSpecification(serviceQuery));
+    }
 
-        Specification<ServiceTemplateEntity> specification =
-                (root, query, criteriaBuilder) -> {
-                    List<Predicate> predicateList = new ArrayList<>();
-                    if (Objects.nonNull(serviceQuery.getCategory())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("category"),
-                                serviceQuery.getCategory()));
-                    }
-
-                    if (Objects.nonNull(serviceQuery.getCsp())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("csp"),
-                                serviceQuery.getCsp()));
-                    }
-                    if (StringUtils.isNotBlank(serviceQuery.getServiceName())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("name"),
-                                StringUtils.lowerCase(serviceQuery.getServiceName())));
-
-                    }
-                    if (StringUtils.isNotBlank(serviceQuery.getServiceVersion())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("version"),
-                                StringUtils.lowerCase(serviceQuery.getServiceVersion())));
-                    }
-                    if (StringUtils.isNotBlank(serviceQuery.getNamespace())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("namespace"),
-                                serviceQuery.getNamespace()));
-                    }
-                    if (Objects.nonNull(serviceQuery.getServiceHostingType())) {
-                        predicateList.add(criteriaBuilder.equal(root.get("serviceHostingType"),
-                                serviceQuery.getServiceHostingType()));
-                    }
-                    if (Objects.nonNull(serviceQuery.getServiceRegistrationState())) {
-                        predicateList.add(
-                                criteriaBuilder.equal(root.get("serviceRegistrationState"),
-                                        serviceQuery.getServiceRegistrationState()));
-                    }
-
-                    return query.where(criteriaBuilder.and(predicateList.toArray(new Predicate[0])))
-                            .getRestriction();
-                };
-
-        return repository.findAll(specification);
+    /**
+     * Method to list one page of database entries based ServiceTemplateEntity.
+     *
+     * @param serviceQuery query model for search register service entity.
+     * @param pageRequest  requested page, null for all entries.
+     * @return Returns the page of the database entries.
+     */
+    @Override
+    public KeysetPage<ServiceTemplateEntity> listServiceTemplates(
+            ServiceTemplateQueryModel serviceQuery, KeysetPageRequest pageRequest) {
+        return KeysetPagination.findPage(repository,
+                getServiceTemplateSpecification(serviceQuery), "createTime", "id", pageRequest,
+                template -> new KeysetCursor(template.getCreateTime(), template.getId()));
     }
 
     /**
@@ -136,11 +123,17 @@ public class DatabaseServiceTemplateStorage implements ServiceTemplateStorage {
     @Override
     public ServiceTemplateEntity getServiceTemplateById(UUID uuid) {
         Optional<ServiceTemplateEntity> optional = repository.findById(uuid);
+        optional.ifPresent(this::fetchServicePolicies);
         return optional.orElseThrow(() -> new ServiceTemplateNotRegistered(
                 String.format("Service template with id %s not found.", uuid)
         ));
     }
 
+    private void fetchServicePolicies(ServiceTemplateEntity serviceTemplateEntity) {
+        // loaded in the transaction, the policies are read after the transaction has ended.
+        Hibernate.initialize(serviceTemplateEntity.getServicePolicyList());
+    }
+
     /**
      * Remove register service entity from database by entity.
      *
@@ -149,5 +142,55 @@ public class DatabaseServiceTemplateStorage implements ServiceTemplateStorage {
     @Override
     public void deleteServiceTemplate(ServiceTemplateEntity serviceTemplateEntity) {
         repository.delete(serviceTemplateEntity);
+        publishServiceTemplateChangedEvent(serviceTemplateEntity);
+    }
+
+    private void publishServiceTemplateChangedEvent(ServiceTemplateEntity serviceTemplateEntity) {
+        if (Objects.nonNull(serviceTemplateEntity)
+                && Objects.nonNull(serviceTemplateEntity.getId())) {
+            applicationEventPublisher.publishEvent(
+                    new ServiceTemplateChangedEvent(serviceTemplateEntity.getId()));
+        }
+    }
+
+    private Specification<ServiceTemplateEntity> getServiceTemplateSpecification(
+            ServiceTemplateQueryModel serviceQuery) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicateList = new ArrayList<>();
+            if (Objects.nonNull(serviceQuery.getCategory())) {
+                predicateList.add(criteriaBuilder.equal(root.get("category"),
+                        serviceQuery.getCategory()));
+            }
+
+            if (Objects.nonNull(serviceQuery.getCsp())) {
+                predicateList.add(criteriaBuilder.equal(root.get("csp"),
+                        serviceQuery.getCsp()));
+            }
+            if (StringUtils.isNotBlank(serviceQuery.getServiceName())) {
+                predicateList.add(criteriaBuilder.equal(root.get("name"),
+                        StringUtils.lowerCase(serviceQuery.getServiceName())));
+
+            }
+            if (StringUtils.isNotBlank(serviceQuery.getServiceVersion())) {
+                predicateList.add(criteriaBuilder.equal(root.get("version"),
+                        StringUtils.lowerCase(serviceQuery.getServiceVersion())));
+            }
+            if (StringUtils.isNotBlank(serviceQuery.getNamespace())) {
+                predicateList.add(criteriaBuilder.equal(root.get("namespace"),
+                        serviceQuery.getNamespace()));
+            }
+            if (Objects.nonNull(serviceQuery.getServiceHostingType())) {
+                predicateList.add(criteriaBuilder.equal(root.get("serviceHostingType"),
+                        serviceQuery.getServiceHostingType()));
+            }
+            if (Objects.nonNull(serviceQuery.getServiceRegistrationState())) {
+                predicateList.add(
+                        criteriaBuilder.equal(root.get("serviceRegistrationState"),
+                                serviceQuery.getServiceRegistrationState()));
+            }
+
+            return query.where(criteriaBuilder.and(predicateList.toArray(new Predicate[0])))
+                    .getRestriction();
+        };
     }
 }
@@ -0,0 +1,17 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.database.servicetemplate;
+
+import java.util.UUID;
+
+/**
+ * Event published when a service template or one of its policies is stored or deleted.
+ *
+ * @param serviceTemplateId id of the changed service template.
+ */
+public record ServiceTemplateChangedEvent(UUID serviceTemplateId) {
+}
@@ -15,6 +15,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
@@ -43,6 +44,9 @@ import org.hibernate.annotations.Type;
 @Table(name = "SERVICE_TEMPLATE", uniqueConstraints = {
         @UniqueConstraint(columnNames = {
                 "NAME", "VERSION", "CSP", "CATEGORY", "SERVICE_HOSTING_TYPE"})
+}, indexes = {
+        @Index(name = "IDX_SERVICE_TEMPLATE_REGISTRATION_STATE_CREATE_TIME",
+                columnList = "SERVICE_REGISTRATION_STATE, CREATE_TIME, ID")
 })
 @Entity
 @Data
@@ -100,6 +104,7 @@ public class ServiceTemplateEntity extends CreateModifiedTime {
     @OneToMany(mappedBy = "serviceTemplate", orphanRemoval = true)
     @Cascade({CascadeType.ALL})
     @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<ServicePolicyEntity> servicePolicyList;
 
 }
@@ -8,6 +8,8 @@ package org.eclipse.xpanse.modules.database.servicetemplate;
 
 import java.util.List;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
 
 /**
  * Interface for persist of ServiceTemplate.
@@ -29,6 +31,17 @@ public interface ServiceTemplateStorage {
      */
     List<ServiceTemplateEntity> listServiceTemplates(ServiceTemplateQueryModel query);
 
+    /**
+     * Method to list one page of database entries based ServiceTemplateEntity, sorted by the
+     * creation time descending.
+     *
+     * @param query       query model for search service template entity.
+     * @param pageRequest requested page, null for all entries.
+     * @return Returns the page of the database entries.
+     */
+    KeysetPage<ServiceTemplateEntity> listServiceTemplates(ServiceTemplateQueryModel query,
+                                                           KeysetPageRequest pageRequest);
+
     /**
      * Method to get database entry based ServiceTemplateEntity.
      *
@@ -76,7 +76,6 @@ class DeployResourceEntityTest {
                 ", resourceName=" + resourceName +
                 ", resourceKind=" + resourceKind +
                 ", deployService=" + mockDeployService +
-                ", properties=" + properties +
                 ')';
         assertEquals(expectedToString, resource.toString());
     }
@@ -1,19 +1,26 @@
 package org.eclipse.xpanse.modules.database.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.database.resource.DeployResourceRepository;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
 class DatabaseDeployServiceStorageTest {
@@ -22,6 +29,8 @@ class DatabaseDeployServiceStorageTest {
     private final String userId = "defaultUserId";
     @Mock
     private DeployServiceRepository mockDeployServiceRepository;
+    @Mock
+    private DeployResourceRepository mockDeployResourceRepository;
 
     @InjectMocks
     private DatabaseDeployServiceStorage databaseDeployServiceStorageUnderTest;
@@ -68,6 +77,31 @@ class DatabaseDeployServiceStorageTest {
         assertThat(result).isEqualTo(expectedResult);
     }
 
+    @Test
+    void testFindDeployServiceByIdWithFetchPlan() {
+        final DeployServiceEntity deployServiceEntity = new DeployServiceEntity();
+        deployServiceEntity.setId(id);
+        when(mockDeployServiceRepository.findById(id))
+                .thenReturn(Optional.of(deployServiceEntity));
+
+        assertThat(databaseDeployServiceStorageUnderTest.findDeployServiceById(
+                id, DeployServiceFetchPlan.BASIC)).isEqualTo(deployServiceEntity);
+        verify(mockDeployServiceRepository, never()).findAll(any(Specification.class));
+        verify(mockDeployResourceRepository, never()).findAll(any(Specification.class));
+
+        assertThat(databaseDeployServiceStorageUnderTest.findDeployServiceById(
+                id, DeployServiceFetchPlan.METRICS)).isEqualTo(deployServiceEntity);
+        // one query for the resources and one for the properties of the resources.
+        verify(mockDeployServiceRepository, times(1)).findAll(any(Specification.class));
+        verify(mockDeployResourceRepository, times(1)).findAll(any(Specification.class));
+
+        assertThat(databaseDeployServiceStorageUnderTest.findDeployServiceById(id))
+                .isEqualTo(deployServiceEntity);
+        // plus one query for each collection of the service.
+        verify(mockDeployServiceRepository, times(4)).findAll(any(Specification.class));
+        verify(mockDeployResourceRepository, times(2)).findAll(any(Specification.class));
+    }
+
     @Test
     void testFindDeployServiceById_DeployServiceRepositoryReturnsAbsent() {
         when(mockDeployServiceRepository.findById(
@@ -88,4 +122,27 @@ class DatabaseDeployServiceStorageTest {
 
         verify(mockDeployServiceRepository, times(1)).delete(expectedResult);
     }
+
+    @Test
+    void testListServicesWithDetails() {
+        final List<DeployServiceEntity> services = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            final DeployServiceEntity deployServiceEntity = new DeployServiceEntity();
+            deployServiceEntity.setId(UUID.randomUUID());
+            deployServiceEntity.setUserId(userId);
+            services.add(deployServiceEntity);
+        }
+        when(mockDeployServiceRepository.findAll(any(Specification.class)))
+                .thenReturn(services);
+
+        final KeysetPage<DeployServiceEntity> result =
+                databaseDeployServiceStorageUnderTest.listServicesWithDetails(
+                        new ServiceQueryModel(), null);
+
+        assertThat(result.items()).isEqualTo(services);
+        assertThat(result.nextCursor()).isNull();
+        // one query for the services and two queries per batch of 500 services.
+        verify(mockDeployServiceRepository, times(5)).findAll(any(Specification.class));
+        verify(mockDeployResourceRepository, times(2)).findAll(any(Specification.class));
+    }
 }
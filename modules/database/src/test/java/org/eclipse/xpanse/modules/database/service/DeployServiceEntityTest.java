@@ -111,8 +111,7 @@ class DeployServiceEntityTest {
                         + ", flavor=" + FLAVOR + ", serviceDeploymentState=" + SERVICE_STATE
                         + ", resultMessage=" + RESULT_MESSAGE + ", serviceState="
                         + SERVICE_RUN_STATE + ", serviceTemplateId=" + SERVICE_TEMPLATE_ID
-                        + ", deployRequest=" + CREATE_REQUEST + ", properties=" + PROPERTIES
-                        + ", privateProperties=" + PRIVATE_PROPERTIES + ", lastStartedAt="
+                        + ", deployRequest=" + CREATE_REQUEST + ", lastStartedAt="
                         + LAST_STARTED_AT + ", lastStoppedAt=" + LAST_STOPPED_AT + ", lockConfig="
                         + LOCK_CONFIG + ")";
         assertEquals(expectedToString, test.toString());
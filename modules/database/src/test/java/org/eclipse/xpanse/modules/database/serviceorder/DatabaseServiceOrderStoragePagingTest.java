@@ -0,0 +1,99 @@
+package org.eclipse.xpanse.modules.database.serviceorder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
+import org.eclipse.xpanse.modules.models.service.enums.TaskStatus;
+import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Test of the paged queries of DatabaseServiceOrderStorage against the embedded H2 database.
+ */
+@DataJpaTest
+class DatabaseServiceOrderStoragePagingTest {
+
+    private static final String USER_ID = "userId";
+
+    @Autowired
+    private DatabaseServiceOrderStorage storage;
+
+    private final UUID serviceId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        // the database keeps microseconds, the cursor is built from the cached entities.
+        OffsetDateTime now = OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        for (int i = 0; i < 3; i++) {
+            ServiceOrderEntity order = getServiceOrderEntity();
+            order.setStartedTime(now.minusMinutes(i));
+            storage.storeAndFlush(order);
+        }
+        // the orders failed before they are started have no started time.
+        storage.storeAndFlush(getServiceOrderEntity());
+        storage.storeAndFlush(getServiceOrderEntity());
+    }
+
+    @Test
+    void testQueryEntitiesWithoutPageRequest() {
+        ServiceOrderEntity query = new ServiceOrderEntity();
+        query.setServiceId(serviceId);
+        query.setUserId(USER_ID);
+
+        KeysetPage<ServiceOrderEntity> page = storage.queryEntities(query, null);
+
+        assertThat(page.items()).hasSize(5);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void testQueryEntitiesPageByPage() {
+        ServiceOrderEntity query = new ServiceOrderEntity();
+        query.setServiceId(serviceId);
+
+        List<ServiceOrderEntity> orders = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPage<ServiceOrderEntity> page =
+                    storage.queryEntities(query, KeysetPageRequest.of(2, cursor));
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+            orders.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(orders).hasSize(5);
+        assertThat(orders.stream().map(ServiceOrderEntity::getOrderId).distinct()).hasSize(5);
+        assertThat(orders.subList(0, 3)).allMatch(order -> order.getStartedTime() != null)
+                .isSortedAccordingTo((order, other) ->
+                        other.getStartedTime().compareTo(order.getStartedTime()));
+        assertThat(orders.subList(3, 5)).allMatch(order -> order.getStartedTime() == null);
+    }
+
+    private ServiceOrderEntity getServiceOrderEntity() {
+        ServiceOrderEntity order = new ServiceOrderEntity();
+        order.setOrderId(UUID.randomUUID());
+        order.setServiceId(serviceId);
+        order.setTaskType(ServiceOrderType.DEPLOY);
+        order.setUserId(USER_ID);
+        order.setTaskStatus(TaskStatus.FAILED);
+        return order;
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @Import(DatabaseServiceOrderStorage.class)
+    static class TestConfiguration {
+    }
+}
@@ -3,13 +3,19 @@ package org.eclipse.xpanse.modules.database.serviceorder;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.database.common.KeysetPagination;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetCursor;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
 import org.eclipse.xpanse.modules.models.service.enums.TaskStatus;
 import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
 import org.eclipse.xpanse.modules.models.service.order.exceptions.ServiceOrderNotFound;
@@ -66,6 +72,24 @@ class DatabaseServiceOrderStorageTest {
         assertThat(result).isEqualTo(expectedResult);
     }
 
+    @Test
+    void testQueryEntitiesPageEndingWithOrderNotStarted() {
+        final ServiceOrderEntity startedOrder = getServiceOrderEntity();
+        startedOrder.setStartedTime(OffsetDateTime.now());
+        final ServiceOrderEntity notStartedOrder = getServiceOrderEntity();
+        notStartedOrder.setOrderId(UUID.randomUUID());
+        when(mockRepository.findBy(any(Specification.class), any())).thenReturn(
+                List.of(startedOrder, notStartedOrder, getServiceOrderEntity()));
+
+        final KeysetPage<ServiceOrderEntity> result = test.queryEntities(
+                getServiceOrderEntity(), new KeysetPageRequest(null, 2));
+
+        assertThat(result.items()).containsExactly(startedOrder, notStartedOrder);
+        final KeysetCursor nextCursor = KeysetCursor.decode(result.nextCursor());
+        assertThat(nextCursor.sortTime()).isEqualTo(KeysetPagination.MISSING_TIME);
+        assertThat(nextCursor.id()).isEqualTo(notStartedOrder.getOrderId());
+    }
+
     @Test
     void testQueryEntities() {
         // Setup
@@ -134,6 +158,45 @@ class DatabaseServiceOrderStorageTest {
                 .isInstanceOf(ServiceOrderNotFound.class);
     }
 
+    @Test
+    void testClaimQueuedEntity() {
+        // Setup
+        final OffsetDateTime queuedStartedTime = OffsetDateTime.now().minusMinutes(5);
+        final ServiceOrderEntity queuedOrder = getServiceOrderEntity();
+        queuedOrder.setTaskStatus(TaskStatus.QUEUED);
+        queuedOrder.setStartedTime(queuedStartedTime);
+        when(mockRepository.findWithLockByOrderId(orderId)).thenReturn(Optional.of(queuedOrder));
+
+        // Run the test
+        final boolean result = test.claimQueuedEntity(orderId, queuedStartedTime);
+
+        // Verify the results
+        assertThat(result).isTrue();
+        assertThat(queuedOrder.getTaskStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(queuedOrder.getStartedTime()).isAfter(queuedStartedTime);
+        verify(mockRepository).saveAndFlush(queuedOrder);
+    }
+
+    @Test
+    void testClaimQueuedEntity_ClaimedBefore() {
+        // Setup
+        final OffsetDateTime queuedStartedTime = OffsetDateTime.now().minusMinutes(5);
+        final ServiceOrderEntity requeuedOrder = getServiceOrderEntity();
+        requeuedOrder.setTaskStatus(TaskStatus.QUEUED);
+        requeuedOrder.setStartedTime(OffsetDateTime.now());
+        final ServiceOrderEntity runningOrder = getServiceOrderEntity();
+        runningOrder.setTaskStatus(TaskStatus.IN_PROGRESS);
+        runningOrder.setStartedTime(queuedStartedTime);
+        when(mockRepository.findWithLockByOrderId(orderId)).thenReturn(
+                Optional.of(requeuedOrder), Optional.of(runningOrder), Optional.empty());
+
+        // Run the test and verify the results
+        assertThat(test.claimQueuedEntity(orderId, queuedStartedTime)).isFalse();
+        assertThat(test.claimQueuedEntity(orderId, queuedStartedTime)).isFalse();
+        assertThat(test.claimQueuedEntity(orderId, queuedStartedTime)).isFalse();
+        verify(mockRepository, never()).saveAndFlush(any());
+    }
+
     @Test
     void testDeleteBatch() {
         // Setup
@@ -1,30 +1,37 @@
 package org.eclipse.xpanse.modules.database.servicepolicy;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateChangedEvent;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
 class DatabaseServicePolicyStorageTest {
 
     @Mock
     private ServicePolicyRepository mockServicePolicyRepository;
+    @Mock
+    private ApplicationEventPublisher mockApplicationEventPublisher;
 
     private DatabaseServicePolicyStorage databaseServicePolicyStorageUnderTest;
 
     @BeforeEach
     void setUp() {
         databaseServicePolicyStorageUnderTest =
-                new DatabaseServicePolicyStorage(mockServicePolicyRepository);
+                new DatabaseServicePolicyStorage(mockServicePolicyRepository,
+                        mockApplicationEventPublisher);
     }
 
     @Test
@@ -82,7 +89,7 @@ class DatabaseServicePolicyStorageTest {
         serviceTemplate.setVersion("version");
         expectedResult.setServiceTemplate(serviceTemplate);
 
-        // Configure ServicePolicyRepository.findById(...).
+        // Configure ServicePolicyRepository.findOne(...).
         final ServicePolicyEntity servicePolicyEntity1 = new ServicePolicyEntity();
         servicePolicyEntity1.setId(UUID.fromString("f80019fd-b557-4f55-ac1c-3a6e7683b27c"));
         final ServiceTemplateEntity serviceTemplate1 = new ServiceTemplateEntity();
@@ -91,8 +98,7 @@ class DatabaseServicePolicyStorageTest {
         serviceTemplate1.setVersion("version");
         servicePolicyEntity1.setServiceTemplate(serviceTemplate1);
         final Optional<ServicePolicyEntity> servicePolicyEntity = Optional.of(servicePolicyEntity1);
-        when(mockServicePolicyRepository.findById(
-                UUID.fromString("ff871a4b-0a08-43f7-8335-98d0217a0f4e")))
+        when(mockServicePolicyRepository.findOne(any(Specification.class)))
                 .thenReturn(servicePolicyEntity);
 
         // Run the test
@@ -106,8 +112,7 @@ class DatabaseServicePolicyStorageTest {
     @Test
     void testFindPolicyById_ServicePolicyRepositoryReturnsAbsent() {
         // Setup
-        when(mockServicePolicyRepository.findById(
-                UUID.fromString("ff871a4b-0a08-43f7-8335-98d0217a0f4e")))
+        when(mockServicePolicyRepository.findOne(any(Specification.class)))
                 .thenReturn(Optional.empty());
 
         // Run the test
@@ -142,6 +147,8 @@ class DatabaseServicePolicyStorageTest {
         serviceTemplate1.setVersion("version");
         entity.setServiceTemplate(serviceTemplate1);
         verify(mockServicePolicyRepository).delete(entity);
+        verify(mockApplicationEventPublisher).publishEvent(new ServiceTemplateChangedEvent(
+                UUID.fromString("90123bab-d2fe-4e37-badd-4468afdac8ee")));
     }
 
     @Test
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.jpa.domain.Specification;
@@ -30,11 +32,14 @@ class DatabaseServiceTemplateStorageTest {
     private final UUID id = UUID.fromString("eef27308-92d6-4c7a-866b-a58966b94f2d");
     @Mock
     private ServiceTemplateRepository mockServiceTemplateRepository;
+    @Mock
+    private ApplicationEventPublisher mockApplicationEventPublisher;
     private DatabaseServiceTemplateStorage test;
 
     @BeforeEach
     void setUp() {
-        test = new DatabaseServiceTemplateStorage(mockServiceTemplateRepository);
+        test = new DatabaseServiceTemplateStorage(mockServiceTemplateRepository,
+                mockApplicationEventPublisher);
     }
 
     @Test
@@ -47,6 +52,8 @@ class DatabaseServiceTemplateStorageTest {
         serviceTemplateEntity.setCsp(Csp.HUAWEI_CLOUD);
         serviceTemplateEntity.setCategory(Category.AI);
         serviceTemplateEntity.setServiceHostingType(ServiceHostingType.SERVICE_VENDOR);
+        when(mockServiceTemplateRepository.saveAndFlush(serviceTemplateEntity))
+                .thenReturn(serviceTemplateEntity);
 
         // Run the test
         ServiceTemplateEntity result = test.storeAndFlush(serviceTemplateEntity);
@@ -61,6 +68,7 @@ class DatabaseServiceTemplateStorageTest {
         entity.setCategory(Category.AI);
         entity.setServiceHostingType(ServiceHostingType.SERVICE_VENDOR);
         verify(mockServiceTemplateRepository).saveAndFlush(entity);
+        verify(mockApplicationEventPublisher).publishEvent(new ServiceTemplateChangedEvent(id));
     }
 
     @Test
@@ -270,6 +278,7 @@ class DatabaseServiceTemplateStorageTest {
         entity.setCsp(Csp.HUAWEI_CLOUD);
         entity.setCategory(Category.AI);
         verify(mockServiceTemplateRepository).delete(entity);
+        verify(mockApplicationEventPublisher).publishEvent(new ServiceTemplateChangedEvent(id));
     }
 
     @Test
@@ -295,5 +304,7 @@ class DatabaseServiceTemplateStorageTest {
         // Run the test
         assertThatThrownBy(() -> test.deleteServiceTemplate(
                 serviceTemplateEntity)).isInstanceOf(OptimisticLockingFailureException.class);
+        verify(mockApplicationEventPublisher, never())
+                .publishEvent(any(ServiceTemplateChangedEvent.class));
     }
 }
@@ -6,21 +6,24 @@
 
 package org.eclipse.xpanse.modules.deployment;
 
+import static org.eclipse.xpanse.modules.deployment.deployers.terraform.utils.TfResourceTransUtils.STATE_FILE_NAME;
+
 import jakarta.annotation.Resource;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.xpanse.modules.database.resource.DeployResourceEntity;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
 import org.eclipse.xpanse.modules.database.service.DeployServiceStorage;
 import org.eclipse.xpanse.modules.database.serviceconfiguration.ServiceConfigurationEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
+import org.eclipse.xpanse.modules.deployment.polling.ServiceStatusChangePublisher;
+import org.eclipse.xpanse.modules.deployment.utils.DeployResourceDiffUtils;
+import org.eclipse.xpanse.modules.deployment.utils.DeployResourceDiffUtils.DeployResourceChanges;
 import org.eclipse.xpanse.modules.models.service.deploy.DeployRequest;
-import org.eclipse.xpanse.modules.models.service.deploy.DeployResource;
 import org.eclipse.xpanse.modules.models.service.enums.DeployerTaskStatus;
 import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
 import org.eclipse.xpanse.modules.models.service.enums.TaskStatus;
@@ -49,6 +52,12 @@ public class DeployResultManager {
     @Resource
     private DeployServiceEntityConverter deployServiceEntityConverter;
 
+    @Resource
+    private ServiceStatusChangePublisher serviceStatusChangePublisher;
+
+    @Resource
+    private DeploymentStateManager deploymentStateManager;
+
     /**
      * Method to update deployment result to DeployServiceEntity and store to database.
      *
@@ -70,7 +79,11 @@ public class DeployResultManager {
         DeployServiceEntity deployServiceToUpdate = new DeployServiceEntity();
         BeanUtils.copyProperties(storedEntity, deployServiceToUpdate);
         updateServiceEntityWithDeployResult(deployResult, deployServiceToUpdate);
-        return deployServiceStorage.storeAndFlush(deployServiceToUpdate);
+        DeployServiceEntity updatedEntity =
+                deployServiceStorage.storeAndFlush(deployServiceToUpdate);
+        serviceStatusChangePublisher.publishServiceDeploymentStatusChange(
+                deployServiceToUpdate.getId(), deployServiceToUpdate.getServiceDeploymentState());
+        return updatedEntity;
     }
 
     private void updateServiceEntityWithDeployResult(DeployResult deployResult,
@@ -96,12 +109,14 @@ public class DeployResultManager {
         updateServiceState(deployerTaskStatus, deployServiceEntity);
 
         boolean isTaskSuccessful = deployResult.getIsTaskSuccessful();
-        if (CollectionUtils.isEmpty(deployResult.getPrivateProperties())) {
+        Map<String, String> privateProperties =
+                getPrivatePropertiesWithoutState(deployResult, deployServiceEntity);
+        if (CollectionUtils.isEmpty(privateProperties)) {
             if (isTaskSuccessful) {
                 deployServiceEntity.getPrivateProperties().clear();
             }
         } else {
-            deployServiceEntity.setPrivateProperties(deployResult.getPrivateProperties());
+            deployServiceEntity.setPrivateProperties(privateProperties);
         }
 
         if (CollectionUtils.isEmpty(deployResult.getProperties())) {
@@ -117,12 +132,32 @@ public class DeployResultManager {
                 deployServiceEntity.getDeployResourceList().clear();
             }
         } else {
-            deployServiceEntity.setDeployResourceList(
-                    getDeployResourceEntityList(deployResult.getResources(), deployServiceEntity));
+            DeployResourceChanges resourceChanges = DeployResourceDiffUtils.applyDeployResources(
+                    deployServiceEntity, deployResult.getResources());
+            log.info("Applied deployed resources to service {}: {}", deployServiceEntity.getId(),
+                    resourceChanges);
         }
         sensitiveDataHandler.maskSensitiveFields(deployServiceEntity);
     }
 
+    /**
+     * The state of the deployed resources is moved to the state store, only the other private
+     * properties are kept with the service.
+     */
+    private Map<String, String> getPrivatePropertiesWithoutState(
+            DeployResult deployResult, DeployServiceEntity deployServiceEntity) {
+        Map<String, String> privateProperties = deployResult.getPrivateProperties();
+        if (CollectionUtils.isEmpty(privateProperties)
+                || !privateProperties.containsKey(STATE_FILE_NAME)) {
+            return privateProperties;
+        }
+        deploymentStateManager.storeState(deployServiceEntity.getId(), deployResult.getOrderId(),
+                privateProperties.get(STATE_FILE_NAME));
+        Map<String, String> privatePropertiesWithoutState = new HashMap<>(privateProperties);
+        privatePropertiesWithoutState.remove(STATE_FILE_NAME);
+        return privatePropertiesWithoutState;
+    }
+
     private void updateServiceConfiguration(DeployerTaskStatus state,
                                             DeployServiceEntity deployServiceEntity) {
         if (state == DeployerTaskStatus.DEPLOY_SUCCESS) {
@@ -166,24 +201,6 @@ public class DeployResultManager {
     }
 
 
-    /**
-     * Convert deploy resources to deploy resource entities.
-     */
-    private List<DeployResourceEntity> getDeployResourceEntityList(
-            List<DeployResource> deployResources, DeployServiceEntity deployServiceEntity) {
-        List<DeployResourceEntity> deployResourceEntities = new ArrayList<>();
-        if (CollectionUtils.isEmpty(deployResources)) {
-            return deployResourceEntities;
-        }
-        for (DeployResource resource : deployResources) {
-            DeployResourceEntity deployResource = new DeployResourceEntity();
-            BeanUtils.copyProperties(resource, deployResource);
-            deployResource.setDeployService(deployServiceEntity);
-            deployResourceEntities.add(deployResource);
-        }
-        return deployResourceEntities;
-    }
-
     /**
      * Update service order task in the database by the deployment result. We must ensure the
      * order is not set to a final state until all related process is completed.
@@ -224,5 +241,7 @@ public class DeployResultManager {
             }
         }
         serviceOrderStorage.storeAndFlush(entityToUpdate);
+        serviceStatusChangePublisher.publishServiceOrderStatusChange(entityToUpdate.getOrderId(),
+                entityToUpdate.getTaskStatus(), entityToUpdate.getErrorMsg());
     }
 }
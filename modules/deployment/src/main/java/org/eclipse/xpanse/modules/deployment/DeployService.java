@@ -13,9 +13,7 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -24,10 +22,12 @@ import org.eclipse.xpanse.modules.database.resource.DeployResourceEntity;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
 import org.eclipse.xpanse.modules.database.service.DeployServiceStorage;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
 import org.eclipse.xpanse.modules.database.utils.EntityTransUtils;
+import org.eclipse.xpanse.modules.deployment.cache.CachedServiceTemplate;
+import org.eclipse.xpanse.modules.deployment.cache.ServiceTemplateCache;
 import org.eclipse.xpanse.modules.deployment.polling.ServiceDeploymentStatusChangePolling;
+import org.eclipse.xpanse.modules.deployment.scheduler.DeploymentScheduler;
+import org.eclipse.xpanse.modules.deployment.scheduler.WorkloadType;
 import org.eclipse.xpanse.modules.logging.CustomRequestIdGenerator;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.service.config.ServiceLockConfig;
@@ -49,7 +49,6 @@ import org.eclipse.xpanse.modules.models.service.order.ServiceOrder;
 import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
 import org.eclipse.xpanse.modules.models.service.utils.ServiceDeployVariablesJsonSchemaValidator;
 import org.eclipse.xpanse.modules.models.servicetemplate.DeployVariable;
-import org.eclipse.xpanse.modules.models.servicetemplate.FlavorsWithPrice;
 import org.eclipse.xpanse.modules.models.servicetemplate.ServiceFlavor;
 import org.eclipse.xpanse.modules.models.servicetemplate.ServiceFlavorWithPrice;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceRegistrationState;
@@ -81,7 +80,7 @@ public class DeployService {
     @Resource
     private PluginManager pluginManager;
     @Resource
-    private ServiceTemplateStorage serviceTemplateStorage;
+    private ServiceTemplateCache serviceTemplateCache;
     @Resource
     private DeployServiceStorage deployServiceStorage;
     @Resource
@@ -103,9 +102,11 @@ public class DeployService {
     @Resource
     private ServiceOrderManager serviceOrderManager;
     @Resource
+    private DeploymentStateManager deploymentStateManager;
+    @Resource
     private ServiceDeploymentStatusChangePolling serviceDeploymentStatusChangePolling;
     @Resource
-    private Executor taskExecutor;
+    private DeploymentScheduler deploymentScheduler;
 
 
     /**
@@ -120,7 +121,7 @@ public class DeployService {
         deployRequest.setServiceId(newServiceId);
         deployRequest.setUserId(this.userServiceHelper.getCurrentUserId());
         DeployTask deployTask = createNewDeployTask(deployRequest);
-        deployService(deployTask);
+        runAdmittedOrder(deployTask, () -> deployService(deployTask));
         return new ServiceOrder(deployTask.getOrderId(), deployTask.getServiceId());
     }
 
@@ -136,7 +137,7 @@ public class DeployService {
         String errMsg = "No permissions to redeploy services belonging to other users.";
         DeployServiceEntity deployServiceEntity = getServiceOwnedByCurrentUser(serviceId, errMsg);
         DeployTask redeployTask = getRedeployTask(deployServiceEntity);
-        redeployService(redeployTask, deployServiceEntity);
+        runAdmittedOrder(redeployTask, () -> redeployService(redeployTask, deployServiceEntity));
         log.info("Order task {} to redeploy failed service {} started.",
                 redeployTask.getOrderId(), redeployTask.getServiceId());
         return new ServiceOrder(redeployTask.getOrderId(), redeployTask.getServiceId());
@@ -157,7 +158,7 @@ public class DeployService {
         String errMsg = "No permissions to modify services belonging to other users.";
         DeployServiceEntity deployServiceEntity = getServiceOwnedByCurrentUser(serviceId, errMsg);
         DeployTask modifyTask = getModifyTask(modifyRequest, deployServiceEntity);
-        modifyService(modifyTask, deployServiceEntity);
+        runAdmittedOrder(modifyTask, () -> modifyService(modifyTask, deployServiceEntity));
         log.info("Order task {} to modify deployed service {} started.",
                 modifyTask.getOrderId(), modifyTask.getServiceId());
         return new ServiceOrder(modifyTask.getOrderId(), modifyTask.getServiceId());
@@ -174,7 +175,7 @@ public class DeployService {
         String errMsg = "No permissions to destroy services belonging to other users.";
         DeployServiceEntity deployServiceEntity = getServiceOwnedByCurrentUser(serviceId, errMsg);
         DeployTask destroyTask = getDestroyTask(deployServiceEntity);
-        destroyService(destroyTask, deployServiceEntity);
+        runAdmittedOrder(destroyTask, () -> destroyService(destroyTask, deployServiceEntity));
         log.info("Order task {} to destroy deployed service {} started.",
                 destroyTask.getOrderId(), destroyTask.getServiceId());
         return new ServiceOrder(destroyTask.getOrderId(), destroyTask.getServiceId());
@@ -192,7 +193,11 @@ public class DeployService {
         String errMsg = "No permissions to purge services belonging to other users.";
         DeployServiceEntity deployServiceEntity = getServiceOwnedByCurrentUser(serviceId, errMsg);
         DeployTask purgeTask = getPurgeTask(deployServiceEntity);
-        purgeService(purgeTask, deployServiceEntity);
+        if (!CollectionUtils.isEmpty(deployServiceEntity.getDeployResourceList())) {
+            runAdmittedOrder(purgeTask, () -> purgeService(purgeTask, deployServiceEntity));
+        } else {
+            purgeService(purgeTask, deployServiceEntity);
+        }
         log.info("Order task {} to purge the destroyed service {} started.",
                 purgeTask.getOrderId(), serviceId);
         return new ServiceOrder(purgeTask.getOrderId(), purgeTask.getServiceId());
@@ -262,35 +267,31 @@ public class DeployService {
      */
     private DeployTask createNewDeployTask(DeployRequest deployRequest) {
         // Find the approved service template and fill Ocl.
-        ServiceTemplateEntity searchServiceTemplate = new ServiceTemplateEntity();
-        searchServiceTemplate.setName(StringUtils.lowerCase(deployRequest.getServiceName()));
-        searchServiceTemplate.setVersion(StringUtils.lowerCase(deployRequest.getVersion()));
-        searchServiceTemplate.setCsp(deployRequest.getCsp());
-        searchServiceTemplate.setCategory(deployRequest.getCategory());
-        searchServiceTemplate.setServiceHostingType(deployRequest.getServiceHostingType());
-        ServiceTemplateEntity existingServiceTemplate =
-                serviceTemplateStorage.findServiceTemplate(searchServiceTemplate);
+        CachedServiceTemplate existingServiceTemplate = serviceTemplateCache.findServiceTemplate(
+                deployRequest.getServiceName(), deployRequest.getVersion(),
+                deployRequest.getCsp(), deployRequest.getCategory(),
+                deployRequest.getServiceHostingType());
         if (Objects.isNull(existingServiceTemplate)
-                || Objects.isNull(existingServiceTemplate.getId())
-                || Objects.isNull(existingServiceTemplate.getOcl())) {
+                || Objects.isNull(existingServiceTemplate.id())
+                || Objects.isNull(existingServiceTemplate.ocl())) {
             throw new ServiceTemplateNotRegistered("No available service templates found.");
         }
         if (ServiceRegistrationState.APPROVED
-                != existingServiceTemplate.getServiceRegistrationState()) {
+                != existingServiceTemplate.serviceRegistrationState()) {
             String errMsg = String.format("Found service template with id %s but not approved.",
-                    existingServiceTemplate.getId());
+                    existingServiceTemplate.id());
             throw new ServiceTemplateNotApproved(errMsg);
         }
-        if (StringUtils.isNotBlank(existingServiceTemplate.getOcl().getEula())
+        if (StringUtils.isNotBlank(existingServiceTemplate.ocl().getEula())
                 && !deployRequest.isEulaAccepted()) {
             log.error("Service not accepted Eula.");
             throw new EulaNotAccepted("Service not accepted Eula.");
         }
-        if (!existingServiceTemplate.getOcl().getBilling().getBillingModes()
+        if (!existingServiceTemplate.ocl().getBilling().getBillingModes()
                 .contains(deployRequest.getBillingMode())) {
             String errorMsg = String.format(
                     "The service template with id %s does not support billing mode %s.",
-                    existingServiceTemplate.getId(), deployRequest.getBillingMode());
+                    existingServiceTemplate.id(), deployRequest.getBillingMode());
             throw new BillingModeNotSupported(errorMsg);
         }
         // Check context validation
@@ -300,7 +301,7 @@ public class DeployService {
 
         AvailabilityZonesRequestValidator.validateAvailabilityZones(
                 deployRequest.getAvailabilityZones(),
-                existingServiceTemplate.getOcl().getDeployment().getServiceAvailabilityConfigs());
+                existingServiceTemplate.ocl().getDeployment().getServiceAvailabilityConfigs());
         if (StringUtils.isEmpty(deployRequest.getCustomerServiceName())) {
             deployRequest.setCustomerServiceName(generateCustomerServiceName(deployRequest));
         }
@@ -311,37 +312,54 @@ public class DeployService {
         deployTask.setUserId(deployRequest.getUserId());
         deployTask.setDeployRequest(deployRequest);
         deployTask.setDeploymentScenario(DeploymentScenario.DEPLOY);
-        deployTask.setNamespace(existingServiceTemplate.getNamespace());
-        deployTask.setOcl(existingServiceTemplate.getOcl());
-        deployTask.setServiceTemplateId(existingServiceTemplate.getId());
+        deployTask.setNamespace(existingServiceTemplate.namespace());
+        deployTask.setOcl(existingServiceTemplate.ocl());
+        deployTask.setServiceTemplateId(existingServiceTemplate.id());
         return deployTask;
     }
 
+    /**
+     * Run the order once the deployment scheduler admits it, the order is rejected before it is
+     * created when the scheduler cannot queue any more tasks. The place reserved for the order is
+     * released when the order has not submitted its task to the scheduler.
+     *
+     * @param deployTask deploy task of the order.
+     * @param order      creates and runs the order.
+     */
+    private void runAdmittedOrder(DeployTask deployTask, Runnable order) {
+        deploymentScheduler.admit(WorkloadType.DEPLOYMENT, deployTask.getOrderId(),
+                deployTask.getDeployRequest().getCsp(), deployTask.getUserId());
+        try {
+            order.run();
+        } finally {
+            deploymentScheduler.cancelAdmission(deployTask.getOrderId());
+        }
+    }
+
     private void validateDeployRequestWithServiceTemplate(
-            ServiceTemplateEntity existingServiceTemplate, DeployRequest deployRequest) {
+            CachedServiceTemplate existingServiceTemplate, DeployRequest deployRequest) {
         // Check context validation
-        if (Objects.nonNull(existingServiceTemplate.getOcl().getDeployment()) && Objects.nonNull(
+        if (Objects.nonNull(existingServiceTemplate.ocl().getDeployment()) && Objects.nonNull(
                 deployRequest.getServiceRequestProperties())) {
             List<DeployVariable> deployVariables =
-                    existingServiceTemplate.getOcl().getDeployment().getVariables();
+                    existingServiceTemplate.ocl().getDeployment().getVariables();
 
-            serviceDeployVariablesJsonSchemaValidator.validateDeployVariables(deployVariables,
-                    deployRequest.getServiceRequestProperties(),
-                    existingServiceTemplate.getJsonObjectSchema());
+            serviceDeployVariablesJsonSchemaValidator.validateDeployVariables(
+                    existingServiceTemplate.id(), existingServiceTemplate.version(),
+                    deployVariables, deployRequest.getServiceRequestProperties(),
+                    existingServiceTemplate.jsonObjectSchema());
         }
-        getServiceFlavorWithName(deployRequest.getFlavor(),
-                existingServiceTemplate.getOcl().getFlavors());
+        getServiceFlavorWithName(deployRequest.getFlavor(), existingServiceTemplate);
     }
 
-    private ServiceFlavorWithPrice getServiceFlavorWithName(String flavorName,
-                                                            FlavorsWithPrice flavors) {
-        Optional<ServiceFlavorWithPrice> flavorOptional = flavors.getServiceFlavors().stream()
-                .filter(flavor -> flavor.getName().equals(flavorName)).findAny();
-        if (flavorOptional.isEmpty()) {
+    private ServiceFlavorWithPrice getServiceFlavorWithName(
+            String flavorName, CachedServiceTemplate serviceTemplate) {
+        ServiceFlavorWithPrice flavor = serviceTemplate.getFlavor(flavorName);
+        if (Objects.isNull(flavor)) {
             throw new FlavorInvalidException(
                     String.format("Could not find service flavor with name %s", flavorName));
         }
-        return flavorOptional.get();
+        return flavor;
     }
 
     private String generateCustomerServiceName(DeployRequest deployRequest) {
@@ -541,9 +559,8 @@ public class DeployService {
                             deployServiceEntity.getId(),
                             deployServiceEntity.getServiceDeploymentState()));
         }
-        ServiceTemplateEntity existingServiceTemplate =
-                serviceTemplateStorage.getServiceTemplateById(
-                        deployServiceEntity.getServiceTemplateId());
+        CachedServiceTemplate existingServiceTemplate =
+                serviceTemplateCache.getServiceTemplate(deployServiceEntity.getServiceTemplateId());
         DeployRequest previousDeployRequest = deployServiceEntity.getDeployRequest();
         DeployRequest newDeployRequest = new DeployRequest();
         BeanUtils.copyProperties(previousDeployRequest, newDeployRequest);
@@ -552,7 +569,7 @@ public class DeployService {
         }
         if (StringUtils.isNotBlank(modifyRequest.getFlavor())) {
             validateFlavorDowngradedIsAllowed(deployServiceEntity.getFlavor(),
-                    modifyRequest.getFlavor(), existingServiceTemplate.getOcl().getFlavors());
+                    modifyRequest.getFlavor(), existingServiceTemplate);
             newDeployRequest.setFlavor(modifyRequest.getFlavor());
         }
         if (Objects.nonNull(modifyRequest.getServiceRequestProperties())
@@ -569,16 +586,17 @@ public class DeployService {
         modifyTask.setServiceTemplateId(deployServiceEntity.getServiceTemplateId());
         modifyTask.setNamespace(deployServiceEntity.getNamespace());
         modifyTask.setDeployRequest(newDeployRequest);
-        modifyTask.setOcl(existingServiceTemplate.getOcl());
+        modifyTask.setOcl(existingServiceTemplate.ocl());
         modifyTask.setDeploymentScenario(DeploymentScenario.MODIFY);
         return modifyTask;
     }
 
     private void validateFlavorDowngradedIsAllowed(String originalFlavor, String newFlavor,
-                                                   FlavorsWithPrice flavors) {
-        if (!flavors.isDowngradeAllowed()) {
-            ServiceFlavor newServiceFlavor = getServiceFlavorWithName(newFlavor, flavors);
-            ServiceFlavor originalServiceFlavor = getServiceFlavorWithName(originalFlavor, flavors);
+                                                   CachedServiceTemplate serviceTemplate) {
+        if (!serviceTemplate.ocl().getFlavors().isDowngradeAllowed()) {
+            ServiceFlavor newServiceFlavor = getServiceFlavorWithName(newFlavor, serviceTemplate);
+            ServiceFlavor originalServiceFlavor =
+                    getServiceFlavorWithName(originalFlavor, serviceTemplate);
             if (newServiceFlavor.getPriority() > originalServiceFlavor.getPriority()) {
                 String errorMsg = String.format("Downgrading of flavors is not allowed. New flavor"
                                 + " priority %d is lower than the original flavor priority %d.",
@@ -689,6 +707,7 @@ public class DeployService {
                 purgeResult = deployer.destroy(purgeTask);
             } else {
                 deployServiceStorage.deleteDeployService(deployServiceEntity);
+                deploymentStateManager.deleteStates(purgeTask.getServiceId());
                 serviceStateManager.deleteManagementTasksByServiceId(purgeTask.getServiceId());
                 purgeResult = new DeployResult();
                 purgeResult.setOrderId(purgeTask.getOrderId());
@@ -744,6 +763,65 @@ public class DeployService {
         destroy(destroyTask, deployServiceEntity);
     }
 
+    /**
+     * Run the order which was still queued in the deployment scheduler when xpanse stopped. The
+     * order must have been claimed with {@link ServiceOrderManager#claimQueuedOrder}.
+     *
+     * @param queuedOrder the queued order.
+     */
+    public void resumeQueuedOrder(ServiceOrderEntity queuedOrder) {
+        MDC.put(SERVICE_ID, queuedOrder.getServiceId().toString());
+        DeployServiceEntity deployServiceEntity =
+                deployServiceEntityHandler.getDeployServiceEntity(queuedOrder.getServiceId());
+        DeployTask deployTask =
+                deployServiceEntityConverter.getDeployTaskByStoredService(deployServiceEntity);
+        deployTask.setOrderId(queuedOrder.getOrderId());
+        deployTask.setTaskType(queuedOrder.getTaskType());
+        deployTask.setUserId(queuedOrder.getUserId());
+        deployTask.setNamespace(deployServiceEntity.getNamespace());
+        boolean isDeployOrder = queuedOrder.getTaskType() == ServiceOrderType.DEPLOY
+                || queuedOrder.getTaskType() == ServiceOrderType.REDEPLOY;
+        if (isDeployOrder && ServiceDeploymentState.DEPLOY_FAILED
+                == deployServiceEntity.getServiceDeploymentState()) {
+            // the rollback of the failed deployment was queued.
+            rollbackOnDeploymentFailure(deployTask, deployServiceEntity);
+            return;
+        }
+        Deployer deployer =
+                deployerKindManager.getDeployment(deployTask.getOcl().getDeployment().getKind());
+        DeployResult deployResult;
+        try {
+            deployResult = switch (queuedOrder.getTaskType()) {
+                case DEPLOY, REDEPLOY -> {
+                    deployTask.setDeploymentScenario(DeploymentScenario.DEPLOY);
+                    yield deployer.deploy(deployTask);
+                }
+                case MODIFY -> {
+                    deployTask.setDeploymentScenario(DeploymentScenario.MODIFY);
+                    yield deployer.modify(deployTask);
+                }
+                case DESTROY -> {
+                    deployTask.setDeploymentScenario(DeploymentScenario.DESTROY);
+                    yield deployer.destroy(deployTask);
+                }
+                case PURGE -> {
+                    deployTask.setDeploymentScenario(DeploymentScenario.PURGE);
+                    yield deployer.destroy(deployTask);
+                }
+            };
+        } catch (RuntimeException e) {
+            deployResult = getFailedDeployResult(deployTask, e);
+        }
+        DeployServiceEntity updatedServiceEntity =
+                deployResultManager.updateDeployServiceEntityWithDeployResult(deployResult,
+                        deployServiceEntity);
+        if (isDeployOrder && ServiceDeploymentState.DEPLOY_FAILED
+                == updatedServiceEntity.getServiceDeploymentState()) {
+            rollbackOnDeploymentFailure(deployTask, updatedServiceEntity);
+        }
+        deployResultManager.updateServiceOrderTaskWithDeployResult(deployResult, queuedOrder);
+    }
+
     /**
      * Get destroy task by stored deploy service entity.
      *
@@ -836,14 +914,12 @@ public class DeployService {
     public DeferredResult<DeploymentStatusUpdate> getLatestServiceDeploymentStatus(
             UUID serviceId, ServiceDeploymentState lastKnownDeploymentState) {
         DeferredResult<DeploymentStatusUpdate> stateDeferredResult = new DeferredResult<>();
-        taskExecutor.execute(() -> {
-            try {
-                this.serviceDeploymentStatusChangePolling.fetchServiceDeploymentStatusWithPolling(
-                        stateDeferredResult, serviceId, lastKnownDeploymentState);
-            } catch (RuntimeException exception) {
-                stateDeferredResult.setErrorResult(exception);
-            }
-        });
+        try {
+            this.serviceDeploymentStatusChangePolling.fetchServiceDeploymentStatusWithPolling(
+                    stateDeferredResult, serviceId, lastKnownDeploymentState);
+        } catch (RuntimeException exception) {
+            stateDeferredResult.setErrorResult(exception);
+        }
         return stateDeferredResult;
     }
 
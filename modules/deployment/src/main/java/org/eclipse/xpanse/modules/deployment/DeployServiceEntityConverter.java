@@ -13,8 +13,8 @@ import java.util.List;
 import java.util.Map;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
 import org.eclipse.xpanse.modules.database.serviceconfiguration.ServiceConfigurationEntity;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
+import org.eclipse.xpanse.modules.deployment.cache.CachedServiceTemplate;
+import org.eclipse.xpanse.modules.deployment.cache.ServiceTemplateCache;
 import org.eclipse.xpanse.modules.models.servicetemplate.ServiceConfigurationParameter;
 import org.eclipse.xpanse.modules.models.servicetemplate.ServiceFlavorWithPrice;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
@@ -29,7 +29,7 @@ import org.springframework.util.CollectionUtils;
 public class DeployServiceEntityConverter {
 
     @Resource
-    private ServiceTemplateStorage serviceTemplateStorage;
+    private ServiceTemplateCache serviceTemplateCache;
 
     /**
      * Method to create a DeployTask from DeployServiceEntity.
@@ -43,10 +43,10 @@ public class DeployServiceEntityConverter {
         deployTask.setServiceId(deployServiceEntity.getId());
         deployTask.setUserId(deployServiceEntity.getUserId());
         deployTask.setDeployRequest(deployServiceEntity.getDeployRequest());
-        ServiceTemplateEntity serviceTemplateEntity = serviceTemplateStorage.getServiceTemplateById(
+        CachedServiceTemplate serviceTemplate = serviceTemplateCache.getServiceTemplate(
                 deployServiceEntity.getServiceTemplateId());
-        deployTask.setOcl(serviceTemplateEntity.getOcl());
-        deployTask.setServiceTemplateId(serviceTemplateEntity.getId());
+        deployTask.setOcl(serviceTemplate.ocl());
+        deployTask.setServiceTemplateId(serviceTemplate.id());
         return deployTask;
 
     }
@@ -11,7 +11,9 @@ import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
+import org.eclipse.xpanse.modules.database.service.DeployServiceFetchPlan;
 import org.eclipse.xpanse.modules.database.service.DeployServiceStorage;
+import org.eclipse.xpanse.modules.deployment.polling.ServiceStatusChangePublisher;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.ServiceNotDeployedException;
 import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
 import org.springframework.stereotype.Component;
@@ -26,14 +28,33 @@ public class DeployServiceEntityHandler {
     @Resource
     private DeployServiceStorage deployServiceStorage;
 
+    @Resource
+    private ServiceStatusChangePublisher serviceStatusChangePublisher;
+
     /**
-     * Get deploy service entity by id.
+     * Get deploy service entity by id with all its associations loaded.
      *
      * @param id service id.
      * @return deploy service entity.
      */
     public DeployServiceEntity getDeployServiceEntity(UUID id) {
-        DeployServiceEntity deployServiceEntity = deployServiceStorage.findDeployServiceById(id);
+        return requireDeployServiceEntity(id, deployServiceStorage.findDeployServiceById(id));
+    }
+
+    /**
+     * Get deploy service entity by id with the associations of the fetch plan loaded.
+     *
+     * @param id        service id.
+     * @param fetchPlan associations to load with the service.
+     * @return deploy service entity.
+     */
+    public DeployServiceEntity getDeployServiceEntity(UUID id, DeployServiceFetchPlan fetchPlan) {
+        return requireDeployServiceEntity(id,
+                deployServiceStorage.findDeployServiceById(id, fetchPlan));
+    }
+
+    private DeployServiceEntity requireDeployServiceEntity(
+            UUID id, DeployServiceEntity deployServiceEntity) {
         if (Objects.isNull(deployServiceEntity)) {
             String errorMsg = String.format("Service with id %s not found.", id);
             log.error(errorMsg);
@@ -52,10 +73,20 @@ public class DeployServiceEntityHandler {
         return deployServiceStorage.storeAndFlush(deployServiceEntity);
     }
 
+    /**
+     * Update deployment state of the service and notify the pending status requests.
+     *
+     * @param deployService deploy service entity.
+     * @param state         new deployment state of the service.
+     * @return updated deploy service entity.
+     */
     public DeployServiceEntity updateServiceDeploymentStatus(DeployServiceEntity deployService,
                                                              ServiceDeploymentState state) {
         deployService.setServiceDeploymentState(state);
-        return deployServiceStorage.storeAndFlush(deployService);
+        DeployServiceEntity updatedEntity = deployServiceStorage.storeAndFlush(deployService);
+        serviceStatusChangePublisher.publishServiceDeploymentStatusChange(
+                deployService.getId(), state);
+        return updatedEntity;
     }
 
 
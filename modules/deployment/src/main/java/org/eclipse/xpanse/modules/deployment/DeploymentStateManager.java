@@ -0,0 +1,212 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment;
+
+import static org.eclipse.xpanse.modules.deployment.deployers.terraform.utils.TfResourceTransUtils.STATE_FILE_NAME;
+
+import jakarta.annotation.Resource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.database.deploymentstate.DeploymentStateEntity;
+import org.eclipse.xpanse.modules.database.deploymentstate.DeploymentStateStorage;
+import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
+import org.eclipse.xpanse.modules.models.service.deploy.exceptions.ServiceNotDeployedException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Bean to manage the versioned state of the deployed resources of the services. The state is
+ * stored compressed in its own table and is loaded only by the deployers which need it. Each
+ * order which changes the state adds a new version, so that the history of the state is kept.
+ *
+ * <p>Services deployed before the state store existed still have the state in the private
+ * properties. It is used as long as no version is stored for the service.</p>
+ */
+@Slf4j
+@Component
+public class DeploymentStateManager {
+
+    @Resource
+    private DeploymentStateStorage deploymentStateStorage;
+
+    /**
+     * Store the state returned by the deployer as a new version of the state of the service.
+     * Nothing is stored if the state is unchanged since the latest version.
+     *
+     * @param serviceId    id of the service.
+     * @param orderId      id of the order which produced the state.
+     * @param stateContent content of the state.
+     */
+    public void storeState(UUID serviceId, UUID orderId, String stateContent) {
+        if (StringUtils.isEmpty(stateContent)) {
+            return;
+        }
+        MessageDigest messageDigest = getMessageDigest();
+        ByteArrayOutputStream compressedContent = new ByteArrayOutputStream();
+        long contentSize;
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressedContent);
+                CountingOutputStream countingOutputStream = new CountingOutputStream(
+                        new DigestOutputStream(gzipOutputStream, messageDigest));
+                Writer writer = new OutputStreamWriter(countingOutputStream,
+                        StandardCharsets.UTF_8)) {
+            // the writer encodes in chunks, no byte copy of the whole state is created.
+            writer.write(stateContent);
+            writer.flush();
+            contentSize = countingOutputStream.count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String contentHash = HexFormat.of().formatHex(messageDigest.digest());
+        DeploymentStateEntity latestState = deploymentStateStorage.findLatestState(serviceId);
+        if (Objects.nonNull(latestState)
+                && Objects.equals(latestState.getContentHash(), contentHash)) {
+            log.info("State of service {} unchanged by order {}.", serviceId, orderId);
+            return;
+        }
+        DeploymentStateEntity newState = new DeploymentStateEntity();
+        newState.setServiceId(serviceId);
+        newState.setOrderId(orderId);
+        newState.setStateVersion(
+                Objects.isNull(latestState) ? 1 : latestState.getStateVersion() + 1);
+        newState.setContentHash(contentHash);
+        newState.setContentSize(contentSize);
+        newState.setCompressedContent(compressedContent.toByteArray());
+        deploymentStateStorage.storeAndFlush(newState);
+        log.info("Stored version {} of the state of service {} with order {}. "
+                        + "Size {} bytes, compressed {} bytes.", newState.getStateVersion(),
+                serviceId, orderId, contentSize, newState.getCompressedContent().length);
+    }
+
+    /**
+     * Write the latest state of the service to the file in the workspace.
+     *
+     * @param deployServiceEntity deployed service.
+     * @param targetFile          state file in the workspace.
+     * @return true if a state was written, false if no state is stored for the service.
+     * @throws IOException if the file could not be written.
+     */
+    public boolean writeLatestState(DeployServiceEntity deployServiceEntity, Path targetFile)
+            throws IOException {
+        DeploymentStateEntity latestState =
+                deploymentStateStorage.findLatestState(deployServiceEntity.getId());
+        if (Objects.nonNull(latestState)) {
+            try (InputStream inputStream = decompress(latestState)) {
+                Files.copy(inputStream, targetFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        }
+        String legacyState = getLegacyState(deployServiceEntity);
+        if (StringUtils.isEmpty(legacyState)) {
+            return false;
+        }
+        Files.writeString(targetFile, legacyState, StandardCharsets.UTF_8);
+        return true;
+    }
+
+    /**
+     * Get the content of the latest state of the service. Used by the deployers which send the
+     * state to a remote executor.
+     *
+     * @param deployServiceEntity deployed service.
+     * @return content of the latest state.
+     * @throws ServiceNotDeployedException if no state is stored for the service.
+     */
+    public String getLatestStateContent(DeployServiceEntity deployServiceEntity) {
+        if (Objects.nonNull(deployServiceEntity)) {
+            DeploymentStateEntity latestState =
+                    deploymentStateStorage.findLatestState(deployServiceEntity.getId());
+            if (Objects.nonNull(latestState)) {
+                try (InputStream inputStream = decompress(latestState)) {
+                    return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            String legacyState = getLegacyState(deployServiceEntity);
+            if (StringUtils.isNotEmpty(legacyState)) {
+                return legacyState;
+            }
+        }
+        throw new ServiceNotDeployedException(
+                "Can't find valid state context in stored deployed service.");
+    }
+
+    /**
+     * Delete all versions of the state of the service.
+     *
+     * @param serviceId id of the service.
+     */
+    public void deleteStates(UUID serviceId) {
+        deploymentStateStorage.deleteStatesOfService(serviceId);
+    }
+
+    private InputStream decompress(DeploymentStateEntity deploymentStateEntity)
+            throws IOException {
+        return new GZIPInputStream(
+                new ByteArrayInputStream(deploymentStateEntity.getCompressedContent()));
+    }
+
+    private String getLegacyState(DeployServiceEntity deployServiceEntity) {
+        Map<String, String> privateProperties = deployServiceEntity.getPrivateProperties();
+        return CollectionUtils.isEmpty(privateProperties)
+                ? null : privateProperties.get(STATE_FILE_NAME);
+    }
+
+    private MessageDigest getMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Counts the bytes of the uncompressed state.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            count += length;
+        }
+    }
+}
@@ -14,8 +14,7 @@ import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.xpanse.modules.database.servicetemplate.DatabaseServiceTemplateStorage;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.deployment.cache.ServiceTemplateCache;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.policy.exceptions.PoliciesEvaluationFailedException;
 import org.eclipse.xpanse.modules.models.policy.servicepolicy.ServicePolicy;
@@ -23,7 +22,6 @@ import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicy;
 import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicyQueryRequest;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
 import org.eclipse.xpanse.modules.policy.PolicyManager;
-import org.eclipse.xpanse.modules.policy.ServicePolicyManager;
 import org.eclipse.xpanse.modules.policy.UserPolicyManager;
 import org.eclipse.xpanse.modules.policy.policyman.generated.model.EvalResult;
 import org.springframework.stereotype.Component;
@@ -41,25 +39,13 @@ public class PolicyValidator {
     @Resource
     private UserPolicyManager userPolicyManager;
     @Resource
-    private ServicePolicyManager servicePolicyManager;
-    @Resource
-    private DatabaseServiceTemplateStorage serviceTemplateStorage;
+    private ServiceTemplateCache serviceTemplateCache;
     @Resource
     private DeployerKindManager deployerKindManager;
 
     private List<ServicePolicy> getServicePolicies(UUID serviceTemplateId) {
-        ServiceTemplateEntity existedServiceTemplate =
-                serviceTemplateStorage.getServiceTemplateById(serviceTemplateId);
-        if (Objects.nonNull(existedServiceTemplate) && Objects.nonNull(
-                existedServiceTemplate.getServicePolicyList())) {
-            return existedServiceTemplate.getServicePolicyList().stream()
-                    .filter(servicePolicyEntity -> servicePolicyEntity.getEnabled()
-                            && StringUtils.isNotBlank(servicePolicyEntity.getPolicy()))
-                    .map(servicePolicyEntity ->
-                            servicePolicyManager.conventToServicePolicy(servicePolicyEntity))
-                    .toList();
-        }
-        return Collections.emptyList();
+        return serviceTemplateCache.getServiceTemplate(serviceTemplateId)
+                .enabledServicePolicies();
     }
 
     private List<UserPolicy> getUserPolicies(DeployTask deployTask) {
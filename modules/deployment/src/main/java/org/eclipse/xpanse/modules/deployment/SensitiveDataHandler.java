@@ -7,14 +7,13 @@
 package org.eclipse.xpanse.modules.deployment;
 
 import jakarta.annotation.Resource;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
-import org.eclipse.xpanse.modules.models.servicetemplate.DeployVariable;
-import org.eclipse.xpanse.modules.models.servicetemplate.enums.SensitiveScope;
+import org.eclipse.xpanse.modules.deployment.cache.CachedServiceTemplate;
+import org.eclipse.xpanse.modules.deployment.cache.ServiceTemplateCache;
 import org.eclipse.xpanse.modules.security.common.AesUtil;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -30,7 +29,7 @@ public class SensitiveDataHandler {
     private AesUtil aesUtil;
 
     @Resource
-    private ServiceTemplateStorage serviceTemplateStorage;
+    private ServiceTemplateCache serviceTemplateCache;
 
     /**
      * Method to mask all sensitive data after deployment is completed.
@@ -39,19 +38,14 @@ public class SensitiveDataHandler {
      */
     public void maskSensitiveFields(DeployServiceEntity deployServiceEntity) {
         log.debug("masking sensitive input data after deployment");
-        if (Objects.nonNull(deployServiceEntity.getDeployRequest().getServiceRequestProperties())) {
-            ServiceTemplateEntity serviceTemplateEntity =
-                    serviceTemplateStorage.getServiceTemplateById(
-                            deployServiceEntity.getServiceTemplateId());
-            for (DeployVariable deployVariable
-                    : serviceTemplateEntity.getOcl().getDeployment()
-                    .getVariables()) {
-                if (deployVariable.getSensitiveScope() != SensitiveScope.NONE
-                        && (deployServiceEntity.getDeployRequest().getServiceRequestProperties()
-                        .containsKey(deployVariable.getName()))) {
-                    deployServiceEntity.getDeployRequest().getServiceRequestProperties()
-                            .put(deployVariable.getName(), "********");
-
+        Map<String, Object> serviceRequestProperties =
+                deployServiceEntity.getDeployRequest().getServiceRequestProperties();
+        if (Objects.nonNull(serviceRequestProperties)) {
+            CachedServiceTemplate serviceTemplate = serviceTemplateCache.getServiceTemplate(
+                    deployServiceEntity.getServiceTemplateId());
+            for (String variableName : serviceTemplate.sensitiveVariableNames()) {
+                if (serviceRequestProperties.containsKey(variableName)) {
+                    serviceRequestProperties.put(variableName, "********");
                 }
             }
         }
@@ -63,22 +57,21 @@ public class SensitiveDataHandler {
      * @param serviceTemplate service template of the deployment request.
      * @param serviceRequestProperties request properties sent by customer.
      */
-    public void encodeDeployVariable(ServiceTemplateEntity serviceTemplate,
-                                      Map<String, Object> serviceRequestProperties) {
-        if (Objects.isNull(serviceTemplate.getOcl().getDeployment())
-                ||
-                CollectionUtils.isEmpty(serviceTemplate.getOcl().getDeployment().getVariables())
+    public void encodeDeployVariable(CachedServiceTemplate serviceTemplate,
+                                     Map<String, Object> serviceRequestProperties) {
+        if (CollectionUtils.isEmpty(serviceTemplate.sensitiveVariableNames())
                 || Objects.isNull(serviceRequestProperties)) {
             return;
         }
-        serviceTemplate.getOcl().getDeployment().getVariables().forEach(variable -> {
-            if (Objects.nonNull(variable) && !SensitiveScope.NONE.toValue()
-                    .equals(variable.getSensitiveScope().toValue())
-                    && serviceRequestProperties.containsKey(variable.getName())) {
-                serviceRequestProperties.put(variable.getName(),
-                        aesUtil.encode(
-                                serviceRequestProperties.get(variable.getName()).toString()));
+        Map<String, String> sensitiveProperties = new HashMap<>();
+        serviceTemplate.sensitiveVariableNames().forEach(variableName -> {
+            if (serviceRequestProperties.containsKey(variableName)) {
+                sensitiveProperties.put(variableName,
+                        serviceRequestProperties.get(variableName).toString());
             }
         });
+        if (!sensitiveProperties.isEmpty()) {
+            serviceRequestProperties.putAll(aesUtil.encode(sensitiveProperties));
+        }
     }
 }
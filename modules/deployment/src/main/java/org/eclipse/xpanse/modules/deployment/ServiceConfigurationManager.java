@@ -15,8 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
 import org.eclipse.xpanse.modules.database.serviceconfiguration.update.ServiceConfigurationUpdateRequest;
 import org.eclipse.xpanse.modules.database.serviceconfiguration.update.ServiceConfigurationUpdateStorage;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
+import org.eclipse.xpanse.modules.deployment.cache.CachedServiceTemplate;
+import org.eclipse.xpanse.modules.deployment.cache.ServiceTemplateCache;
 import org.eclipse.xpanse.modules.logging.CustomRequestIdGenerator;
 import org.eclipse.xpanse.modules.models.service.order.ServiceOrder;
 import org.eclipse.xpanse.modules.models.service.utils.ServiceConfigurationVariablesJsonSchemaGenerator;
@@ -25,7 +25,6 @@ import org.eclipse.xpanse.modules.models.serviceconfiguration.ServiceConfigurati
 import org.eclipse.xpanse.modules.models.serviceconfiguration.enums.ServiceConfigurationStatus;
 import org.eclipse.xpanse.modules.models.serviceconfiguration.exceptions.ServiceConfigurationInvalidException;
 import org.eclipse.xpanse.modules.models.servicetemplate.ServiceConfigurationParameter;
-import org.eclipse.xpanse.modules.models.servicetemplate.utils.JsonObjectSchema;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
@@ -43,7 +42,7 @@ public class ServiceConfigurationManager {
     private ServiceConfigurationUpdateStorage serviceConfigurationUpdateStorage;
 
     @Resource
-    private ServiceTemplateStorage serviceTemplateStorage;
+    private ServiceTemplateCache serviceTemplateCache;
 
     @Resource
     private ServiceConfigurationVariablesJsonSchemaValidator
@@ -99,17 +98,16 @@ public class ServiceConfigurationManager {
         if (CollectionUtils.isEmpty(serviceConfigurationUpdate.getConfiguration())) {
             throw new IllegalArgumentException("Parameter ServiceConfigurationUpdate is empty");
         }
-        ServiceTemplateEntity serviceTemplateEntity = serviceTemplateStorage.getServiceTemplateById(
+        CachedServiceTemplate serviceTemplate = serviceTemplateCache.getServiceTemplate(
                 deployServiceEntity.getServiceTemplateId());
 
         List<ServiceConfigurationParameter> configurationParameters =
-                serviceTemplateEntity.getOcl().getConfigurationParameters();
-
-        JsonObjectSchema jsonObjectSchema = serviceConfigurationVariablesJsonSchemaGenerator
-                .buildServiceConfigurationJsonSchema(configurationParameters);
+                serviceTemplate.ocl().getConfigurationParameters();
 
         serviceConfigurationVariablesJsonSchemaValidator.validateServiceConfiguration(
+                serviceTemplate.id(), serviceTemplate.version(),
                 configurationParameters, serviceConfigurationUpdate.getConfiguration(),
-                jsonObjectSchema);
+                () -> serviceConfigurationVariablesJsonSchemaGenerator
+                        .buildServiceConfigurationJsonSchema(configurationParameters));
     }
 }
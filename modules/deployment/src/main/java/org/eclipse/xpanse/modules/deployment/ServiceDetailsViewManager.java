@@ -9,18 +9,24 @@ package org.eclipse.xpanse.modules.deployment;
 import jakarta.annotation.Resource;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
+import org.eclipse.xpanse.modules.database.service.DeployServiceFetchPlan;
 import org.eclipse.xpanse.modules.database.service.DeployServiceStorage;
 import org.eclipse.xpanse.modules.database.service.ServiceQueryModel;
 import org.eclipse.xpanse.modules.database.utils.EntityTransUtils;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.ServiceDetailsNotAccessible;
 import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.eclipse.xpanse.modules.models.service.order.ServiceOrderDetails;
+import org.eclipse.xpanse.modules.models.service.statemanagement.ServiceStateManagementTaskDetails;
 import org.eclipse.xpanse.modules.models.service.view.DeployedService;
 import org.eclipse.xpanse.modules.models.service.view.DeployedServiceDetails;
 import org.eclipse.xpanse.modules.models.service.view.VendorHostedDeployedServiceDetails;
@@ -28,7 +34,6 @@ import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceHostingTyp
 import org.eclipse.xpanse.modules.security.UserServiceHelper;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
-import org.springframework.util.CollectionUtils;
 
 /**
  * Bean to manage all methods used for viewing deployed service details.
@@ -37,6 +42,8 @@ import org.springframework.util.CollectionUtils;
 @Component
 public class ServiceDetailsViewManager {
 
+    private static final int DETAILS_BATCH_SIZE = 500;
+
     @Resource
     private DeployServiceEntityHandler deployServiceEntityHandler;
     @Resource
@@ -56,7 +63,8 @@ public class ServiceDetailsViewManager {
      */
     public DeployedServiceDetails getServiceDetailsByIdForIsv(UUID id) {
         DeployServiceEntity deployServiceEntity =
-                deployServiceEntityHandler.getDeployServiceEntity(id);
+                deployServiceEntityHandler.getDeployServiceEntity(id,
+                        DeployServiceFetchPlan.DETAILS);
         ServiceHostingType serviceHostingType =
                 deployServiceEntity.getDeployRequest().getServiceHostingType();
         if (ServiceHostingType.SERVICE_VENDOR != serviceHostingType) {
@@ -81,49 +89,63 @@ public class ServiceDetailsViewManager {
      * @param serviceName    of the services to be filtered.
      * @param serviceVersion of the services to be filtered.
      * @param state          of the services to be filtered.
-     * @return serviceVos
+     * @param pageRequest    requested page, null for all services.
+     * @return page of serviceVos
      */
-    public List<DeployedService> listDeployedServices(Category category, Csp csp,
-                                                      String serviceName, String serviceVersion,
-                                                      ServiceDeploymentState state) {
+    public KeysetPage<DeployedService> listDeployedServices(Category category, Csp csp,
+                                                            String serviceName,
+                                                            String serviceVersion,
+                                                            ServiceDeploymentState state,
+                                                            KeysetPageRequest pageRequest) {
         ServiceQueryModel query =
                 getServiceQueryModel(category, csp, serviceName, serviceVersion, state);
         String currentUserId = userServiceHelper.getCurrentUserId();
         query.setUserId(currentUserId);
-        return deployServiceStorage.listServices(query).stream()
-                .map(EntityTransUtils::convertToDeployedService).toList();
+        return deployServiceStorage.listServices(query, pageRequest)
+                .map(EntityTransUtils::convertToDeployedService);
     }
 
     /**
-     * List all deployed services details.
+     * List all deployed services details. The services, their resources and properties and
+     * the latest tasks and orders are loaded in batches instead of one by one per service.
      *
      * @param category       of the services to be filtered.
      * @param csp            of the services to be filtered.
      * @param serviceName    of the services to be filtered.
      * @param serviceVersion of the services to be filtered.
-     * @return serviceVos
+     * @param serviceState   of the services to be filtered.
+     * @param pageRequest    requested page, null for all services.
+     * @return page of serviceVos
      */
-    public List<DeployedService> listDeployedServicesDetails(Category category, Csp csp,
-                                                             String serviceName,
-                                                             String serviceVersion,
-                                                             ServiceDeploymentState serviceState) {
-        List<DeployedService> servicesDetails = new ArrayList<>();
-        List<DeployedService> services =
-                listDeployedServices(category, csp, serviceName, serviceVersion, serviceState);
-        if (!CollectionUtils.isEmpty(services)) {
-            for (DeployedService deployService : services) {
-                if (deployService.getServiceHostingType() == ServiceHostingType.SERVICE_VENDOR) {
-                    servicesDetails.add(
-                            getVendorHostedServiceDetailsByIdForEndUser(
-                                    deployService.getServiceId()));
-                } else {
-                    servicesDetails.add(
-                            getSelfHostedServiceDetailsByIdForEndUser(
-                                    deployService.getServiceId()));
-                }
+    public KeysetPage<DeployedService> listDeployedServicesDetails(
+            Category category, Csp csp, String serviceName, String serviceVersion,
+            ServiceDeploymentState serviceState, KeysetPageRequest pageRequest) {
+        ServiceQueryModel query =
+                getServiceQueryModel(category, csp, serviceName, serviceVersion, serviceState);
+        query.setUserId(userServiceHelper.getCurrentUserId());
+        KeysetPage<DeployServiceEntity> servicesPage =
+                deployServiceStorage.listServicesWithDetails(query, pageRequest);
+        List<DeployServiceEntity> services = servicesPage.items();
+        List<DeployedService> servicesDetails = new ArrayList<>(services.size());
+        for (int i = 0; i < services.size(); i += DETAILS_BATCH_SIZE) {
+            List<DeployServiceEntity> batch =
+                    services.subList(i, Math.min(i + DETAILS_BATCH_SIZE, services.size()));
+            List<UUID> serviceIds = batch.stream().map(DeployServiceEntity::getId).toList();
+            Map<UUID, ServiceStateManagementTaskDetails> latestTasks =
+                    serviceStateManager.getLatestRunningManagementTasks(serviceIds);
+            Map<UUID, ServiceOrderDetails> latestOrders =
+                    serviceOrderManager.getLatestModificationOrders(serviceIds);
+            for (DeployServiceEntity service : batch) {
+                DeployedService details = service.getDeployRequest().getServiceHostingType()
+                        == ServiceHostingType.SERVICE_VENDOR
+                        ? EntityTransUtils.transToVendorHostedServiceDetails(service)
+                        : EntityTransUtils.transToDeployedServiceDetails(service);
+                details.setLatestRunningManagementTask(latestTasks.get(service.getId()));
+                details.setLatestModificationAudit(latestOrders.get(service.getId()));
+                servicesDetails.add(details);
             }
         }
-        return servicesDetails;
+        return new KeysetPage<>(servicesDetails, servicesPage.nextCursor());
     }
 
     /**
@@ -134,7 +156,8 @@ public class ServiceDetailsViewManager {
      */
     public DeployedServiceDetails getSelfHostedServiceDetailsByIdForEndUser(UUID id) {
         DeployServiceEntity deployServiceEntity =
-                deployServiceEntityHandler.getDeployServiceEntity(id);
+                deployServiceEntityHandler.getDeployServiceEntity(id,
+                        DeployServiceFetchPlan.DETAILS);
         boolean currentUserIsOwner =
                 userServiceHelper.currentUserIsOwner(deployServiceEntity.getUserId());
         if (!currentUserIsOwner) {
@@ -166,7 +189,8 @@ public class ServiceDetailsViewManager {
      */
     public VendorHostedDeployedServiceDetails getVendorHostedServiceDetailsByIdForEndUser(UUID id) {
         DeployServiceEntity deployServiceEntity =
-                deployServiceEntityHandler.getDeployServiceEntity(id);
+                deployServiceEntityHandler.getDeployServiceEntity(id,
+                        DeployServiceFetchPlan.DETAILS);
         boolean currentUserIsOwner =
                 userServiceHelper.currentUserIsOwner(deployServiceEntity.getUserId());
         if (!currentUserIsOwner) {
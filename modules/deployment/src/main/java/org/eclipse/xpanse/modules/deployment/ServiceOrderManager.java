@@ -10,11 +10,12 @@ import static org.eclipse.xpanse.modules.security.common.RoleConstants.ROLE_ADMI
 
 import jakarta.annotation.Resource;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
 import org.eclipse.xpanse.modules.database.service.DeployServiceStorage;
@@ -22,6 +23,10 @@ import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
 import org.eclipse.xpanse.modules.database.utils.EntityTransUtils;
 import org.eclipse.xpanse.modules.deployment.polling.ServiceOrderStatusChangePolling;
+import org.eclipse.xpanse.modules.deployment.polling.ServiceStatusChangePublisher;
+import org.eclipse.xpanse.modules.deployment.utils.ServiceOrderOutputTails;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.ServiceNotDeployedException;
 import org.eclipse.xpanse.modules.models.service.enums.TaskStatus;
 import org.eclipse.xpanse.modules.models.service.order.ServiceOrderDetails;
@@ -50,7 +55,9 @@ public class ServiceOrderManager {
     @Resource
     private ServiceOrderStatusChangePolling serviceOrderStatusChangePolling;
     @Resource
-    private Executor taskExecutor;
+    private ServiceStatusChangePublisher serviceStatusChangePublisher;
+    @Resource
+    private ServiceOrderOutputTails serviceOrderOutputTails;
 
     /**
      * Create service order task.
@@ -91,18 +98,80 @@ public class ServiceOrderManager {
         orderTask.setTaskStatus(TaskStatus.IN_PROGRESS);
         orderTask.setStartedTime(OffsetDateTime.now());
         serviceOrderStorage.storeAndFlush(orderTask);
+        serviceStatusChangePublisher.publishServiceOrderStatusChange(
+                orderId, TaskStatus.IN_PROGRESS, orderTask.getErrorMsg());
+    }
+
+    /**
+     * Mark the order as queued until the deployment scheduler has a free slot to run it.
+     *
+     * @param orderId id of the order
+     */
+    public void queueOrder(UUID orderId) {
+        ServiceOrderEntity orderTask = serviceOrderStorage.getEntityById(orderId);
+        orderTask.setTaskStatus(TaskStatus.QUEUED);
+        serviceOrderStorage.storeAndFlush(orderTask);
+        serviceStatusChangePublisher.publishServiceOrderStatusChange(
+                orderId, TaskStatus.QUEUED, orderTask.getErrorMsg());
+    }
+
+    /**
+     * Mark the order as failed.
+     *
+     * @param orderId  id of the order
+     * @param errorMsg error message of the order
+     */
+    public void failOrder(UUID orderId, String errorMsg) {
+        ServiceOrderEntity orderTask = serviceOrderStorage.getEntityById(orderId);
+        orderTask.setTaskStatus(TaskStatus.FAILED);
+        orderTask.setErrorMsg(errorMsg);
+        orderTask.setCompletedTime(OffsetDateTime.now());
+        serviceOrderStorage.storeAndFlush(orderTask);
+        serviceStatusChangePublisher.publishServiceOrderStatusChange(
+                orderId, TaskStatus.FAILED, errorMsg);
+    }
+
+    /**
+     * Claim the queued order to resume it, so that it is resumed only once when several
+     * instances share the database. The claimed order is in progress.
+     *
+     * @param queuedOrder the order listed as queued.
+     * @return true if the order is claimed, false if it has been claimed or changed before.
+     */
+    public boolean claimQueuedOrder(ServiceOrderEntity queuedOrder) {
+        if (!serviceOrderStorage.claimQueuedEntity(queuedOrder.getOrderId(),
+                queuedOrder.getStartedTime())) {
+            return false;
+        }
+        serviceStatusChangePublisher.publishServiceOrderStatusChange(
+                queuedOrder.getOrderId(), TaskStatus.IN_PROGRESS, queuedOrder.getErrorMsg());
+        return true;
+    }
+
+    /**
+     * List the orders which are still queued in the deployment scheduler.
+     *
+     * @return queued orders.
+     */
+    public List<ServiceOrderEntity> listQueuedOrders() {
+        ServiceOrderEntity query = new ServiceOrderEntity();
+        query.setTaskStatus(TaskStatus.QUEUED);
+        return serviceOrderStorage.queryEntities(query);
     }
 
 
     /**
      * List the service orders.
      *
-     * @param serviceId  service id.
-     * @param taskStatus order status.
-     * @return list of service orders.
+     * @param serviceId   service id.
+     * @param taskType    order type.
+     * @param taskStatus  order status.
+     * @param pageRequest requested page, null for all orders.
+     * @return page of service orders.
      */
-    public List<ServiceOrderDetails> listServiceOrders(
-            UUID serviceId, ServiceOrderType taskType, TaskStatus taskStatus) {
+    public KeysetPage<ServiceOrderDetails> listServiceOrders(
+            UUID serviceId, ServiceOrderType taskType, TaskStatus taskStatus,
+            KeysetPageRequest pageRequest) {
         validateDeployService(serviceId);
         ServiceOrderEntity query = new ServiceOrderEntity();
         query.setServiceId(serviceId);
@@ -111,10 +180,8 @@ public class ServiceOrderManager {
         if (!userServiceHelper.currentUserHasRole(ROLE_ADMIN)) {
             query.setUserId(userServiceHelper.getCurrentUserId());
         }
-        List<ServiceOrderEntity> orderEntities = serviceOrderStorage.queryEntities(query);
-        return orderEntities.stream()
-                .map(EntityTransUtils::transToServiceOrderDetails)
-                .toList();
+        return serviceOrderStorage.queryEntities(query, pageRequest)
+                .map(EntityTransUtils::transToServiceOrderDetails);
     }
 
 
@@ -128,14 +195,12 @@ public class ServiceOrderManager {
     public DeferredResult<ServiceOrderStatusUpdate> getLatestServiceOrderStatus(
             UUID orderId, TaskStatus lastKnownTaskStatus) {
         DeferredResult<ServiceOrderStatusUpdate> stateDeferredResult = new DeferredResult<>();
-        taskExecutor.execute(() -> {
-            try {
-                this.serviceOrderStatusChangePolling.fetchServiceOrderTaskStatusWithPolling(
-                        stateDeferredResult, orderId, lastKnownTaskStatus);
-            } catch (Exception exception) {
-                stateDeferredResult.setErrorResult(exception);
-            }
-        });
+        try {
+            this.serviceOrderStatusChangePolling.fetchServiceOrderTaskStatusWithPolling(
+                    stateDeferredResult, orderId, lastKnownTaskStatus);
+        } catch (Exception exception) {
+            stateDeferredResult.setErrorResult(exception);
+        }
         return stateDeferredResult;
 
     }
@@ -169,6 +234,18 @@ public class ServiceOrderManager {
         return EntityTransUtils.transToServiceOrderDetails(orderEntity);
     }
 
+    /**
+     * Get the latest output lines of the commands run for the service order.
+     *
+     * @param orderId order id.
+     * @return latest output lines, empty if no output of the order is kept.
+     */
+    public List<String> getOrderOutputTail(UUID orderId) {
+        // fails when the order does not exist or belongs to another user.
+        getServiceOrderEntity(orderId);
+        return serviceOrderOutputTails.getOutputTail(orderId);
+    }
+
     /**
      * Get the latest service order with the service id.
      *
@@ -187,6 +264,21 @@ public class ServiceOrderManager {
         return null;
     }
 
+    /**
+     * Get the latest modification orders of the services.
+     *
+     * @param serviceIds ids of the services.
+     * @return latest modification order details by service id.
+     */
+    public Map<UUID, ServiceOrderDetails> getLatestModificationOrders(
+            Collection<UUID> serviceIds) {
+        Map<UUID, ServiceOrderDetails> latestOrders = new HashMap<>();
+        serviceOrderStorage.queryLatestEntitiesOfServices(serviceIds, ServiceOrderType.MODIFY)
+                .forEach(order -> latestOrders.putIfAbsent(order.getServiceId(),
+                        EntityTransUtils.transToServiceOrderDetails(order)));
+        return latestOrders;
+    }
+
     /**
      * Delete the service order with the order id.
      *
@@ -10,18 +10,24 @@ import static org.eclipse.xpanse.modules.security.common.RoleConstants.ROLE_ADMI
 
 import jakarta.annotation.Resource;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.Executor;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.resource.DeployResourceEntity;
 import org.eclipse.xpanse.modules.database.service.DatabaseDeployServiceStorage;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
+import org.eclipse.xpanse.modules.database.service.DeployServiceFetchPlan;
 import org.eclipse.xpanse.modules.database.servicestatemanagement.DatabaseServiceStateManagementTaskStorage;
 import org.eclipse.xpanse.modules.database.servicestatemanagement.ServiceStateManagementTaskEntity;
 import org.eclipse.xpanse.modules.database.utils.EntityTransUtils;
+import org.eclipse.xpanse.modules.deployment.scheduler.DeploymentScheduler;
+import org.eclipse.xpanse.modules.deployment.scheduler.WorkloadType;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.InvalidServiceStateException;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.ServiceNotDeployedException;
 import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
@@ -35,7 +41,6 @@ import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
 import org.eclipse.xpanse.modules.orchestrator.PluginManager;
 import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageRequest;
 import org.eclipse.xpanse.modules.security.UserServiceHelper;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -57,9 +62,8 @@ public class ServiceStateManager {
     private DatabaseServiceStateManagementTaskStorage taskStorage;
     @Resource
     private DatabaseDeployServiceStorage deployServiceStorage;
-    @Qualifier("xpanseAsyncTaskExecutor")
     @Resource
-    private Executor taskExecutor;
+    private DeploymentScheduler deploymentScheduler;
 
     /**
      * Start the service by the deployed service id.
@@ -72,15 +76,40 @@ public class ServiceStateManager {
         DeployServiceEntity service = getDeployedServiceAndValidateState(id, taskType);
         OrchestratorPlugin plugin = pluginManager.getOrchestratorPlugin(service.getCsp());
         ServiceStateManageRequest startRequest = getServiceManagerRequest(service);
-        ServiceStateManagementTaskEntity newTask = createNewManagementTask(id, taskType);
-        taskExecutor.execute(() -> asyncStartService(newTask, plugin, startRequest, service));
-        return newTask.getTaskId();
+        return submitNewManagementTask(id, taskType, service,
+                newTask -> () -> asyncStartService(newTask, plugin, startRequest, service));
+    }
+
+    /**
+     * Create the task once the deployment scheduler admits it and submit it to the scheduler.
+     *
+     * @param serviceId id of the service.
+     * @param taskType  type of the task.
+     * @param service   the service.
+     * @param task      creates the runnable of the new task.
+     * @return id of the new task.
+     */
+    private UUID submitNewManagementTask(
+            UUID serviceId, ServiceStateManagementTaskType taskType, DeployServiceEntity service,
+            Function<ServiceStateManagementTaskEntity, Runnable> task) {
+        UUID taskId = UUID.randomUUID();
+        deploymentScheduler.admit(WorkloadType.SERVICE_STATE_MANAGEMENT, taskId,
+                service.getCsp(), service.getUserId());
+        try {
+            ServiceStateManagementTaskEntity newTask =
+                    createNewManagementTask(taskId, serviceId, taskType);
+            deploymentScheduler.submitStateManagementTask(newTask, service.getCsp(),
+                    service.getUserId(), task.apply(newTask));
+            return newTask.getTaskId();
+        } finally {
+            deploymentScheduler.cancelAdmission(taskId);
+        }
     }
 
     private ServiceStateManagementTaskEntity createNewManagementTask(
-            UUID serviceId, ServiceStateManagementTaskType taskType) {
+            UUID taskId, UUID serviceId, ServiceStateManagementTaskType taskType) {
         ServiceStateManagementTaskEntity newTask = new ServiceStateManagementTaskEntity();
-        newTask.setTaskId(UUID.randomUUID());
+        newTask.setTaskId(taskId);
         newTask.setTaskType(taskType);
         newTask.setServiceId(serviceId);
         newTask.setTaskStatus(TaskStatus.CREATED);
@@ -125,9 +154,8 @@ public class ServiceStateManager {
         DeployServiceEntity service = getDeployedServiceAndValidateState(id, taskType);
         OrchestratorPlugin plugin = pluginManager.getOrchestratorPlugin(service.getCsp());
         ServiceStateManageRequest stopRequest = getServiceManagerRequest(service);
-        ServiceStateManagementTaskEntity newTask = createNewManagementTask(id, taskType);
-        taskExecutor.execute(() -> asyncStopService(newTask, plugin, stopRequest, service));
-        return newTask.getTaskId();
+        return submitNewManagementTask(id, taskType, service,
+                newTask -> () -> asyncStopService(newTask, plugin, stopRequest, service));
     }
 
     private void asyncStopService(ServiceStateManagementTaskEntity taskEntity,
@@ -168,9 +196,8 @@ public class ServiceStateManager {
         DeployServiceEntity service = getDeployedServiceAndValidateState(id, taskType);
         OrchestratorPlugin plugin = pluginManager.getOrchestratorPlugin(service.getCsp());
         ServiceStateManageRequest restartRequest = getServiceManagerRequest(service);
-        ServiceStateManagementTaskEntity newTask = createNewManagementTask(id, taskType);
-        taskExecutor.execute(() -> asyncRestartService(newTask, plugin, restartRequest, service));
-        return newTask.getTaskId();
+        return submitNewManagementTask(id, taskType, service,
+                newTask -> () -> asyncRestartService(newTask, plugin, restartRequest, service));
     }
 
     private void asyncRestartService(ServiceStateManagementTaskEntity taskEntity,
@@ -201,6 +228,49 @@ public class ServiceStateManager {
     }
 
 
+    /**
+     * Submit the service state management tasks which were still queued when xpanse stopped to
+     * the deployment scheduler again.
+     */
+    public void resumeQueuedManagementTasks() {
+        ServiceStateManagementTaskEntity taskQuery = new ServiceStateManagementTaskEntity();
+        taskQuery.setTaskStatus(TaskStatus.QUEUED);
+        for (ServiceStateManagementTaskEntity queuedTask : taskStorage.queryTasks(taskQuery)) {
+            // another instance sharing the database may resume the same tasks.
+            if (!taskStorage.claimQueuedTask(queuedTask.getTaskId(),
+                    queuedTask.getStartedTime())) {
+                log.info("Queued service state management task {} already resumed.",
+                        queuedTask.getTaskId());
+                continue;
+            }
+            // the claimed task is stored with a new status and started time.
+            ServiceStateManagementTaskEntity task = taskStorage.getTaskById(queuedTask.getTaskId());
+            try {
+                DeployServiceEntity service =
+                        serviceHandler.getDeployServiceEntity(task.getServiceId(),
+                                DeployServiceFetchPlan.STATE_MANAGEMENT);
+                OrchestratorPlugin plugin = pluginManager.getOrchestratorPlugin(service.getCsp());
+                ServiceStateManageRequest request = getServiceManagerRequest(service);
+                Runnable resumedTask = switch (task.getTaskType()) {
+                    case START -> () -> asyncStartService(task, plugin, request, service);
+                    case STOP -> () -> asyncStopService(task, plugin, request, service);
+                    case RESTART -> () -> asyncRestartService(task, plugin, request, service);
+                };
+                deploymentScheduler.submitStateManagementTask(task, service.getCsp(),
+                        service.getUserId(), resumedTask);
+                log.info("Queued service state management task {} resumed.", task.getTaskId());
+            } catch (RuntimeException e) {
+                log.error("Resume queued service state management task {} failed.",
+                        task.getTaskId(), e);
+                task.setTaskStatus(TaskStatus.FAILED);
+                task.setErrorMsg(e.getMessage());
+                task.setCompletedTime(OffsetDateTime.now());
+                taskStorage.storeAndFlush(task);
+            }
+        }
+    }
+
+
     /**
      * List the service state management tasks.
      *
@@ -263,6 +333,21 @@ public class ServiceStateManager {
         return null;
     }
 
+    /**
+     * Get the latest management tasks of the services.
+     *
+     * @param serviceIds ids of the services.
+     * @return latest management task details by service id.
+     */
+    public Map<UUID, ServiceStateManagementTaskDetails> getLatestRunningManagementTasks(
+            Collection<UUID> serviceIds) {
+        Map<UUID, ServiceStateManagementTaskDetails> latestTasks = new HashMap<>();
+        taskStorage.queryLatestTasksOfServices(serviceIds).forEach(task ->
+                latestTasks.putIfAbsent(task.getServiceId(),
+                        EntityTransUtils.transToServiceStateManagementTaskDetails(task)));
+        return latestTasks;
+    }
+
     /**
      * Delete the service state management task details with the task id.
      *
@@ -275,7 +360,8 @@ public class ServiceStateManager {
 
     private DeployServiceEntity getDeployedServiceAndValidateState(
             UUID serviceId, ServiceStateManagementTaskType taskType) {
-        DeployServiceEntity service = serviceHandler.getDeployServiceEntity(serviceId);
+        DeployServiceEntity service = serviceHandler.getDeployServiceEntity(serviceId,
+                DeployServiceFetchPlan.STATE_MANAGEMENT);
         validateDeployServiceEntity(service);
         if (service.getServiceState() == ServiceState.STARTING
                 || service.getServiceState() == ServiceState.STOPPING
@@ -369,7 +455,8 @@ public class ServiceStateManager {
      * @return DeployServiceEntity.
      */
     public DeployServiceEntity getDeployServiceEntity(UUID serviceId) {
-        DeployServiceEntity deployedService = deployServiceStorage.findDeployServiceById(serviceId);
+        DeployServiceEntity deployedService = deployServiceStorage.findDeployServiceById(serviceId,
+                DeployServiceFetchPlan.BASIC);
         if (Objects.nonNull(deployedService)) {
             if (isNotOwnerOrAdminUser(deployedService)) {
                 String errorMsg = "No permissions to manage service state management tasks of "
@@ -384,7 +471,8 @@ public class ServiceStateManager {
         ServiceStateManagementTaskEntity task = taskStorage.getTaskById(taskId);
         if (Objects.nonNull(task)) {
             DeployServiceEntity deployedService =
-                    deployServiceStorage.findDeployServiceById(task.getServiceId());
+                    deployServiceStorage.findDeployServiceById(task.getServiceId(),
+                            DeployServiceFetchPlan.BASIC);
             if (Objects.nonNull(deployedService)) {
                 if (isNotOwnerOrAdminUser(deployedService)) {
                     String errorMsg = "No permissions to manage service state management tasks of "
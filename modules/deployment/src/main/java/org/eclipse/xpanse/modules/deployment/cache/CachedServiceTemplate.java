@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.models.common.enums.Category;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.policy.servicepolicy.ServicePolicy;
+import org.eclipse.xpanse.modules.models.servicetemplate.DeployVariable;
+import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
+import org.eclipse.xpanse.modules.models.servicetemplate.ServiceFlavorWithPrice;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.SensitiveScope;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceHostingType;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceRegistrationState;
+import org.eclipse.xpanse.modules.models.servicetemplate.utils.JsonObjectSchema;
+
+/**
+ * Snapshot of a service template with the artifacts derived from its Ocl. The snapshot is shared
+ * by all threads and must not be modified.
+ *
+ * @param id                       id of the service template.
+ * @param name                     name of the service.
+ * @param version                  version of the service.
+ * @param csp                      cloud service provider of the service.
+ * @param category                 category of the service.
+ * @param serviceHostingType       hosting type of the service.
+ * @param namespace                namespace the service template belongs to.
+ * @param serviceRegistrationState registration state of the service template.
+ * @param ocl                      parsed Ocl of the service template.
+ * @param jsonObjectSchema         JSON schema of the deploy variables.
+ * @param flavorsByName            flavors of the service by their name.
+ * @param sensitiveVariableNames   names of the deploy variables which are sensitive.
+ * @param enabledServicePolicies   enabled policies of the service template.
+ */
+public record CachedServiceTemplate(UUID id,
+                                    String name,
+                                    String version,
+                                    Csp csp,
+                                    Category category,
+                                    ServiceHostingType serviceHostingType,
+                                    String namespace,
+                                    ServiceRegistrationState serviceRegistrationState,
+                                    Ocl ocl,
+                                    JsonObjectSchema jsonObjectSchema,
+                                    Map<String, ServiceFlavorWithPrice> flavorsByName,
+                                    Set<String> sensitiveVariableNames,
+                                    List<ServicePolicy> enabledServicePolicies) {
+
+    /**
+     * Build the snapshot of the service template.
+     *
+     * @param serviceTemplate        stored service template.
+     * @param enabledServicePolicies enabled policies of the service template.
+     * @return snapshot of the service template.
+     */
+    public static CachedServiceTemplate of(ServiceTemplateEntity serviceTemplate,
+                                           List<ServicePolicy> enabledServicePolicies) {
+        Ocl ocl = serviceTemplate.getOcl();
+        Map<String, ServiceFlavorWithPrice> flavorsByName = new LinkedHashMap<>();
+        if (Objects.nonNull(ocl) && Objects.nonNull(ocl.getFlavors())
+                && Objects.nonNull(ocl.getFlavors().getServiceFlavors())) {
+            ocl.getFlavors().getServiceFlavors()
+                    .forEach(flavor -> flavorsByName.putIfAbsent(flavor.getName(), flavor));
+        }
+        Set<String> sensitiveVariableNames = Collections.emptySet();
+        if (Objects.nonNull(ocl) && Objects.nonNull(ocl.getDeployment())
+                && Objects.nonNull(ocl.getDeployment().getVariables())) {
+            sensitiveVariableNames = ocl.getDeployment().getVariables().stream()
+                    .filter(Objects::nonNull)
+                    .filter(variable -> Objects.nonNull(variable.getSensitiveScope())
+                            && SensitiveScope.NONE != variable.getSensitiveScope())
+                    .map(DeployVariable::getName)
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+        return new CachedServiceTemplate(serviceTemplate.getId(), serviceTemplate.getName(),
+                serviceTemplate.getVersion(), serviceTemplate.getCsp(),
+                serviceTemplate.getCategory(), serviceTemplate.getServiceHostingType(),
+                serviceTemplate.getNamespace(), serviceTemplate.getServiceRegistrationState(),
+                ocl, serviceTemplate.getJsonObjectSchema(),
+                Collections.unmodifiableMap(flavorsByName), sensitiveVariableNames,
+                List.copyOf(enabledServicePolicies));
+    }
+
+    /**
+     * Get the flavor of the service by its name.
+     *
+     * @param flavorName name of the flavor.
+     * @return flavor or null when the service has no flavor with the name.
+     */
+    public ServiceFlavorWithPrice getFlavor(String flavorName) {
+        return Objects.isNull(flavorName) ? null : flavorsByName.get(flavorName);
+    }
+
+    /**
+     * Check if the deploy variable is sensitive.
+     *
+     * @param variableName name of the deploy variable.
+     * @return true if the variable is sensitive.
+     */
+    public boolean isSensitiveVariable(String variableName) {
+        return Objects.nonNull(variableName) && sensitiveVariableNames.contains(variableName);
+    }
+}
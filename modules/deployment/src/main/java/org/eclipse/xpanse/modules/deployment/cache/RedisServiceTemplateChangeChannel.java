@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateChangedEvent;
+import org.eclipse.xpanse.modules.deployment.polling.ServiceStatusChangePublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Cluster-wide channel for the changes of the service templates based on Redis pub/sub. A change
+ * committed on one xpanse node evicts the service template from the caches of all other nodes.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "enable.redis.distributed.cache", havingValue = "true")
+public class RedisServiceTemplateChangeChannel {
+
+    static final String SERVICE_TEMPLATE_CHANGED_CHANNEL = "xpanse:service:template:changed";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RedisMessageListenerContainer listenerContainer =
+            new RedisMessageListenerContainer();
+
+    @Resource
+    private RedisConnectionFactory connectionFactory;
+    @Resource
+    private ServiceTemplateCache serviceTemplateCache;
+
+    private StringRedisTemplate redisTemplate;
+
+    /**
+     * Subscribe to the service template change channel.
+     */
+    @PostConstruct
+    public void subscribe() {
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener((message, pattern) -> onMessage(message),
+                new ChannelTopic(SERVICE_TEMPLATE_CHANGED_CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("Subscribed to service template change channel of the xpanse cluster.");
+    }
+
+    /**
+     * Unsubscribe from the service template change channel.
+     */
+    @PreDestroy
+    public void unsubscribe() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    /**
+     * Broadcast the committed change of the service template to all other xpanse nodes.
+     *
+     * @param event service template changed event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void broadcast(ServiceTemplateChangedEvent event) {
+        ServiceTemplateChangedMessage message = new ServiceTemplateChangedMessage(
+                event.serviceTemplateId(), ServiceStatusChangePublisher.LOCAL_NODE_ID);
+        try {
+            redisTemplate.convertAndSend(SERVICE_TEMPLATE_CHANGED_CHANNEL,
+                    objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.error("Failed to broadcast change of service template with id {} to the cluster.",
+                    event.serviceTemplateId(), e);
+        }
+    }
+
+    private void onMessage(Message message) {
+        try {
+            ServiceTemplateChangedMessage changedMessage = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8),
+                    ServiceTemplateChangedMessage.class);
+            if (ServiceStatusChangePublisher.LOCAL_NODE_ID.equals(changedMessage.sourceNodeId())) {
+                return;
+            }
+            serviceTemplateCache.evict(changedMessage.serviceTemplateId());
+        } catch (JsonProcessingException e) {
+            log.error("Failed to parse service template change received from the cluster.", e);
+        }
+    }
+
+    record ServiceTemplateChangedMessage(UUID serviceTemplateId, String sourceNodeId) {
+    }
+}
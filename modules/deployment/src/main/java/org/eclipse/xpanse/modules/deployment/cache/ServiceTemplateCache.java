@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateChangedEvent;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
+import org.eclipse.xpanse.modules.models.common.enums.Category;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.policy.servicepolicy.ServicePolicy;
+import org.eclipse.xpanse.modules.models.service.utils.CompiledJsonSchemaCache;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceHostingType;
+import org.eclipse.xpanse.modules.policy.ServicePolicyManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Read-through cache of the service templates used by the order and deployment flows. Reading a
+ * service template parses its whole Ocl, so the parsed Ocl and the artifacts derived from it are
+ * kept in the local memory and shared by all requests.
+ *
+ * <p>Entries are evicted when the service template or one of its policies is stored or deleted.
+ * When the Redis distributed cache is enabled, the evictions are also sent to the other nodes.
+ */
+@Slf4j
+@Component
+public class ServiceTemplateCache {
+
+    private final ServiceTemplateStorage serviceTemplateStorage;
+    private final ServicePolicyManager servicePolicyManager;
+    private final CompiledJsonSchemaCache compiledJsonSchemaCache;
+    private final Cache<UUID, CachedServiceTemplate> serviceTemplates;
+    private final Cache<ServiceTemplateKey, UUID> serviceTemplateIds;
+
+    /**
+     * Constructor for ServiceTemplateCache.
+     *
+     * @param serviceTemplateStorage  storage of the service templates.
+     * @param servicePolicyManager    manager of the service policies.
+     * @param compiledJsonSchemaCache cache of the compiled JSON schemas.
+     * @param maximumSize             maximum number of service templates kept.
+     * @param expireTimeInMinutes     time after which a service template is read again.
+     */
+    @Autowired
+    public ServiceTemplateCache(
+            ServiceTemplateStorage serviceTemplateStorage,
+            ServicePolicyManager servicePolicyManager,
+            CompiledJsonSchemaCache compiledJsonSchemaCache,
+            @Value("${service.template.cache.maximum.size:1000}") long maximumSize,
+            @Value("${service.template.cache.expire.time.in.minutes:60}")
+            long expireTimeInMinutes) {
+        this.serviceTemplateStorage = serviceTemplateStorage;
+        this.servicePolicyManager = servicePolicyManager;
+        this.compiledJsonSchemaCache = compiledJsonSchemaCache;
+        this.serviceTemplates = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireTimeInMinutes, TimeUnit.MINUTES)
+                .build();
+        this.serviceTemplateIds = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireTimeInMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Get the service template by its id. ServiceTemplateNotRegistered is thrown when no service
+     * template exists with the id.
+     *
+     * @param serviceTemplateId id of the service template.
+     * @return service template.
+     */
+    public CachedServiceTemplate getServiceTemplate(UUID serviceTemplateId) {
+        return serviceTemplates.get(serviceTemplateId, id ->
+                toCachedServiceTemplate(serviceTemplateStorage.getServiceTemplateById(id)));
+    }
+
+    /**
+     * Find the service template of the service.
+     *
+     * @param name               name of the service.
+     * @param version            version of the service.
+     * @param csp                cloud service provider of the service.
+     * @param category           category of the service.
+     * @param serviceHostingType hosting type of the service.
+     * @return service template or null when not found.
+     */
+    public CachedServiceTemplate findServiceTemplate(String name, String version, Csp csp,
+                                                     Category category,
+                                                     ServiceHostingType serviceHostingType) {
+        ServiceTemplateKey key = new ServiceTemplateKey(StringUtils.lowerCase(name),
+                StringUtils.lowerCase(version), csp, category, serviceHostingType);
+        UUID serviceTemplateId = serviceTemplateIds.getIfPresent(key);
+        if (Objects.nonNull(serviceTemplateId)) {
+            CachedServiceTemplate serviceTemplate =
+                    serviceTemplates.getIfPresent(serviceTemplateId);
+            if (Objects.nonNull(serviceTemplate)) {
+                return serviceTemplate;
+            }
+        }
+        ServiceTemplateEntity searchServiceTemplate = new ServiceTemplateEntity();
+        searchServiceTemplate.setName(key.name());
+        searchServiceTemplate.setVersion(key.version());
+        searchServiceTemplate.setCsp(csp);
+        searchServiceTemplate.setCategory(category);
+        searchServiceTemplate.setServiceHostingType(serviceHostingType);
+        ServiceTemplateEntity existingServiceTemplate =
+                serviceTemplateStorage.findServiceTemplate(searchServiceTemplate);
+        if (Objects.isNull(existingServiceTemplate)
+                || Objects.isNull(existingServiceTemplate.getId())) {
+            return null;
+        }
+        serviceTemplateIds.put(key, existingServiceTemplate.getId());
+        return serviceTemplates.get(existingServiceTemplate.getId(),
+                id -> toCachedServiceTemplate(existingServiceTemplate));
+    }
+
+    /**
+     * Evict the service template and the compiled schemas derived from it.
+     *
+     * @param serviceTemplateId id of the service template.
+     */
+    public void evict(UUID serviceTemplateId) {
+        if (Objects.isNull(serviceTemplateId)) {
+            return;
+        }
+        serviceTemplates.invalidate(serviceTemplateId);
+        serviceTemplateIds.asMap().values().removeIf(serviceTemplateId::equals);
+        compiledJsonSchemaCache.evictSchemas(serviceTemplateId);
+        log.debug("Evicted service template with id {} from the cache.", serviceTemplateId);
+    }
+
+    /**
+     * Evict the changed service template once the change is committed, so that the service
+     * template cannot be read again before the change is visible. Evicted before the other
+     * listeners of the event read the changed service template.
+     *
+     * @param event service template changed event.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceTemplateChanged(ServiceTemplateChangedEvent event) {
+        evict(event.serviceTemplateId());
+    }
+
+    long getServiceTemplatesCount() {
+        serviceTemplates.cleanUp();
+        return serviceTemplates.estimatedSize();
+    }
+
+    private CachedServiceTemplate toCachedServiceTemplate(ServiceTemplateEntity serviceTemplate) {
+        List<ServicePolicy> enabledServicePolicies = Collections.emptyList();
+        if (Objects.nonNull(serviceTemplate.getServicePolicyList())) {
+            enabledServicePolicies = serviceTemplate.getServicePolicyList().stream()
+                    .filter(servicePolicyEntity -> Boolean.TRUE.equals(
+                            servicePolicyEntity.getEnabled())
+                            && StringUtils.isNotBlank(servicePolicyEntity.getPolicy()))
+                    .map(servicePolicyManager::conventToServicePolicy)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+        return CachedServiceTemplate.of(serviceTemplate, enabledServicePolicies);
+    }
+
+    private record ServiceTemplateKey(String name, String version, Csp csp, Category category,
+                                      ServiceHostingType serviceHostingType) {
+    }
+}
@@ -19,21 +19,25 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.common.systemcmd.ProcessOutputSink;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
 import org.eclipse.xpanse.modules.deployment.DeployServiceEntityHandler;
+import org.eclipse.xpanse.modules.deployment.DeploymentStateManager;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.callbacks.OpenTofuDeploymentResultCallbackManager;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.exceptions.OpenTofuExecutorException;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.opentofulocal.config.OpenTofuLocalConfig;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.TofuMakerDeployment;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.generated.model.OpenTofuResult;
-import org.eclipse.xpanse.modules.deployment.deployers.opentofu.utils.TfResourceTransUtils;
+import org.eclipse.xpanse.modules.deployment.scheduler.DeploymentScheduler;
 import org.eclipse.xpanse.modules.deployment.utils.DeployEnvironments;
 import org.eclipse.xpanse.modules.deployment.utils.DeployResultFileUtils;
+import org.eclipse.xpanse.modules.deployment.utils.ProviderPluginCacheManage;
+import org.eclipse.xpanse.modules.deployment.utils.SavedPlanUtils;
 import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoManage;
+import org.eclipse.xpanse.modules.deployment.utils.ServiceOrderOutputTails;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.ServiceNotDeployedException;
 import org.eclipse.xpanse.modules.models.servicetemplate.Deployment;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
@@ -42,7 +46,6 @@ import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
 import org.eclipse.xpanse.modules.orchestrator.deployment.Deployer;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeploymentScriptValidationResult;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.stereotype.Component;
 
@@ -58,11 +61,14 @@ public class OpenTofuLocalDeployment implements Deployer {
     public static final String TF_DEBUG_FLAG = "TF_LOG";
     private final DeployEnvironments deployEnvironments;
     private final OpenTofuLocalConfig openTofuLocalConfig;
-    private final Executor taskExecutor;
+    private final DeploymentScheduler deploymentScheduler;
     private final OpenTofuDeploymentResultCallbackManager openTofuDeploymentResultCallbackManager;
     private final DeployServiceEntityHandler deployServiceEntityHandler;
     private final ScriptsGitRepoManage scriptsGitRepoManage;
     private final DeployResultFileUtils deployResultFileUtils;
+    private final ProviderPluginCacheManage providerPluginCacheManage;
+    private final DeploymentStateManager deploymentStateManager;
+    private final ServiceOrderOutputTails serviceOrderOutputTails;
 
     /**
      * Initializes the OpenTofu deployer.
@@ -70,19 +76,25 @@ public class OpenTofuLocalDeployment implements Deployer {
     @Autowired
     public OpenTofuLocalDeployment(DeployEnvironments deployEnvironments,
                                    OpenTofuLocalConfig openTofuLocalConfig,
-                                   @Qualifier("xpanseAsyncTaskExecutor") Executor taskExecutor,
+                                   DeploymentScheduler deploymentScheduler,
                                    OpenTofuDeploymentResultCallbackManager
                                                openTofuDeploymentResultCallbackManager,
                                    DeployServiceEntityHandler deployServiceEntityHandler,
                                    ScriptsGitRepoManage scriptsGitRepoManage,
-                                   DeployResultFileUtils deployResultFileUtils) {
+                                   DeployResultFileUtils deployResultFileUtils,
+                                   ProviderPluginCacheManage providerPluginCacheManage,
+                                   DeploymentStateManager deploymentStateManager,
+                                   ServiceOrderOutputTails serviceOrderOutputTails) {
         this.deployEnvironments = deployEnvironments;
         this.openTofuLocalConfig = openTofuLocalConfig;
-        this.taskExecutor = taskExecutor;
+        this.deploymentScheduler = deploymentScheduler;
         this.openTofuDeploymentResultCallbackManager = openTofuDeploymentResultCallbackManager;
         this.deployServiceEntityHandler = deployServiceEntityHandler;
         this.scriptsGitRepoManage = scriptsGitRepoManage;
         this.deployResultFileUtils = deployResultFileUtils;
+        this.providerPluginCacheManage = providerPluginCacheManage;
+        this.deploymentStateManager = deploymentStateManager;
+        this.serviceOrderOutputTails = serviceOrderOutputTails;
     }
 
     /**
@@ -109,17 +121,10 @@ public class OpenTofuLocalDeployment implements Deployer {
     public DeployResult destroy(DeployTask task) {
         DeployServiceEntity deployServiceEntity =
                 deployServiceEntityHandler.getDeployServiceEntity(task.getServiceId());
-        String resourceState = TfResourceTransUtils.getStoredStateContent(deployServiceEntity);
-        if (StringUtils.isBlank(resourceState)) {
-            String errorMsg = String.format("tfState of deployed service with id %s not found.",
-                    task.getServiceId());
-            log.error(errorMsg);
-            throw new ServiceNotDeployedException(errorMsg);
-        }
         DeployResult destroyResult = new DeployResult();
         destroyResult.setServiceId(task.getServiceId());
         destroyResult.setOrderId(task.getOrderId());
-        asyncExecDestroy(task, resourceState);
+        asyncExecDestroy(task, deployServiceEntity);
         return destroyResult;
     }
 
@@ -132,18 +137,10 @@ public class OpenTofuLocalDeployment implements Deployer {
     public DeployResult modify(DeployTask task) {
         DeployServiceEntity deployServiceEntity =
                 deployServiceEntityHandler.getDeployServiceEntity(task.getServiceId());
-        String resourceState = TfResourceTransUtils.getStoredStateContent(
-                deployServiceEntity);
-        if (StringUtils.isBlank(resourceState)) {
-            String errorMsg = String.format("tfState of deployed service with id %s not found.",
-                    task.getServiceId());
-            log.error(errorMsg);
-            throw new ServiceNotDeployedException(errorMsg);
-        }
         DeployResult modifyResult = new DeployResult();
         modifyResult.setOrderId(task.getOrderId());
         modifyResult.setServiceId(task.getServiceId());
-        asyncExecModify(task, resourceState);
+        asyncExecModify(task, deployServiceEntity);
         return modifyResult;
     }
 
@@ -154,7 +151,7 @@ public class OpenTofuLocalDeployment implements Deployer {
         prepareDeployWorkspaceWithScripts(task, workspace);
         OpenTofuLocalExecutor executor = getExecutorForDeployTask(task, workspace, true);
         // Execute the openTofu command asynchronously.
-        taskExecutor.execute(() -> {
+        deploymentScheduler.submitOrder(task, () -> {
             OpenTofuResult openTofuResult = new OpenTofuResult();
             openTofuResult.setRequestId(task.getOrderId());
             try {
@@ -174,12 +171,12 @@ public class OpenTofuLocalDeployment implements Deployer {
         });
     }
 
-    private void asyncExecDestroy(DeployTask task, String tfState) {
+    private void asyncExecDestroy(DeployTask task, DeployServiceEntity deployServiceEntity) {
         String workspace = getWorkspacePath(task.getServiceId());
-        prepareDestroyWorkspaceWithScripts(task, workspace, tfState);
+        prepareDestroyWorkspaceWithScripts(task, workspace, deployServiceEntity);
         OpenTofuLocalExecutor executor = getExecutorForDeployTask(task, workspace, false);
         // Execute the openTofu command asynchronously.
-        taskExecutor.execute(() -> {
+        deploymentScheduler.submitOrder(task, () -> {
             OpenTofuResult openTofuResult = new OpenTofuResult();
             openTofuResult.setRequestId(task.getOrderId());
             try {
@@ -199,13 +196,13 @@ public class OpenTofuLocalDeployment implements Deployer {
         });
     }
 
-    private void asyncExecModify(DeployTask task, String tfState) {
+    private void asyncExecModify(DeployTask task, DeployServiceEntity deployServiceEntity) {
         String workspace = getWorkspacePath(task.getServiceId());
-        prepareDestroyWorkspaceWithScripts(task, workspace, tfState);
+        prepareDestroyWorkspaceWithScripts(task, workspace, deployServiceEntity);
         prepareDeployWorkspaceWithScripts(task, workspace);
         OpenTofuLocalExecutor executor = getExecutorForDeployTask(task, workspace, true);
         // Execute the terraform command asynchronously.
-        taskExecutor.execute(() -> {
+        deploymentScheduler.submitOrder(task, () -> {
             OpenTofuResult openTofuResult = new OpenTofuResult();
             openTofuResult.setRequestId(task.getOrderId());
             try {
@@ -290,19 +287,38 @@ public class OpenTofuLocalDeployment implements Deployer {
                 task.getDeployRequest().getUserId()));
         envVariables.putAll(this.deployEnvironments.getPluginMandatoryVariables(
                 task.getDeployRequest().getCsp()));
-        return getExecutor(envVariables, inputVariables, workspace, task.getOcl().getDeployment());
+        // the plan saved by the policy check is applied by the deployment of the same order.
+        String planKey = isDeployTask && openTofuLocalConfig.isPlanReuseEnabled()
+                ? SavedPlanUtils.getPlanKey(task.getOrderId(), task.getServiceTemplateId(),
+                task.getOcl().getServiceVersion()) : null;
+        return getExecutor(envVariables, inputVariables, workspace, task.getOcl().getDeployment(),
+                planKey, serviceOrderOutputTails.getOutputSink(task.getOrderId()));
     }
 
     private OpenTofuLocalExecutor getExecutor(Map<String, String> envVariables,
                                               Map<String, Object> inputVariables, String workspace,
-                                              Deployment deployment) {
+                                              Deployment deployment, @Nullable String planKey,
+                                              @Nullable ProcessOutputSink outputSink) {
         if (openTofuLocalConfig.isDebugEnabled()) {
             log.info("Debug enabled for OpenTofu CLI with level {}",
                     openTofuLocalConfig.getDebugLogLevel());
             envVariables.put(TF_DEBUG_FLAG, openTofuLocalConfig.getDebugLogLevel());
         }
+        Lock initLock = null;
+        if (openTofuLocalConfig.isPluginCacheEnabled()) {
+            String pluginCachePath = getPluginCachePath();
+            envVariables.putAll(providerPluginCacheManage.getPluginCacheEnv(pluginCachePath));
+            // seed the workspace with the providers installed for the same scripts before.
+            boolean isWorkspacePrepared = providerPluginCacheManage.prepareWorkspace(
+                    pluginCachePath, deployment, getExecutorWorkspace(workspace, deployment));
+            // init of a prepared workspace installs no providers into the plugin cache.
+            if (!isWorkspacePrepared) {
+                initLock = providerPluginCacheManage.getPluginCacheInitLock(pluginCachePath);
+            }
+        }
         return new OpenTofuLocalExecutor(envVariables, inputVariables, workspace,
-                getSubDirectory(deployment), deployResultFileUtils);
+                getSubDirectory(deployment), planKey, deployResultFileUtils,
+                openTofuLocalConfig.getCommandMaxOutputSize(), outputSink, initLock);
     }
 
     private void prepareDeployWorkspaceWithScripts(DeployTask deployTask, String workspace) {
@@ -317,21 +333,21 @@ public class OpenTofuLocalDeployment implements Deployer {
     }
 
     private void prepareDestroyWorkspaceWithScripts(DeployTask deployTask, String workspace,
-                                                    String tfState) {
+                                                    DeployServiceEntity deployServiceEntity) {
         log.info("start create open tofu destroy workspace and script");
         File parentPath = new File(workspace);
         if (!parentPath.exists() || !parentPath.isDirectory()) {
             parentPath.mkdirs();
         }
         if (Objects.nonNull(deployTask.getOcl().getDeployment().getDeployer())) {
-            createDestroyScriptFile(workspace, tfState);
+            createDestroyScriptFile(workspace, deployServiceEntity);
         } else if (Objects.nonNull(deployTask.getOcl().getDeployment().getScriptsRepo())) {
             scriptsGitRepoManage.checkoutScripts(workspace,
                     deployTask.getOcl().getDeployment().getScriptsRepo());
             String scriptPath = workspace + File.separator + deployTask.getOcl().getDeployment()
                     .getScriptsRepo().getScriptsPath() + File.separator + STATE_FILE_NAME;
-            try (FileWriter scriptWriter = new FileWriter(scriptPath)) {
-                scriptWriter.write(tfState);
+            try {
+                writeStoredState(deployServiceEntity, scriptPath);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
@@ -359,13 +375,14 @@ public class OpenTofuLocalDeployment implements Deployer {
     /**
      * Create OpenTofu workspace and script.
      *
-     * @param workspace the workspace for OpenTofu.
-     * @param tfState   OpenTofu file tfstate of the task.
+     * @param workspace           the workspace for OpenTofu.
+     * @param deployServiceEntity the deployed service.
      */
-    private void createDestroyScriptFile(String workspace, String tfState) {
+    private void createDestroyScriptFile(String workspace,
+                                         DeployServiceEntity deployServiceEntity) {
         String scriptPath = workspace + File.separator + STATE_FILE_NAME;
-        try (FileWriter scriptWriter = new FileWriter(scriptPath)) {
-            scriptWriter.write(tfState);
+        try {
+            writeStoredState(deployServiceEntity, scriptPath);
             log.info("Create OpenTofu destroy workspace and script success.");
         } catch (IOException e) {
             log.error("Create OpenTofu destroy workspace and script failed.", e);
@@ -375,6 +392,17 @@ public class OpenTofuLocalDeployment implements Deployer {
 
     }
 
+    private void writeStoredState(DeployServiceEntity deployServiceEntity, String stateFilePath)
+            throws IOException {
+        if (!deploymentStateManager.writeLatestState(deployServiceEntity,
+                Paths.get(stateFilePath))) {
+            String errorMsg = String.format("tfState of deployed service with id %s not found.",
+                    deployServiceEntity.getId());
+            log.error(errorMsg);
+            throw new ServiceNotDeployedException(errorMsg);
+        }
+    }
+
     /**
      * Build workspace of the `OpenTofu`.
      *
@@ -423,8 +451,30 @@ public class OpenTofuLocalDeployment implements Deployer {
             scriptsGitRepoManage.checkoutScripts(workspace, deployment.getScriptsRepo());
         }
         OpenTofuLocalExecutor executor =
-                getExecutor(new HashMap<>(), new HashMap<>(), workspace, deployment);
-        return executor.tfValidate();
+                getExecutor(new HashMap<>(), new HashMap<>(), workspace, deployment, null, null);
+        DeploymentScriptValidationResult validationResult = executor.tfValidate();
+        if (validationResult.isValid() && openTofuLocalConfig.isPluginCacheEnabled()) {
+            // validation runs when the template is registered, keep the initialized workspace
+            // to seed the workspaces of all services deployed from this template.
+            providerPluginCacheManage.storePreparedWorkspace(getPluginCachePath(), deployment,
+                    getExecutorWorkspace(workspace, deployment));
+        }
+        return validationResult;
+    }
+
+    /**
+     * Get the root path of the provider plugin cache.
+     */
+    private String getPluginCachePath() {
+        return System.getProperty("java.io.tmpdir") + File.separator
+                + openTofuLocalConfig.getPluginCacheDirectory();
+    }
+
+    private String getExecutorWorkspace(String workspace, Deployment deployment) {
+        String subDirectory = getSubDirectory(deployment);
+        return Objects.nonNull(subDirectory)
+                ? workspace + File.separator + subDirectory
+                : workspace;
     }
 
     @Nullable
@@ -18,11 +18,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.locks.Lock;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.common.systemcmd.ProcessOutputSink;
 import org.eclipse.xpanse.common.systemcmd.SystemCmd;
 import org.eclipse.xpanse.common.systemcmd.SystemCmdResult;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.exceptions.OpenTofuExecutorException;
 import org.eclipse.xpanse.modules.deployment.utils.DeployResultFileUtils;
+import org.eclipse.xpanse.modules.deployment.utils.SavedPlanUtils;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeploymentScriptValidationResult;
 
 /**
@@ -35,7 +38,7 @@ public class OpenTofuLocalExecutor {
     private static final String STATE_FILE_NAME = "terraform.tfstate";
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final List<String> EXCLUDED_FILE_SUFFIX_LIST =
-            Arrays.asList(".tf", ".tfstate", ".binary", ".hcl");
+            Arrays.asList(".tf", ".tfstate", ".binary", ".hcl", ".fingerprint");
 
     static {
         OBJECT_MAPPER.setSerializationInclusion(JsonInclude.Include.NON_NULL);
@@ -44,7 +47,11 @@ public class OpenTofuLocalExecutor {
     private final Map<String, String> env;
     private final Map<String, Object> variables;
     private final String workspace;
+    private final String planKey;
     private final DeployResultFileUtils deployResultFileUtils;
+    private final int maxOutputSize;
+    private final ProcessOutputSink outputSink;
+    private final Lock initLock;
 
     /**
      * Constructor for openTofuExecutor.
@@ -52,20 +59,38 @@ public class OpenTofuLocalExecutor {
      * @param env                   environment for the open tofu command line.
      * @param variables             variables for the open tofu command line.
      * @param workspace             workspace for the open tofu command line.
+     * @param subDirectory          sub directory of the scripts in the workspace.
+     * @param planKey               key of the plan of the deploy order, the plan saved by
+     *                              the policy check is applied only with a key.
      * @param deployResultFileUtils file tool class.
+     * @param maxOutputSize         maximum number of characters of each output stream kept in
+     *                              the command result. Zero or negative means no limit.
+     * @param outputSink            sink which receives the output of the commands while they
+     *                              are running, null if the output is only logged.
+     * @param initLock              lock of the provider plugin cache directory used by the
+     *                              open tofu init command, null if no plugin cache is used
+     *                              or the providers are already installed in the workspace.
      */
     OpenTofuLocalExecutor(Map<String, String> env,
                           Map<String, Object> variables,
                           String workspace,
                           @Nullable String subDirectory,
-                          DeployResultFileUtils deployResultFileUtils) {
+                          @Nullable String planKey,
+                          DeployResultFileUtils deployResultFileUtils,
+                          int maxOutputSize,
+                          @Nullable ProcessOutputSink outputSink,
+                          @Nullable Lock initLock) {
         this.env = env;
         this.variables = variables;
         this.workspace =
                 Objects.nonNull(subDirectory)
                         ? workspace + File.separator + subDirectory
                         : workspace;
+        this.planKey = planKey;
         this.deployResultFileUtils = deployResultFileUtils;
+        this.maxOutputSize = maxOutputSize;
+        this.outputSink = outputSink;
+        this.initLock = initLock;
     }
 
     /**
@@ -74,7 +99,17 @@ public class OpenTofuLocalExecutor {
      * @return Returns result of SystemCmd executed.
      */
     public SystemCmdResult tfInit() {
-        return execute("tofu init -no-color");
+        if (Objects.isNull(initLock)) {
+            return execute("tofu init -no-color");
+        }
+        // init installing providers is not safe to run concurrently with the same plugin
+        // cache directory.
+        initLock.lock();
+        try {
+            return execute("tofu init -no-color");
+        } finally {
+            initLock.unlock();
+        }
     }
 
     /**
@@ -93,7 +128,7 @@ public class OpenTofuLocalExecutor {
      */
     public SystemCmdResult tfPlanWithOutput() {
         return executeWithVariables(new StringBuilder(
-                "tofu plan -input=false -no-color --out tfplan.binary"));
+                "tofu plan -input=false -no-color --out " + SavedPlanUtils.PLAN_FILE_NAME));
     }
 
     /**
@@ -106,6 +141,16 @@ public class OpenTofuLocalExecutor {
                 new StringBuilder("tofu apply -auto-approve -input=false -no-color "));
     }
 
+    /**
+     * Executes open tofu apply command with the saved plan.
+     *
+     * @return Returns result of SystemCmd executed.
+     */
+    public SystemCmdResult tfApplySavedPlan() {
+        return execute("tofu apply -auto-approve -input=false -no-color "
+                + SavedPlanUtils.PLAN_FILE_NAME);
+    }
+
     /**
      * Executes open tofu destroy command.
      *
@@ -136,6 +181,25 @@ public class OpenTofuLocalExecutor {
      * @return SystemCmdResult
      */
     private SystemCmdResult execute(String cmd) {
+        SystemCmd systemCmd = new SystemCmd();
+        systemCmd.setEnv(env);
+        systemCmd.setWorkDir(workspace);
+        if (maxOutputSize > 0) {
+            systemCmd.setMaxOutputSize(maxOutputSize);
+        }
+        if (Objects.nonNull(outputSink)) {
+            systemCmd.setOutputSinks(List.of(outputSink));
+        }
+        return systemCmd.execute(cmd);
+    }
+
+    /**
+     * Executes open tofu commands whose output is read by xpanse. The output is kept completely
+     * and not sent to the output sink.
+     *
+     * @return SystemCmdResult
+     */
+    private SystemCmdResult executeForFullOutput(String cmd) {
         SystemCmd systemCmd = new SystemCmd();
         systemCmd.setEnv(env);
         systemCmd.setWorkDir(workspace);
@@ -152,17 +216,34 @@ public class OpenTofuLocalExecutor {
             throw new OpenTofuExecutorException("OpenTofuExecutor.tfInit failed.",
                     initResult.getCommandStdError());
         }
-        SystemCmdResult planResult = tfPlan();
-        if (!planResult.isCommandSuccessful()) {
-            log.error("OpenTofuExecutor.tfPlan failed.");
-            throw new OpenTofuExecutorException("OpenTofuExecutor.tfPlan failed.",
-                    planResult.getCommandStdError());
-        }
-        SystemCmdResult applyResult = tfApply();
-        if (!applyResult.isCommandSuccessful()) {
-            log.error("OpenTofuExecutor.tfApply failed.");
-            throw new OpenTofuExecutorException("OpenTofuExecutor.tfApply failed.",
-                    applyResult.getCommandStdError());
+        try {
+            if (isSavedPlanReusable()) {
+                SystemCmdResult applyResult = tfApplySavedPlan();
+                if (applyResult.isCommandSuccessful()) {
+                    return;
+                }
+                if (!SavedPlanUtils.isStalePlanError(applyResult.getCommandStdError())) {
+                    log.error("OpenTofuExecutor.tfApply failed.");
+                    throw new OpenTofuExecutorException("OpenTofuExecutor.tfApply failed.",
+                            applyResult.getCommandStdError());
+                }
+                // the state was changed after planning, nothing was applied yet.
+                log.warn("Saved plan is stale, planning again.");
+            }
+            SystemCmdResult planResult = tfPlan();
+            if (!planResult.isCommandSuccessful()) {
+                log.error("OpenTofuExecutor.tfPlan failed.");
+                throw new OpenTofuExecutorException("OpenTofuExecutor.tfPlan failed.",
+                        planResult.getCommandStdError());
+            }
+            SystemCmdResult applyResult = tfApply();
+            if (!applyResult.isCommandSuccessful()) {
+                log.error("OpenTofuExecutor.tfApply failed.");
+                throw new OpenTofuExecutorException("OpenTofuExecutor.tfApply failed.",
+                        applyResult.getCommandStdError());
+            }
+        } finally {
+            SavedPlanUtils.deleteSavedPlan(workspace);
         }
     }
 
@@ -248,7 +329,11 @@ public class OpenTofuLocalExecutor {
             throw new OpenTofuExecutorException("OpenTofuExecutor.tfPlan failed.",
                     tfPlanResult.getCommandStdError());
         }
-        SystemCmdResult planJsonResult = execute("tofu show -json tfplan.binary");
+        if (Objects.nonNull(planKey)) {
+            SavedPlanUtils.savePlanFingerprint(workspace, planKey, env, variables);
+        }
+        SystemCmdResult planJsonResult = executeForFullOutput(
+                "tofu show -json " + SavedPlanUtils.PLAN_FILE_NAME);
         if (!planJsonResult.isCommandSuccessful()) {
             log.error("Reading OpenTofu plan as JSON failed.");
             throw new OpenTofuExecutorException("Reading OpenTofu plan as JSON failed.",
@@ -257,6 +342,11 @@ public class OpenTofuLocalExecutor {
         return planJsonResult.getCommandStdOutput();
     }
 
+    private boolean isSavedPlanReusable() {
+        return Objects.nonNull(planKey)
+                && SavedPlanUtils.isSavedPlanReusable(workspace, planKey, env, variables);
+    }
+
     private boolean isExcludedFile(String fileName) {
         String fileSuffix = fileName.substring(fileName.lastIndexOf("."));
         return EXCLUDED_FILE_SUFFIX_LIST.contains(fileSuffix);
@@ -286,7 +376,7 @@ public class OpenTofuLocalExecutor {
             throw new OpenTofuExecutorException("OpenTofuExecutor.tfInit failed.",
                     initResult.getCommandStdError());
         }
-        SystemCmdResult validateResult = execute("tofu validate -json -no-color");
+        SystemCmdResult validateResult = executeForFullOutput("tofu validate -json -no-color");
 
         if (!validateResult.isCommandSuccessful()) {
             log.error("OpenTofuExecutor get validate json failed.");
@@ -24,4 +24,16 @@ public class OpenTofuLocalConfig {
 
     @Value("${opentofu.debug.level:DEBUG}")
     private String debugLogLevel;
+
+    @Value("${opentofu.plugin.cache.enabled:true}")
+    private boolean isPluginCacheEnabled;
+
+    @Value("${opentofu.plugin.cache.directory:xpanse_opentofu_plugin_cache}")
+    private String pluginCacheDirectory;
+
+    @Value("${opentofu.plan.reuse.enabled:true}")
+    private boolean isPlanReuseEnabled;
+
+    @Value("${opentofu.command.max.output.size:10485760}")
+    private int commandMaxOutputSize;
 }
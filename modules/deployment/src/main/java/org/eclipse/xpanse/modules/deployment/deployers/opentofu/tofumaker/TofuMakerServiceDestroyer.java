@@ -7,13 +7,14 @@ package org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
+import org.eclipse.xpanse.modules.database.service.DeployServiceFetchPlan;
 import org.eclipse.xpanse.modules.deployment.DeployServiceEntityHandler;
+import org.eclipse.xpanse.modules.deployment.DeploymentStateManager;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.exceptions.OpenTofuMakerRequestFailedException;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.generated.api.OpenTofuFromGitRepoApi;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.generated.api.OpenTofuFromScriptsApi;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.generated.model.OpenTofuAsyncDestroyFromGitRepoRequest;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.generated.model.OpenTofuAsyncDestroyFromScriptsRequest;
-import org.eclipse.xpanse.modules.deployment.deployers.opentofu.utils.TfResourceTransUtils;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployResult;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
 import org.springframework.context.annotation.Profile;
@@ -32,6 +33,7 @@ public class TofuMakerServiceDestroyer {
     private final OpenTofuFromGitRepoApi openTofuFromGitRepoApi;
     private final TofuMakerHelper tofuMakerHelper;
     private final DeployServiceEntityHandler deployServiceEntityHandler;
+    private final DeploymentStateManager deploymentStateManager;
 
     /**
      * Constructor for OpenTofuMakerServiceDestroyer bean.
@@ -39,11 +41,13 @@ public class TofuMakerServiceDestroyer {
     public TofuMakerServiceDestroyer(OpenTofuFromScriptsApi openTofuFromScriptsApi,
                                      OpenTofuFromGitRepoApi openTofuFromGitRepoApi,
                                      TofuMakerHelper tofuMakerHelper,
-                                     DeployServiceEntityHandler deployServiceEntityHandler) {
+                                     DeployServiceEntityHandler deployServiceEntityHandler,
+                                     DeploymentStateManager deploymentStateManager) {
         this.openTofuFromScriptsApi = openTofuFromScriptsApi;
         this.openTofuFromGitRepoApi = openTofuFromGitRepoApi;
         this.tofuMakerHelper = tofuMakerHelper;
         this.deployServiceEntityHandler = deployServiceEntityHandler;
+        this.deploymentStateManager = deploymentStateManager;
     }
 
     /**
@@ -51,8 +55,9 @@ public class TofuMakerServiceDestroyer {
      */
     public DeployResult destroyFromScripts(DeployTask deployTask) {
         DeployServiceEntity deployServiceEntity =
-                this.deployServiceEntityHandler.getDeployServiceEntity(deployTask.getServiceId());
-        String resourceState = TfResourceTransUtils.getStoredStateContent(deployServiceEntity);
+                this.deployServiceEntityHandler.getDeployServiceEntity(deployTask.getServiceId(),
+                        DeployServiceFetchPlan.DESTROY);
+        String resourceState = deploymentStateManager.getLatestStateContent(deployServiceEntity);
         DeployResult result = new DeployResult();
         OpenTofuAsyncDestroyFromScriptsRequest request =
                 getDestroyFromScriptsRequest(deployTask, resourceState);
@@ -73,8 +78,9 @@ public class TofuMakerServiceDestroyer {
      */
     public DeployResult destroyFromGitRepo(DeployTask deployTask) {
         DeployServiceEntity deployServiceEntity =
-                this.deployServiceEntityHandler.getDeployServiceEntity(deployTask.getServiceId());
-        String resourceState = TfResourceTransUtils.getStoredStateContent(deployServiceEntity);
+                this.deployServiceEntityHandler.getDeployServiceEntity(deployTask.getServiceId(),
+                        DeployServiceFetchPlan.DESTROY);
+        String resourceState = deploymentStateManager.getLatestStateContent(deployServiceEntity);
         DeployResult result = new DeployResult();
         OpenTofuAsyncDestroyFromGitRepoRequest request =
                 getDestroyFromGitRepoRequest(deployTask, resourceState);
@@ -8,12 +8,12 @@ package org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
 import org.eclipse.xpanse.modules.deployment.DeployServiceEntityHandler;
+import org.eclipse.xpanse.modules.deployment.DeploymentStateManager;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.exceptions.OpenTofuMakerRequestFailedException;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.generated.api.OpenTofuFromGitRepoApi;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.generated.api.OpenTofuFromScriptsApi;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.generated.model.OpenTofuAsyncModifyFromGitRepoRequest;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.generated.model.OpenTofuAsyncModifyFromScriptsRequest;
-import org.eclipse.xpanse.modules.deployment.deployers.opentofu.utils.TfResourceTransUtils;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployResult;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
 import org.springframework.context.annotation.Profile;
@@ -31,6 +31,7 @@ public class TofuMakerServiceModifier {
     private final OpenTofuFromGitRepoApi openTofuFromGitRepoApi;
     private final TofuMakerHelper tofuMakerHelper;
     private final DeployServiceEntityHandler deployServiceEntityHandler;
+    private final DeploymentStateManager deploymentStateManager;
 
     /**
      * Constructor for OpenTofuMakerServiceModifyer bean.
@@ -38,11 +39,13 @@ public class TofuMakerServiceModifier {
     public TofuMakerServiceModifier(OpenTofuFromScriptsApi openTofuFromScriptsApi,
                                     OpenTofuFromGitRepoApi openTofuFromGitRepoApi,
                                     TofuMakerHelper tofuMakerHelper,
-                                    DeployServiceEntityHandler deployServiceEntityHandler) {
+                                    DeployServiceEntityHandler deployServiceEntityHandler,
+                                    DeploymentStateManager deploymentStateManager) {
         this.openTofuFromScriptsApi = openTofuFromScriptsApi;
         this.openTofuFromGitRepoApi = openTofuFromGitRepoApi;
         this.tofuMakerHelper = tofuMakerHelper;
         this.deployServiceEntityHandler = deployServiceEntityHandler;
+        this.deploymentStateManager = deploymentStateManager;
     }
 
     /**
@@ -51,7 +54,7 @@ public class TofuMakerServiceModifier {
     public DeployResult modifyFromScripts(DeployTask deployTask) {
         DeployServiceEntity deployServiceEntity =
                 this.deployServiceEntityHandler.getDeployServiceEntity(deployTask.getServiceId());
-        String resourceState = TfResourceTransUtils.getStoredStateContent(deployServiceEntity);
+        String resourceState = deploymentStateManager.getLatestStateContent(deployServiceEntity);
         DeployResult result = new DeployResult();
         OpenTofuAsyncModifyFromScriptsRequest request =
                 getModifyFromScriptsRequest(deployTask, resourceState);
@@ -74,7 +77,7 @@ public class TofuMakerServiceModifier {
     public DeployResult modifyFromGitRepo(DeployTask deployTask) {
         DeployServiceEntity deployServiceEntity =
                 this.deployServiceEntityHandler.getDeployServiceEntity(deployTask.getServiceId());
-        String resourceState = TfResourceTransUtils.getStoredStateContent(deployServiceEntity);
+        String resourceState = deploymentStateManager.getLatestStateContent(deployServiceEntity);
         DeployResult result = new DeployResult();
         OpenTofuAsyncModifyFromGitRepoRequest request =
                 getModifyFromGitRepoRequest(deployTask, resourceState);
@@ -14,13 +14,13 @@ import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
 import org.eclipse.xpanse.modules.database.servicemigration.ServiceMigrationEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
 import org.eclipse.xpanse.modules.deployment.DeployResultManager;
 import org.eclipse.xpanse.modules.deployment.DeployService;
 import org.eclipse.xpanse.modules.deployment.DeployServiceEntityConverter;
 import org.eclipse.xpanse.modules.deployment.DeployServiceEntityHandler;
 import org.eclipse.xpanse.modules.deployment.ResourceHandlerManager;
+import org.eclipse.xpanse.modules.deployment.cache.CachedServiceTemplate;
+import org.eclipse.xpanse.modules.deployment.cache.ServiceTemplateCache;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot.generated.model.TerraformResult;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.utils.TfResourceTransUtils;
 import org.eclipse.xpanse.modules.deployment.migration.MigrationService;
@@ -55,7 +55,7 @@ public class TerraformDeploymentResultCallbackManager {
     @Resource
     private WorkflowUtils workflowUtils;
     @Resource
-    private ServiceTemplateStorage serviceTemplateStorage;
+    private ServiceTemplateCache serviceTemplateCache;
     @Resource
     private ServiceOrderStorage serviceOrderStorage;
 
@@ -121,11 +121,10 @@ public class TerraformDeploymentResultCallbackManager {
         DeployServiceEntity deployServiceEntity =
                 deployServiceEntityHandler.getDeployServiceEntity(deployResult.getServiceId());
         if (StringUtils.isNotBlank(deployResult.getTfStateContent())) {
-            ServiceTemplateEntity serviceTemplateEntity =
-                    serviceTemplateStorage.getServiceTemplateById(
-                            deployServiceEntity.getServiceTemplateId());
+            CachedServiceTemplate serviceTemplate = serviceTemplateCache.getServiceTemplate(
+                    deployServiceEntity.getServiceTemplateId());
             resourceHandlerManager.getResourceHandler(deployServiceEntity.getCsp(),
-                    serviceTemplateEntity.getOcl().getDeployment().getKind()).handler(deployResult);
+                    serviceTemplate.ocl().getDeployment().getKind()).handler(deployResult);
         }
         return deployResultManager.updateDeployServiceEntityWithDeployResult(deployResult,
                 deployServiceEntity);
@@ -7,13 +7,14 @@ package org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
+import org.eclipse.xpanse.modules.database.service.DeployServiceFetchPlan;
 import org.eclipse.xpanse.modules.deployment.DeployServiceEntityHandler;
+import org.eclipse.xpanse.modules.deployment.DeploymentStateManager;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.exceptions.TerraformBootRequestFailedException;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot.generated.api.TerraformFromGitRepoApi;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot.generated.api.TerraformFromScriptsApi;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot.generated.model.TerraformAsyncDestroyFromGitRepoRequest;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot.generated.model.TerraformAsyncDestroyFromScriptsRequest;
-import org.eclipse.xpanse.modules.deployment.deployers.terraform.utils.TfResourceTransUtils;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployResult;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
 import org.springframework.context.annotation.Profile;
@@ -32,6 +33,7 @@ public class TerraformBootServiceDestroyer {
     private final TerraformFromGitRepoApi terraformFromGitRepoApi;
     private final TerraformBootHelper terraformBootHelper;
     private final DeployServiceEntityHandler deployServiceEntityHandler;
+    private final DeploymentStateManager deploymentStateManager;
 
     /**
      * Constructor for TerraformBootServiceDestroyer bean.
@@ -39,11 +41,13 @@ public class TerraformBootServiceDestroyer {
     public TerraformBootServiceDestroyer(TerraformFromScriptsApi terraformFromScriptsApi,
                                          TerraformFromGitRepoApi terraformFromGitRepoApi,
                                          TerraformBootHelper terraformBootHelper,
-                                         DeployServiceEntityHandler deployServiceEntityHandler) {
+                                         DeployServiceEntityHandler deployServiceEntityHandler,
+                                         DeploymentStateManager deploymentStateManager) {
         this.terraformFromScriptsApi = terraformFromScriptsApi;
         this.terraformFromGitRepoApi = terraformFromGitRepoApi;
         this.terraformBootHelper = terraformBootHelper;
         this.deployServiceEntityHandler = deployServiceEntityHandler;
+        this.deploymentStateManager = deploymentStateManager;
     }
 
     /**
@@ -51,8 +55,9 @@ public class TerraformBootServiceDestroyer {
      */
     public DeployResult destroyFromScripts(DeployTask deployTask) {
         DeployServiceEntity deployServiceEntity =
-                this.deployServiceEntityHandler.getDeployServiceEntity(deployTask.getServiceId());
-        String resourceState = TfResourceTransUtils.getStoredStateContent(deployServiceEntity);
+                this.deployServiceEntityHandler.getDeployServiceEntity(deployTask.getServiceId(),
+                        DeployServiceFetchPlan.DESTROY);
+        String resourceState = deploymentStateManager.getLatestStateContent(deployServiceEntity);
         DeployResult result = new DeployResult();
         TerraformAsyncDestroyFromScriptsRequest request =
                 getDestroyFromScriptsRequest(deployTask, resourceState);
@@ -73,8 +78,9 @@ public class TerraformBootServiceDestroyer {
      */
     public DeployResult destroyFromGitRepo(DeployTask deployTask) {
         DeployServiceEntity deployServiceEntity =
-                this.deployServiceEntityHandler.getDeployServiceEntity(deployTask.getServiceId());
-        String resourceState = TfResourceTransUtils.getStoredStateContent(deployServiceEntity);
+                this.deployServiceEntityHandler.getDeployServiceEntity(deployTask.getServiceId(),
+                        DeployServiceFetchPlan.DESTROY);
+        String resourceState = deploymentStateManager.getLatestStateContent(deployServiceEntity);
         DeployResult result = new DeployResult();
         TerraformAsyncDestroyFromGitRepoRequest request =
                 getDestroyFromGitRepoRequest(deployTask, resourceState);
@@ -8,12 +8,12 @@ package org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
 import org.eclipse.xpanse.modules.deployment.DeployServiceEntityHandler;
+import org.eclipse.xpanse.modules.deployment.DeploymentStateManager;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.exceptions.TerraformBootRequestFailedException;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot.generated.api.TerraformFromGitRepoApi;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot.generated.api.TerraformFromScriptsApi;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot.generated.model.TerraformAsyncModifyFromGitRepoRequest;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot.generated.model.TerraformAsyncModifyFromScriptsRequest;
-import org.eclipse.xpanse.modules.deployment.deployers.terraform.utils.TfResourceTransUtils;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployResult;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
 import org.springframework.context.annotation.Profile;
@@ -32,6 +32,7 @@ public class TerraformBootServiceModifier {
     private final TerraformFromGitRepoApi terraformFromGitRepoApi;
     private final TerraformBootHelper terraformBootHelper;
     private final DeployServiceEntityHandler deployServiceEntityHandler;
+    private final DeploymentStateManager deploymentStateManager;
 
     /**
      * Constructor for TerraformBootServiceDestroyer bean.
@@ -39,11 +40,13 @@ public class TerraformBootServiceModifier {
     public TerraformBootServiceModifier(TerraformFromScriptsApi terraformFromScriptsApi,
                                         TerraformFromGitRepoApi terraformFromGitRepoApi,
                                         TerraformBootHelper terraformBootHelper,
-                                        DeployServiceEntityHandler deployServiceEntityHandler) {
+                                        DeployServiceEntityHandler deployServiceEntityHandler,
+                                        DeploymentStateManager deploymentStateManager) {
         this.terraformFromScriptsApi = terraformFromScriptsApi;
         this.terraformFromGitRepoApi = terraformFromGitRepoApi;
         this.terraformBootHelper = terraformBootHelper;
         this.deployServiceEntityHandler = deployServiceEntityHandler;
+        this.deploymentStateManager = deploymentStateManager;
     }
 
     /**
@@ -52,7 +55,7 @@ public class TerraformBootServiceModifier {
     public DeployResult modifyFromScripts(DeployTask deployTask) {
         DeployServiceEntity deployServiceEntity =
                 this.deployServiceEntityHandler.getDeployServiceEntity(deployTask.getServiceId());
-        String resourceState = TfResourceTransUtils.getStoredStateContent(deployServiceEntity);
+        String resourceState = deploymentStateManager.getLatestStateContent(deployServiceEntity);
         DeployResult result = new DeployResult();
         result.setServiceId(deployTask.getServiceId());
         result.setOrderId(deployTask.getOrderId());
@@ -75,7 +78,7 @@ public class TerraformBootServiceModifier {
     public DeployResult modifyFromGitRepo(DeployTask deployTask) {
         DeployServiceEntity deployServiceEntity =
                 this.deployServiceEntityHandler.getDeployServiceEntity(deployTask.getServiceId());
-        String resourceState = TfResourceTransUtils.getStoredStateContent(deployServiceEntity);
+        String resourceState = deploymentStateManager.getLatestStateContent(deployServiceEntity);
         DeployResult result = new DeployResult();
         result.setServiceId(deployTask.getServiceId());
         result.setOrderId(deployTask.getOrderId());
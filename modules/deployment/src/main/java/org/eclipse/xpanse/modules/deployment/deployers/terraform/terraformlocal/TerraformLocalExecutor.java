@@ -17,11 +17,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.locks.Lock;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.common.systemcmd.ProcessOutputSink;
 import org.eclipse.xpanse.common.systemcmd.SystemCmd;
 import org.eclipse.xpanse.common.systemcmd.SystemCmdResult;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.exceptions.TerraformExecutorException;
 import org.eclipse.xpanse.modules.deployment.utils.DeployResultFileUtils;
+import org.eclipse.xpanse.modules.deployment.utils.SavedPlanUtils;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeploymentScriptValidationResult;
 
 /**
@@ -34,7 +37,7 @@ public class TerraformLocalExecutor {
     private static final String STATE_FILE_NAME = "terraform.tfstate";
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final List<String> EXCLUDED_FILE_SUFFIX_LIST =
-            Arrays.asList(".tf", ".tfstate", ".binary", ".hcl");
+            Arrays.asList(".tf", ".tfstate", ".binary", ".hcl", ".fingerprint");
 
     static {
         OBJECT_MAPPER.setSerializationInclusion(JsonInclude.Include.NON_NULL);
@@ -43,7 +46,11 @@ public class TerraformLocalExecutor {
     private final Map<String, String> env;
     private final Map<String, Object> variables;
     private final String workspace;
+    private final String planKey;
     private final DeployResultFileUtils deployResultFileUtils;
+    private final int maxOutputSize;
+    private final ProcessOutputSink outputSink;
+    private final Lock initLock;
 
     /**
      * Constructor for terraformExecutor.
@@ -51,20 +58,38 @@ public class TerraformLocalExecutor {
      * @param env                   environment for the terraform command line.
      * @param variables             variables for the terraform command line.
      * @param workspace             workspace for the terraform command line.
+     * @param subDirectory          sub directory of the scripts in the workspace.
+     * @param planKey               key of the plan of the deploy order, the plan saved by
+     *                              the policy check is applied only with a key.
      * @param deployResultFileUtils file tool class.
+     * @param maxOutputSize         maximum number of characters of each output stream kept in
+     *                              the command result. Zero or negative means no limit.
+     * @param outputSink            sink which receives the output of the commands while they
+     *                              are running, null if the output is only logged.
+     * @param initLock              lock of the provider plugin cache directory used by the
+     *                              terraform init command, null if no plugin cache is used
+     *                              or the providers are already installed in the workspace.
      */
     TerraformLocalExecutor(Map<String, String> env,
                            Map<String, Object> variables,
                            String workspace,
                            @Nullable String subDirectory,
-                           DeployResultFileUtils deployResultFileUtils) {
+                           @Nullable String planKey,
+                           DeployResultFileUtils deployResultFileUtils,
+                           int maxOutputSize,
+                           @Nullable ProcessOutputSink outputSink,
+                           @Nullable Lock initLock) {
         this.env = env;
         this.variables = variables;
         this.workspace =
                 Objects.nonNull(subDirectory)
                         ? workspace + File.separator + subDirectory
                         : workspace;
+        this.planKey = planKey;
         this.deployResultFileUtils = deployResultFileUtils;
+        this.maxOutputSize = maxOutputSize;
+        this.outputSink = outputSink;
+        this.initLock = initLock;
     }
 
     /**
@@ -73,7 +98,17 @@ public class TerraformLocalExecutor {
      * @return Returns result of SystemCmd executed.
      */
     public SystemCmdResult tfInit() {
-        return execute("terraform init -no-color");
+        if (Objects.isNull(initLock)) {
+            return execute("terraform init -no-color");
+        }
+        // init installing providers is not safe to run concurrently with the same plugin
+        // cache directory.
+        initLock.lock();
+        try {
+            return execute("terraform init -no-color");
+        } finally {
+            initLock.unlock();
+        }
     }
 
     /**
@@ -92,7 +127,7 @@ public class TerraformLocalExecutor {
      */
     public SystemCmdResult tfPlanWithOutput() {
         return executeWithVariables(new StringBuilder(
-                "terraform plan -input=false -no-color --out tfplan.binary"));
+                "terraform plan -input=false -no-color --out " + SavedPlanUtils.PLAN_FILE_NAME));
     }
 
     /**
@@ -105,6 +140,16 @@ public class TerraformLocalExecutor {
                 new StringBuilder("terraform apply -auto-approve -input=false -no-color "));
     }
 
+    /**
+     * Executes terraform apply command with the saved plan.
+     *
+     * @return Returns result of SystemCmd executed.
+     */
+    public SystemCmdResult tfApplySavedPlan() {
+        return execute("terraform apply -auto-approve -input=false -no-color "
+                + SavedPlanUtils.PLAN_FILE_NAME);
+    }
+
     /**
      * Executes terraform destroy command.
      *
@@ -135,6 +180,25 @@ public class TerraformLocalExecutor {
      * @return SystemCmdResult
      */
     private SystemCmdResult execute(String cmd) {
+        SystemCmd systemCmd = new SystemCmd();
+        systemCmd.setEnv(env);
+        systemCmd.setWorkDir(workspace);
+        if (maxOutputSize > 0) {
+            systemCmd.setMaxOutputSize(maxOutputSize);
+        }
+        if (Objects.nonNull(outputSink)) {
+            systemCmd.setOutputSinks(List.of(outputSink));
+        }
+        return systemCmd.execute(cmd);
+    }
+
+    /**
+     * Executes terraform commands whose output is read by xpanse. The output is kept completely
+     * and not sent to the output sink.
+     *
+     * @return SystemCmdResult
+     */
+    private SystemCmdResult executeForFullOutput(String cmd) {
         SystemCmd systemCmd = new SystemCmd();
         systemCmd.setEnv(env);
         systemCmd.setWorkDir(workspace);
@@ -151,17 +215,34 @@ public class TerraformLocalExecutor {
             throw new TerraformExecutorException("TFExecutor.tfInit failed.",
                     initResult.getCommandStdError());
         }
-        SystemCmdResult planResult = tfPlan();
-        if (!planResult.isCommandSuccessful()) {
-            log.error("TFExecutor.tfPlan failed.");
-            throw new TerraformExecutorException("TFExecutor.tfPlan failed.",
-                    planResult.getCommandStdError());
-        }
-        SystemCmdResult applyResult = tfApply();
-        if (!applyResult.isCommandSuccessful()) {
-            log.error("TFExecutor.tfApply failed.");
-            throw new TerraformExecutorException("TFExecutor.tfApply failed.",
-                    applyResult.getCommandStdError());
+        try {
+            if (isSavedPlanReusable()) {
+                SystemCmdResult applyResult = tfApplySavedPlan();
+                if (applyResult.isCommandSuccessful()) {
+                    return;
+                }
+                if (!SavedPlanUtils.isStalePlanError(applyResult.getCommandStdError())) {
+                    log.error("TFExecutor.tfApply failed.");
+                    throw new TerraformExecutorException("TFExecutor.tfApply failed.",
+                            applyResult.getCommandStdError());
+                }
+                // the state was changed after planning, nothing was applied yet.
+                log.warn("Saved plan is stale, planning again.");
+            }
+            SystemCmdResult planResult = tfPlan();
+            if (!planResult.isCommandSuccessful()) {
+                log.error("TFExecutor.tfPlan failed.");
+                throw new TerraformExecutorException("TFExecutor.tfPlan failed.",
+                        planResult.getCommandStdError());
+            }
+            SystemCmdResult applyResult = tfApply();
+            if (!applyResult.isCommandSuccessful()) {
+                log.error("TFExecutor.tfApply failed.");
+                throw new TerraformExecutorException("TFExecutor.tfApply failed.",
+                        applyResult.getCommandStdError());
+            }
+        } finally {
+            SavedPlanUtils.deleteSavedPlan(workspace);
         }
     }
 
@@ -247,7 +328,11 @@ public class TerraformLocalExecutor {
             throw new TerraformExecutorException("TFExecutor.tfPlan failed.",
                     tfPlanResult.getCommandStdError());
         }
-        SystemCmdResult planJsonResult = execute("terraform show -json tfplan.binary");
+        if (Objects.nonNull(planKey)) {
+            SavedPlanUtils.savePlanFingerprint(workspace, planKey, env, variables);
+        }
+        SystemCmdResult planJsonResult = executeForFullOutput(
+                "terraform show -json " + SavedPlanUtils.PLAN_FILE_NAME);
         if (!planJsonResult.isCommandSuccessful()) {
             log.error("Reading Terraform plan as JSON failed.");
             throw new TerraformExecutorException("Reading Terraform plan as JSON failed.",
@@ -256,6 +341,11 @@ public class TerraformLocalExecutor {
         return planJsonResult.getCommandStdOutput();
     }
 
+    private boolean isSavedPlanReusable() {
+        return Objects.nonNull(planKey)
+                && SavedPlanUtils.isSavedPlanReusable(workspace, planKey, env, variables);
+    }
+
     private boolean isExcludedFile(String fileName) {
         String fileSuffix = fileName.substring(fileName.lastIndexOf("."));
         return EXCLUDED_FILE_SUFFIX_LIST.contains(fileSuffix);
@@ -285,7 +375,8 @@ public class TerraformLocalExecutor {
             throw new TerraformExecutorException("TFExecutor.tfInit failed.",
                     initResult.getCommandStdError());
         }
-        SystemCmdResult systemCmdResult = execute("terraform validate -json -no-color");
+        SystemCmdResult systemCmdResult =
+                executeForFullOutput("terraform validate -json -no-color");
         try {
             return new ObjectMapper().readValue(systemCmdResult.getCommandStdOutput(),
                     DeploymentScriptValidationResult.class);
@@ -24,4 +24,16 @@ public class TerraformLocalConfig {
 
     @Value("${terraform.debug.level:DEBUG}")
     private String debugLogLevel;
+
+    @Value("${terraform.plugin.cache.enabled:true}")
+    private boolean isPluginCacheEnabled;
+
+    @Value("${terraform.plugin.cache.directory:xpanse_terraform_plugin_cache}")
+    private String pluginCacheDirectory;
+
+    @Value("${terraform.plan.reuse.enabled:true}")
+    private boolean isPlanReuseEnabled;
+
+    @Value("${terraform.command.max.output.size:10485760}")
+    private int commandMaxOutputSize;
 }
@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment.deployers.terraform.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfOutput;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfState;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfStateResource;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfStateResourceInstance;
+
+/**
+ * Reads the terraform state as a stream of tokens. Only the outputs and the attributes of the
+ * resources of the requested types are bound into objects, all other content of the state, such
+ * as the resources of unsupported types, the dependencies and the private data of the instances,
+ * is skipped.
+ */
+@Slf4j
+public final class TfStateParser {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, TfOutput>> OUTPUTS_TYPE =
+            new TypeReference<>() {
+            };
+    private static final TypeReference<Map<String, Object>> ATTRIBUTES_TYPE =
+            new TypeReference<>() {
+            };
+
+    private TfStateParser() {
+        // private constructor to block instantiation.
+    }
+
+    /**
+     * Parse the outputs and the resources of the supported types from the terraform state.
+     *
+     * @param stateContent  content of the terraform state.
+     * @param resourceTypes resource types to read, resources of other types are skipped.
+     * @return state with the outputs and the supported resources, null if the state is null.
+     * @throws IOException if the content is not a valid terraform state.
+     */
+    public static TfState parse(String stateContent, Set<String> resourceTypes)
+            throws IOException {
+        try (JsonParser parser = OBJECT_MAPPER.createParser(stateContent)) {
+            JsonToken firstToken = parser.nextToken();
+            if (firstToken == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (firstToken != JsonToken.START_OBJECT) {
+                throw new IOException("Terraform state is not a JSON object.");
+            }
+            TfState tfState = new TfState();
+            tfState.setResources(new ArrayList<>());
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case "outputs" -> tfState.setOutputs(parser.readValueAs(OUTPUTS_TYPE));
+                    case "resources" -> readResources(parser, resourceTypes,
+                            tfState.getResources());
+                    default -> parser.skipChildren();
+                }
+            }
+            return tfState;
+        }
+    }
+
+    private static void readResources(JsonParser parser, Set<String> resourceTypes,
+                                      List<TfStateResource> resources) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            TfStateResource resource = readResource(parser, resourceTypes);
+            if (Objects.nonNull(resource)) {
+                resources.add(resource);
+            }
+        }
+    }
+
+    private static TfStateResource readResource(JsonParser parser, Set<String> resourceTypes)
+            throws IOException {
+        TfStateResource resource = new TfStateResource();
+        JsonNode instancesBeforeType = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case "type" -> resource.setType(parser.getValueAsString());
+                case "name" -> resource.setName(parser.getValueAsString());
+                case "mode" -> resource.setMode(parser.getValueAsString());
+                case "instances" -> {
+                    if (Objects.isNull(resource.getType())) {
+                        // terraform writes the type first, kept only for other writers.
+                        instancesBeforeType = parser.readValueAsTree();
+                    } else if (resourceTypes.contains(resource.getType())) {
+                        resource.setInstances(readInstances(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        if (!resourceTypes.contains(resource.getType())) {
+            log.info("The resource type {} is unsupported to parse.", resource.getType());
+            return null;
+        }
+        if (Objects.nonNull(instancesBeforeType)) {
+            try (JsonParser instancesParser = instancesBeforeType.traverse(OBJECT_MAPPER)) {
+                instancesParser.nextToken();
+                resource.setInstances(readInstances(instancesParser));
+            }
+        }
+        if (Objects.isNull(resource.getInstances())) {
+            resource.setInstances(new ArrayList<>());
+        }
+        return resource;
+    }
+
+    private static List<TfStateResourceInstance> readInstances(JsonParser parser)
+            throws IOException {
+        List<TfStateResourceInstance> instances = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return instances;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            TfStateResourceInstance instance = new TfStateResourceInstance();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if ("attributes".equals(fieldName)) {
+                    instance.setAttributes(parser.readValueAs(ATTRIBUTES_TYPE));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            instances.add(instance);
+        }
+        return instances;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * Registry of pending long-polling requests waiting for a status change of an object.
+ * The waiters are completed when a status change is offered to the registry or when the
+ * wait period is over. No thread is held while waiting.
+ *
+ * @param <T> type of the status update returned to the client.
+ */
+@Slf4j
+class DeferredResultRegistry<T> {
+
+    private final Map<UUID, Set<Waiter<T>>> waitersById = new ConcurrentHashMap<>();
+
+    private final TaskScheduler timeoutScheduler;
+
+    DeferredResultRegistry(TaskScheduler timeoutScheduler) {
+        this.timeoutScheduler = timeoutScheduler;
+    }
+
+    /**
+     * Register a waiter for the status change of the object.
+     *
+     * @param id                 id of the object.
+     * @param deferredResult     deferred result to be completed.
+     * @param initialUpdate      update returned when no change happens within the wait period.
+     * @param completeCondition  condition for an update to complete the waiter.
+     * @param waitPeriodInSecond maximum period to wait for a status change.
+     * @return registered waiter.
+     */
+    Waiter<T> register(UUID id, DeferredResult<T> deferredResult, T initialUpdate,
+                       Predicate<T> completeCondition, long waitPeriodInSecond) {
+        Waiter<T> waiter = new Waiter<>(id, deferredResult, completeCondition, initialUpdate);
+        waitersById.computeIfAbsent(id, key -> ConcurrentHashMap.newKeySet()).add(waiter);
+        waiter.timeoutFuture = timeoutScheduler.schedule(() -> complete(waiter),
+                Instant.now().plusSeconds(waitPeriodInSecond));
+        deferredResult.onCompletion(() -> remove(waiter));
+        return waiter;
+    }
+
+    /**
+     * Offer a new status update to all waiters of the object.
+     *
+     * @param id     id of the object.
+     * @param update latest status update of the object.
+     */
+    void offer(UUID id, T update) {
+        Set<Waiter<T>> waiters = waitersById.get(id);
+        if (Objects.isNull(waiters)) {
+            return;
+        }
+        waiters.forEach(waiter -> offer(waiter, update));
+    }
+
+    /**
+     * Offer a new status update to the given waiter only.
+     *
+     * @param waiter waiter to be updated.
+     * @param update latest status update of the object.
+     */
+    void offer(Waiter<T> waiter, T update) {
+        waiter.latestUpdate.set(update);
+        if (waiter.completeCondition.test(update)) {
+            complete(waiter);
+        }
+    }
+
+    /**
+     * Complete the waiter with an error.
+     *
+     * @param waiter    waiter to be completed.
+     * @param exception error to be returned to the client.
+     */
+    void fail(Waiter<T> waiter, Exception exception) {
+        remove(waiter);
+        waiter.deferredResult.setErrorResult(exception);
+    }
+
+    int getWaitersCount() {
+        return waitersById.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void complete(Waiter<T> waiter) {
+        remove(waiter);
+        waiter.deferredResult.setResult(waiter.latestUpdate.get());
+    }
+
+    private void remove(Waiter<T> waiter) {
+        if (Objects.nonNull(waiter.timeoutFuture)) {
+            waiter.timeoutFuture.cancel(false);
+        }
+        waitersById.computeIfPresent(waiter.id, (key, waiters) -> {
+            waiters.remove(waiter);
+            return waiters.isEmpty() ? null : waiters;
+        });
+    }
+
+    /**
+     * A long-polling request waiting for a status change.
+     */
+    static final class Waiter<T> {
+
+        private final UUID id;
+        private final DeferredResult<T> deferredResult;
+        private final Predicate<T> completeCondition;
+        private final AtomicReference<T> latestUpdate;
+        private volatile ScheduledFuture<?> timeoutFuture;
+
+        private Waiter(UUID id, DeferredResult<T> deferredResult, Predicate<T> completeCondition,
+                       T initialUpdate) {
+            this.id = id;
+            this.deferredResult = deferredResult;
+            this.completeCondition = completeCondition;
+            this.latestUpdate = new AtomicReference<>(initialUpdate);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.deployment.polling.event.ServiceDeploymentStatusChangedEvent;
+import org.eclipse.xpanse.modules.deployment.polling.event.ServiceOrderStatusChangedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cluster-wide fan-out channel for status change events based on Redis pub/sub. Events published
+ * by one xpanse node are delivered to the long-polling beans of all other nodes.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "enable.redis.distributed.cache", havingValue = "true")
+public class RedisServiceStatusChangeChannel {
+
+    static final String SERVICE_DEPLOYMENT_STATUS_CHANNEL =
+            "xpanse:service:deployment:status:changed";
+    static final String SERVICE_ORDER_STATUS_CHANNEL = "xpanse:service:order:status:changed";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RedisMessageListenerContainer listenerContainer =
+            new RedisMessageListenerContainer();
+
+    @Resource
+    private RedisConnectionFactory connectionFactory;
+    @Resource
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private StringRedisTemplate redisTemplate;
+
+    /**
+     * Subscribe to the status change channels.
+     */
+    @PostConstruct
+    public void subscribe() {
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(message, ServiceDeploymentStatusChangedEvent.class),
+                new ChannelTopic(SERVICE_DEPLOYMENT_STATUS_CHANNEL));
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(message, ServiceOrderStatusChangedEvent.class),
+                new ChannelTopic(SERVICE_ORDER_STATUS_CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("Subscribed to status change channels of the xpanse cluster.");
+    }
+
+    /**
+     * Unsubscribe from the status change channels.
+     */
+    @PreDestroy
+    public void unsubscribe() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    /**
+     * Broadcast the status change event to all other xpanse nodes.
+     *
+     * @param event status change event.
+     */
+    public void broadcast(Object event) {
+        String channel = event instanceof ServiceOrderStatusChangedEvent
+                ? SERVICE_ORDER_STATUS_CHANNEL : SERVICE_DEPLOYMENT_STATUS_CHANNEL;
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            log.error("Failed to broadcast status change event {} to the cluster.", event, e);
+        }
+    }
+
+    private <T> void onMessage(Message message, Class<T> eventType) {
+        try {
+            T event = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), eventType);
+            if (isFromLocalNode(event)) {
+                return;
+            }
+            applicationEventPublisher.publishEvent(event);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to parse status change event received from the cluster.", e);
+        }
+    }
+
+    private boolean isFromLocalNode(Object event) {
+        String sourceNodeId = switch (event) {
+            case ServiceDeploymentStatusChangedEvent e -> e.getSourceNodeId();
+            case ServiceOrderStatusChangedEvent e -> e.getSourceNodeId();
+            default -> null;
+        };
+        return ServiceStatusChangePublisher.LOCAL_NODE_ID.equals(sourceNodeId);
+    }
+}
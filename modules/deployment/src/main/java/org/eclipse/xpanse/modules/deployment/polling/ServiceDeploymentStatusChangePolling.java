@@ -10,22 +10,24 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
-import org.awaitility.Awaitility;
-import org.awaitility.core.ConditionTimeoutException;
+import org.eclipse.xpanse.modules.async.TaskConfiguration;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
 import org.eclipse.xpanse.modules.database.service.DeployServiceStorage;
+import org.eclipse.xpanse.modules.deployment.polling.event.ServiceDeploymentStatusChangedEvent;
 import org.eclipse.xpanse.modules.models.service.deploy.DeploymentStatusUpdate;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.ServiceNotDeployedException;
 import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.async.DeferredResult;
 
 /**
- * Bean implements long-polling mechanism to return the status of the order.
+ * Bean implements long-polling mechanism to return the status of the order. The pending requests
+ * are completed by the status change events published by {@link ServiceStatusChangePublisher}.
  */
 @Slf4j
 @Component
@@ -43,8 +45,7 @@ public class ServiceDeploymentStatusChangePolling {
             ServiceDeploymentState.MANUAL_CLEANUP_REQUIRED
     );
 
-    @Value("${service.status.long.polling.interval.in.seconds:5}")
-    private int pollingInterval;
+    private final DeferredResultRegistry<DeploymentStatusUpdate> registry;
 
     @Value("${service.status.long.polling.wait.time.in.seconds:30}")
     private int pollingWaitPeriod;
@@ -53,7 +54,17 @@ public class ServiceDeploymentStatusChangePolling {
     private DeployServiceStorage deployServiceStorage;
 
     /**
-     * Method to fetch order status by polling database for a fixed period of time.
+     * Constructor for ServiceDeploymentStatusChangePolling.
+     *
+     * @param taskScheduler scheduler completing the pending requests after the wait period.
+     */
+    public ServiceDeploymentStatusChangePolling(
+            @Qualifier(TaskConfiguration.TASK_SCHEDULER_NAME) TaskScheduler taskScheduler) {
+        this.registry = new DeferredResultRegistry<>(taskScheduler);
+    }
+
+    /**
+     * Method to wait for a change of the service deployment status for a fixed period of time.
      *
      * @param deferredResult                      DeferredResult object from the original HTTP
      *                                            thread to which the result object must be set.
@@ -65,38 +76,44 @@ public class ServiceDeploymentStatusChangePolling {
     public void fetchServiceDeploymentStatusWithPolling(
             DeferredResult<DeploymentStatusUpdate> deferredResult, UUID serviceId,
             ServiceDeploymentState previousKnownServiceDeploymentState) {
-        AtomicReference<DeploymentStatusUpdate> ref = new AtomicReference<>(
+        DeploymentStatusUpdate initialUpdate =
                 new DeploymentStatusUpdate(previousKnownServiceDeploymentState,
                         FINAL_SERVICE_DEPLOYMENT_STATES.contains(
-                                previousKnownServiceDeploymentState)));
+                                previousKnownServiceDeploymentState));
+        // register before reading the database to not miss changes published in between.
+        DeferredResultRegistry.Waiter<DeploymentStatusUpdate> waiter = registry.register(
+                serviceId, deferredResult, initialUpdate,
+                update -> Objects.isNull(previousKnownServiceDeploymentState)
+                        || update.getIsOrderCompleted()
+                        || update.getServiceDeploymentState()
+                        != previousKnownServiceDeploymentState,
+                pollingWaitPeriod);
         try {
-            Awaitility.await()
-                    .atMost(pollingWaitPeriod, TimeUnit.SECONDS)
-                    .pollDelay(0, TimeUnit.SECONDS) // first check runs without wait.
-                    .pollInterval(pollingInterval, TimeUnit.SECONDS)
-                    .until(() -> {
-                        DeployServiceEntity deployServiceEntity =
-                                deployServiceStorage.findDeployServiceById(serviceId);
-                        if (Objects.isNull(deployServiceEntity)) {
-                            throw new ServiceNotDeployedException(
-                                    "Service with id " + serviceId + " not found");
-                        }
-                        ref.set(new DeploymentStatusUpdate(
-                                deployServiceEntity.getServiceDeploymentState(),
-                                FINAL_SERVICE_DEPLOYMENT_STATES.contains(
-                                        deployServiceEntity.getServiceDeploymentState())));
-                        return Objects.isNull(previousKnownServiceDeploymentState)
-                                || FINAL_SERVICE_DEPLOYMENT_STATES.contains(
-                                deployServiceEntity.getServiceDeploymentState())
-                                || deployServiceEntity.getServiceDeploymentState()
-                                != previousKnownServiceDeploymentState;
-                    });
-        } catch (ConditionTimeoutException conditionTimeoutException) {
-            log.info("No change to service deployment status yet.");
+            DeployServiceEntity deployServiceEntity =
+                    deployServiceStorage.findDeployServiceById(serviceId);
+            if (Objects.isNull(deployServiceEntity)) {
+                throw new ServiceNotDeployedException(
+                        "Service with id " + serviceId + " not found");
+            }
+            registry.offer(waiter,
+                    getStatusUpdate(deployServiceEntity.getServiceDeploymentState()));
         } catch (Exception exception) {
-            deferredResult.setErrorResult(exception);
+            registry.fail(waiter, exception);
         }
-        deferredResult.setResult(ref.get());
     }
 
+    /**
+     * Complete the pending requests of the service with the changed deployment state.
+     *
+     * @param event service deployment status changed event.
+     */
+    @EventListener
+    public void onServiceDeploymentStatusChanged(ServiceDeploymentStatusChangedEvent event) {
+        registry.offer(event.getServiceId(),
+                getStatusUpdate(event.getServiceDeploymentState()));
+    }
+
+    private DeploymentStatusUpdate getStatusUpdate(ServiceDeploymentState state) {
+        return new DeploymentStatusUpdate(state, FINAL_SERVICE_DEPLOYMENT_STATES.contains(state));
+    }
 }
@@ -10,21 +10,24 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
-import org.awaitility.Awaitility;
-import org.awaitility.core.ConditionTimeoutException;
+import org.eclipse.xpanse.modules.async.TaskConfiguration;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
 import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderStorage;
+import org.eclipse.xpanse.modules.deployment.polling.event.ServiceOrderStatusChangedEvent;
 import org.eclipse.xpanse.modules.models.service.enums.TaskStatus;
 import org.eclipse.xpanse.modules.models.service.order.ServiceOrderStatusUpdate;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.async.DeferredResult;
 
 /**
- * Bean implements long-polling mechanism to return the task status of the service order.
+ * Bean implements long-polling mechanism to return the task status of the service order. The
+ * pending requests are completed by the status change events published by
+ * {@link ServiceStatusChangePublisher}.
  */
 @Slf4j
 @Component
@@ -32,15 +35,24 @@ public class ServiceOrderStatusChangePolling {
 
     private static final List<TaskStatus> FINAL_TASK_STATUS
             = Arrays.asList(TaskStatus.FAILED, TaskStatus.SUCCESSFUL);
-    @Value("${service.order.status.long.polling.interval.in.seconds:5}")
-    private int pollingInterval;
+    private final DeferredResultRegistry<ServiceOrderStatusUpdate> registry;
     @Value("${service.order.status.long.polling.wait.time.in.seconds:60}")
     private int pollingWaitPeriod;
     @Resource
     private ServiceOrderStorage orderStorage;
 
     /**
-     * Fetch status of the service order by polling database for a fixed period of time.
+     * Constructor for ServiceOrderStatusChangePolling.
+     *
+     * @param taskScheduler scheduler completing the pending requests after the wait period.
+     */
+    public ServiceOrderStatusChangePolling(
+            @Qualifier(TaskConfiguration.TASK_SCHEDULER_NAME) TaskScheduler taskScheduler) {
+        this.registry = new DeferredResultRegistry<>(taskScheduler);
+    }
+
+    /**
+     * Wait for a change of the task status of the service order for a fixed period of time.
      *
      * @param deferredResult          deferredResult object from the original HTTP thread to
      *                                which the result object must be set.
@@ -53,30 +65,46 @@ public class ServiceOrderStatusChangePolling {
             DeferredResult<ServiceOrderStatusUpdate> deferredResult, UUID orderId,
             TaskStatus previousKnownTaskStatus) {
         log.info("Start polling for service order status with order id: {}", orderId);
-        AtomicReference<ServiceOrderStatusUpdate> ref =
-                new AtomicReference<>(new ServiceOrderStatusUpdate(previousKnownTaskStatus,
-                        FINAL_TASK_STATUS.contains(previousKnownTaskStatus), null));
+        ServiceOrderStatusUpdate initialUpdate = new ServiceOrderStatusUpdate(
+                previousKnownTaskStatus, FINAL_TASK_STATUS.contains(previousKnownTaskStatus), null);
+        // register before reading the database to not miss changes published in between.
+        DeferredResultRegistry.Waiter<ServiceOrderStatusUpdate> waiter = registry.register(
+                orderId, deferredResult, initialUpdate,
+                update -> isChangedForClient(update, previousKnownTaskStatus),
+                pollingWaitPeriod);
         try {
-            Awaitility.await().atMost(pollingWaitPeriod, TimeUnit.SECONDS)
-                    .pollDelay(0, TimeUnit.SECONDS) // first check runs without wait.
-                    .pollInterval(pollingInterval, TimeUnit.SECONDS).until(() -> {
-                        ServiceOrderEntity serviceOrderEntity = orderStorage.getEntityById(orderId);
-                        TaskStatus taskStatus = serviceOrderEntity.getTaskStatus();
-                        boolean isOrderCompleted = FINAL_TASK_STATUS.contains(taskStatus);
-                        ref.set(new ServiceOrderStatusUpdate(taskStatus, isOrderCompleted,
-                                serviceOrderEntity.getErrorMsg()));
-                        boolean statusIsChanged = Objects.nonNull(previousKnownTaskStatus)
-                                && taskStatus != previousKnownTaskStatus;
-                        return isOrderCompleted || statusIsChanged;
-                    });
-        } catch (ConditionTimeoutException conditionTimeoutException) {
-            log.error("The service order is not completed or status not changed yet.");
+            ServiceOrderEntity serviceOrderEntity = orderStorage.getEntityById(orderId);
+            registry.offer(waiter, getStatusUpdate(serviceOrderEntity.getTaskStatus(),
+                    serviceOrderEntity.getErrorMsg()));
         } catch (Exception exception) {
             log.error("Error occurred while polling for service order status with order id: {}",
                     orderId, exception);
-            deferredResult.setErrorResult(exception);
+            registry.fail(waiter, exception);
         }
-        deferredResult.setResult(ref.get());
     }
 
+    /**
+     * Complete the pending requests of the service order with the changed task status.
+     *
+     * @param event service order status changed event.
+     */
+    @EventListener
+    public void onServiceOrderStatusChanged(ServiceOrderStatusChangedEvent event) {
+        registry.offer(event.getOrderId(),
+                getStatusUpdate(event.getTaskStatus(), event.getErrorMsg()));
+    }
+
+    private ServiceOrderStatusUpdate getStatusUpdate(TaskStatus taskStatus, String errorMsg) {
+        return new ServiceOrderStatusUpdate(taskStatus, FINAL_TASK_STATUS.contains(taskStatus),
+                errorMsg);
+    }
+
+    private boolean isChangedForClient(ServiceOrderStatusUpdate update,
+                                       TaskStatus previousKnownTaskStatus) {
+        if (update.getIsOrderCompleted()) {
+            return true;
+        }
+        return Objects.nonNull(previousKnownTaskStatus)
+                && update.getTaskStatus() != previousKnownTaskStatus;
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import jakarta.annotation.Nullable;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.deployment.polling.event.ServiceDeploymentStatusChangedEvent;
+import org.eclipse.xpanse.modules.deployment.polling.event.ServiceOrderStatusChangedEvent;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.eclipse.xpanse.modules.models.service.enums.TaskStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process notification bus for status changes of services and service orders. Events are
+ * delivered to the local long-polling beans and, when the cluster channel is enabled, fanned out
+ * to all other xpanse nodes.
+ */
+@Slf4j
+@Component
+public class ServiceStatusChangePublisher {
+
+    /**
+     * Id of the current xpanse node.
+     */
+    public static final String LOCAL_NODE_ID = UUID.randomUUID().toString();
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final RedisServiceStatusChangeChannel clusterChannel;
+
+    /**
+     * Constructor for ServiceStatusChangePublisher.
+     *
+     * @param applicationEventPublisher publisher of the local events.
+     * @param clusterChannel            channel to fan out events to other nodes.
+     */
+    @Autowired
+    public ServiceStatusChangePublisher(
+            ApplicationEventPublisher applicationEventPublisher,
+            @Nullable RedisServiceStatusChangeChannel clusterChannel) {
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.clusterChannel = clusterChannel;
+    }
+
+    /**
+     * Publish the change of the service deployment state.
+     *
+     * @param serviceId              id of the service.
+     * @param serviceDeploymentState new deployment state of the service.
+     */
+    public void publishServiceDeploymentStatusChange(
+            UUID serviceId, ServiceDeploymentState serviceDeploymentState) {
+        if (Objects.isNull(serviceId) || Objects.isNull(serviceDeploymentState)) {
+            return;
+        }
+        ServiceDeploymentStatusChangedEvent event = new ServiceDeploymentStatusChangedEvent(
+                serviceId, serviceDeploymentState, LOCAL_NODE_ID);
+        publish(event);
+    }
+
+    /**
+     * Publish the change of the service order task status.
+     *
+     * @param orderId    id of the service order.
+     * @param taskStatus new task status of the service order.
+     * @param errorMsg   error message of the service order.
+     */
+    public void publishServiceOrderStatusChange(UUID orderId, TaskStatus taskStatus,
+                                                String errorMsg) {
+        if (Objects.isNull(orderId) || Objects.isNull(taskStatus)) {
+            return;
+        }
+        ServiceOrderStatusChangedEvent event =
+                new ServiceOrderStatusChangedEvent(orderId, taskStatus, errorMsg, LOCAL_NODE_ID);
+        publish(event);
+    }
+
+    private void publish(Object event) {
+        // status change notifications must never break the state change itself.
+        try {
+            applicationEventPublisher.publishEvent(event);
+        } catch (Exception e) {
+            log.error("Failed to deliver status change event {} locally.", event, e);
+        }
+        if (Objects.nonNull(clusterChannel)) {
+            clusterChannel.broadcast(event);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.polling.event;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+
+/**
+ * Event published when the deployment state of a service is changed.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ServiceDeploymentStatusChangedEvent {
+
+    private UUID serviceId;
+
+    private ServiceDeploymentState serviceDeploymentState;
+
+    /**
+     * Id of the xpanse node which changed the state. Used to skip events received back from the
+     * cluster channel.
+     */
+    private String sourceNodeId;
+}
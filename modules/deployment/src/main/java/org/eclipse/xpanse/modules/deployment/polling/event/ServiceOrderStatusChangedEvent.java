@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.polling.event;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.eclipse.xpanse.modules.models.service.enums.TaskStatus;
+
+/**
+ * Event published when the task status of a service order is changed.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ServiceOrderStatusChangedEvent {
+
+    private UUID orderId;
+
+    private TaskStatus taskStatus;
+
+    private String errorMsg;
+
+    /**
+     * Id of the xpanse node which changed the status. Used to skip events received back from the
+     * cluster channel.
+     */
+    private String sourceNodeId;
+}
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bulkhead of one workload type and cloud service provider. At most the configured number of
+ * tasks run at the same time, the other tasks wait in one FIFO queue per user. The queues of the
+ * users are served in turns, so a user with many queued tasks does not hold back the tasks of
+ * the other users.
+ *
+ * <p>Admitted tasks reserve a place in the queue until they are submitted, so the queue limits
+ * hold for the tasks admitted at the same time.
+ */
+class Bulkhead {
+
+    private static final double EXECUTION_TIME_SMOOTHING = 0.2;
+    private final int maxConcurrentTasks;
+    private final int maxQueuedTasks;
+    private final int maxQueuedTasksPerUser;
+    private final Map<String, Deque<ScheduledTask>> queuedTasksByUser = new HashMap<>();
+    private final Deque<String> usersInTurn = new ArrayDeque<>();
+    private final Map<String, Integer> reservedTasksByUser = new HashMap<>();
+    private int runningTasksCount;
+    private int queuedTasksCount;
+    private int reservedTasksCount;
+    private double averageExecutionMillis;
+
+    Bulkhead(int maxConcurrentTasks, int maxQueuedTasks, int maxQueuedTasksPerUser) {
+        this.maxConcurrentTasks = maxConcurrentTasks;
+        this.maxQueuedTasks = maxQueuedTasks;
+        this.maxQueuedTasksPerUser = maxQueuedTasksPerUser;
+    }
+
+    /**
+     * Reserve a place for a new task of the user, unless the queue is full.
+     *
+     * @param userId id of the user.
+     * @return true if the place is reserved, false if the queue of the bulkhead or of the user is
+     *     full.
+     */
+    synchronized boolean tryReserve(String userId) {
+        if (isQueueFull(userId)) {
+            return false;
+        }
+        reservedTasksByUser.merge(userId, 1, Integer::sum);
+        reservedTasksCount++;
+        return true;
+    }
+
+    /**
+     * Release the place reserved for a task of the user.
+     *
+     * @param userId id of the user.
+     */
+    synchronized void cancelReservation(String userId) {
+        Integer userReservedTasksCount = reservedTasksByUser.get(userId);
+        if (Objects.isNull(userReservedTasksCount)) {
+            return;
+        }
+        if (userReservedTasksCount > 1) {
+            reservedTasksByUser.put(userId, userReservedTasksCount - 1);
+        } else {
+            reservedTasksByUser.remove(userId);
+        }
+        reservedTasksCount--;
+    }
+
+    /**
+     * Take a free slot when no task is waiting for one.
+     *
+     * @param userId   id of the user who submits the task.
+     * @param reserved true if a place was reserved for the task, it is released with the slot.
+     * @return true if the slot is taken.
+     */
+    synchronized boolean tryAcquire(String userId, boolean reserved) {
+        if (runningTasksCount < maxConcurrentTasks && queuedTasksCount == 0) {
+            if (reserved) {
+                cancelReservation(userId);
+            }
+            runningTasksCount++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Queue the task, or take a slot for it when one has been freed in the meantime. The task
+     * takes the place reserved for it, other tasks are queued without a limit, as they have been
+     * accepted before.
+     *
+     * @param task     task to run.
+     * @param reserved true if a place was reserved for the task.
+     * @return true if the slot is taken, false if the task is queued.
+     */
+    synchronized boolean enqueueOrAcquire(ScheduledTask task, boolean reserved) {
+        if (reserved) {
+            cancelReservation(task.userId());
+        }
+        if (tryAcquire(task.userId(), false)) {
+            return true;
+        }
+        queuedTasksByUser.computeIfAbsent(task.userId(), userId -> {
+            usersInTurn.addLast(userId);
+            return new ArrayDeque<>();
+        }).addLast(task);
+        queuedTasksCount++;
+        return false;
+    }
+
+    /**
+     * Release the slot of a finished task and hand it over to the next queued task, taken from
+     * the user whose turn it is.
+     *
+     * @param executionMillis execution time of the finished task.
+     * @return the next task to run in the slot, or null if the slot is freed.
+     */
+    synchronized ScheduledTask releaseAndPoll(long executionMillis) {
+        averageExecutionMillis = averageExecutionMillis == 0 ? executionMillis
+                : EXECUTION_TIME_SMOOTHING * executionMillis
+                + (1 - EXECUTION_TIME_SMOOTHING) * averageExecutionMillis;
+        String userId = usersInTurn.pollFirst();
+        if (Objects.isNull(userId)) {
+            runningTasksCount--;
+            return null;
+        }
+        Deque<ScheduledTask> userTasks = queuedTasksByUser.get(userId);
+        ScheduledTask nextTask = userTasks.pollFirst();
+        if (userTasks.isEmpty()) {
+            queuedTasksByUser.remove(userId);
+        } else {
+            usersInTurn.addLast(userId);
+        }
+        queuedTasksCount--;
+        return nextTask;
+    }
+
+    /**
+     * Check if a new task of the user would be rejected because the queue is full.
+     *
+     * @param userId id of the user.
+     * @return true if the queue of the bulkhead or of the user is full.
+     */
+    synchronized boolean isQueueFull(String userId) {
+        int freeSlotsCount = Math.max(0, maxConcurrentTasks - runningTasksCount);
+        if (queuedTasksCount == 0 && reservedTasksCount < freeSlotsCount) {
+            return false;
+        }
+        // reserved tasks which find no free slot are queued.
+        int expectedQueuedTasksCount =
+                queuedTasksCount + Math.max(0, reservedTasksCount - freeSlotsCount);
+        Deque<ScheduledTask> userTasks = queuedTasksByUser.get(userId);
+        int userQueuedTasksCount = (Objects.nonNull(userTasks) ? userTasks.size() : 0)
+                + reservedTasksByUser.getOrDefault(userId, 0);
+        return expectedQueuedTasksCount >= maxQueuedTasks
+                || userQueuedTasksCount >= maxQueuedTasksPerUser;
+    }
+
+    /**
+     * Estimate the seconds until a slot is free for a new task.
+     *
+     * @param defaultSeconds seconds returned when no task has finished yet.
+     * @return estimated seconds.
+     */
+    synchronized long estimateWaitSeconds(long defaultSeconds) {
+        if (averageExecutionMillis == 0) {
+            return defaultSeconds;
+        }
+        double rounds = (double) queuedTasksCount / maxConcurrentTasks + 1;
+        return Math.max(1, (long) Math.ceil(rounds * averageExecutionMillis / 1000));
+    }
+
+    synchronized int getRunningTasksCount() {
+        return runningTasksCount;
+    }
+
+    synchronized int getQueuedTasksCount() {
+        return queuedTasksCount;
+    }
+}
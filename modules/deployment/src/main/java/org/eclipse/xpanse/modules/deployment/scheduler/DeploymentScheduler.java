@@ -0,0 +1,318 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment.scheduler;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongGauge;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.async.TaskConfiguration;
+import org.eclipse.xpanse.modules.async.ThreadMdcUtil;
+import org.eclipse.xpanse.modules.database.servicestatemanagement.ServiceStateManagementTaskEntity;
+import org.eclipse.xpanse.modules.database.servicestatemanagement.ServiceStateManagementTaskStorage;
+import org.eclipse.xpanse.modules.deployment.ServiceOrderManager;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.service.deploy.exceptions.DeploymentQueueFullException;
+import org.eclipse.xpanse.modules.models.service.enums.TaskStatus;
+import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler of the deployment tasks run by xpanse itself and of the service state management
+ * tasks. Tasks are run in one bulkhead per workload type and cloud service provider, so a burst
+ * of tasks for one provider or of one type does not hold back the others. Tasks which find no
+ * free slot are queued per user and served in turns, and their orders are stored as queued, so
+ * they are resumed after a restart.
+ *
+ * <p>New requests are admitted before their orders or tasks are created, and rejected with
+ * {@link DeploymentQueueFullException} when the queue of the bulkhead or of the user is full. The
+ * admission reserves a place in the queue until the task is submitted, so requests admitted at the
+ * same time cannot exceed the limits of the queue.
+ *
+ * <p>The tasks run in virtual threads when the virtual thread mode is enabled, as they are blocked
+ * most of the time on the deployers and on the APIs of the cloud service providers. Otherwise they
+ * run on the managed async task executor of xpanse.
+ */
+@Slf4j
+@Component
+public class DeploymentScheduler {
+
+    private static final String INSTRUMENTATION_NAME = "org.eclipse.xpanse.deployment.scheduler";
+    private static final AttributeKey<String> WORKLOAD_TYPE_KEY =
+            AttributeKey.stringKey("workload.type");
+    private static final AttributeKey<String> CSP_KEY = AttributeKey.stringKey("csp");
+    private final Map<BulkheadKey, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final Map<UUID, Admission> admissions = new ConcurrentHashMap<>();
+    private final ServiceOrderManager serviceOrderManager;
+    private final ServiceStateManagementTaskStorage taskStorage;
+    private final int maxConcurrentDeployments;
+    private final int maxConcurrentStateManagementTasks;
+    private final int maxQueuedTasks;
+    private final int maxQueuedTasksPerUser;
+    private final long defaultRetryAfterSeconds;
+    private final Executor executor;
+    private final LongHistogram waitTimeHistogram;
+    private final List<ObservableLongGauge> gauges;
+
+    /**
+     * Constructor for DeploymentScheduler.
+     *
+     * @param serviceOrderManager               manager of the service orders.
+     * @param taskStorage                       storage of the service state management tasks.
+     * @param openTelemetryProvider             provides the meters of the scheduler.
+     * @param asyncTaskExecutor                 executor of the tasks when the virtual thread
+     *                                          mode is disabled.
+     * @param virtualThreadExecutorProvider     provides the virtual thread executor, when the
+     *                                          virtual thread mode is enabled.
+     * @param maxConcurrentDeployments          deployment tasks run at the same time per csp.
+     * @param maxConcurrentStateManagementTasks state management tasks run at the same time per
+     *                                          csp.
+     * @param maxQueuedTasks                    tasks queued per workload type and csp.
+     * @param maxQueuedTasksPerUser             tasks queued per workload type, csp and user.
+     * @param defaultRetryAfterSeconds          seconds after which a rejected request is retried,
+     *                                          until the execution time of the tasks is known.
+     */
+    @Autowired
+    public DeploymentScheduler(
+            ServiceOrderManager serviceOrderManager,
+            ServiceStateManagementTaskStorage taskStorage,
+            ObjectProvider<OpenTelemetry> openTelemetryProvider,
+            @Qualifier(TaskConfiguration.ASYNC_EXECUTOR_NAME) Executor asyncTaskExecutor,
+            @Qualifier(TaskConfiguration.VIRTUAL_THREAD_EXECUTOR_NAME)
+            ObjectProvider<AsyncTaskExecutor> virtualThreadExecutorProvider,
+            @Value("${deployment.scheduler.max.concurrent.deployments.per.csp:4}")
+            int maxConcurrentDeployments,
+            @Value("${deployment.scheduler.max.concurrent.state.management.tasks.per.csp:8}")
+            int maxConcurrentStateManagementTasks,
+            @Value("${deployment.scheduler.max.queued.tasks.per.csp:100}") int maxQueuedTasks,
+            @Value("${deployment.scheduler.max.queued.tasks.per.user:10}")
+            int maxQueuedTasksPerUser,
+            @Value("${deployment.scheduler.default.retry.after.seconds:60}")
+            long defaultRetryAfterSeconds) {
+        this.serviceOrderManager = serviceOrderManager;
+        this.taskStorage = taskStorage;
+        this.maxConcurrentDeployments = maxConcurrentDeployments;
+        this.maxConcurrentStateManagementTasks = maxConcurrentStateManagementTasks;
+        this.maxQueuedTasks = maxQueuedTasks;
+        this.maxQueuedTasksPerUser = maxQueuedTasksPerUser;
+        this.defaultRetryAfterSeconds = defaultRetryAfterSeconds;
+        // both executors wait for their running tasks when the application is stopped.
+        this.executor = Objects.requireNonNullElse(
+                virtualThreadExecutorProvider.getIfAvailable(), asyncTaskExecutor);
+        Meter meter = openTelemetryProvider.getIfAvailable(OpenTelemetry::noop)
+                .getMeter(INSTRUMENTATION_NAME);
+        this.waitTimeHistogram = meter.histogramBuilder("xpanse.deployment.scheduler.wait.time")
+                .setDescription("Time from the submission of the tasks until they run.")
+                .setUnit("ms")
+                .ofLongs()
+                .build();
+        this.gauges = List.of(
+                meter.gaugeBuilder("xpanse.deployment.scheduler.queued.tasks")
+                        .setDescription("Number of the tasks waiting for a free slot.")
+                        .ofLongs()
+                        .buildWithCallback(measurement -> bulkheads.forEach((key, bulkhead) ->
+                                measurement.record(bulkhead.getQueuedTasksCount(),
+                                        key.getAttributes()))),
+                meter.gaugeBuilder("xpanse.deployment.scheduler.running.tasks")
+                        .setDescription("Number of the running tasks.")
+                        .ofLongs()
+                        .buildWithCallback(measurement -> bulkheads.forEach((key, bulkhead) ->
+                                measurement.record(bulkhead.getRunningTasksCount(),
+                                        key.getAttributes()))));
+    }
+
+    /**
+     * Admit a new task of the user. A place in the queue is reserved for the task until it is
+     * submitted with the same id or the admission is cancelled.
+     *
+     * @param workloadType type of the task.
+     * @param id           id of the order or of the service state management task.
+     * @param csp          cloud service provider of the task.
+     * @param userId       id of the user who requests the task.
+     * @throws DeploymentQueueFullException if the queue of the provider or of the user is full.
+     */
+    public void admit(WorkloadType workloadType, UUID id, Csp csp, String userId) {
+        BulkheadKey key = new BulkheadKey(workloadType, csp);
+        Bulkhead bulkhead = getBulkhead(key);
+        String userKey = getUserKey(userId);
+        if (!bulkhead.tryReserve(userKey)) {
+            long retryAfterSeconds = bulkhead.estimateWaitSeconds(defaultRetryAfterSeconds);
+            String errorMsg = String.format("Too many %s tasks are queued for the cloud service "
+                            + "provider %s. Please retry after %d seconds.",
+                    workloadType.toValue(), csp.toValue(), retryAfterSeconds);
+            log.warn(errorMsg);
+            throw new DeploymentQueueFullException(errorMsg, retryAfterSeconds);
+        }
+        admissions.put(id, new Admission(key, userKey));
+    }
+
+    /**
+     * Release the place reserved for the admitted task if it has not been submitted, because the
+     * request failed before or the task was run by another deployer.
+     *
+     * @param id id of the order or of the service state management task.
+     */
+    public void cancelAdmission(UUID id) {
+        Admission admission = admissions.remove(id);
+        if (Objects.nonNull(admission)) {
+            getBulkhead(admission.key()).cancelReservation(admission.userKey());
+        }
+    }
+
+    /**
+     * Submit the task which runs the order. The order is stored as queued while the task waits
+     * for a free slot. The task takes the place reserved by the admission of the order, tasks of
+     * orders which were not admitted, like rollbacks and resumed orders, are always accepted.
+     *
+     * @param deployTask deploy task of the order.
+     * @param task       task which runs the order.
+     */
+    public void submitOrder(DeployTask deployTask, Runnable task) {
+        UUID orderId = deployTask.getOrderId();
+        submit(new BulkheadKey(WorkloadType.DEPLOYMENT, deployTask.getDeployRequest().getCsp()),
+                orderId, deployTask.getUserId(), task,
+                () -> serviceOrderManager.queueOrder(orderId),
+                () -> serviceOrderManager.startOrderProgress(orderId));
+    }
+
+    /**
+     * Submit the service state management task. The task is stored as queued while it waits for
+     * a free slot. The task takes the place reserved by its admission, tasks which were not
+     * admitted, like resumed tasks, are always accepted.
+     *
+     * @param taskEntity entity of the service state management task.
+     * @param csp        cloud service provider of the service.
+     * @param userId     id of the user who owns the service.
+     * @param task       task which manages the state of the service.
+     */
+    public void submitStateManagementTask(ServiceStateManagementTaskEntity taskEntity, Csp csp,
+                                          String userId, Runnable task) {
+        submit(new BulkheadKey(WorkloadType.SERVICE_STATE_MANAGEMENT, csp),
+                taskEntity.getTaskId(), userId, task,
+                () -> {
+                    taskEntity.setTaskStatus(TaskStatus.QUEUED);
+                    taskStorage.storeAndFlush(taskEntity);
+                }, null);
+    }
+
+    /**
+     * Stop the meters of the scheduler. The running tasks are awaited by the executors, queued
+     * tasks are not run anymore, they are resumed after the restart.
+     */
+    @PreDestroy
+    public void shutdown() {
+        gauges.forEach(ObservableLongGauge::close);
+    }
+
+    private void submit(BulkheadKey key, UUID id, String userId, Runnable task,
+                        Runnable onQueued, Runnable onDequeued) {
+        Bulkhead bulkhead = getBulkhead(key);
+        String userKey = getUserKey(userId);
+        Admission admission = Objects.nonNull(id) ? admissions.remove(id) : null;
+        boolean reserved = Objects.nonNull(admission) && admission.key().equals(key)
+                && admission.userKey().equals(userKey);
+        if (Objects.nonNull(admission) && !reserved) {
+            getBulkhead(admission.key()).cancelReservation(admission.userKey());
+        }
+        ScheduledTask scheduledTask = new ScheduledTask(userKey, task, onDequeued,
+                MDC.getCopyOfContextMap(), System.nanoTime());
+        if (bulkhead.tryAcquire(userKey, reserved)) {
+            execute(key, bulkhead, scheduledTask, false);
+            return;
+        }
+        // store the task as queued before it can be taken from the queue.
+        try {
+            onQueued.run();
+        } catch (RuntimeException e) {
+            if (reserved) {
+                bulkhead.cancelReservation(userKey);
+            }
+            throw e;
+        }
+        if (bulkhead.enqueueOrAcquire(scheduledTask, reserved)) {
+            execute(key, bulkhead, scheduledTask, true);
+        } else {
+            log.info("{} task of user {} queued for the cloud service provider {}.",
+                    key.workloadType().toValue(), scheduledTask.userId(), key.csp().toValue());
+        }
+    }
+
+    private void execute(BulkheadKey key, Bulkhead bulkhead, ScheduledTask scheduledTask,
+                         boolean queued) {
+        try {
+            executor.execute(ThreadMdcUtil.wrap(
+                    () -> run(key, bulkhead, scheduledTask, queued), scheduledTask.mdcContext()));
+        } catch (RejectedExecutionException e) {
+            log.error("Deployment scheduler is shut down, {} task of user {} not run.",
+                    key.workloadType().toValue(), scheduledTask.userId());
+        }
+    }
+
+    private void run(BulkheadKey key, Bulkhead bulkhead, ScheduledTask scheduledTask,
+                     boolean queued) {
+        long startedNanos = System.nanoTime();
+        waitTimeHistogram.record(
+                TimeUnit.NANOSECONDS.toMillis(startedNanos - scheduledTask.submittedNanos()),
+                key.getAttributes());
+        try {
+            if (queued && Objects.nonNull(scheduledTask.onDequeued())) {
+                scheduledTask.onDequeued().run();
+            }
+            scheduledTask.task().run();
+        } catch (RuntimeException e) {
+            log.error("Run {} task of user {} failed.", key.workloadType().toValue(),
+                    scheduledTask.userId(), e);
+        } finally {
+            ScheduledTask nextTask = bulkhead.releaseAndPoll(
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos));
+            if (Objects.nonNull(nextTask)) {
+                execute(key, bulkhead, nextTask, true);
+            }
+        }
+    }
+
+    private Bulkhead getBulkhead(BulkheadKey key) {
+        return bulkheads.computeIfAbsent(key, bulkheadKey -> new Bulkhead(
+                bulkheadKey.workloadType() == WorkloadType.DEPLOYMENT
+                        ? maxConcurrentDeployments : maxConcurrentStateManagementTasks,
+                maxQueuedTasks, maxQueuedTasksPerUser));
+    }
+
+    private String getUserKey(String userId) {
+        // tasks requested without authentication are queued as one user.
+        return Objects.requireNonNullElse(userId, "");
+    }
+
+    private record Admission(BulkheadKey key, String userKey) {
+    }
+
+    private record BulkheadKey(WorkloadType workloadType, Csp csp) {
+
+        Attributes getAttributes() {
+            return Attributes.of(WORKLOAD_TYPE_KEY, workloadType.toValue(),
+                    CSP_KEY, csp.toValue());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment.scheduler;
+
+import jakarta.annotation.Resource;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.async.TaskConfiguration;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
+import org.eclipse.xpanse.modules.deployment.DeployService;
+import org.eclipse.xpanse.modules.deployment.ServiceOrderManager;
+import org.eclipse.xpanse.modules.deployment.ServiceStateManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resumes the orders and the service state management tasks which were still queued in the
+ * deployment scheduler when xpanse stopped. Each order and task is claimed in the database
+ * before it is resumed, so it is resumed by only one of the instances sharing the database.
+ */
+@Slf4j
+@Component
+public class QueuedTasksRecovery {
+
+    @Resource
+    private ServiceOrderManager serviceOrderManager;
+    @Resource
+    private DeployService deployService;
+    @Resource
+    private ServiceStateManager serviceStateManager;
+    @Value("${deployment.scheduler.resume.queued.tasks.on.startup:true}")
+    private boolean resumeQueuedTasksOnStartup;
+
+    /**
+     * Submit the queued tasks to the deployment scheduler again once the application is ready.
+     */
+    @Async(TaskConfiguration.ASYNC_EXECUTOR_NAME)
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeQueuedTasks() {
+        if (!resumeQueuedTasksOnStartup) {
+            return;
+        }
+        List<ServiceOrderEntity> queuedOrders = serviceOrderManager.listQueuedOrders();
+        // the orders are listed by the started time descending, resume the oldest first.
+        for (ServiceOrderEntity queuedOrder : queuedOrders.reversed()) {
+            // another instance sharing the database may resume the same orders.
+            if (!serviceOrderManager.claimQueuedOrder(queuedOrder)) {
+                log.info("Queued order {} already resumed.", queuedOrder.getOrderId());
+                continue;
+            }
+            try {
+                deployService.resumeQueuedOrder(queuedOrder);
+                log.info("Queued order {} of service {} resumed.", queuedOrder.getOrderId(),
+                        queuedOrder.getServiceId());
+            } catch (RuntimeException e) {
+                log.error("Resume queued order {} failed.", queuedOrder.getOrderId(), e);
+                serviceOrderManager.failOrder(queuedOrder.getOrderId(), e.getMessage());
+            }
+        }
+        serviceStateManager.resumeQueuedManagementTasks();
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment.scheduler;
+
+import java.util.Map;
+
+/**
+ * Task submitted to the deployment scheduler.
+ *
+ * @param userId         id of the user who requested the task.
+ * @param task           the task to run.
+ * @param onDequeued     called before the task runs when it has been queued, may be null.
+ * @param mdcContext     MDC context of the thread which submitted the task.
+ * @param submittedNanos time when the task was submitted, to measure the wait time.
+ */
+record ScheduledTask(String userId, Runnable task, Runnable onDequeued,
+                     Map<String, String> mdcContext, long submittedNanos) {
+}
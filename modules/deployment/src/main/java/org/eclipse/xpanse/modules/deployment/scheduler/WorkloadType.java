@@ -0,0 +1,29 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment.scheduler;
+
+/**
+ * Types of the workloads run by the deployment scheduler. Each type has its own bulkheads, so
+ * long-running deployments never hold back the start and stop of services.
+ */
+public enum WorkloadType {
+    DEPLOYMENT("deployment"),
+    SERVICE_STATE_MANAGEMENT("service state management");
+
+    private final String value;
+
+    WorkloadType(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Get the value of the workload type.
+     */
+    public String toValue() {
+        return this.value;
+    }
+}
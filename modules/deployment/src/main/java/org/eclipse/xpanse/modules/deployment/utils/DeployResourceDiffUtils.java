@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.eclipse.xpanse.modules.database.resource.DeployResourceEntity;
+import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
+import org.eclipse.xpanse.modules.models.service.deploy.DeployResource;
+import org.springframework.beans.BeanUtils;
+
+/**
+ * Applies the resources of a deployment result to the stored resources of a service. The stored
+ * resources are matched by their group and resource id, so that only the added, changed and
+ * removed resources are written to the database instead of all resources and their properties.
+ */
+public final class DeployResourceDiffUtils {
+
+    private DeployResourceDiffUtils() {
+        // private constructor to block instantiation.
+    }
+
+    /**
+     * Update the stored resources of the service in place with the deployed resources.
+     *
+     * @param deployServiceEntity service with the stored resources.
+     * @param deployResources     resources of the deployment result.
+     * @return numbers of the added, changed, removed and unchanged resources.
+     */
+    public static DeployResourceChanges applyDeployResources(
+            DeployServiceEntity deployServiceEntity, List<DeployResource> deployResources) {
+        if (Objects.isNull(deployServiceEntity.getDeployResourceList())) {
+            deployServiceEntity.setDeployResourceList(new ArrayList<>());
+        }
+        List<DeployResourceEntity> storedResources = deployServiceEntity.getDeployResourceList();
+        Map<ResourceKey, DeployResourceEntity> unmatchedResources = new HashMap<>();
+        for (DeployResourceEntity storedResource : storedResources) {
+            unmatchedResources.putIfAbsent(ResourceKey.of(storedResource), storedResource);
+        }
+        // the entities compare their properties, the matched ones are tracked by identity.
+        Set<DeployResourceEntity> matchedResources =
+                Collections.newSetFromMap(new IdentityHashMap<>());
+        List<DeployResourceEntity> addedResources = new ArrayList<>();
+        int changed = 0;
+        for (DeployResource deployResource : deployResources) {
+            DeployResourceEntity storedResource =
+                    unmatchedResources.remove(ResourceKey.of(deployResource));
+            if (Objects.isNull(storedResource)) {
+                DeployResourceEntity addedResource = new DeployResourceEntity();
+                BeanUtils.copyProperties(deployResource, addedResource);
+                addedResource.setDeployService(deployServiceEntity);
+                addedResources.add(addedResource);
+                continue;
+            }
+            matchedResources.add(storedResource);
+            if (updateIfChanged(storedResource, deployResource)) {
+                changed++;
+            }
+        }
+        int storedCount = storedResources.size();
+        storedResources.removeIf(storedResource -> !matchedResources.contains(storedResource));
+        int removed = storedCount - storedResources.size();
+        storedResources.addAll(addedResources);
+        return new DeployResourceChanges(addedResources.size(), changed, removed,
+                matchedResources.size() - changed);
+    }
+
+    private static boolean updateIfChanged(DeployResourceEntity storedResource,
+                                           DeployResource deployResource) {
+        boolean isChanged = false;
+        if (!Objects.equals(storedResource.getResourceName(), deployResource.getResourceName())) {
+            storedResource.setResourceName(deployResource.getResourceName());
+            isChanged = true;
+        }
+        if (!Objects.equals(storedResource.getResourceKind(), deployResource.getResourceKind())) {
+            storedResource.setResourceKind(deployResource.getResourceKind());
+            isChanged = true;
+        }
+        Map<String, String> properties = deployResource.getProperties();
+        if (!Objects.equals(storedResource.getProperties(), properties)) {
+            if (Objects.isNull(storedResource.getProperties()) || Objects.isNull(properties)) {
+                storedResource.setProperties(
+                        Objects.isNull(properties) ? null : new HashMap<>(properties));
+            } else {
+                // changed in place, so that only the changed property rows are written.
+                Map<String, String> storedProperties = storedResource.getProperties();
+                storedProperties.keySet().retainAll(properties.keySet());
+                properties.forEach((key, value) -> {
+                    if (!Objects.equals(storedProperties.get(key), value)) {
+                        storedProperties.put(key, value);
+                    }
+                });
+            }
+            isChanged = true;
+        }
+        return isChanged;
+    }
+
+    /**
+     * Numbers of the resources changed by a deployment result.
+     *
+     * @param added     resources not stored before.
+     * @param changed   stored resources with changed name, kind or properties.
+     * @param removed   stored resources not deployed anymore.
+     * @param unchanged stored resources not changed.
+     */
+    public record DeployResourceChanges(int added, int changed, int removed, int unchanged) {
+    }
+
+    private record ResourceKey(String groupType, String groupName, String resourceId) {
+
+        private static ResourceKey of(DeployResourceEntity resource) {
+            return new ResourceKey(resource.getGroupType(), resource.getGroupName(),
+                    resource.getResourceId());
+        }
+
+        private static ResourceKey of(DeployResource resource) {
+            return new ResourceKey(resource.getGroupType(), resource.getGroupName(),
+                    resource.getResourceId());
+        }
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.servicetemplate.Deployment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bean to manage the provider plugin cache shared by all Terraform and OpenTofu workspaces and
+ * the pre-initialized workspaces of the service templates.
+ *
+ * <p>Providers are downloaded only once into the plugin cache directory. When a service template
+ * is validated during the registration, the initialized `.terraform` directory and the dependency
+ * lock file are stored under a key computed from the content of the deployment scripts. Every
+ * later workspace with the same scripts is seeded from there, so that `init` does not need to
+ * download or unpack any providers again. Validating the same scripts again replaces the stored
+ * files.</p>
+ *
+ * <p>The plugin cache directory is not safe for concurrent `init` runs which install providers
+ * into it, so the executors run `init` with the lock of the plugin cache directory when the
+ * workspace could not be prepared. The `init` of a prepared workspace finds all providers of the
+ * dependency lock file already installed, it neither downloads nor writes into the plugin cache
+ * and runs without the lock. Only the first `init` of new scripts, and of scripts whose template
+ * was never validated on this instance, waits for the other `init` runs installing providers.</p>
+ */
+@Slf4j
+@Component
+public class ProviderPluginCacheManage {
+
+    public static final String PLUGIN_CACHE_DIR_ENV = "TF_PLUGIN_CACHE_DIR";
+    public static final String PLUGIN_CACHE_MAY_BREAK_LOCK_FILE_ENV =
+            "TF_PLUGIN_CACHE_MAY_BREAK_DEPENDENCY_LOCK_FILE";
+    private static final String PLUGINS_DIRECTORY_NAME = "plugins";
+    private static final String TEMPLATES_DIRECTORY_NAME = "templates";
+    private static final String INIT_DIRECTORY_NAME = ".terraform";
+    private static final String LOCK_FILE_NAME = ".terraform.lock.hcl";
+    private static final List<String> EXCLUDED_INIT_FILES = List.of("terraform.tfstate");
+    private static final List<String> SCRIPT_FILE_SUFFIXES = List.of(".tf", ".tf.json");
+
+    private final Map<String, Lock> pluginCacheInitLocks = new ConcurrentHashMap<>();
+    private final ReadWriteLock templateDirectoriesLock = new ReentrantReadWriteLock();
+
+    /**
+     * Get the environment variables which enable the shared provider plugin cache.
+     *
+     * @param cacheRootDirectory root directory of the cache.
+     * @return environment variables for the Terraform or OpenTofu command line.
+     */
+    public Map<String, String> getPluginCacheEnv(String cacheRootDirectory) {
+        Map<String, String> env = new HashMap<>();
+        File pluginsDirectory = new File(cacheRootDirectory, PLUGINS_DIRECTORY_NAME);
+        if (!pluginsDirectory.exists() && !pluginsDirectory.mkdirs()) {
+            log.warn("Create provider plugin cache directory {} failed. Plugin cache not used.",
+                    pluginsDirectory.getAbsolutePath());
+            return env;
+        }
+        env.put(PLUGIN_CACHE_DIR_ENV, pluginsDirectory.getAbsolutePath());
+        // workspaces without a lock file must also be able to use the providers in the cache.
+        env.put(PLUGIN_CACHE_MAY_BREAK_LOCK_FILE_ENV, "true");
+        return env;
+    }
+
+    /**
+     * Get the lock which serializes the `init` commands installing providers into the plugin
+     * cache directory. Only needed for the workspaces not prepared by {@link #prepareWorkspace}.
+     *
+     * @param cacheRootDirectory root directory of the cache.
+     * @return lock of the plugin cache directory.
+     */
+    public Lock getPluginCacheInitLock(String cacheRootDirectory) {
+        String pluginsDirectory =
+                new File(cacheRootDirectory, PLUGINS_DIRECTORY_NAME).getAbsolutePath();
+        return pluginCacheInitLocks.computeIfAbsent(pluginsDirectory, key -> new ReentrantLock());
+    }
+
+    /**
+     * Seed the workspace with the pre-initialized files of the deployment scripts if available.
+     *
+     * @param cacheRootDirectory root directory of the cache.
+     * @param deployment         deployment of the service template.
+     * @param workspace          directory where the scripts are executed.
+     * @return true if the providers of the dependency lock file are installed in the workspace,
+     *     so that `init` does not install providers into the plugin cache.
+     */
+    public boolean prepareWorkspace(String cacheRootDirectory, Deployment deployment,
+                                    String workspace) {
+        Path workspacePath = Paths.get(workspace);
+        if (Files.exists(workspacePath.resolve(INIT_DIRECTORY_NAME))) {
+            // initialized before, e.g. the workspace of the service being destroyed.
+            return Files.exists(workspacePath.resolve(LOCK_FILE_NAME));
+        }
+        Path templateDirectory = getTemplateDirectory(cacheRootDirectory, deployment, workspace);
+        if (Objects.isNull(templateDirectory)) {
+            return false;
+        }
+        templateDirectoriesLock.readLock().lock();
+        try {
+            if (!Files.isDirectory(templateDirectory)
+                    || !Files.exists(templateDirectory.resolve(LOCK_FILE_NAME))) {
+                return false;
+            }
+            copyInitializedFiles(templateDirectory, workspacePath);
+            log.info("Workspace {} seeded from pre-initialized template directory {}.",
+                    workspace, templateDirectory);
+            return true;
+        } catch (IOException e) {
+            // init runs from scratch in this case.
+            log.warn("Seed workspace {} from pre-initialized template directory {} failed.",
+                    workspace, templateDirectory, e);
+            deleteDirectory(workspacePath.resolve(INIT_DIRECTORY_NAME));
+            deleteFile(workspacePath.resolve(LOCK_FILE_NAME));
+            return false;
+        } finally {
+            templateDirectoriesLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Store the files of the initialized workspace as pre-initialized files of the deployment
+     * scripts. Existing pre-initialized files of the same scripts are replaced.
+     *
+     * @param cacheRootDirectory   root directory of the cache.
+     * @param deployment           deployment of the service template.
+     * @param initializedWorkspace directory where `init` was executed successfully.
+     */
+    public void storePreparedWorkspace(String cacheRootDirectory, Deployment deployment,
+                                       String initializedWorkspace) {
+        Path workspacePath = Paths.get(initializedWorkspace);
+        Path templateDirectory =
+                getTemplateDirectory(cacheRootDirectory, deployment, initializedWorkspace);
+        if (Objects.isNull(templateDirectory)
+                || !Files.isDirectory(workspacePath.resolve(INIT_DIRECTORY_NAME))) {
+            return;
+        }
+        Path tempDirectory = templateDirectory.resolveSibling(
+                templateDirectory.getFileName() + "-" + UUID.randomUUID());
+        Path staleDirectory = templateDirectory.resolveSibling(
+                templateDirectory.getFileName() + "-" + UUID.randomUUID());
+        try {
+            Files.createDirectories(tempDirectory);
+            copyInitializedFiles(workspacePath, tempDirectory);
+            // the directory becomes visible to other workspaces only once it is complete.
+            templateDirectoriesLock.writeLock().lock();
+            try {
+                if (Files.exists(templateDirectory)) {
+                    Files.move(templateDirectory, staleDirectory,
+                            StandardCopyOption.ATOMIC_MOVE);
+                }
+                Files.move(tempDirectory, templateDirectory, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                templateDirectoriesLock.writeLock().unlock();
+            }
+            log.info("Pre-initialized template directory {} stored.", templateDirectory);
+        } catch (IOException e) {
+            log.warn("Store pre-initialized template directory {} failed.", templateDirectory, e);
+        } finally {
+            deleteDirectory(tempDirectory);
+            deleteDirectory(staleDirectory);
+        }
+    }
+
+    /**
+     * Compute the content key of the deployment scripts in the workspace.
+     *
+     * @param deployment deployment of the service template.
+     * @param workspace  directory with the deployment scripts.
+     * @return hex encoded SHA-256 of the kind of the deployer and the names and contents of all
+     *     script files, null if there are no script files.
+     */
+    public String getTemplateKey(Deployment deployment, String workspace) {
+        Path workspacePath = Paths.get(workspace);
+        if (!Files.isDirectory(workspacePath)) {
+            return null;
+        }
+        try (Stream<Path> paths = Files.walk(workspacePath)) {
+            List<Path> scriptFiles = paths
+                    .filter(path -> !path.startsWith(workspacePath.resolve(INIT_DIRECTORY_NAME)))
+                    .filter(path -> Files.isRegularFile(path) && isScriptFile(path))
+                    .sorted()
+                    .toList();
+            if (scriptFiles.isEmpty()) {
+                return null;
+            }
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            update(messageDigest, String.valueOf(deployment.getKind()).getBytes(
+                    StandardCharsets.UTF_8));
+            for (Path scriptFile : scriptFiles) {
+                update(messageDigest, workspacePath.relativize(scriptFile).toString()
+                        .getBytes(StandardCharsets.UTF_8));
+                update(messageDigest, Files.readAllBytes(scriptFile));
+            }
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (IOException e) {
+            log.warn("Compute content key of the scripts in workspace {} failed.", workspace, e);
+            return null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean isScriptFile(Path path) {
+        String fileName = path.getFileName().toString();
+        return SCRIPT_FILE_SUFFIXES.stream().anyMatch(fileName::endsWith);
+    }
+
+    private void update(MessageDigest messageDigest, byte[] value) {
+        messageDigest.update(value);
+        messageDigest.update((byte) 0);
+    }
+
+    private Path getTemplateDirectory(String cacheRootDirectory, Deployment deployment,
+                                      String workspace) {
+        String templateKey = getTemplateKey(deployment, workspace);
+        if (Objects.isNull(templateKey)) {
+            return null;
+        }
+        return Paths.get(cacheRootDirectory, TEMPLATES_DIRECTORY_NAME, templateKey);
+    }
+
+    private void copyInitializedFiles(Path source, Path target) throws IOException {
+        Path lockFile = source.resolve(LOCK_FILE_NAME);
+        if (Files.exists(lockFile)) {
+            Files.copy(lockFile, target.resolve(LOCK_FILE_NAME),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        Path initDirectory = source.resolve(INIT_DIRECTORY_NAME);
+        try (Stream<Path> paths = Files.walk(initDirectory)) {
+            for (Path path : paths.toList()) {
+                if (EXCLUDED_INIT_FILES.contains(path.getFileName().toString())) {
+                    continue;
+                }
+                Path targetPath = target.resolve(source.relativize(path));
+                linkOrCopy(path, targetPath);
+            }
+        }
+    }
+
+    private void linkOrCopy(Path source, Path target) throws IOException {
+        if (Files.isSymbolicLink(source)) {
+            // providers installed from the plugin cache are symbolic links into the cache.
+            Path linkTarget = Files.readSymbolicLink(source);
+            if (!linkTarget.isAbsolute()) {
+                linkTarget = source.getParent().resolve(linkTarget).normalize();
+            }
+            Files.createSymbolicLink(target, linkTarget);
+        } else if (Files.isDirectory(source)) {
+            Files.createDirectories(target);
+        } else {
+            try {
+                // provider binaries are never modified in place, hard links are safe to share.
+                Files.createLink(target, source);
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES);
+            }
+        }
+    }
+
+    private void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.error("Delete file:{} error.", file, e);
+        }
+    }
+
+    private void deleteDirectory(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            log.error("Delete directory:{} error.", directory, e);
+        }
+    }
+}
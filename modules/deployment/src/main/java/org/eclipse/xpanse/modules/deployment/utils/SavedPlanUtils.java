@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stores the plan file created by the policy check of a deploy order in the workspace, so that
+ * the apply step of the same order can apply the saved plan instead of planning again. The plan
+ * is saved with a fingerprint of the order, the template version, the variables, the environment,
+ * the provider lock file and the scripts. The saved plan is applied only when the fingerprint
+ * is the same when applying.
+ */
+@Slf4j
+public final class SavedPlanUtils {
+
+    /**
+     * Name of the plan file written by the plan command.
+     */
+    public static final String PLAN_FILE_NAME = "tfplan.binary";
+    /**
+     * Name of the file with the fingerprint of the saved plan.
+     */
+    public static final String PLAN_FINGERPRINT_FILE_NAME = "tfplan.fingerprint";
+    private static final String LOCK_FILE_NAME = ".terraform.lock.hcl";
+    private static final String STALE_PLAN_ERROR = "Saved plan is stale";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private SavedPlanUtils() {
+        // private constructor to block instantiation.
+    }
+
+    /**
+     * Build the key of the plan for a deploy order.
+     *
+     * @param orderId           id of the order.
+     * @param serviceTemplateId id of the service template.
+     * @param serviceVersion    version of the service template.
+     * @return key of the plan.
+     */
+    public static String getPlanKey(Object orderId, Object serviceTemplateId,
+                                    String serviceVersion) {
+        return String.join(":", Objects.toString(orderId, ""),
+                Objects.toString(serviceTemplateId, ""), Objects.toString(serviceVersion, ""));
+    }
+
+    /**
+     * Write the fingerprint of the plan saved in the workspace.
+     *
+     * @param workspace workspace with the saved plan.
+     * @param planKey   key of the plan.
+     * @param env       environment of the plan command.
+     * @param variables variables of the plan command.
+     */
+    public static void savePlanFingerprint(String workspace, String planKey,
+                                           Map<String, String> env,
+                                           Map<String, Object> variables) {
+        File fingerprintFile = new File(workspace, PLAN_FINGERPRINT_FILE_NAME);
+        try {
+            Files.writeString(fingerprintFile.toPath(),
+                    getPlanFingerprint(workspace, planKey, env, variables),
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("Save fingerprint of the plan in workspace {} failed. {}", workspace,
+                    e.getMessage());
+            deleteSavedPlan(workspace);
+        }
+    }
+
+    /**
+     * Check if the plan saved in the workspace was created with the same key, environment,
+     * variables, provider lock file and scripts.
+     *
+     * @param workspace workspace with the saved plan.
+     * @param planKey   key of the plan.
+     * @param env       environment of the apply command.
+     * @param variables variables of the apply command.
+     * @return true if the saved plan can be applied.
+     */
+    public static boolean isSavedPlanReusable(String workspace, String planKey,
+                                              Map<String, String> env,
+                                              Map<String, Object> variables) {
+        File planFile = new File(workspace, PLAN_FILE_NAME);
+        File fingerprintFile = new File(workspace, PLAN_FINGERPRINT_FILE_NAME);
+        if (!planFile.isFile() || !fingerprintFile.isFile()) {
+            return false;
+        }
+        try {
+            String savedFingerprint =
+                    Files.readString(fingerprintFile.toPath(), StandardCharsets.UTF_8);
+            return savedFingerprint.equals(
+                    getPlanFingerprint(workspace, planKey, env, variables));
+        } catch (IOException e) {
+            log.warn("Read fingerprint of the plan in workspace {} failed. {}", workspace,
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Check if applying the saved plan failed only because the state was changed after the plan
+     * was created. Terraform and OpenTofu reject such a plan before changing any resource.
+     *
+     * @param applyStdError stderr of the apply command with the saved plan.
+     * @return true if the plan must be created again.
+     */
+    public static boolean isStalePlanError(String applyStdError) {
+        return Objects.nonNull(applyStdError) && applyStdError.contains(STALE_PLAN_ERROR);
+    }
+
+    /**
+     * Delete the saved plan and its fingerprint from the workspace.
+     *
+     * @param workspace workspace with the saved plan.
+     */
+    public static void deleteSavedPlan(String workspace) {
+        for (String fileName : new String[] {PLAN_FILE_NAME, PLAN_FINGERPRINT_FILE_NAME}) {
+            try {
+                Files.deleteIfExists(new File(workspace, fileName).toPath());
+            } catch (IOException e) {
+                log.warn("Delete file {} in workspace {} failed. {}", fileName, workspace,
+                        e.getMessage());
+            }
+        }
+    }
+
+    private static String getPlanFingerprint(String workspace, String planKey,
+                                             Map<String, String> env,
+                                             Map<String, Object> variables)
+            throws IOException {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            update(messageDigest, planKey);
+            update(messageDigest, writeSorted(variables));
+            update(messageDigest, writeSorted(env));
+            File lockFile = new File(workspace, LOCK_FILE_NAME);
+            update(messageDigest, lockFile.isFile() ? Files.readString(lockFile.toPath()) : "");
+            File[] scriptFiles = new File(workspace).listFiles(
+                    file -> file.isFile() && (file.getName().endsWith(".tf")
+                            || file.getName().endsWith(".tf.json")));
+            if (Objects.nonNull(scriptFiles)) {
+                Arrays.sort(scriptFiles, Comparator.comparing(File::getName));
+                for (File scriptFile : scriptFiles) {
+                    update(messageDigest, scriptFile.getName());
+                    update(messageDigest, Files.readString(scriptFile.toPath()));
+                }
+            }
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String writeSorted(Map<String, ?> values) throws JsonProcessingException {
+        return Objects.isNull(values) ? "" : OBJECT_MAPPER.writeValueAsString(values);
+    }
+
+    private static void update(MessageDigest messageDigest, String value) {
+        messageDigest.update(Objects.toString(value, "").getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) 0);
+    }
+}
@@ -5,6 +5,7 @@
 
 package org.eclipse.xpanse.modules.deployment.utils;
 
+import jakarta.annotation.Resource;
 import java.io.File;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
@@ -21,7 +22,8 @@ import org.springframework.retry.support.RetrySynchronizationManager;
 import org.springframework.stereotype.Component;
 
 /**
- * Bean to manage GIT clone.
+ * Bean to manage GIT clone. The workspaces are cloned from the local mirrors of the scripts
+ * repos, or directly from the scripts repos when the mirrors are disabled.
  */
 @Slf4j
 @Component
@@ -29,6 +31,10 @@ public class ScriptsGitRepoManage {
 
     @Value("${git.command.timeout.seconds:10}")
     private int gitCommandTimeoutSeconds;
+    @Value("${git.scripts.repo.mirror.enabled:true}")
+    private boolean isMirrorEnabled;
+    @Resource
+    private ScriptsGitRepoMirrorStore scriptsGitRepoMirrorStore;
 
     /**
      * Method to check out scripts from a GIT repo.
@@ -44,22 +50,18 @@ public class ScriptsGitRepoManage {
         FileRepositoryBuilder repositoryBuilder = new FileRepositoryBuilder();
         repositoryBuilder.findGitDir(workspaceDirectory);
         if (Objects.isNull(repositoryBuilder.getGitDir())) {
-            int timeoutSeconds = gitCommandTimeoutSeconds > 0 ? gitCommandTimeoutSeconds : 10;
-            CloneCommand cloneCommand = new CloneCommand();
-            cloneCommand.setURI(scriptsRepo.getRepoUrl());
-            cloneCommand.setProgressMonitor(null);
-            cloneCommand.setDirectory(workspaceDirectory);
-            cloneCommand.setBranch(scriptsRepo.getBranch());
-            cloneCommand.setTimeout(timeoutSeconds);
-            try (Git git = cloneCommand.call()) {
-                git.checkout();
-            } catch (GitAPIException e) {
-                String errorMsg = String.format("Clone scripts from branch %s of repo %s error. %s",
-                        scriptsRepo.getBranch(), scriptsRepo.getRepoUrl(), e.getMessage());
+            try {
+                if (isMirrorEnabled) {
+                    scriptsGitRepoMirrorStore.cloneFromMirror(scriptsRepo.getRepoUrl(),
+                            scriptsRepo.getBranch(), workspaceDirectory);
+                } else {
+                    cloneFromRepo(workspaceDirectory, scriptsRepo);
+                }
+            } catch (GitRepoCloneException e) {
                 int retryCount = Objects.isNull(RetrySynchronizationManager.getContext())
                         ? 0 : RetrySynchronizationManager.getContext().getRetryCount();
-                log.error(errorMsg + " Retry count:" + retryCount);
-                throw new GitRepoCloneException(errorMsg);
+                log.error(e.getMessage() + " Retry count:" + retryCount);
+                throw e;
             }
         } else {
             log.info("Scripts repo is already cloned in the workspace.");
@@ -67,6 +69,23 @@ public class ScriptsGitRepoManage {
         folderContainsScripts(workspace, scriptsRepo);
     }
 
+    private void cloneFromRepo(File workspaceDirectory, ScriptsRepo scriptsRepo) {
+        int timeoutSeconds = gitCommandTimeoutSeconds > 0 ? gitCommandTimeoutSeconds : 10;
+        CloneCommand cloneCommand = new CloneCommand();
+        cloneCommand.setURI(scriptsRepo.getRepoUrl());
+        cloneCommand.setProgressMonitor(null);
+        cloneCommand.setDirectory(workspaceDirectory);
+        cloneCommand.setBranch(scriptsRepo.getBranch());
+        cloneCommand.setTimeout(timeoutSeconds);
+        try (Git git = cloneCommand.call()) {
+            git.checkout();
+        } catch (GitAPIException e) {
+            throw new GitRepoCloneException(String.format(
+                    "Clone scripts from branch %s of repo %s error. %s",
+                    scriptsRepo.getBranch(), scriptsRepo.getRepoUrl(), e.getMessage()));
+        }
+    }
+
     private void folderContainsScripts(String workspace, ScriptsRepo scriptsRepo) {
         File directory = new File(workspace
                 + (Objects.nonNull(scriptsRepo.getScriptsPath())
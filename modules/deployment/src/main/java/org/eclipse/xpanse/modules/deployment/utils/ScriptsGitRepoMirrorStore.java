@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.util.FileUtils;
+import org.eclipse.xpanse.modules.models.common.exceptions.GitRepoCloneException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local store of bare mirrors of the scripts repos. A mirror is cloned from the repo once and
+ * then refreshed with incremental fetches, at most once per refresh interval. One mirror holds
+ * all branches and tags of a repo, so the services deployed from different branches of the same
+ * repo share it. The workspaces of the services are cloned from the mirror instead of the repo.
+ * When a refresh fails, the mirror of the last successful fetch is used and the mirror is
+ * fetched again with the next request. A branch or tag missing in the mirror is fetched at once.
+ */
+@Slf4j
+@Component
+public class ScriptsGitRepoMirrorStore {
+
+    private static final String REMOTE_NAME = "origin";
+    private static final RefSpec BRANCHES_REF_SPEC = new RefSpec("+refs/heads/*:refs/heads/*");
+    private static final RefSpec TAGS_REF_SPEC = new RefSpec("+refs/tags/*:refs/tags/*");
+
+    private final Map<String, ReentrantLock> mirrorLocks = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastFetchTimes = new ConcurrentHashMap<>();
+    private final File mirrorsDirectory;
+    private final long refreshIntervalInMillis;
+    private final int gitCommandTimeoutSeconds;
+
+    /**
+     * Constructor for ScriptsGitRepoMirrorStore.
+     *
+     * @param mirrorsDirectory         directory of the mirrors.
+     * @param refreshIntervalInSeconds minimum time between two fetches of a mirror.
+     * @param gitCommandTimeoutSeconds timeout of the clones and fetches from the repos.
+     */
+    public ScriptsGitRepoMirrorStore(
+            @Value("${git.scripts.repo.mirror.directory:xpanse_git_mirrors}")
+            String mirrorsDirectory,
+            @Value("${git.scripts.repo.mirror.refresh.interval.in.seconds:60}")
+            long refreshIntervalInSeconds,
+            @Value("${git.command.timeout.seconds:10}") int gitCommandTimeoutSeconds) {
+        this.mirrorsDirectory = new File(mirrorsDirectory).getAbsoluteFile();
+        this.refreshIntervalInMillis = TimeUnit.SECONDS.toMillis(refreshIntervalInSeconds);
+        this.gitCommandTimeoutSeconds = gitCommandTimeoutSeconds > 0
+                ? gitCommandTimeoutSeconds : 10;
+    }
+
+    /**
+     * Clone the workspace from the mirror of the repo. The mirror is created or refreshed
+     * before, the origin of the cloned workspace is the repo.
+     *
+     * @param repoUrl            url of the repo.
+     * @param branch             branch or tag to check out.
+     * @param workspaceDirectory directory of the workspace.
+     */
+    public void cloneFromMirror(String repoUrl, String branch, File workspaceDirectory) {
+        File mirrorDirectory = getRefreshedMirror(repoUrl, branch);
+        try (Git git = Git.cloneRepository()
+                .setURI(mirrorDirectory.toURI().toString())
+                .setDirectory(workspaceDirectory)
+                .setBranch(branch)
+                .setProgressMonitor(null)
+                .call()) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.setString("remote", REMOTE_NAME, "url", repoUrl);
+            config.save();
+        } catch (GitAPIException | IOException e) {
+            throw new GitRepoCloneException(String.format(
+                    "Clone scripts from branch %s of the mirror of repo %s error. %s",
+                    branch, repoUrl, e.getMessage()));
+        }
+    }
+
+    /**
+     * Get the mirror of the repo, cloned or fetched from the repo if the last successful fetch
+     * is older than the refresh interval or the branch is not in the mirror.
+     *
+     * @param repoUrl url of the repo.
+     * @param branch  branch or tag to check out.
+     * @return directory of the bare mirror.
+     */
+    File getRefreshedMirror(String repoUrl, String branch) {
+        File mirrorDirectory = getMirrorDirectory(repoUrl);
+        ReentrantLock lock = mirrorLocks.computeIfAbsent(repoUrl, key -> new ReentrantLock());
+        lock.lock();
+        try {
+            Long lastFetchTime = lastFetchTimes.get(repoUrl);
+            if (Objects.nonNull(lastFetchTime)
+                    && System.currentTimeMillis() - lastFetchTime < refreshIntervalInMillis
+                    && mirrorDirectory.isDirectory()
+                    && hasBranch(mirrorDirectory, branch)) {
+                return mirrorDirectory;
+            }
+            if (mirrorDirectory.isDirectory()) {
+                if (fetchMirror(repoUrl, mirrorDirectory)) {
+                    lastFetchTimes.put(repoUrl, System.currentTimeMillis());
+                }
+            } else {
+                cloneMirror(repoUrl, mirrorDirectory);
+                lastFetchTimes.put(repoUrl, System.currentTimeMillis());
+            }
+            return mirrorDirectory;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasBranch(File mirrorDirectory, String branch) {
+        if (Objects.isNull(branch)) {
+            return true;
+        }
+        try (Git git = Git.open(mirrorDirectory)) {
+            return Objects.nonNull(git.getRepository().findRef(branch));
+        } catch (IOException e) {
+            log.warn("Read branch {} of mirror {} error. {}", branch, mirrorDirectory,
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean fetchMirror(String repoUrl, File mirrorDirectory) {
+        try (Git git = Git.open(mirrorDirectory)) {
+            git.fetch()
+                    .setRemote(REMOTE_NAME)
+                    .setRefSpecs(BRANCHES_REF_SPEC, TAGS_REF_SPEC)
+                    .setRemoveDeletedRefs(true)
+                    .setTimeout(gitCommandTimeoutSeconds)
+                    .setProgressMonitor(null)
+                    .call();
+            log.info("Fetched mirror of scripts repo {}.", repoUrl);
+            return true;
+        } catch (GitAPIException | IOException e) {
+            // the workspace is cloned from the mirror of the last successful fetch.
+            log.warn("Fetch mirror of scripts repo {} error, using the mirror fetched before. {}",
+                    repoUrl, e.getMessage());
+            return false;
+        }
+    }
+
+    private void cloneMirror(String repoUrl, File mirrorDirectory) {
+        File cloneDirectory = new File(mirrorsDirectory,
+                mirrorDirectory.getName() + "-" + UUID.randomUUID());
+        try (Git git = Git.cloneRepository()
+                .setURI(repoUrl)
+                .setDirectory(cloneDirectory)
+                .setBare(true)
+                .setCloneAllBranches(true)
+                .setTimeout(gitCommandTimeoutSeconds)
+                .setProgressMonitor(null)
+                .call()) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.setStringList("remote", REMOTE_NAME, "fetch",
+                    List.of(BRANCHES_REF_SPEC.toString(), TAGS_REF_SPEC.toString()));
+            config.save();
+        } catch (GitAPIException | IOException e) {
+            deleteQuietly(cloneDirectory);
+            throw new GitRepoCloneException(String.format(
+                    "Clone mirror of scripts repo %s error. %s", repoUrl, e.getMessage()));
+        }
+        try {
+            // a mirror is only visible once it is cloned completely.
+            Files.move(cloneDirectory.toPath(), mirrorDirectory.toPath(),
+                    StandardCopyOption.ATOMIC_MOVE);
+            log.info("Cloned mirror of scripts repo {}.", repoUrl);
+        } catch (IOException e) {
+            deleteQuietly(cloneDirectory);
+            throw new GitRepoCloneException(String.format(
+                    "Store mirror of scripts repo %s error. %s", repoUrl, e.getMessage()));
+        }
+    }
+
+    private File getMirrorDirectory(String repoUrl) {
+        return new File(mirrorsDirectory,
+                UUID.nameUUIDFromBytes(repoUrl.getBytes(StandardCharsets.UTF_8)) + ".git");
+    }
+
+    private void deleteQuietly(File directory) {
+        try {
+            FileUtils.delete(directory, FileUtils.RECURSIVE | FileUtils.SKIP_MISSING);
+        } catch (IOException e) {
+            log.warn("Delete directory {} error. {}", directory, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import org.eclipse.xpanse.common.systemcmd.ProcessOutputSink;
+import org.eclipse.xpanse.common.systemcmd.RingBufferOutputSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the latest output lines of the commands run for each service order, so that the
+ * progress of a running deployment can be followed. The output of an order is kept in memory
+ * only and removed when it has not been written or read for the retention time.
+ */
+@Component
+public class ServiceOrderOutputTails {
+
+    private final Cache<UUID, RingBufferOutputSink> outputTails;
+    private final int maxLines;
+
+    /**
+     * Constructor for ServiceOrderOutputTails.
+     *
+     * @param maxLines           maximum number of lines kept per service order.
+     * @param maxOrders          maximum number of service orders whose output is kept.
+     * @param retentionInMinutes time the output of a service order is kept after it was last
+     *                           written or read.
+     */
+    public ServiceOrderOutputTails(
+            @Value("${service.order.output.tail.max.lines:200}") int maxLines,
+            @Value("${service.order.output.tail.max.orders:1000}") long maxOrders,
+            @Value("${service.order.output.tail.retention.in.minutes:60}")
+            long retentionInMinutes) {
+        this.maxLines = maxLines;
+        this.outputTails = Caffeine.newBuilder()
+                .maximumSize(maxOrders)
+                .expireAfterAccess(Duration.ofMinutes(retentionInMinutes))
+                .build();
+    }
+
+    /**
+     * Get the sink which receives the output of the commands run for the service order.
+     *
+     * @param orderId id of the service order.
+     * @return output sink of the service order.
+     */
+    public ProcessOutputSink getOutputSink(UUID orderId) {
+        return outputTails.get(orderId, id -> new RingBufferOutputSink(maxLines));
+    }
+
+    /**
+     * Get the latest output lines of the commands run for the service order.
+     *
+     * @param orderId id of the service order.
+     * @return latest output lines, empty if no output of the order is kept.
+     */
+    public List<String> getOutputTail(UUID orderId) {
+        RingBufferOutputSink outputTail = outputTails.getIfPresent(orderId);
+        return Objects.nonNull(outputTail) ? outputTail.getLines() : List.of();
+    }
+}
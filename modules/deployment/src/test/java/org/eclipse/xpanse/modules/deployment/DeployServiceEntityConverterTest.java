@@ -5,11 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
 import org.eclipse.xpanse.modules.database.serviceconfiguration.ServiceConfigurationEntity;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
+import org.eclipse.xpanse.modules.deployment.cache.CachedServiceTemplate;
+import org.eclipse.xpanse.modules.deployment.cache.ServiceTemplateCache;
 import org.eclipse.xpanse.modules.models.billing.Billing;
 import org.eclipse.xpanse.modules.models.common.enums.Category;
 import org.eclipse.xpanse.modules.models.service.deploy.DeployRequest;
@@ -31,7 +33,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class DeployServiceEntityConverterTest {
     @Mock
-    private ServiceTemplateStorage serviceTemplateStorage;
+    private ServiceTemplateCache serviceTemplateCache;
     @InjectMocks
     private DeployServiceEntityConverter converter;
     private DeployServiceEntity deployServiceEntity;
@@ -65,9 +67,9 @@ class DeployServiceEntityConverterTest {
         serviceTemplateEntity.setId(deployServiceEntity.getServiceTemplateId());
         serviceTemplateEntity.setOcl(ocl);
 
-        when(serviceTemplateStorage.getServiceTemplateById(
+        when(serviceTemplateCache.getServiceTemplate(
                 deployServiceEntity.getServiceTemplateId()))
-                .thenReturn(serviceTemplateEntity);
+                .thenReturn(CachedServiceTemplate.of(serviceTemplateEntity, List.of()));
     }
 
     @Test
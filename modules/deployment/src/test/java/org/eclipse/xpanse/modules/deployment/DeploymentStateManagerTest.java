@@ -0,0 +1,151 @@
+package org.eclipse.xpanse.modules.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.xpanse.modules.deployment.deployers.terraform.utils.TfResourceTransUtils.STATE_FILE_NAME;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.deploymentstate.DeploymentStateEntity;
+import org.eclipse.xpanse.modules.database.deploymentstate.DeploymentStateStorage;
+import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
+import org.eclipse.xpanse.modules.models.service.deploy.exceptions.ServiceNotDeployedException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DeploymentStateManagerTest {
+
+    private static final String STATE_CONTENT = "{\"version\": 4, \"resources\": []}";
+
+    private final UUID serviceId = UUID.randomUUID();
+    private final UUID orderId = UUID.randomUUID();
+
+    @Mock
+    private DeploymentStateStorage mockDeploymentStateStorage;
+
+    @InjectMocks
+    private DeploymentStateManager deploymentStateManagerUnderTest;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void testStoreState_FirstVersion() {
+        // Setup
+        when(mockDeploymentStateStorage.findLatestState(serviceId)).thenReturn(null);
+
+        // Run the test
+        final DeploymentStateEntity storedState = storeState();
+
+        // Verify the results
+        assertThat(storedState.getServiceId()).isEqualTo(serviceId);
+        assertThat(storedState.getOrderId()).isEqualTo(orderId);
+        assertThat(storedState.getStateVersion()).isEqualTo(1);
+        assertThat(storedState.getContentSize()).isEqualTo(
+                STATE_CONTENT.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(storedState.getContentHash()).hasSize(64);
+    }
+
+    @Test
+    void testStoreState_NewVersionAndUnchangedContent() {
+        // Setup
+        when(mockDeploymentStateStorage.findLatestState(serviceId)).thenReturn(null);
+        final DeploymentStateEntity firstState = storeState();
+        when(mockDeploymentStateStorage.findLatestState(serviceId)).thenReturn(firstState);
+
+        // Run the test
+        deploymentStateManagerUnderTest.storeState(serviceId, UUID.randomUUID(), STATE_CONTENT);
+        deploymentStateManagerUnderTest.storeState(serviceId, UUID.randomUUID(),
+                STATE_CONTENT + " ");
+
+        // Verify the results
+        final ArgumentCaptor<DeploymentStateEntity> captor =
+                ArgumentCaptor.forClass(DeploymentStateEntity.class);
+        verify(mockDeploymentStateStorage, times(2)).storeAndFlush(captor.capture());
+        assertThat(captor.getValue().getStateVersion()).isEqualTo(2);
+    }
+
+    @Test
+    void testStoreState_EmptyContent() {
+        // Run the test
+        deploymentStateManagerUnderTest.storeState(serviceId, orderId, "");
+
+        // Verify the results
+        verify(mockDeploymentStateStorage, never()).storeAndFlush(any());
+    }
+
+    @Test
+    void testWriteLatestStateAndGetLatestStateContent() throws Exception {
+        // Setup
+        when(mockDeploymentStateStorage.findLatestState(serviceId)).thenReturn(null);
+        final DeploymentStateEntity storedState = storeState();
+        when(mockDeploymentStateStorage.findLatestState(serviceId)).thenReturn(storedState);
+        final Path stateFile = tempDir.resolve(STATE_FILE_NAME);
+
+        // Run the test
+        final boolean result =
+                deploymentStateManagerUnderTest.writeLatestState(getService(null), stateFile);
+
+        // Verify the results
+        assertThat(result).isTrue();
+        assertThat(Files.readString(stateFile)).isEqualTo(STATE_CONTENT);
+        assertThat(deploymentStateManagerUnderTest.getLatestStateContent(getService(null)))
+                .isEqualTo(STATE_CONTENT);
+    }
+
+    @Test
+    void testWriteLatestState_LegacyState() throws Exception {
+        // Setup
+        when(mockDeploymentStateStorage.findLatestState(serviceId)).thenReturn(null);
+        final Path stateFile = tempDir.resolve(STATE_FILE_NAME);
+
+        // Run the test
+        final boolean result = deploymentStateManagerUnderTest.writeLatestState(
+                getService(Map.of(STATE_FILE_NAME, STATE_CONTENT)), stateFile);
+
+        // Verify the results
+        assertThat(result).isTrue();
+        assertThat(Files.readString(stateFile)).isEqualTo(STATE_CONTENT);
+        assertThat(deploymentStateManagerUnderTest.writeLatestState(getService(null),
+                tempDir.resolve("other.tfstate"))).isFalse();
+    }
+
+    @Test
+    void testGetLatestStateContent_ThrowsServiceNotDeployedException() {
+        // Setup
+        when(mockDeploymentStateStorage.findLatestState(serviceId)).thenReturn(null);
+
+        // Run the test
+        assertThrows(ServiceNotDeployedException.class,
+                () -> deploymentStateManagerUnderTest.getLatestStateContent(getService(null)));
+    }
+
+    private DeploymentStateEntity storeState() {
+        deploymentStateManagerUnderTest.storeState(serviceId, orderId, STATE_CONTENT);
+        final ArgumentCaptor<DeploymentStateEntity> captor =
+                ArgumentCaptor.forClass(DeploymentStateEntity.class);
+        verify(mockDeploymentStateStorage).storeAndFlush(captor.capture());
+        return captor.getValue();
+    }
+
+    private DeployServiceEntity getService(Map<String, String> privateProperties) {
+        final DeployServiceEntity deployServiceEntity = new DeployServiceEntity();
+        deployServiceEntity.setId(serviceId);
+        deployServiceEntity.setPrivateProperties(privateProperties);
+        return deployServiceEntity;
+    }
+}
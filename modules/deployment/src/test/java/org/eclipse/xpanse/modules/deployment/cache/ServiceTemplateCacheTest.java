@@ -0,0 +1,135 @@
+package org.eclipse.xpanse.modules.deployment.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.servicepolicy.ServicePolicyEntity;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateChangedEvent;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
+import org.eclipse.xpanse.modules.models.policy.servicepolicy.ServicePolicy;
+import org.eclipse.xpanse.modules.models.service.utils.CompiledJsonSchemaCache;
+import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.SensitiveScope;
+import org.eclipse.xpanse.modules.models.servicetemplate.utils.OclLoader;
+import org.eclipse.xpanse.modules.policy.ServicePolicyManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ServiceTemplateCacheTest {
+
+    private final ServiceTemplateStorage serviceTemplateStorage =
+            mock(ServiceTemplateStorage.class);
+    private final ServicePolicyManager servicePolicyManager = mock(ServicePolicyManager.class);
+    private final CompiledJsonSchemaCache compiledJsonSchemaCache =
+            mock(CompiledJsonSchemaCache.class);
+    private final ServiceTemplateCache serviceTemplateCache = new ServiceTemplateCache(
+            serviceTemplateStorage, servicePolicyManager, compiledJsonSchemaCache, 100, 60);
+    private ServiceTemplateEntity serviceTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Ocl ocl = new OclLoader().getOcl(
+                URI.create("file:src/test/resources/ocl_terraform_test.yml").toURL());
+        ocl.getDeployment().getVariables().getFirst().setSensitiveScope(SensitiveScope.ONCE);
+        serviceTemplate = new ServiceTemplateEntity();
+        serviceTemplate.setId(UUID.randomUUID());
+        serviceTemplate.setName(ocl.getName());
+        serviceTemplate.setVersion(ocl.getServiceVersion());
+        serviceTemplate.setCsp(ocl.getCloudServiceProvider().getName());
+        serviceTemplate.setCategory(ocl.getCategory());
+        serviceTemplate.setServiceHostingType(ocl.getServiceHostingType());
+        serviceTemplate.setOcl(ocl);
+        when(serviceTemplateStorage.getServiceTemplateById(serviceTemplate.getId()))
+                .thenReturn(serviceTemplate);
+        when(serviceTemplateStorage.findServiceTemplate(any())).thenReturn(serviceTemplate);
+    }
+
+    @Test
+    void testGetServiceTemplateReadsStorageOnce() {
+        CachedServiceTemplate cachedServiceTemplate =
+                serviceTemplateCache.getServiceTemplate(serviceTemplate.getId());
+
+        assertSame(cachedServiceTemplate,
+                serviceTemplateCache.getServiceTemplate(serviceTemplate.getId()));
+        verify(serviceTemplateStorage, times(1)).getServiceTemplateById(serviceTemplate.getId());
+        assertEquals(1, serviceTemplateCache.getServiceTemplatesCount());
+    }
+
+    @Test
+    void testFindServiceTemplate() {
+        CachedServiceTemplate cachedServiceTemplate = serviceTemplateCache.findServiceTemplate(
+                serviceTemplate.getName().toUpperCase(), serviceTemplate.getVersion(),
+                serviceTemplate.getCsp(), serviceTemplate.getCategory(),
+                serviceTemplate.getServiceHostingType());
+
+        assertNotNull(cachedServiceTemplate);
+        assertSame(cachedServiceTemplate, serviceTemplateCache.findServiceTemplate(
+                serviceTemplate.getName(), serviceTemplate.getVersion(),
+                serviceTemplate.getCsp(), serviceTemplate.getCategory(),
+                serviceTemplate.getServiceHostingType()));
+        assertSame(cachedServiceTemplate,
+                serviceTemplateCache.getServiceTemplate(serviceTemplate.getId()));
+        verify(serviceTemplateStorage, times(1)).findServiceTemplate(any());
+    }
+
+    @Test
+    void testFindServiceTemplateNotFound() {
+        when(serviceTemplateStorage.findServiceTemplate(any())).thenReturn(null);
+
+        assertNull(serviceTemplateCache.findServiceTemplate(serviceTemplate.getName(),
+                serviceTemplate.getVersion(), serviceTemplate.getCsp(),
+                serviceTemplate.getCategory(), serviceTemplate.getServiceHostingType()));
+    }
+
+    @Test
+    void testOnServiceTemplateChanged() {
+        CachedServiceTemplate cachedServiceTemplate =
+                serviceTemplateCache.getServiceTemplate(serviceTemplate.getId());
+
+        serviceTemplateCache.onServiceTemplateChanged(
+                new ServiceTemplateChangedEvent(serviceTemplate.getId()));
+
+        assertEquals(0, serviceTemplateCache.getServiceTemplatesCount());
+        verify(compiledJsonSchemaCache).evictSchemas(serviceTemplate.getId());
+        assertNotSame(cachedServiceTemplate,
+                serviceTemplateCache.getServiceTemplate(serviceTemplate.getId()));
+        verify(serviceTemplateStorage, times(2)).getServiceTemplateById(serviceTemplate.getId());
+    }
+
+    @Test
+    void testDerivedArtifacts() {
+        ServicePolicyEntity enabledPolicy = new ServicePolicyEntity();
+        enabledPolicy.setPolicy("package policy");
+        enabledPolicy.setEnabled(true);
+        ServicePolicyEntity disabledPolicy = new ServicePolicyEntity();
+        disabledPolicy.setPolicy("package policy");
+        disabledPolicy.setEnabled(false);
+        serviceTemplate.setServicePolicyList(List.of(enabledPolicy, disabledPolicy));
+        ServicePolicy servicePolicy = new ServicePolicy();
+        when(servicePolicyManager.conventToServicePolicy(enabledPolicy))
+                .thenReturn(servicePolicy);
+
+        CachedServiceTemplate cachedServiceTemplate =
+                serviceTemplateCache.getServiceTemplate(serviceTemplate.getId());
+
+        assertEquals(List.of(servicePolicy), cachedServiceTemplate.enabledServicePolicies());
+        assertTrue(cachedServiceTemplate.isSensitiveVariable("admin_passwd"));
+        assertFalse(cachedServiceTemplate.isSensitiveVariable("vpc_name"));
+        assertNotNull(cachedServiceTemplate.getFlavor("2vCPUs-4GB-normal"));
+        assertNull(cachedServiceTemplate.getFlavor("unknown"));
+    }
+}
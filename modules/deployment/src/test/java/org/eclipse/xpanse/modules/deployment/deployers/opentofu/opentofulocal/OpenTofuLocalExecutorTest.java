@@ -60,7 +60,7 @@ class OpenTofuLocalExecutorTest {
     @BeforeEach
     void setUp() {
         openTofuLocalExecutorUnderTest = new OpenTofuLocalExecutor(mockEnv, mockVariables,
-                workspace, null, deployResultFileUtilsTest);
+                workspace, null, null, deployResultFileUtilsTest, 0, null, null);
     }
 
     @Test
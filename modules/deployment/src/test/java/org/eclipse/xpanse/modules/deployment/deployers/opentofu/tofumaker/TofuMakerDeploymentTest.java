@@ -17,13 +17,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.eclipse.xpanse.modules.deployment.DeployServiceEntityHandler;
+import org.eclipse.xpanse.modules.deployment.DeploymentStateManager;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.exceptions.OpenTofuMakerRequestFailedException;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.config.TofuMakerConfig;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.generated.api.AdminApi;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.generated.api.OpenTofuFromGitRepoApi;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.generated.api.OpenTofuFromScriptsApi;
 import org.eclipse.xpanse.modules.deployment.deployers.opentofu.tofumaker.generated.model.OpenTofuPlan;
-import org.eclipse.xpanse.modules.deployment.deployers.opentofu.utils.TfResourceTransUtils;
 import org.eclipse.xpanse.modules.deployment.utils.DeployEnvironments;
 import org.eclipse.xpanse.modules.models.service.deploy.DeployRequest;
 import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
@@ -41,7 +41,6 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -86,6 +85,8 @@ class TofuMakerDeploymentTest {
     @MockBean
     DeployServiceEntityHandler deployServiceEntityHandler;
     @MockBean
+    DeploymentStateManager deploymentStateManager;
+    @MockBean
     TofuMakerScriptValidator tofuMakerScriptValidator;
     @MockBean
     OpenTofuFromGitRepoApi openTofuFromGitRepoApi;
@@ -147,32 +148,24 @@ class TofuMakerDeploymentTest {
 
     @Test
     void testModify() {
-        try (MockedStatic<TfResourceTransUtils> tfResourceTransUtils = Mockito.mockStatic(
-                TfResourceTransUtils.class)) {
-            tfResourceTransUtils.when(() -> TfResourceTransUtils.getStoredStateContent(any()))
-                    .thenReturn("Test");
-            doReturn(new HashMap<>()).when(this.deployEnvironments)
-                    .getCredentialVariablesByHostingType(any(), any(), any(), any());
-            deployTask.setTaskType(ServiceOrderType.MODIFY);
-            deployTask.setDeploymentScenario(DeploymentScenario.MODIFY);
-            DeployResult deployResult = openTofuMakerDeployment.modify(deployTask);
-
-            Assertions.assertNotNull(deployResult);
-        }
+        when(deploymentStateManager.getLatestStateContent(any())).thenReturn("Test");
+        doReturn(new HashMap<>()).when(this.deployEnvironments)
+                .getCredentialVariablesByHostingType(any(), any(), any(), any());
+        deployTask.setTaskType(ServiceOrderType.MODIFY);
+        deployTask.setDeploymentScenario(DeploymentScenario.MODIFY);
+        DeployResult deployResult = openTofuMakerDeployment.modify(deployTask);
+
+        Assertions.assertNotNull(deployResult);
     }
 
     @Test
     void testDestroy() {
-        try (MockedStatic<TfResourceTransUtils> tfResourceTransUtils = Mockito.mockStatic(
-                TfResourceTransUtils.class)) {
-            tfResourceTransUtils.when(() -> TfResourceTransUtils.getStoredStateContent(any()))
-                    .thenReturn("Test");
-            deployTask.setTaskType(ServiceOrderType.DESTROY);
-            deployTask.setDeploymentScenario(DeploymentScenario.DESTROY);
-            DeployResult destroyResult = this.openTofuMakerDeployment.destroy(deployTask);
-
-            Assertions.assertNotNull(destroyResult);
-        }
+        when(deploymentStateManager.getLatestStateContent(any())).thenReturn("Test");
+        deployTask.setTaskType(ServiceOrderType.DESTROY);
+        deployTask.setDeploymentScenario(DeploymentScenario.DESTROY);
+        DeployResult destroyResult = this.openTofuMakerDeployment.destroy(deployTask);
+
+        Assertions.assertNotNull(destroyResult);
     }
 
 
@@ -195,18 +188,14 @@ class TofuMakerDeploymentTest {
         Mockito.doThrow(new OpenTofuMakerRequestFailedException("IO error")).when(terraformApi)
                 .asyncDestroyWithScripts(any());
 
-        try (MockedStatic<TfResourceTransUtils> tfResourceTransUtils = Mockito.mockStatic(
-                TfResourceTransUtils.class)) {
-            tfResourceTransUtils.when(() -> TfResourceTransUtils.getStoredStateContent(any()))
-                    .thenReturn("Test");
-            deployTask.setDeploymentScenario(DeploymentScenario.DESTROY);
+        when(deploymentStateManager.getLatestStateContent(any())).thenReturn("Test");
+        deployTask.setDeploymentScenario(DeploymentScenario.DESTROY);
 
-            Assertions.assertThrows(OpenTofuMakerRequestFailedException.class,
-                    () -> this.openTofuMakerDeployment.destroy(deployTask));
+        Assertions.assertThrows(OpenTofuMakerRequestFailedException.class,
+                () -> this.openTofuMakerDeployment.destroy(deployTask));
 
-            Assertions.assertThrows(OpenTofuMakerRequestFailedException.class,
-                    () -> this.openTofuMakerDeployment.destroy(deployTask));
-        }
+        Assertions.assertThrows(OpenTofuMakerRequestFailedException.class,
+                () -> this.openTofuMakerDeployment.destroy(deployTask));
     }
 
     @Test
@@ -17,13 +17,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.eclipse.xpanse.modules.deployment.DeployServiceEntityHandler;
+import org.eclipse.xpanse.modules.deployment.DeploymentStateManager;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.exceptions.TerraformBootRequestFailedException;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot.config.TerraformBootConfig;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot.generated.api.AdminApi;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot.generated.api.TerraformFromGitRepoApi;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot.generated.api.TerraformFromScriptsApi;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformboot.generated.model.TerraformPlan;
-import org.eclipse.xpanse.modules.deployment.deployers.terraform.utils.TfResourceTransUtils;
 import org.eclipse.xpanse.modules.deployment.utils.DeployEnvironments;
 import org.eclipse.xpanse.modules.models.service.deploy.DeployRequest;
 import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
@@ -41,7 +41,6 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -89,6 +88,8 @@ class TerraformBootDeploymentTest {
     @MockBean
     DeployServiceEntityHandler deployServiceEntityHandler;
     @MockBean
+    DeploymentStateManager deploymentStateManager;
+    @MockBean
     TerraformBootScriptValidator terraformBootScriptValidator;
     @Autowired
     TerraformBootServiceDeployer terraformBootServiceDeployer;
@@ -145,34 +146,25 @@ class TerraformBootDeploymentTest {
 
     @Test
     void testModify() {
-        try (MockedStatic<TfResourceTransUtils> tfResourceTransUtils = Mockito.mockStatic(
-                TfResourceTransUtils.class)) {
-            tfResourceTransUtils.when(() -> TfResourceTransUtils.getStoredStateContent(any()))
-                    .thenReturn("Test");
-
-            doReturn(new HashMap<>()).when(this.deployEnvironments)
-                    .getCredentialVariablesByHostingType(any(), any(), any(), any());
-            deployTask.setTaskType(ServiceOrderType.MODIFY);
-            deployTask.setDeploymentScenario(DeploymentScenario.MODIFY);
-            DeployResult deployResult = terraformBootDeployment.modify(deployTask);
-
-            Assertions.assertNotNull(deployResult);
-        }
+        when(deploymentStateManager.getLatestStateContent(any())).thenReturn("Test");
+        doReturn(new HashMap<>()).when(this.deployEnvironments)
+                .getCredentialVariablesByHostingType(any(), any(), any(), any());
+        deployTask.setTaskType(ServiceOrderType.MODIFY);
+        deployTask.setDeploymentScenario(DeploymentScenario.MODIFY);
+        DeployResult deployResult = terraformBootDeployment.modify(deployTask);
+
+        Assertions.assertNotNull(deployResult);
     }
 
     @Test
     void testDestroy() {
-        try (MockedStatic<TfResourceTransUtils> tfResourceTransUtils = Mockito.mockStatic(
-                TfResourceTransUtils.class)) {
-            tfResourceTransUtils.when(() -> TfResourceTransUtils.getStoredStateContent(any()))
-                    .thenReturn("Test");
-            deployTask.setTaskType(ServiceOrderType.DESTROY);
-            deployTask.setDeploymentScenario(DeploymentScenario.DESTROY);
+        when(deploymentStateManager.getLatestStateContent(any())).thenReturn("Test");
+        deployTask.setTaskType(ServiceOrderType.DESTROY);
+        deployTask.setDeploymentScenario(DeploymentScenario.DESTROY);
 
-            DeployResult destroyResult = this.terraformBootDeployment.destroy(deployTask);
+        DeployResult destroyResult = this.terraformBootDeployment.destroy(deployTask);
 
-            Assertions.assertNotNull(destroyResult);
-        }
+        Assertions.assertNotNull(destroyResult);
     }
 
 
@@ -196,19 +188,15 @@ class TerraformBootDeploymentTest {
         Mockito.doThrow(new TerraformBootRequestFailedException("IO error")).when(terraformApi)
                 .asyncDestroyWithScripts(any());
 
-        try (MockedStatic<TfResourceTransUtils> tfResourceTransUtils = Mockito.mockStatic(
-                TfResourceTransUtils.class)) {
-            tfResourceTransUtils.when(() -> TfResourceTransUtils.getStoredStateContent(any()))
-                    .thenReturn("Test");
-            deployTask.setTaskType(ServiceOrderType.MODIFY);
-            deployTask.setDeploymentScenario(DeploymentScenario.MODIFY);
+        when(deploymentStateManager.getLatestStateContent(any())).thenReturn("Test");
+        deployTask.setTaskType(ServiceOrderType.MODIFY);
+        deployTask.setDeploymentScenario(DeploymentScenario.MODIFY);
 
-            Assertions.assertThrows(TerraformBootRequestFailedException.class,
-                    () -> this.terraformBootDeployment.destroy(deployTask));
+        Assertions.assertThrows(TerraformBootRequestFailedException.class,
+                () -> this.terraformBootDeployment.destroy(deployTask));
 
-            Assertions.assertThrows(TerraformBootRequestFailedException.class,
-                    () -> this.terraformBootDeployment.destroy(deployTask));
-        }
+        Assertions.assertThrows(TerraformBootRequestFailedException.class,
+                () -> this.terraformBootDeployment.destroy(deployTask));
     }
 
     @Test
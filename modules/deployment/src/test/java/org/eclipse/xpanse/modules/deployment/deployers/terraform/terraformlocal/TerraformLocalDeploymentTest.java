@@ -22,21 +22,25 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.eclipse.xpanse.modules.async.TaskConfiguration;
+import org.eclipse.xpanse.modules.database.deploymentstate.DeploymentStateStorage;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
 import org.eclipse.xpanse.modules.deployment.DeployService;
 import org.eclipse.xpanse.modules.deployment.DeployServiceEntityHandler;
+import org.eclipse.xpanse.modules.deployment.DeploymentStateManager;
 import org.eclipse.xpanse.modules.deployment.ResourceHandlerManager;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.callbacks.TerraformDeploymentResultCallbackManager;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.exceptions.TerraformExecutorException;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformlocal.config.TerraformLocalConfig;
-import org.eclipse.xpanse.modules.deployment.deployers.terraform.utils.TfResourceTransUtils;
+import org.eclipse.xpanse.modules.deployment.scheduler.DeploymentScheduler;
 import org.eclipse.xpanse.modules.deployment.utils.DeployEnvironments;
 import org.eclipse.xpanse.modules.deployment.utils.DeployResultFileUtils;
+import org.eclipse.xpanse.modules.deployment.utils.ProviderPluginCacheManage;
 import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoManage;
+import org.eclipse.xpanse.modules.deployment.utils.ScriptsGitRepoMirrorStore;
+import org.eclipse.xpanse.modules.deployment.utils.ServiceOrderOutputTails;
 import org.eclipse.xpanse.modules.models.service.deploy.DeployRequest;
 import org.eclipse.xpanse.modules.models.service.enums.DeployerTaskStatus;
 import org.eclipse.xpanse.modules.models.service.order.enums.ServiceOrderType;
@@ -54,8 +58,6 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.core.io.ClassPathResource;
@@ -69,7 +71,9 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 @ExtendWith({SpringExtension.class})
 @ContextConfiguration(classes = {TerraformLocalDeployment.class, DeployEnvironments.class,
         PluginManager.class, TerraformLocalConfig.class, DeployService.class,
-        TaskConfiguration.class, ResourceHandlerManager.class, ScriptsGitRepoManage.class})
+        TaskConfiguration.class, ResourceHandlerManager.class, ScriptsGitRepoManage.class,
+        ProviderPluginCacheManage.class, DeploymentStateManager.class,
+        ScriptsGitRepoMirrorStore.class, ServiceOrderOutputTails.class})
 class TerraformLocalDeploymentTest {
 
     private final String errorDeployer = "error_deployer";
@@ -95,11 +99,13 @@ class TerraformLocalDeploymentTest {
     @MockBean
     DeployService deployService;
     @MockBean
-    Executor taskExecutor;
+    DeploymentScheduler deploymentScheduler;
     @MockBean
     TerraformDeploymentResultCallbackManager terraformDeploymentResultCallbackManager;
     @MockBean
     DeployServiceEntityHandler deployServiceEntityHandler;
+    @MockBean
+    DeploymentStateStorage deploymentStateStorage;
 
     private Ocl ocl;
     private Ocl oclWithGitScripts;
@@ -273,19 +279,18 @@ class TerraformLocalDeploymentTest {
 
     @Test
     void testDestroy_FailedCausedByTerraformExecutorException() {
-        try (MockedStatic<TfResourceTransUtils> tfResourceTransUtils = Mockito.mockStatic(
-                TfResourceTransUtils.class)) {
-            tfResourceTransUtils.when(() -> TfResourceTransUtils.getStoredStateContent(any()))
-                    .thenReturn("Test");
-            ocl.getDeployment().setDeployer(errorDeployer);
-            DeployTask deployTask = getDeployTask(ocl, ServiceOrderType.DESTROY);
-            deployTask.setDeploymentScenario(DeploymentScenario.DESTROY);
-            DeployResult deployResult = this.terraformLocalDeployment.destroy(deployTask);
-            Assertions.assertTrue(deployResult.getProperties().isEmpty());
-            Assertions.assertNull(deployResult.getState());
-            Assertions.assertNotEquals(DeployerTaskStatus.DESTROY_FAILED.toValue(),
-                    deployResult.getMessage());
-        }
+        DeployServiceEntity deployServiceEntity = new DeployServiceEntity();
+        deployServiceEntity.setPrivateProperties(Map.of(STATE_FILE_NAME, "Test"));
+        when(deployServiceEntityHandler.getDeployServiceEntity(any())).thenReturn(
+                deployServiceEntity);
+        ocl.getDeployment().setDeployer(errorDeployer);
+        DeployTask deployTask = getDeployTask(ocl, ServiceOrderType.DESTROY);
+        deployTask.setDeploymentScenario(DeploymentScenario.DESTROY);
+        DeployResult deployResult = this.terraformLocalDeployment.destroy(deployTask);
+        Assertions.assertTrue(deployResult.getProperties().isEmpty());
+        Assertions.assertNull(deployResult.getState());
+        Assertions.assertNotEquals(DeployerTaskStatus.DESTROY_FAILED.toValue(),
+                deployResult.getMessage());
     }
 
     @Test
@@ -70,7 +70,8 @@ class TerraformLocalExecutorTest {
     @BeforeEach
     void setUp() {
         terraformLocalExecutorUnderTest = new TerraformLocalExecutor(
-                mockEnv, mockVariables, workspace, null, deployResultFileUtilsTest);
+                mockEnv, mockVariables, workspace, null, null, deployResultFileUtilsTest, 0, null,
+                null);
     }
 
     @Test
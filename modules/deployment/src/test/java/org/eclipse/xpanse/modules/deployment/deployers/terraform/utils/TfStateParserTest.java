@@ -0,0 +1,87 @@
+package org.eclipse.xpanse.modules.deployment.deployers.terraform.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Set;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfState;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfStateResource;
+import org.junit.jupiter.api.Test;
+
+class TfStateParserTest {
+
+    private static final String STATE = """
+            {
+              "version": 4,
+              "terraform_version": "1.6.0",
+              "outputs": {
+                "admin_ip": {"value": "192.168.0.1", "type": "string"}
+              },
+              "resources": [
+                {
+                  "mode": "managed",
+                  "type": "huaweicloud_compute_instance",
+                  "name": "vm",
+                  "provider": "provider[\\"registry.terraform.io/huaweicloud/huaweicloud\\"]",
+                  "instances": [
+                    {
+                      "schema_version": 0,
+                      "attributes": {"id": "vm-1", "name": "vm", "tags": {"a": "b"}},
+                      "sensitive_attributes": [],
+                      "private": "bnVsbA==",
+                      "dependencies": ["huaweicloud_vpc.vpc"]
+                    }
+                  ]
+                },
+                {
+                  "mode": "data",
+                  "type": "huaweicloud_availability_zones",
+                  "name": "zones",
+                  "instances": [{"attributes": {"id": "zones"}}]
+                },
+                {
+                  "instances": [{"attributes": {"id": "vpc-1"}}],
+                  "name": "vpc",
+                  "type": "huaweicloud_vpc"
+                }
+              ]
+            }
+            """;
+
+    @Test
+    void testParseOnlySupportedResources() throws IOException {
+        TfState tfState = TfStateParser.parse(STATE,
+                Set.of("huaweicloud_compute_instance", "huaweicloud_vpc"));
+
+        assertEquals("192.168.0.1", tfState.getOutputs().get("admin_ip").getValue());
+        assertEquals(2, tfState.getResources().size());
+        TfStateResource vm = tfState.getResources().getFirst();
+        assertEquals("huaweicloud_compute_instance", vm.getType());
+        assertEquals("vm", vm.getName());
+        assertEquals("managed", vm.getMode());
+        assertEquals("vm-1", vm.getInstances().getFirst().getAttributes().get("id"));
+        // the instances written before the type are read as well.
+        TfStateResource vpc = tfState.getResources().get(1);
+        assertEquals("vpc-1", vpc.getInstances().getFirst().getAttributes().get("id"));
+    }
+
+    @Test
+    void testParseStateWithoutResources() throws IOException {
+        TfState tfState = TfStateParser.parse("{\"version\": 4, \"resources\": null}",
+                Set.of("huaweicloud_vpc"));
+
+        assertNull(tfState.getOutputs());
+        assertTrue(tfState.getResources().isEmpty());
+        assertNull(TfStateParser.parse("null", Set.of()));
+    }
+
+    @Test
+    void testParseInvalidState() {
+        assertThrows(IOException.class, () -> TfStateParser.parse("[]", Set.of()));
+        assertThrows(IOException.class,
+                () -> TfStateParser.parse("{\"resources\": [", Set.of()));
+    }
+}
@@ -0,0 +1,79 @@
+package org.eclipse.xpanse.modules.deployment.polling;
+
+import java.util.Objects;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.context.request.async.DeferredResult;
+
+class DeferredResultRegistryTest {
+
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+    private final DeferredResultRegistry<String> registry =
+            new DeferredResultRegistry<>(taskScheduler);
+
+    @BeforeEach
+    void setUp() {
+        taskScheduler.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskScheduler.shutdown();
+    }
+
+    @Test
+    void testOfferCompletesWaiterWhenConditionMatches() {
+        UUID id = UUID.randomUUID();
+        DeferredResult<String> deferredResult = new DeferredResult<>();
+        registry.register(id, deferredResult, "CREATED", "SUCCESSFUL"::equals, 60);
+
+        registry.offer(id, "IN_PROGRESS");
+        Assertions.assertFalse(deferredResult.hasResult());
+        Assertions.assertEquals(1, registry.getWaitersCount());
+
+        registry.offer(id, "SUCCESSFUL");
+        Assertions.assertEquals("SUCCESSFUL", deferredResult.getResult());
+        Assertions.assertEquals(0, registry.getWaitersCount());
+    }
+
+    @Test
+    void testOfferIgnoresOtherIds() {
+        DeferredResult<String> deferredResult = new DeferredResult<>();
+        registry.register(UUID.randomUUID(), deferredResult, "CREATED", Objects::nonNull, 60);
+
+        registry.offer(UUID.randomUUID(), "SUCCESSFUL");
+        Assertions.assertFalse(deferredResult.hasResult());
+    }
+
+    @Test
+    void testWaiterCompletesWithLatestUpdateAfterWaitPeriod() throws InterruptedException {
+        UUID id = UUID.randomUUID();
+        DeferredResult<String> deferredResult = new DeferredResult<>();
+        registry.register(id, deferredResult, "CREATED", "SUCCESSFUL"::equals, 1);
+        registry.offer(id, "IN_PROGRESS");
+
+        long endTime = System.currentTimeMillis() + 5000;
+        while (!deferredResult.hasResult() && System.currentTimeMillis() < endTime) {
+            Thread.sleep(100);
+        }
+        Assertions.assertEquals("IN_PROGRESS", deferredResult.getResult());
+        Assertions.assertEquals(0, registry.getWaitersCount());
+    }
+
+    @Test
+    void testFailSetsErrorResult() {
+        UUID id = UUID.randomUUID();
+        DeferredResult<String> deferredResult = new DeferredResult<>();
+        DeferredResultRegistry.Waiter<String> waiter =
+                registry.register(id, deferredResult, "CREATED", Objects::nonNull, 60);
+        RuntimeException exception = new RuntimeException("not found");
+
+        registry.fail(waiter, exception);
+        Assertions.assertEquals(exception, deferredResult.getResult());
+        Assertions.assertEquals(0, registry.getWaitersCount());
+    }
+}
@@ -0,0 +1,91 @@
+package org.eclipse.xpanse.modules.deployment.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+
+    private final Bulkhead bulkhead = new Bulkhead(1, 3, 2);
+
+    @Test
+    void testQueuedTasksAreServedInTurnsOfUsers() {
+        ScheduledTask firstTaskOfUser1 = getTask("user1");
+        ScheduledTask secondTaskOfUser1 = getTask("user1");
+        ScheduledTask taskOfUser2 = getTask("user2");
+        assertTrue(bulkhead.tryAcquire("user1", false));
+        assertFalse(bulkhead.enqueueOrAcquire(firstTaskOfUser1, false));
+        assertFalse(bulkhead.enqueueOrAcquire(secondTaskOfUser1, false));
+        assertFalse(bulkhead.enqueueOrAcquire(taskOfUser2, false));
+        assertEquals(3, bulkhead.getQueuedTasksCount());
+
+        assertSame(firstTaskOfUser1, bulkhead.releaseAndPoll(100));
+        assertSame(taskOfUser2, bulkhead.releaseAndPoll(100));
+        assertSame(secondTaskOfUser1, bulkhead.releaseAndPoll(100));
+        assertEquals(1, bulkhead.getRunningTasksCount());
+        assertNull(bulkhead.releaseAndPoll(100));
+        assertEquals(0, bulkhead.getRunningTasksCount());
+        assertEquals(0, bulkhead.getQueuedTasksCount());
+    }
+
+    @Test
+    void testIsQueueFull() {
+        assertFalse(bulkhead.isQueueFull("user1"));
+        assertTrue(bulkhead.tryAcquire("user1", false));
+        assertFalse(bulkhead.tryAcquire("user1", false));
+        assertFalse(bulkhead.isQueueFull("user1"));
+
+        bulkhead.enqueueOrAcquire(getTask("user1"), false);
+        bulkhead.enqueueOrAcquire(getTask("user1"), false);
+
+        assertTrue(bulkhead.isQueueFull("user1"));
+        assertFalse(bulkhead.isQueueFull("user2"));
+
+        bulkhead.enqueueOrAcquire(getTask("user2"), false);
+
+        assertTrue(bulkhead.isQueueFull("user2"));
+    }
+
+    @Test
+    void testReservedPlacesCountAsQueuedTasks() {
+        assertTrue(bulkhead.tryReserve("user1"));
+        assertTrue(bulkhead.tryReserve("user1"));
+        assertTrue(bulkhead.tryReserve("user2"));
+
+        // one of the reserved tasks may run, the others take the places in the queue.
+        assertTrue(bulkhead.isQueueFull("user1"));
+        assertFalse(bulkhead.isQueueFull("user2"));
+        assertTrue(bulkhead.tryReserve("user2"));
+        assertFalse(bulkhead.tryReserve("user3"));
+
+        assertTrue(bulkhead.tryAcquire("user1", true));
+        assertFalse(bulkhead.enqueueOrAcquire(getTask("user1"), true));
+        bulkhead.cancelReservation("user2");
+        assertEquals(1, bulkhead.getRunningTasksCount());
+        assertEquals(1, bulkhead.getQueuedTasksCount());
+        assertTrue(bulkhead.tryReserve("user3"));
+        assertFalse(bulkhead.tryReserve("user3"));
+    }
+
+    @Test
+    void testEstimateWaitSeconds() {
+        assertEquals(60, bulkhead.estimateWaitSeconds(60));
+        bulkhead.tryAcquire("user1", false);
+        bulkhead.enqueueOrAcquire(getTask("user1"), false);
+        bulkhead.enqueueOrAcquire(getTask("user2"), false);
+
+        bulkhead.releaseAndPoll(10000);
+
+        // one queued task and the running task.
+        assertEquals(20, bulkhead.estimateWaitSeconds(60));
+    }
+
+    private ScheduledTask getTask(String userId) {
+        return new ScheduledTask(userId, () -> {
+        }, null, null, System.nanoTime());
+    }
+}
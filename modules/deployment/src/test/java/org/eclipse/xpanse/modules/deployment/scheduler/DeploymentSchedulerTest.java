@@ -0,0 +1,217 @@
+package org.eclipse.xpanse.modules.deployment.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.opentelemetry.api.OpenTelemetry;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.xpanse.modules.async.TaskConfiguration;
+import org.eclipse.xpanse.modules.database.servicestatemanagement.ServiceStateManagementTaskEntity;
+import org.eclipse.xpanse.modules.database.servicestatemanagement.ServiceStateManagementTaskStorage;
+import org.eclipse.xpanse.modules.deployment.ServiceOrderManager;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.service.deploy.DeployRequest;
+import org.eclipse.xpanse.modules.models.service.deploy.exceptions.DeploymentQueueFullException;
+import org.eclipse.xpanse.modules.models.service.enums.TaskStatus;
+import org.eclipse.xpanse.modules.orchestrator.deployment.DeployTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class DeploymentSchedulerTest {
+
+    private final ServiceOrderManager serviceOrderManager = mock(ServiceOrderManager.class);
+    private final ServiceStateManagementTaskStorage taskStorage =
+            mock(ServiceStateManagementTaskStorage.class);
+    private final ThreadPoolTaskExecutor asyncTaskExecutor = getAsyncTaskExecutor();
+    private final DeploymentScheduler deploymentScheduler = new DeploymentScheduler(
+            serviceOrderManager, taskStorage,
+            new StaticListableBeanFactory().getBeanProvider(OpenTelemetry.class),
+            asyncTaskExecutor,
+            new StaticListableBeanFactory().getBeanProvider(AsyncTaskExecutor.class),
+            1, 1, 1, 1, 30);
+
+    @AfterEach
+    void tearDown() {
+        deploymentScheduler.shutdown();
+        asyncTaskExecutor.shutdown();
+    }
+
+    @Test
+    void testSubmitOrderQueuedUntilSlotIsFree() throws Exception {
+        DeployTask runningTask = getDeployTask(Csp.HUAWEI_CLOUD, "user1");
+        DeployTask queuedTask = getDeployTask(Csp.HUAWEI_CLOUD, "user2");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch queuedTaskRun = new CountDownLatch(1);
+
+        deploymentScheduler.submitOrder(runningTask, () -> await(release));
+        deploymentScheduler.submitOrder(queuedTask, queuedTaskRun::countDown);
+
+        verify(serviceOrderManager).queueOrder(queuedTask.getOrderId());
+        verify(serviceOrderManager, never()).queueOrder(runningTask.getOrderId());
+        assertEquals(1, queuedTaskRun.getCount());
+        release.countDown();
+        assertTrue(queuedTaskRun.await(10, TimeUnit.SECONDS));
+        verify(serviceOrderManager, timeout(10000)).startOrderProgress(queuedTask.getOrderId());
+        verify(serviceOrderManager, never()).startOrderProgress(runningTask.getOrderId());
+    }
+
+    @Test
+    void testBulkheadsAreSeparatedByCsp() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherCspTaskRun = new CountDownLatch(1);
+
+        deploymentScheduler.submitOrder(getDeployTask(Csp.HUAWEI_CLOUD, "user1"),
+                () -> await(release));
+        deploymentScheduler.submitOrder(getDeployTask(Csp.OPENSTACK_TESTLAB, "user1"),
+                otherCspTaskRun::countDown);
+
+        assertTrue(otherCspTaskRun.await(10, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    void testAdmit() {
+        CountDownLatch release = new CountDownLatch(1);
+        DeployTask runningTask = getDeployTask(Csp.HUAWEI_CLOUD, "user1");
+        deploymentScheduler.admit(WorkloadType.DEPLOYMENT, runningTask.getOrderId(),
+                Csp.HUAWEI_CLOUD, "user1");
+        deploymentScheduler.submitOrder(runningTask, () -> await(release));
+        // the admitted order takes the place in the queue before it is submitted.
+        deploymentScheduler.admit(WorkloadType.DEPLOYMENT, UUID.randomUUID(),
+                Csp.HUAWEI_CLOUD, "user1");
+
+        DeploymentQueueFullException exception = assertThrows(
+                DeploymentQueueFullException.class, () -> deploymentScheduler.admit(
+                        WorkloadType.DEPLOYMENT, UUID.randomUUID(), Csp.HUAWEI_CLOUD, "user2"));
+        assertEquals(30, exception.getRetryAfterSeconds());
+        assertDoesNotThrow(() -> deploymentScheduler.admit(WorkloadType.SERVICE_STATE_MANAGEMENT,
+                UUID.randomUUID(), Csp.HUAWEI_CLOUD, "user2"));
+        release.countDown();
+    }
+
+    @Test
+    void testCancelAdmission() {
+        UUID cancelledOrderId = UUID.randomUUID();
+        deploymentScheduler.admit(WorkloadType.DEPLOYMENT, cancelledOrderId,
+                Csp.HUAWEI_CLOUD, "user1");
+        deploymentScheduler.admit(WorkloadType.DEPLOYMENT, UUID.randomUUID(),
+                Csp.HUAWEI_CLOUD, "user2");
+        assertThrows(DeploymentQueueFullException.class, () -> deploymentScheduler.admit(
+                WorkloadType.DEPLOYMENT, UUID.randomUUID(), Csp.HUAWEI_CLOUD, "user3"));
+
+        deploymentScheduler.cancelAdmission(cancelledOrderId);
+
+        assertDoesNotThrow(() -> deploymentScheduler.admit(WorkloadType.DEPLOYMENT,
+                UUID.randomUUID(), Csp.HUAWEI_CLOUD, "user3"));
+    }
+
+    @Test
+    void testSubmitStateManagementTaskQueued() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch queuedTaskRun = new CountDownLatch(1);
+        ServiceStateManagementTaskEntity queuedTask = new ServiceStateManagementTaskEntity();
+        queuedTask.setTaskId(UUID.randomUUID());
+        queuedTask.setTaskStatus(TaskStatus.CREATED);
+
+        deploymentScheduler.submitStateManagementTask(new ServiceStateManagementTaskEntity(),
+                Csp.HUAWEI_CLOUD, "user1", () -> await(release));
+        deploymentScheduler.submitStateManagementTask(queuedTask, Csp.HUAWEI_CLOUD, "user1",
+                queuedTaskRun::countDown);
+
+        assertEquals(TaskStatus.QUEUED, queuedTask.getTaskStatus());
+        verify(taskStorage).storeAndFlush(queuedTask);
+        release.countDown();
+        assertTrue(queuedTaskRun.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testTasksRunInVirtualThreadsWhenEnabled() throws Exception {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        SimpleAsyncTaskExecutor virtualThreadExecutor = new SimpleAsyncTaskExecutor();
+        virtualThreadExecutor.setVirtualThreads(true);
+        beanFactory.addBean(TaskConfiguration.VIRTUAL_THREAD_EXECUTOR_NAME, virtualThreadExecutor);
+        DeploymentScheduler virtualThreadScheduler = new DeploymentScheduler(
+                serviceOrderManager, taskStorage,
+                new StaticListableBeanFactory().getBeanProvider(OpenTelemetry.class),
+                asyncTaskExecutor,
+                beanFactory.getBeanProvider(AsyncTaskExecutor.class),
+                1, 1, 1, 1, 30);
+        AtomicBoolean isVirtual = new AtomicBoolean();
+        CountDownLatch taskRun = new CountDownLatch(1);
+
+        virtualThreadScheduler.submitOrder(getDeployTask(Csp.HUAWEI_CLOUD, "user1"), () -> {
+            isVirtual.set(Thread.currentThread().isVirtual());
+            taskRun.countDown();
+        });
+
+        assertTrue(taskRun.await(10, TimeUnit.SECONDS));
+        assertTrue(isVirtual.get());
+        virtualThreadScheduler.shutdown();
+        virtualThreadExecutor.close();
+    }
+
+    @Test
+    void testTasksRunOnAsyncTaskExecutorWithMdc() throws Exception {
+        DeployTask deployTask = getDeployTask(Csp.HUAWEI_CLOUD, "user1");
+        AtomicReference<String> threadName = new AtomicReference<>();
+        AtomicReference<String> serviceId = new AtomicReference<>();
+        CountDownLatch taskRun = new CountDownLatch(1);
+
+        MDC.put("SERVICE_ID", "serviceId");
+        try {
+            deploymentScheduler.submitOrder(deployTask, () -> {
+                threadName.set(Thread.currentThread().getName());
+                serviceId.set(MDC.get("SERVICE_ID"));
+                taskRun.countDown();
+            });
+        } finally {
+            MDC.remove("SERVICE_ID");
+        }
+
+        assertTrue(taskRun.await(10, TimeUnit.SECONDS));
+        assertTrue(threadName.get().startsWith("xpanse-async-test-"));
+        assertEquals("serviceId", serviceId.get());
+    }
+
+    private ThreadPoolTaskExecutor getAsyncTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        // like the async task executor, enough core threads for the slots of the bulkheads.
+        executor.setCorePoolSize(4);
+        executor.setThreadNamePrefix("xpanse-async-test-");
+        executor.initialize();
+        return executor;
+    }
+
+    private DeployTask getDeployTask(Csp csp, String userId) {
+        DeployRequest deployRequest = new DeployRequest();
+        deployRequest.setCsp(csp);
+        DeployTask deployTask = new DeployTask();
+        deployTask.setOrderId(UUID.randomUUID());
+        deployTask.setUserId(userId);
+        deployTask.setDeployRequest(deployRequest);
+        return deployTask;
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
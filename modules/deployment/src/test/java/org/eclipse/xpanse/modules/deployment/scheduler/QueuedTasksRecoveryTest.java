@@ -0,0 +1,74 @@
+package org.eclipse.xpanse.modules.deployment.scheduler;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.serviceorder.ServiceOrderEntity;
+import org.eclipse.xpanse.modules.deployment.DeployService;
+import org.eclipse.xpanse.modules.deployment.ServiceOrderManager;
+import org.eclipse.xpanse.modules.deployment.ServiceStateManager;
+import org.eclipse.xpanse.modules.models.service.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class QueuedTasksRecoveryTest {
+
+    @Mock
+    private ServiceOrderManager serviceOrderManager;
+    @Mock
+    private DeployService deployService;
+    @Mock
+    private ServiceStateManager serviceStateManager;
+    @InjectMocks
+    private QueuedTasksRecovery queuedTasksRecovery;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(queuedTasksRecovery, "resumeQueuedTasksOnStartup", true);
+    }
+
+    @Test
+    void testResumeQueuedTasksClaimedByThisInstance() {
+        ServiceOrderEntity claimedOrder = getQueuedOrder();
+        ServiceOrderEntity resumedByOtherInstance = getQueuedOrder();
+        when(serviceOrderManager.listQueuedOrders()).thenReturn(
+                List.of(claimedOrder, resumedByOtherInstance));
+        when(serviceOrderManager.claimQueuedOrder(claimedOrder)).thenReturn(true);
+        when(serviceOrderManager.claimQueuedOrder(resumedByOtherInstance)).thenReturn(false);
+
+        queuedTasksRecovery.resumeQueuedTasks();
+
+        verify(deployService).resumeQueuedOrder(claimedOrder);
+        verify(deployService, never()).resumeQueuedOrder(resumedByOtherInstance);
+        verify(serviceStateManager).resumeQueuedManagementTasks();
+    }
+
+    @Test
+    void testResumeQueuedTasksDisabled() {
+        ReflectionTestUtils.setField(queuedTasksRecovery, "resumeQueuedTasksOnStartup", false);
+
+        queuedTasksRecovery.resumeQueuedTasks();
+
+        verify(serviceOrderManager, never()).listQueuedOrders();
+        verify(serviceStateManager, never()).resumeQueuedManagementTasks();
+    }
+
+    private ServiceOrderEntity getQueuedOrder() {
+        ServiceOrderEntity queuedOrder = new ServiceOrderEntity();
+        queuedOrder.setOrderId(UUID.randomUUID());
+        queuedOrder.setServiceId(UUID.randomUUID());
+        queuedOrder.setTaskStatus(TaskStatus.QUEUED);
+        queuedOrder.setStartedTime(OffsetDateTime.now());
+        return queuedOrder;
+    }
+}
@@ -10,6 +10,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -38,7 +41,9 @@ import org.eclipse.xpanse.modules.models.servicetemplate.FlavorsWithPrice;
 import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
 import org.eclipse.xpanse.modules.models.servicetemplate.Region;
 import org.eclipse.xpanse.modules.models.servicetemplate.ServiceFlavorWithPrice;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployVariableDataType;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployVariableKind;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.SensitiveScope;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceHostingType;
 import org.eclipse.xpanse.modules.models.servicetemplate.utils.OclLoader;
 import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
@@ -218,6 +223,30 @@ class DeployEnvironmentsTest {
         assertThat(result).isEqualTo(expectedResult);
     }
 
+    @Test
+    void testGetVariablesDecodesSensitiveValuesTogether() {
+        deployVariable1.setKind(DeployVariableKind.VARIABLE);
+        deployVariable1.setSensitiveScope(SensitiveScope.ALWAYS);
+        deployVariable1.setDataType(DeployVariableDataType.STRING);
+        deployVariable3.setKind(DeployVariableKind.FIX_VARIABLE);
+        deployVariable3.setSensitiveScope(SensitiveScope.ALWAYS);
+        deployVariable4.setKind(DeployVariableKind.VARIABLE);
+        deployVariable2.setKind(DeployVariableKind.ENV_VARIABLE);
+        when(aesUtil.decodeBackToOriginalType(anyMap(), anyMap())).thenReturn(
+                Map.of("name", "decodedValue", "key2", "decodedValue2"));
+
+        final Map<String, Object> result =
+                deployEnvironmentsUnderTest.getVariablesFromDeployTask(task, true);
+
+        assertThat(result).containsEntry("name", "decodedValue")
+                .containsEntry("key2", "decodedValue2");
+        verify(aesUtil).decodeBackToOriginalType(
+                Map.of("name", DeployVariableDataType.STRING,
+                        "key2", DeployVariableDataType.STRING),
+                Map.of("name", "value", "key2", "value2"));
+        verify(aesUtil, never()).decode(anyString());
+    }
+
     @Test
     void testGetCredentialVariablesWithHostingType_SELF() {
         deployVariable1.setKind(DeployVariableKind.VARIABLE);
@@ -0,0 +1,82 @@
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.resource.DeployResourceEntity;
+import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
+import org.eclipse.xpanse.modules.deployment.utils.DeployResourceDiffUtils.DeployResourceChanges;
+import org.eclipse.xpanse.modules.models.service.deploy.DeployResource;
+import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
+import org.junit.jupiter.api.Test;
+
+class DeployResourceDiffUtilsTest {
+
+    @Test
+    void testApplyDeployResources() {
+        DeployServiceEntity deployServiceEntity = new DeployServiceEntity();
+        DeployResourceEntity unchanged = getStoredResource("vm-1", Map.of("ip", "10.0.0.1"));
+        DeployResourceEntity changed = getStoredResource("vm-2", Map.of("ip", "10.0.0.2"));
+        Map<String, String> changedProperties = changed.getProperties();
+        DeployResourceEntity removed = getStoredResource("vm-3", Map.of("ip", "10.0.0.3"));
+        deployServiceEntity.setDeployResourceList(
+                new ArrayList<>(List.of(unchanged, changed, removed)));
+
+        DeployResourceChanges changes = DeployResourceDiffUtils.applyDeployResources(
+                deployServiceEntity, List.of(
+                        getDeployResource("vm-1", Map.of("ip", "10.0.0.1")),
+                        getDeployResource("vm-2", Map.of("ip", "10.0.0.20", "eip", "1.1.1.1")),
+                        getDeployResource("vm-4", Map.of("ip", "10.0.0.4"))));
+
+        assertEquals(new DeployResourceChanges(1, 1, 1, 1), changes);
+        List<DeployResourceEntity> resources = deployServiceEntity.getDeployResourceList();
+        assertEquals(3, resources.size());
+        assertSame(unchanged, resources.get(0));
+        assertSame(changed, resources.get(1));
+        // the properties of the changed resource are updated in place.
+        assertSame(changedProperties, changed.getProperties());
+        assertEquals(Map.of("ip", "10.0.0.20", "eip", "1.1.1.1"), changed.getProperties());
+        assertEquals("vm-4", resources.get(2).getResourceId());
+        assertSame(deployServiceEntity, resources.get(2).getDeployService());
+    }
+
+    @Test
+    void testApplyDeployResourcesWithoutStoredResources() {
+        DeployServiceEntity deployServiceEntity = new DeployServiceEntity();
+
+        DeployResourceChanges changes = DeployResourceDiffUtils.applyDeployResources(
+                deployServiceEntity, List.of(getDeployResource("vm-1", Map.of())));
+
+        assertEquals(new DeployResourceChanges(1, 0, 0, 0), changes);
+        assertEquals(1, deployServiceEntity.getDeployResourceList().size());
+    }
+
+    private DeployResourceEntity getStoredResource(String resourceId,
+                                                   Map<String, String> properties) {
+        DeployResourceEntity resource = new DeployResourceEntity();
+        resource.setId(UUID.randomUUID());
+        resource.setGroupType("huaweicloud_compute_instance");
+        resource.setGroupName("vm");
+        resource.setResourceId(resourceId);
+        resource.setResourceName(resourceId);
+        resource.setResourceKind(DeployResourceKind.VM);
+        resource.setProperties(new HashMap<>(properties));
+        return resource;
+    }
+
+    private DeployResource getDeployResource(String resourceId, Map<String, String> properties) {
+        DeployResource resource = new DeployResource();
+        resource.setGroupType("huaweicloud_compute_instance");
+        resource.setGroupName("vm");
+        resource.setResourceId(resourceId);
+        resource.setResourceName(resourceId);
+        resource.setResourceKind(DeployResourceKind.VM);
+        resource.setProperties(properties);
+        return resource;
+    }
+}
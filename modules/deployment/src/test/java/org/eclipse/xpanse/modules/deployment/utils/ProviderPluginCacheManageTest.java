@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.eclipse.xpanse.modules.models.servicetemplate.Deployment;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProviderPluginCacheManageTest {
+
+    private final ProviderPluginCacheManage providerPluginCacheManage =
+            new ProviderPluginCacheManage();
+
+    private static final String PROVIDER_FILE =
+            ".terraform/providers/registry.terraform.io/hashicorp/random/binary";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void testGetTemplateKey() throws IOException {
+        Deployment deployment = getDeployment();
+        Path workspace = createWorkspace("workspace", "resource \"random_id\" \"new\" {}");
+        Path sameWorkspace = createWorkspace("same", "resource \"random_id\" \"new\" {}");
+        Path otherWorkspace = createWorkspace("other", "resource \"random_id\" \"other\" {}");
+        String templateKey =
+                providerPluginCacheManage.getTemplateKey(deployment, workspace.toString());
+
+        assertEquals(templateKey,
+                providerPluginCacheManage.getTemplateKey(deployment, sameWorkspace.toString()));
+        assertNotEquals(templateKey,
+                providerPluginCacheManage.getTemplateKey(deployment, otherWorkspace.toString()));
+        // files created by init do not change the key.
+        Files.writeString(workspace.resolve(".terraform.lock.hcl"), "lock");
+        Files.createDirectories(workspace.resolve(".terraform/modules"));
+        Files.writeString(workspace.resolve(".terraform/modules/main.tf"), "module");
+        assertEquals(templateKey,
+                providerPluginCacheManage.getTemplateKey(deployment, workspace.toString()));
+        assertNull(providerPluginCacheManage.getTemplateKey(deployment,
+                tempDir.resolve("empty").toString()));
+    }
+
+    @Test
+    void testGetPluginCacheEnv() {
+        Map<String, String> env =
+                providerPluginCacheManage.getPluginCacheEnv(tempDir.toString());
+
+        assertTrue(Files.isDirectory(
+                Path.of(env.get(ProviderPluginCacheManage.PLUGIN_CACHE_DIR_ENV))));
+        assertEquals("true",
+                env.get(ProviderPluginCacheManage.PLUGIN_CACHE_MAY_BREAK_LOCK_FILE_ENV));
+    }
+
+    @Test
+    void testGetPluginCacheInitLock() {
+        String cacheRoot = tempDir.resolve("cache").toString();
+
+        assertSame(providerPluginCacheManage.getPluginCacheInitLock(cacheRoot),
+                providerPluginCacheManage.getPluginCacheInitLock(cacheRoot + "/"));
+        assertNotSame(providerPluginCacheManage.getPluginCacheInitLock(cacheRoot),
+                providerPluginCacheManage.getPluginCacheInitLock(tempDir.toString()));
+    }
+
+    @Test
+    void testStoreAndPrepareWorkspace() throws IOException {
+        Deployment deployment = getDeployment();
+        String script = "resource \"random_id\" \"new\" {}";
+        String cacheRoot = tempDir.resolve("cache").toString();
+        Path initializedWorkspace = createInitializedWorkspace("validate", script, "provider");
+
+        providerPluginCacheManage.storePreparedWorkspace(cacheRoot, deployment,
+                initializedWorkspace.toString());
+        Path workspace = createWorkspace("service", script);
+
+        assertTrue(providerPluginCacheManage.prepareWorkspace(cacheRoot, deployment,
+                workspace.toString()));
+        assertEquals("lock", Files.readString(workspace.resolve(".terraform.lock.hcl")));
+        assertEquals("provider", Files.readString(workspace.resolve(PROVIDER_FILE)));
+        // the workspace initialized before is still prepared.
+        assertTrue(providerPluginCacheManage.prepareWorkspace(cacheRoot, deployment,
+                workspace.toString()));
+    }
+
+    @Test
+    void testStorePreparedWorkspaceAgain() throws IOException {
+        Deployment deployment = getDeployment();
+        String script = "resource \"random_id\" \"new\" {}";
+        String cacheRoot = tempDir.resolve("cache").toString();
+        providerPluginCacheManage.storePreparedWorkspace(cacheRoot, deployment,
+                createInitializedWorkspace("validate", script, "provider").toString());
+
+        providerPluginCacheManage.storePreparedWorkspace(cacheRoot, deployment,
+                createInitializedWorkspace("revalidate", script, "new provider").toString());
+        Path workspace = createWorkspace("service", script);
+        providerPluginCacheManage.prepareWorkspace(cacheRoot, deployment, workspace.toString());
+
+        assertEquals("new provider", Files.readString(workspace.resolve(PROVIDER_FILE)));
+        try (Stream<Path> templateDirectories = Files.list(Path.of(cacheRoot, "templates"))) {
+            assertEquals(1, templateDirectories.count());
+        }
+    }
+
+    @Test
+    void testPrepareWorkspaceWithoutPreparedTemplate() throws IOException {
+        Path workspace = createWorkspace("service", "resource \"random_id\" \"new\" {}");
+
+        assertFalse(providerPluginCacheManage.prepareWorkspace(
+                tempDir.resolve("cache").toString(), getDeployment(), workspace.toString()));
+        assertFalse(Files.exists(workspace.resolve(".terraform")));
+    }
+
+    private Path createWorkspace(String name, String script) throws IOException {
+        Path workspace = tempDir.resolve(name);
+        Files.createDirectories(workspace);
+        Files.writeString(workspace.resolve("main.tf"), script);
+        return workspace;
+    }
+
+    private Path createInitializedWorkspace(String name, String script, String provider)
+            throws IOException {
+        Path workspace = createWorkspace(name, script);
+        Path providerFile = workspace.resolve(PROVIDER_FILE);
+        Files.createDirectories(providerFile.getParent());
+        Files.writeString(providerFile, provider);
+        Files.writeString(workspace.resolve(".terraform.lock.hcl"), "lock");
+        return workspace;
+    }
+
+    private Deployment getDeployment() {
+        Deployment deployment = new Deployment();
+        deployment.setKind(DeployerKind.TERRAFORM);
+        deployment.setDeployer("resource \"random_id\" \"new\" {}");
+        return deployment;
+    }
+}
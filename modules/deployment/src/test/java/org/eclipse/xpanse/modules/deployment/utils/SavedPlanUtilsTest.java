@@ -0,0 +1,83 @@
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SavedPlanUtilsTest {
+
+    private static final Map<String, String> ENV = Map.of("OS_AUTH_URL", "http://localhost");
+    private static final Map<String, Object> VARIABLES = Map.of("region", "eu-west-101");
+
+    @TempDir
+    private Path workspace;
+    private String planKey;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        planKey = SavedPlanUtils.getPlanKey(UUID.randomUUID(), UUID.randomUUID(), "1.0.0");
+        Files.writeString(workspace.resolve("main.tf"), "resource \"null_resource\" \"a\" {}");
+        Files.writeString(workspace.resolve(".terraform.lock.hcl"), "provider \"null\" {}");
+        Files.writeString(workspace.resolve(SavedPlanUtils.PLAN_FILE_NAME), "plan");
+        SavedPlanUtils.savePlanFingerprint(workspace.toString(), planKey, ENV, VARIABLES);
+    }
+
+    @Test
+    void testIsSavedPlanReusable() {
+        assertTrue(SavedPlanUtils.isSavedPlanReusable(workspace.toString(), planKey, ENV,
+                Map.of("region", "eu-west-101")));
+    }
+
+    @Test
+    void testIsSavedPlanReusableWithOtherOrderOrVariables() {
+        String otherPlanKey =
+                SavedPlanUtils.getPlanKey(UUID.randomUUID(), UUID.randomUUID(), "1.0.0");
+
+        assertFalse(SavedPlanUtils.isSavedPlanReusable(workspace.toString(), otherPlanKey, ENV,
+                VARIABLES));
+        assertFalse(SavedPlanUtils.isSavedPlanReusable(workspace.toString(), planKey, ENV,
+                Map.of("region", "eu-west-0")));
+        assertFalse(SavedPlanUtils.isSavedPlanReusable(workspace.toString(), planKey,
+                Map.of("OS_AUTH_URL", "http://remote"), VARIABLES));
+    }
+
+    @Test
+    void testIsSavedPlanReusableWithChangedLockFileOrScripts() throws Exception {
+        Files.writeString(workspace.resolve(".terraform.lock.hcl"), "provider \"random\" {}");
+        assertFalse(SavedPlanUtils.isSavedPlanReusable(workspace.toString(), planKey, ENV,
+                VARIABLES));
+
+        Files.writeString(workspace.resolve(".terraform.lock.hcl"), "provider \"null\" {}");
+        Files.writeString(workspace.resolve("variables.tf"), "variable \"region\" {}");
+        assertFalse(SavedPlanUtils.isSavedPlanReusable(workspace.toString(), planKey, ENV,
+                VARIABLES));
+    }
+
+    @Test
+    void testDeleteSavedPlan() {
+        SavedPlanUtils.deleteSavedPlan(workspace.toString());
+
+        assertFalse(Files.exists(workspace.resolve(SavedPlanUtils.PLAN_FILE_NAME)));
+        assertFalse(Files.exists(workspace.resolve(SavedPlanUtils.PLAN_FINGERPRINT_FILE_NAME)));
+        assertFalse(SavedPlanUtils.isSavedPlanReusable(workspace.toString(), planKey, ENV,
+                VARIABLES));
+        assertEquals(1, workspace.toFile().listFiles((dir, name) -> name.endsWith(".tf")).length);
+    }
+
+    @Test
+    void testIsStalePlanError() {
+        assertTrue(SavedPlanUtils.isStalePlanError("Error: Saved plan is stale\n\nThe given "
+                + "plan file can no longer be applied because the state was changed."));
+        assertFalse(SavedPlanUtils.isStalePlanError("Error: creating ECS instance: quota "
+                + "exceeded"));
+        assertFalse(SavedPlanUtils.isStalePlanError(null));
+    }
+}
@@ -0,0 +1,147 @@
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.util.FileUtils;
+import org.eclipse.xpanse.modules.models.common.exceptions.GitRepoCloneException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ScriptsGitRepoMirrorStoreTest {
+
+    private static final String BRANCH = "main";
+
+    @TempDir
+    private Path tempDirectory;
+    private File upstreamDirectory;
+    private String upstreamUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        upstreamDirectory = tempDirectory.resolve("upstream").toFile();
+        upstreamUrl = upstreamDirectory.toURI().toString();
+        try (Git git = Git.init().setDirectory(upstreamDirectory).setInitialBranch(BRANCH)
+                .call()) {
+            commitScript(git, "main.tf", "resource \"random_id\" \"first\" {}");
+        }
+    }
+
+    @Test
+    void testWorkspacesAreClonedFromMirror() throws Exception {
+        ScriptsGitRepoMirrorStore mirrorStore = getMirrorStore(60);
+
+        File firstWorkspace = tempDirectory.resolve("workspace-1").toFile();
+        mirrorStore.cloneFromMirror(upstreamUrl, BRANCH, firstWorkspace);
+        try (Git upstream = Git.open(upstreamDirectory)) {
+            commitScript(upstream, "second.tf", "resource \"random_id\" \"second\" {}");
+        }
+        File secondWorkspace = tempDirectory.resolve("workspace-2").toFile();
+        mirrorStore.cloneFromMirror(upstreamUrl, BRANCH, secondWorkspace);
+
+        assertTrue(new File(firstWorkspace, "main.tf").isFile());
+        // the mirror is not fetched again within the refresh interval.
+        assertFalse(new File(secondWorkspace, "second.tf").exists());
+        try (Git workspace = Git.open(firstWorkspace)) {
+            assertEquals(upstreamUrl, workspace.getRepository().getConfig()
+                    .getString("remote", "origin", "url"));
+            assertEquals(BRANCH, workspace.getRepository().getBranch());
+        }
+    }
+
+    @Test
+    void testMirrorIsFetchedAfterRefreshInterval() throws Exception {
+        ScriptsGitRepoMirrorStore mirrorStore = getMirrorStore(0);
+        File mirror = mirrorStore.getRefreshedMirror(upstreamUrl, BRANCH);
+        try (Git upstream = Git.open(upstreamDirectory)) {
+            commitScript(upstream, "second.tf", "resource \"random_id\" \"second\" {}");
+        }
+
+        File workspace = tempDirectory.resolve("workspace").toFile();
+        mirrorStore.cloneFromMirror(upstreamUrl, BRANCH, workspace);
+
+        assertEquals(mirror, mirrorStore.getRefreshedMirror(upstreamUrl, BRANCH));
+        assertTrue(new File(workspace, "second.tf").isFile());
+    }
+
+    @Test
+    void testMirrorFetchedBeforeIsUsedWhenRepoIsUnavailable() throws Exception {
+        ScriptsGitRepoMirrorStore mirrorStore = getMirrorStore(0);
+        mirrorStore.getRefreshedMirror(upstreamUrl, BRANCH);
+        FileUtils.delete(upstreamDirectory, FileUtils.RECURSIVE);
+
+        File workspace = tempDirectory.resolve("workspace").toFile();
+        mirrorStore.cloneFromMirror(upstreamUrl, BRANCH, workspace);
+
+        assertTrue(new File(workspace, "main.tf").isFile());
+    }
+
+    @Test
+    void testNewBranchIsFetchedWithinRefreshInterval() throws Exception {
+        ScriptsGitRepoMirrorStore mirrorStore = getMirrorStore(60);
+        mirrorStore.getRefreshedMirror(upstreamUrl, BRANCH);
+        try (Git upstream = Git.open(upstreamDirectory)) {
+            upstream.branchCreate().setName("feature").call();
+        }
+
+        File workspace = tempDirectory.resolve("workspace").toFile();
+        mirrorStore.cloneFromMirror(upstreamUrl, "feature", workspace);
+
+        try (Git git = Git.open(workspace)) {
+            assertEquals("feature", git.getRepository().getBranch());
+        }
+    }
+
+    @Test
+    void testFailedFetchIsRetriedWithNextRequest() throws Exception {
+        ScriptsGitRepoMirrorStore mirrorStore = getMirrorStore(1);
+        mirrorStore.getRefreshedMirror(upstreamUrl, BRANCH);
+        Thread.sleep(1100);
+        Path movedUpstream = tempDirectory.resolve("moved");
+        Files.move(upstreamDirectory.toPath(), movedUpstream);
+        mirrorStore.getRefreshedMirror(upstreamUrl, BRANCH);
+        Files.move(movedUpstream, upstreamDirectory.toPath());
+        try (Git upstream = Git.open(upstreamDirectory)) {
+            commitScript(upstream, "second.tf", "resource \"random_id\" \"second\" {}");
+        }
+
+        File workspace = tempDirectory.resolve("workspace").toFile();
+        mirrorStore.cloneFromMirror(upstreamUrl, BRANCH, workspace);
+
+        // the failed fetch did not count as a refresh of the mirror.
+        assertTrue(new File(workspace, "second.tf").isFile());
+    }
+
+    @Test
+    void testCloneMirrorOfUnavailableRepoFails() {
+        ScriptsGitRepoMirrorStore mirrorStore = getMirrorStore(60);
+        String unavailableUrl = tempDirectory.resolve("missing").toUri().toString();
+        File workspace = tempDirectory.resolve("workspace").toFile();
+
+        assertThrows(GitRepoCloneException.class,
+                () -> mirrorStore.cloneFromMirror(unavailableUrl, BRANCH, workspace));
+        // no partially cloned mirror is left behind.
+        File[] mirrors = tempDirectory.resolve("mirrors").toFile().listFiles();
+        assertTrue(mirrors == null || mirrors.length == 0);
+    }
+
+    private ScriptsGitRepoMirrorStore getMirrorStore(long refreshIntervalInSeconds) {
+        return new ScriptsGitRepoMirrorStore(tempDirectory.resolve("mirrors").toString(),
+                refreshIntervalInSeconds, 10);
+    }
+
+    private void commitScript(Git git, String fileName, String content) throws Exception {
+        Files.writeString(upstreamDirectory.toPath().resolve(fileName), content);
+        git.add().addFilepattern(fileName).call();
+        git.commit().setMessage("add " + fileName).setSign(false)
+                .setAuthor("xpanse", "xpanse@eclipse.org")
+                .setCommitter("xpanse", "xpanse@eclipse.org").call();
+    }
+}
@@ -0,0 +1,37 @@
+package org.eclipse.xpanse.modules.deployment.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import org.eclipse.xpanse.common.systemcmd.ProcessOutputSink;
+import org.eclipse.xpanse.common.systemcmd.ProcessOutputType;
+import org.junit.jupiter.api.Test;
+
+class ServiceOrderOutputTailsTest {
+
+    private final ServiceOrderOutputTails serviceOrderOutputTails =
+            new ServiceOrderOutputTails(2, 10, 60);
+
+    @Test
+    void testGetOutputTail() {
+        UUID orderId = UUID.randomUUID();
+        ProcessOutputSink outputSink = serviceOrderOutputTails.getOutputSink(orderId);
+        outputSink.accept(ProcessOutputType.STDOUT, "Initializing the backend...");
+        outputSink.accept(ProcessOutputType.STDOUT, "Plan: 1 to add, 0 to change.");
+        serviceOrderOutputTails.getOutputSink(orderId)
+                .accept(ProcessOutputType.STDERR, "Error: Invalid provider configuration");
+
+        assertSame(outputSink, serviceOrderOutputTails.getOutputSink(orderId));
+        assertEquals(List.of("Plan: 1 to add, 0 to change.",
+                        "Error: Invalid provider configuration"),
+                serviceOrderOutputTails.getOutputTail(orderId));
+    }
+
+    @Test
+    void testGetOutputTailOfUnknownOrder() {
+        assertTrue(serviceOrderOutputTails.getOutputTail(UUID.randomUUID()).isEmpty());
+    }
+}
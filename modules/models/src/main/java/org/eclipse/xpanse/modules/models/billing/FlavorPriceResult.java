@@ -7,6 +7,7 @@ package org.eclipse.xpanse.modules.models.billing;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
+import java.time.OffsetDateTime;
 import lombok.Data;
 import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
 
@@ -36,4 +37,12 @@ public class FlavorPriceResult {
 
     @Schema(description = "Error reason when price calculation fails.")
     private String errorMessage;
+
+    @Schema(description = "The time when the price was calculated. Only set for the prices "
+            + "served from the price catalog.")
+    private OffsetDateTime calculatedTime;
+
+    @Schema(description = "Whether the price from the price catalog is older than its refresh "
+            + "interval. A stale price is refreshed in the background.")
+    private Boolean isStale;
 }
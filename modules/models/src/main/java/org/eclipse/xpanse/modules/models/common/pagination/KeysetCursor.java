@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Position of the last item of a page in a list sorted descending by time and id. The next page
+ * starts with the items sorted after this position.
+ *
+ * @param sortTime time of the last item.
+ * @param id       id of the last item.
+ */
+public record KeysetCursor(OffsetDateTime sortTime, UUID id) {
+
+    private static final String SEPARATOR = "_";
+
+    /**
+     * Constructor for KeysetCursor.
+     */
+    public KeysetCursor {
+        Objects.requireNonNull(sortTime, "sortTime");
+        Objects.requireNonNull(id, "id");
+        // the cursor must not depend on the offset the time was read with.
+        sortTime = sortTime.withOffsetSameInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * Encode the cursor to the opaque string returned to the clients.
+     *
+     * @return encoded cursor.
+     */
+    public String encode() {
+        Instant instant = sortTime.toInstant();
+        String value = instant.getEpochSecond() + SEPARATOR + instant.getNano() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode the cursor returned to the clients.
+     *
+     * @param cursor encoded cursor.
+     * @return decoded cursor.
+     * @throws IllegalArgumentException if the cursor is invalid.
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8);
+            String[] parts = value.split(SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor " + cursor);
+            }
+            Instant instant = Instant.ofEpochSecond(Long.parseLong(parts[0]),
+                    Long.parseLong(parts[1]));
+            return new KeysetCursor(OffsetDateTime.ofInstant(instant, ZoneOffset.UTC),
+                    UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a list using keyset pagination.
+ *
+ * @param items      items of the page.
+ * @param nextCursor encoded cursor of the next page, null if this is the last page.
+ * @param <T>        type of the items.
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+
+    /**
+     * Header of the API responses which contains the cursor of the next page.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Convert the items of the page.
+     *
+     * @param converter converter of the items.
+     * @param <R>       type of the converted items.
+     * @return page with the converted items.
+     */
+    public <R> KeysetPage<R> map(Function<T, R> converter) {
+        return new KeysetPage<>(items.stream().map(converter).toList(), nextCursor);
+    }
+}
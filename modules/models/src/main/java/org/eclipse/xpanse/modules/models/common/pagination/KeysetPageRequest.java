@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.common.pagination;
+
+import java.util.Objects;
+
+/**
+ * Request of one page of a list using keyset pagination.
+ *
+ * @param cursor position after which the page starts, null for the first page.
+ * @param limit  maximum number of items in the page.
+ */
+public record KeysetPageRequest(KeysetCursor cursor, int limit) {
+
+    public static final int MAX_LIMIT = 1000;
+
+    /**
+     * Constructor for KeysetPageRequest.
+     */
+    public KeysetPageRequest {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException(
+                    "The value of parameter 'limit' must be between 1 and " + MAX_LIMIT + ".");
+        }
+    }
+
+    /**
+     * Create the page request from the parameters of an API request.
+     *
+     * @param limit  maximum number of items, null if no limit.
+     * @param cursor encoded cursor of the previous page, null for the first page.
+     * @return page request, or null if the whole list is requested.
+     */
+    public static KeysetPageRequest of(Integer limit, String cursor) {
+        if (Objects.isNull(limit) && Objects.isNull(cursor)) {
+            return null;
+        }
+        return new KeysetPageRequest(Objects.isNull(cursor) ? null : KeysetCursor.decode(cursor),
+                Objects.isNull(limit) ? MAX_LIMIT : limit);
+    }
+}
@@ -72,7 +72,8 @@ public enum ResultType {
     SERVICE_PRICE_CALCULATION_FAILED("Service Price Calculation Failed"),
     INVALID_GIT_REPO_DETAILS("Invalid Git Repo Details"),
     FILE_LOCKED("File Locked"),
-    INVALID_SERVICE_CONFIGURATION("Service Configuration Invalid");
+    INVALID_SERVICE_CONFIGURATION("Service Configuration Invalid"),
+    DEPLOYMENT_QUEUE_FULL("Deployment Queue Full");
 
     private final String value;
 
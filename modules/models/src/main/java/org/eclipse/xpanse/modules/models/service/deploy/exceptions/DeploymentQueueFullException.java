@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.models.service.deploy.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when no more tasks can be queued for the cloud service provider or the user.
+ */
+@Getter
+public class DeploymentQueueFullException extends RuntimeException {
+
+    /**
+     * Estimated seconds after which the request can be retried.
+     */
+    private final long retryAfterSeconds;
+
+    public DeploymentQueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
@@ -16,6 +16,7 @@ import org.eclipse.xpanse.modules.models.common.exceptions.UnsupportedEnumValueE
  */
 public enum TaskStatus {
     CREATED("created"),
+    QUEUED("queued"),
     IN_PROGRESS("in progress"),
     SUCCESSFUL("successful"),
     FAILED("failed");
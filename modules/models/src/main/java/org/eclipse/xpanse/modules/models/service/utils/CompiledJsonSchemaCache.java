@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.models.service.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SchemaValidatorsConfig;
+import com.networknt.schema.SpecVersion;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.servicetemplate.utils.JsonObjectSchema;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the compiled JSON schemas of the service templates. Compiling a schema is expensive
+ * compared to the validation itself, so the schemas are compiled once per service template and
+ * reused by all orders until the service template is updated.
+ */
+@Slf4j
+@Component
+public class CompiledJsonSchemaCache {
+
+    private static final SchemaValidatorsConfig SCHEMA_VALIDATORS_CONFIG =
+            SchemaValidatorsConfig.builder().locale(Locale.ENGLISH).build();
+
+    private final JsonSchemaFactory jsonSchemaFactory =
+            JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final Cache<SchemaKey, JsonSchema> schemas;
+
+    /**
+     * Constructor for CompiledJsonSchemaCache.
+     *
+     * @param maximumSize maximum number of compiled schemas kept.
+     */
+    @Autowired
+    public CompiledJsonSchemaCache(
+            @Value("${service.template.json.schema.cache.maximum.size:1000}") long maximumSize) {
+        this.schemas = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Get the compiled schema from the cache or compile it when not available.
+     *
+     * @param key            key of the schema.
+     * @param schemaSupplier supplies the schema to compile.
+     * @return compiled schema.
+     */
+    public JsonSchema getSchema(SchemaKey key, Supplier<JsonObjectSchema> schemaSupplier) {
+        return schemas.get(key, schemaKey -> {
+            log.info("Compile {} schema of service template {}.", key.schemaType(),
+                    key.serviceTemplateId());
+            return compile(schemaSupplier.get());
+        });
+    }
+
+    /**
+     * Compile the schema without caching it.
+     *
+     * @param jsonObjectSchema schema to compile.
+     * @return compiled schema.
+     */
+    public JsonSchema compile(JsonObjectSchema jsonObjectSchema) {
+        JsonNode schemaNode = jsonMapper.valueToTree(jsonObjectSchema);
+        return jsonSchemaFactory.getSchema(schemaNode, SCHEMA_VALIDATORS_CONFIG);
+    }
+
+    /**
+     * Convert the properties to the JSON tree to validate.
+     *
+     * @param properties properties of the request.
+     * @return JSON tree of the properties.
+     */
+    public JsonNode toJsonNode(Object properties) {
+        return jsonMapper.valueToTree(properties);
+    }
+
+    /**
+     * Remove all compiled schemas of the service template.
+     *
+     * @param serviceTemplateId id of the service template.
+     */
+    public void evictSchemas(UUID serviceTemplateId) {
+        schemas.asMap().keySet().removeIf(key ->
+                Objects.equals(key.serviceTemplateId(), serviceTemplateId));
+    }
+
+    long getSchemasCount() {
+        schemas.cleanUp();
+        return schemas.estimatedSize();
+    }
+
+    /**
+     * Type of the schema of a service template.
+     */
+    public enum SchemaType {
+        DEPLOY_VARIABLES,
+        SERVICE_CONFIGURATION
+    }
+
+    /**
+     * Key of a compiled schema in the cache.
+     *
+     * @param serviceTemplateId id of the service template.
+     * @param version           version of the service template.
+     * @param schemaType        type of the schema.
+     */
+    public record SchemaKey(UUID serviceTemplateId, String version, SchemaType schemaType) {
+    }
+}
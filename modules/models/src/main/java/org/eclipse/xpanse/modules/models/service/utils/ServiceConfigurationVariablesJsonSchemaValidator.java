@@ -6,20 +6,19 @@
 
 package org.eclipse.xpanse.modules.models.service.utils;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.networknt.schema.JsonSchema;
-import com.networknt.schema.JsonSchemaFactory;
-import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
+import jakarta.annotation.Resource;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.service.utils.CompiledJsonSchemaCache.SchemaKey;
+import org.eclipse.xpanse.modules.models.service.utils.CompiledJsonSchemaCache.SchemaType;
 import org.eclipse.xpanse.modules.models.serviceconfiguration.exceptions.ServiceConfigurationInvalidException;
 import org.eclipse.xpanse.modules.models.servicetemplate.ServiceConfigurationParameter;
 import org.eclipse.xpanse.modules.models.servicetemplate.utils.JsonObjectSchema;
@@ -33,7 +32,8 @@ import org.springframework.util.CollectionUtils;
 @Component
 public class ServiceConfigurationVariablesJsonSchemaValidator {
 
-    private final ObjectMapper jsonMapper = new ObjectMapper();
+    @Resource
+    private CompiledJsonSchemaCache compiledJsonSchemaCache;
 
     /**
      * Check validation of service configuration map by list of ServiceConfigurationParameter in
@@ -49,25 +49,45 @@ public class ServiceConfigurationVariablesJsonSchemaValidator {
         if (CollectionUtils.isEmpty(configurationParameters) || Objects.isNull(jsonObjectSchema)) {
             return;
         }
+        validate(compiledJsonSchemaCache.compile(jsonObjectSchema), configurations);
+    }
+
+    /**
+     * Check validation of service configuration map by list of ServiceConfigurationParameter in
+     * registered service. The compiled schema of the service template is reused from the cache,
+     * the schema is built only when it is not yet compiled.
+     *
+     * @param serviceTemplateId       id of the registered service.
+     * @param version                 version of the registered service.
+     * @param configurationParameters list of serviceConfigurationParameter in registered service.
+     * @param configurations          service configuration map
+     * @param schemaSupplier          builds the json schema of the configuration parameters.
+     */
+    public void validateServiceConfiguration(UUID serviceTemplateId, String version,
+            List<ServiceConfigurationParameter> configurationParameters,
+            Map<String, Object> configurations, Supplier<JsonObjectSchema> schemaSupplier) {
+
+        if (CollectionUtils.isEmpty(configurationParameters)) {
+            return;
+        }
+        JsonSchema schema = compiledJsonSchemaCache.getSchema(
+                new SchemaKey(serviceTemplateId, version, SchemaType.SERVICE_CONFIGURATION),
+                schemaSupplier);
+        validate(schema, configurations);
+    }
+
+    private void validate(JsonSchema schema, Map<String, Object> configurations) {
+        List<String> errors = new ArrayList<>();
         try {
-            String jsonObjectSchemaString = jsonMapper.writeValueAsString(jsonObjectSchema);
-            Locale.setDefault(Locale.ENGLISH);
-            JsonSchemaFactory factory =
-                    JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
-            JsonSchema schema = factory.getSchema(jsonObjectSchemaString);
-            String propertyJson = jsonMapper.writeValueAsString(configurations);
-            JsonNode jsonNode = jsonMapper.readTree(propertyJson);
-            Set<ValidationMessage> validate = schema.validate(jsonNode);
-            if (!validate.isEmpty()) {
-                List<String> errors = new ArrayList<>();
-                for (ValidationMessage validationMessage : validate) {
-                    errors.add(validationMessage.getMessage().substring(3));
-                }
-                throw new ServiceConfigurationInvalidException(errors.toString());
+            Set<ValidationMessage> validate =
+                    schema.validate(compiledJsonSchemaCache.toJsonNode(configurations));
+            for (ValidationMessage validationMessage : validate) {
+                errors.add(validationMessage.getMessage().substring(3));
             }
-        } catch (JsonProcessingException e) {
-            List<String> errors = new ArrayList<>();
+        } catch (IllegalArgumentException e) {
             errors.add(e.getMessage());
+        }
+        if (!errors.isEmpty()) {
             throw new ServiceConfigurationInvalidException(errors.toString());
         }
     }
@@ -6,21 +6,19 @@
 
 package org.eclipse.xpanse.modules.models.service.utils;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.networknt.schema.JsonSchema;
-import com.networknt.schema.JsonSchemaFactory;
-import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
+import jakarta.annotation.Resource;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.VariableValidationFailedException;
+import org.eclipse.xpanse.modules.models.service.utils.CompiledJsonSchemaCache.SchemaKey;
+import org.eclipse.xpanse.modules.models.service.utils.CompiledJsonSchemaCache.SchemaType;
 import org.eclipse.xpanse.modules.models.servicetemplate.DeployVariable;
 import org.eclipse.xpanse.modules.models.servicetemplate.utils.JsonObjectSchema;
 import org.springframework.stereotype.Component;
@@ -33,7 +31,8 @@ import org.springframework.util.CollectionUtils;
 @Component
 public class ServiceDeployVariablesJsonSchemaValidator {
 
-    private final ObjectMapper jsonMapper = new ObjectMapper();
+    @Resource
+    private CompiledJsonSchemaCache compiledJsonSchemaCache;
 
     /**
      * Check validation of deploy property map by list of deployVariables in registered service.
@@ -48,26 +47,44 @@ public class ServiceDeployVariablesJsonSchemaValidator {
         if (CollectionUtils.isEmpty(deployVariables) || Objects.isNull(jsonObjectSchema)) {
             return;
         }
-        try {
-            String jsonObjectSchemaString = jsonMapper.writeValueAsString(jsonObjectSchema);
-            Locale.setDefault(Locale.ENGLISH);
-            JsonSchemaFactory factory =
-                    JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V202012);
-            JsonSchema schema = factory.getSchema(jsonObjectSchemaString);
-            String propertyJson = jsonMapper.writeValueAsString(deployProperty);
-            JsonNode jsonNode = jsonMapper.readTree(propertyJson);
-            Set<ValidationMessage> validate = schema.validate(jsonNode);
+        validate(compiledJsonSchemaCache.compile(jsonObjectSchema), deployProperty);
+    }
+
+    /**
+     * Check validation of deploy property map by list of deployVariables in registered service.
+     * The compiled schema of the service template is reused from the cache.
+     *
+     * @param serviceTemplateId id of the registered service
+     * @param version           version of the registered service
+     * @param deployVariables   list of deployVariables in registered service
+     * @param deployProperty    deploy property map
+     * @param jsonObjectSchema  json schema of the deployVariables in registered service
+     */
+    public void validateDeployVariables(UUID serviceTemplateId, String version,
+            List<DeployVariable> deployVariables, Map<String, Object> deployProperty,
+            JsonObjectSchema jsonObjectSchema) {
 
-            if (!validate.isEmpty()) {
-                List<String> errors = new ArrayList<>();
-                for (ValidationMessage validationMessage : validate) {
-                    errors.add(validationMessage.getMessage().substring(3));
-                }
-                throw new VariableValidationFailedException(errors);
+        if (CollectionUtils.isEmpty(deployVariables) || Objects.isNull(jsonObjectSchema)) {
+            return;
+        }
+        JsonSchema schema = compiledJsonSchemaCache.getSchema(
+                new SchemaKey(serviceTemplateId, version, SchemaType.DEPLOY_VARIABLES),
+                () -> jsonObjectSchema);
+        validate(schema, deployProperty);
+    }
+
+    private void validate(JsonSchema schema, Map<String, Object> deployProperty) {
+        List<String> errors = new ArrayList<>();
+        try {
+            Set<ValidationMessage> validate =
+                    schema.validate(compiledJsonSchemaCache.toJsonNode(deployProperty));
+            for (ValidationMessage validationMessage : validate) {
+                errors.add(validationMessage.getMessage().substring(3));
             }
-        } catch (JsonProcessingException e) {
-            List<String> errors = new ArrayList<>();
+        } catch (IllegalArgumentException e) {
             errors.add(e.getMessage());
+        }
+        if (!errors.isEmpty()) {
             throw new VariableValidationFailedException(errors);
         }
     }
@@ -2,6 +2,7 @@ package org.eclipse.xpanse.modules.models.billing;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.OffsetDateTime;
 import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,8 @@ class FlavorPriceResultTest {
     private final boolean isSuccessful = true;
     private final BillingMode billingMode = BillingMode.FIXED;
     private final String errorMessage = "errorMessage";
+    private final OffsetDateTime calculatedTime = OffsetDateTime.now();
+    private final Boolean isStale = false;
 
 
     @Mock
@@ -35,6 +38,8 @@ class FlavorPriceResultTest {
         test.setErrorMessage(errorMessage);
         test.setRecurringPrice(mockRecurringPrice);
         test.setOneTimePaymentPrice(mockOneTimePaymentPrice);
+        test.setCalculatedTime(calculatedTime);
+        test.setIsStale(isStale);
     }
 
     @Test
@@ -45,6 +50,8 @@ class FlavorPriceResultTest {
         assertThat(test.getErrorMessage()).isEqualTo(errorMessage);
         assertThat(test.getRecurringPrice()).isEqualTo(mockRecurringPrice);
         assertThat(test.getOneTimePaymentPrice()).isEqualTo(mockOneTimePaymentPrice);
+        assertThat(test.getCalculatedTime()).isEqualTo(calculatedTime);
+        assertThat(test.getIsStale()).isEqualTo(isStale);
     }
 
     @Test
@@ -73,6 +80,8 @@ class FlavorPriceResultTest {
                 + ", oneTimePaymentPrice=" + mockOneTimePaymentPrice
                 + ", isSuccessful=" + isSuccessful
                 + ", errorMessage=" + errorMessage
+                + ", calculatedTime=" + calculatedTime
+                + ", isStale=" + isStale
                 + ")";
         assertThat(test.toString()).isEqualTo(result);
     }
@@ -0,0 +1,44 @@
+package org.eclipse.xpanse.modules.models.common.pagination;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of KeysetPageRequest and KeysetCursor.
+ */
+class KeysetPageRequestTest {
+
+    @Test
+    void testEncodeAndDecodeCursor() {
+        KeysetCursor cursor = new KeysetCursor(
+                OffsetDateTime.of(2024, 5, 1, 10, 30, 15, 123456789, ZoneOffset.ofHours(8)),
+                UUID.randomUUID());
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        Assertions.assertEquals(cursor, decoded);
+        Assertions.assertEquals(ZoneOffset.UTC, decoded.sortTime().getOffset());
+    }
+
+    @Test
+    void testDecodeInvalidCursor() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> KeysetCursor.decode("invalid"));
+    }
+
+    @Test
+    void testOf() {
+        Assertions.assertNull(KeysetPageRequest.of(null, null));
+        Assertions.assertEquals(KeysetPageRequest.MAX_LIMIT,
+                KeysetPageRequest.of(null, new KeysetCursor(OffsetDateTime.now(),
+                        UUID.randomUUID()).encode()).limit());
+        Assertions.assertEquals(10, KeysetPageRequest.of(10, null).limit());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> KeysetPageRequest.of(0, null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> KeysetPageRequest.of(KeysetPageRequest.MAX_LIMIT + 1, null));
+    }
+}
@@ -13,6 +13,7 @@ import java.io.File;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.VariableValidationFailedException;
 import org.eclipse.xpanse.modules.models.servicetemplate.DeployVariable;
 import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
@@ -31,7 +32,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
  */
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = {ServiceDeployVariablesJsonSchemaGenerator.class,
-        ServiceDeployVariablesJsonSchemaValidator.class})
+        ServiceDeployVariablesJsonSchemaValidator.class, CompiledJsonSchemaCache.class})
 class ServiceDeployVariablesJsonSchemaGeneratorAndValidatorTest {
 
     @Autowired
@@ -40,6 +41,9 @@ class ServiceDeployVariablesJsonSchemaGeneratorAndValidatorTest {
     @Autowired
     ServiceDeployVariablesJsonSchemaValidator serviceDeployVariablesJsonSchemaValidator;
 
+    @Autowired
+    CompiledJsonSchemaCache compiledJsonSchemaCache;
+
     private List<DeployVariable> variables;
 
     @BeforeEach
@@ -94,6 +98,31 @@ class ServiceDeployVariablesJsonSchemaGeneratorAndValidatorTest {
         });
     }
 
+    @Test
+    void validateWithCachedSchema_test() {
+        JsonObjectSchema jsonObjectSchema =
+                serviceDeployVariablesJsonSchemaGenerator.buildDeployVariableJsonSchema(variables);
+        UUID serviceTemplateId = UUID.randomUUID();
+
+        Map<String, Object> validProperty = new HashMap<>();
+        validProperty.put("admin_passwd", "123456@Qq");
+        Map<String, Object> invalidProperty = new HashMap<>();
+        invalidProperty.put("admin_passwd", "123456");
+
+        assertDoesNotThrow(() -> {
+            serviceDeployVariablesJsonSchemaValidator.validateDeployVariables(serviceTemplateId,
+                    "1.0.0", variables, validProperty, jsonObjectSchema);
+        });
+        assertThrows(VariableValidationFailedException.class, () -> {
+            serviceDeployVariablesJsonSchemaValidator.validateDeployVariables(serviceTemplateId,
+                    "1.0.0", variables, invalidProperty, jsonObjectSchema);
+        });
+        assertEquals(1, compiledJsonSchemaCache.getSchemasCount());
+
+        compiledJsonSchemaCache.evictSchemas(serviceTemplateId);
+        assertEquals(0, compiledJsonSchemaCache.getSchemasCount());
+    }
+
     @Test
     void validateWithRequiredSuccess_test() {
         for (DeployVariable variable : variables) {
@@ -7,6 +7,7 @@
 package org.eclipse.xpanse.modules.monitor;
 
 import jakarta.annotation.Resource;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -14,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.modules.database.resource.DeployResourceEntity;
 import org.eclipse.xpanse.modules.database.resource.DeployResourceStorage;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
+import org.eclipse.xpanse.modules.database.service.DeployServiceFetchPlan;
 import org.eclipse.xpanse.modules.database.service.DeployServiceStorage;
 import org.eclipse.xpanse.modules.database.utils.EntityTransUtils;
 import org.eclipse.xpanse.modules.models.monitor.Metric;
@@ -23,8 +25,10 @@ import org.eclipse.xpanse.modules.models.monitor.exceptions.ResourceNotSupported
 import org.eclipse.xpanse.modules.models.service.deploy.DeployResource;
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.ServiceNotDeployedException;
 import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
+import org.eclipse.xpanse.modules.monitor.timeseries.MetricsTimeSeriesStore;
 import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
 import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.monitor.MetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
 import org.eclipse.xpanse.modules.security.UserServiceHelper;
@@ -49,6 +53,10 @@ public class ServiceMetricsAdapter {
     private PluginManager pluginManager;
     @Resource
     private UserServiceHelper userServiceHelper;
+    @Resource
+    private ServiceMetricsCollector serviceMetricsCollector;
+    @Resource
+    private MetricsTimeSeriesStore metricsTimeSeriesStore;
 
     /**
      * Get metrics of the service instance.
@@ -77,7 +85,10 @@ public class ServiceMetricsAdapter {
         ServiceMetricsRequest serviceMetricRequest =
                 getServiceMetricRequest(UUID.fromString(id), vmResources, monitorType, from, to,
                         granularity, onlyLastKnownMetric, serviceEntity.getUserId());
-
+        List<Metric> storedMetrics = getStoredMetrics(vmResources, serviceMetricRequest);
+        if (Objects.nonNull(storedMetrics)) {
+            return storedMetrics;
+        }
         return orchestratorPlugin.getMetricsForService(serviceMetricRequest);
     }
 
@@ -118,12 +129,45 @@ public class ServiceMetricsAdapter {
                 getResourceMetricRequest(resourceEntity.getDeployService().getId(), deployResource,
                         monitorType, from, to, granularity, onlyLastKnownMetric,
                         serviceEntity.getUserId());
+        List<Metric> storedMetrics =
+                getStoredMetrics(List.of(deployResource), resourceMetricRequest);
+        if (Objects.nonNull(storedMetrics)) {
+            return storedMetrics;
+        }
         return orchestratorPlugin.getMetricsForResource(resourceMetricRequest);
     }
 
 
+    /**
+     * Get the metrics from the metrics collected in the background. Queries with a granularity
+     * or not fully covered by the collected metrics are answered by the cloud provider.
+     *
+     * @return metrics of the resources, or null if not available from the collected metrics.
+     */
+    private List<Metric> getStoredMetrics(List<DeployResource> resources,
+                                          MetricsRequest metricsRequest) {
+        if (!serviceMetricsCollector.isCollectorEnabled()
+                || Objects.nonNull(metricsRequest.getGranularity())) {
+            return null;
+        }
+        List<Metric> metrics = new ArrayList<>();
+        for (DeployResource resource : resources) {
+            List<Metric> resourceMetrics = metricsTimeSeriesStore.getMetrics(
+                    resource.getResourceId(), metricsRequest.getMonitorResourceType(),
+                    metricsRequest.getFrom(), metricsRequest.getTo(),
+                    metricsRequest.isOnlyLastKnownMetric(),
+                    serviceMetricsCollector.getMaxStalenessMillis());
+            if (Objects.isNull(resourceMetrics)) {
+                return null;
+            }
+            metrics.addAll(resourceMetrics);
+        }
+        return metrics;
+    }
+
     private DeployServiceEntity findDeployServiceEntity(UUID id) {
-        DeployServiceEntity serviceEntity = deployServiceStorage.findDeployServiceById(id);
+        DeployServiceEntity serviceEntity =
+                deployServiceStorage.findDeployServiceById(id, DeployServiceFetchPlan.METRICS);
         if (Objects.isNull(serviceEntity)) {
             throw new ServiceNotDeployedException("Service not found.");
         }
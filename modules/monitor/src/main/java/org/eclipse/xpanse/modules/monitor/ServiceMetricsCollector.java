@@ -0,0 +1,218 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.monitor;
+
+import jakarta.annotation.Resource;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.async.TaskConfiguration;
+import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
+import org.eclipse.xpanse.modules.database.service.DeployServiceStorage;
+import org.eclipse.xpanse.modules.database.service.ServiceQueryModel;
+import org.eclipse.xpanse.modules.database.utils.EntityTransUtils;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.monitor.Metric;
+import org.eclipse.xpanse.modules.models.service.deploy.DeployResource;
+import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
+import org.eclipse.xpanse.modules.models.service.enums.ServiceDeploymentState;
+import org.eclipse.xpanse.modules.monitor.timeseries.MetricsTimeSeriesStore;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects the metrics of the VMs of all deployed services in the background into the
+ * {@link MetricsTimeSeriesStore}. Metrics queries are then answered from the store instead of
+ * calling the cloud provider for every request.
+ *
+ * <p>The services are grouped per cloud provider, user and region, and the metrics of each group
+ * are queried with one call of the plugin, so that plugins with a batch query collect the whole
+ * group with as few calls of the provider as possible. The groups are collected in parallel with a
+ * bounded concurrency.</p>
+ */
+@Slf4j
+@Component
+public class ServiceMetricsCollector {
+
+    private static final long INITIAL_COLLECTION_PERIOD_MILLISECONDS = 5 * 60 * 1000;
+    private static final String REGION_PROPERTY = "region";
+
+    private final boolean isCollectorEnabled;
+    private final long collectionIntervalInSeconds;
+    private final int maxConcurrentCollections;
+    private final Executor collectionExecutor;
+
+    @Resource
+    private DeployServiceStorage deployServiceStorage;
+    @Resource
+    private PluginManager pluginManager;
+    @Resource
+    private MetricsTimeSeriesStore metricsTimeSeriesStore;
+
+    /**
+     * Constructor for ServiceMetricsCollector.
+     *
+     * @param isCollectorEnabled          whether the metrics are collected in the background.
+     * @param collectionIntervalInSeconds interval between two collections.
+     * @param maxConcurrentCollections    maximum number of groups collected in parallel.
+     * @param collectionExecutor          executor running the collections of the groups.
+     */
+    public ServiceMetricsCollector(
+            @Value("${service.metrics.collector.enabled:false}") boolean isCollectorEnabled,
+            @Value("${service.metrics.collector.interval.in.seconds:60}")
+            long collectionIntervalInSeconds,
+            @Value("${service.metrics.collector.max.concurrent.collections:4}")
+            int maxConcurrentCollections,
+            @Qualifier(TaskConfiguration.ASYNC_EXECUTOR_NAME) Executor collectionExecutor) {
+        this.isCollectorEnabled = isCollectorEnabled;
+        this.collectionIntervalInSeconds = collectionIntervalInSeconds;
+        this.maxConcurrentCollections = Math.max(1, maxConcurrentCollections);
+        this.collectionExecutor = collectionExecutor;
+    }
+
+    /**
+     * Whether the metrics are collected in the background.
+     */
+    public boolean isCollectorEnabled() {
+        return isCollectorEnabled;
+    }
+
+    /**
+     * Maximum age of the last collection for the collected metrics to be used.
+     */
+    public long getMaxStalenessMillis() {
+        return TimeUnit.SECONDS.toMillis(collectionIntervalInSeconds * 2);
+    }
+
+    /**
+     * Collect the metrics of all deployed services. The groups are spread over at most the
+     * maximum number of concurrent collections, each of them collects its groups one by one.
+     */
+    @Scheduled(initialDelayString = "${service.metrics.collector.interval.in.seconds:60}",
+            fixedDelayString = "${service.metrics.collector.interval.in.seconds:60}",
+            timeUnit = TimeUnit.SECONDS)
+    public void collectMetrics() {
+        if (!isCollectorEnabled) {
+            return;
+        }
+        try {
+            Map<CollectionGroup, List<DeployServiceEntity>> groups = getCollectionGroups();
+            Set<String> collectedResourceIds = new HashSet<>();
+            List<List<List<DeployServiceEntity>>> collections = new ArrayList<>();
+            int groupIndex = 0;
+            for (List<DeployServiceEntity> services : groups.values()) {
+                services.forEach(service -> getVmResources(service).forEach(
+                        resource -> collectedResourceIds.add(resource.getResourceId())));
+                int collectionIndex = groupIndex++ % maxConcurrentCollections;
+                if (collectionIndex == collections.size()) {
+                    collections.add(new ArrayList<>());
+                }
+                collections.get(collectionIndex).add(services);
+            }
+            List<CompletableFuture<Void>> futures = collections.stream()
+                    .map(collection -> CompletableFuture.runAsync(
+                            () -> collection.forEach(this::collectGroupMetrics),
+                            collectionExecutor))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            metricsTimeSeriesStore.retainResources(collectedResourceIds);
+            metricsTimeSeriesStore.compact();
+        } catch (RuntimeException e) {
+            log.error("Collect metrics of the deployed services failed.", e);
+        }
+    }
+
+    private Map<CollectionGroup, List<DeployServiceEntity>> getCollectionGroups() {
+        List<DeployServiceEntity> services = new ArrayList<>();
+        for (ServiceDeploymentState state : List.of(ServiceDeploymentState.DEPLOY_SUCCESS,
+                ServiceDeploymentState.MODIFICATION_SUCCESSFUL)) {
+            ServiceQueryModel query = new ServiceQueryModel();
+            query.setServiceState(state);
+            // the resources are read on the collector thread, after the transaction has ended.
+            services.addAll(deployServiceStorage.listServicesWithDetails(query, null).items());
+        }
+        return services.stream()
+                .filter(service -> !getVmResources(service).isEmpty())
+                .collect(Collectors.groupingBy(service -> new CollectionGroup(service.getCsp(),
+                                service.getUserId(), getRegion(service)), LinkedHashMap::new,
+                        Collectors.toList()));
+    }
+
+    private void collectGroupMetrics(List<DeployServiceEntity> services) {
+        long now = System.currentTimeMillis();
+        List<ServiceMetricsRequest> requests = new ArrayList<>();
+        for (DeployServiceEntity service : services) {
+            List<DeployResource> vmResources = getVmResources(service);
+            long from = vmResources.stream()
+                    .map(resource -> metricsTimeSeriesStore.getLastCollectedTime(
+                            resource.getResourceId()))
+                    .map(lastCollectedTime -> Objects.isNull(lastCollectedTime)
+                            ? now - INITIAL_COLLECTION_PERIOD_MILLISECONDS : lastCollectedTime)
+                    .min(Long::compare).orElse(now - INITIAL_COLLECTION_PERIOD_MILLISECONDS);
+            requests.add(new ServiceMetricsRequest(service.getId(), vmResources, null, from, now,
+                    null, false, service.getUserId()));
+        }
+        Map<UUID, List<Metric>> metricsByServiceId;
+        try {
+            metricsByServiceId = pluginManager.getOrchestratorPlugin(services.getFirst().getCsp())
+                    .getMetricsForServices(requests);
+        } catch (RuntimeException e) {
+            // the services are collected again from the same start at the next interval.
+            log.warn("Collect metrics of services {} failed. {}",
+                    services.stream().map(DeployServiceEntity::getId).toList(), e.getMessage());
+            return;
+        }
+        for (ServiceMetricsRequest request : requests) {
+            List<Metric> metrics = metricsByServiceId.get(request.getServiceId());
+            if (Objects.isNull(metrics)) {
+                log.warn("Collect metrics of service {} failed.", request.getServiceId());
+                continue;
+            }
+            Map<String, List<Metric>> metricsByResourceId = metrics.stream()
+                    .filter(metric -> Objects.nonNull(metric.getLabels())
+                            && Objects.nonNull(metric.getLabels().get("id")))
+                    .collect(Collectors.groupingBy(metric -> metric.getLabels().get("id")));
+            request.getDeployResources().forEach(resource -> metricsTimeSeriesStore.addMetrics(
+                    resource.getResourceId(),
+                    metricsByResourceId.getOrDefault(resource.getResourceId(), List.of()),
+                    request.getFrom(), now));
+        }
+    }
+
+    private List<DeployResource> getVmResources(DeployServiceEntity service) {
+        if (Objects.isNull(service.getDeployResourceList())) {
+            return List.of();
+        }
+        return EntityTransUtils.transToDeployResourceList(service.getDeployResourceList().stream()
+                .filter(entity -> DeployResourceKind.VM == entity.getResourceKind()).toList());
+    }
+
+    private String getRegion(DeployServiceEntity service) {
+        return getVmResources(service).stream()
+                .map(DeployResource::getProperties)
+                .filter(Objects::nonNull)
+                .map(properties -> properties.get(REGION_PROPERTY))
+                .filter(Objects::nonNull)
+                .findFirst().orElse(null);
+    }
+
+    private record CollectionGroup(Csp csp, String userId, String region) {
+    }
+}
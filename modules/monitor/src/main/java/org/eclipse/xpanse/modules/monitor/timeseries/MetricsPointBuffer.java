@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.monitor.timeseries;
+
+import java.util.Arrays;
+
+/**
+ * Compact buffer of the points of a time series ordered by timestamp. The timestamps are
+ * delta-encoded against the previous point and kept together with the values in primitive
+ * arrays, so that a point needs 12 bytes instead of the objects of a MetricItem.
+ */
+final class MetricsPointBuffer {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long firstTimestamp;
+    private long lastTimestamp;
+    private int[] timestampDeltas = new int[INITIAL_CAPACITY];
+    private double[] values = new double[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Append a point. Points not newer than the last point are ignored.
+     *
+     * @param timestamp timestamp of the point in milliseconds.
+     * @param value     value of the point.
+     */
+    void append(long timestamp, double value) {
+        if (size > 0 && timestamp <= lastTimestamp) {
+            return;
+        }
+        long delta = size == 0 ? 0 : timestamp - lastTimestamp;
+        if (delta > Integer.MAX_VALUE) {
+            // older points are far beyond any retention in this case.
+            clear();
+            delta = 0;
+        }
+        if (size == timestampDeltas.length) {
+            timestampDeltas = Arrays.copyOf(timestampDeltas, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        if (size == 0) {
+            firstTimestamp = timestamp;
+        }
+        timestampDeltas[size] = (int) delta;
+        values[size] = value;
+        lastTimestamp = timestamp;
+        size++;
+    }
+
+    /**
+     * Remove all points older than the timestamp.
+     *
+     * @param timestamp      timestamp in milliseconds.
+     * @param removedPoints  consumer of the removed points in order.
+     */
+    void removeBefore(long timestamp, PointConsumer removedPoints) {
+        int removed = 0;
+        long pointTimestamp = firstTimestamp;
+        while (removed < size) {
+            pointTimestamp += timestampDeltas[removed];
+            if (pointTimestamp >= timestamp) {
+                break;
+            }
+            removedPoints.accept(pointTimestamp, values[removed]);
+            removed++;
+        }
+        if (removed == 0) {
+            return;
+        }
+        if (removed == size) {
+            clear();
+            return;
+        }
+        System.arraycopy(timestampDeltas, removed, timestampDeltas, 0, size - removed);
+        System.arraycopy(values, removed, values, 0, size - removed);
+        size -= removed;
+        firstTimestamp = pointTimestamp;
+        timestampDeltas[0] = 0;
+        shrinkIfSparse();
+    }
+
+    /**
+     * Pass all points within the time range to the consumer in order.
+     *
+     * @param from     start of the range in milliseconds, inclusive.
+     * @param to       end of the range in milliseconds, inclusive.
+     * @param consumer consumer of the points.
+     */
+    void forEach(long from, long to, PointConsumer consumer) {
+        if (size == 0 || lastTimestamp < from || firstTimestamp > to) {
+            return;
+        }
+        long pointTimestamp = firstTimestamp;
+        for (int i = 0; i < size; i++) {
+            pointTimestamp += timestampDeltas[i];
+            if (pointTimestamp > to) {
+                return;
+            }
+            if (pointTimestamp >= from) {
+                consumer.accept(pointTimestamp, values[i]);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long getLastTimestamp() {
+        return lastTimestamp;
+    }
+
+    double getLastValue() {
+        return values[size - 1];
+    }
+
+    private void clear() {
+        size = 0;
+        firstTimestamp = 0;
+        lastTimestamp = 0;
+        shrinkIfSparse();
+    }
+
+    private void shrinkIfSparse() {
+        if (timestampDeltas.length > INITIAL_CAPACITY && size < timestampDeltas.length / 4) {
+            int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+            timestampDeltas = Arrays.copyOf(timestampDeltas, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    /**
+     * Consumer of the points of the buffer.
+     */
+    @FunctionalInterface
+    interface PointConsumer {
+
+        void accept(long timestamp, double value);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.monitor.timeseries;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.xpanse.modules.models.monitor.Metric;
+import org.eclipse.xpanse.modules.models.monitor.MetricItem;
+import org.eclipse.xpanse.modules.models.monitor.enums.MetricItemType;
+
+/**
+ * Time series of one metric of a resource. Recent points are kept as collected, older points
+ * are downsampled to the average of fixed buckets until they exceed the retention.
+ */
+final class MetricsTimeSeries {
+
+    private final Metric metadata;
+    private final Map<String, String> itemLabels;
+    private final MetricItemType itemType;
+    private final MetricsPointBuffer rawPoints = new MetricsPointBuffer();
+    private final MetricsPointBuffer downsampledPoints = new MetricsPointBuffer();
+    private long pendingBucketStart = -1;
+    private double pendingBucketSum;
+    private int pendingBucketCount;
+
+    MetricsTimeSeries(Metric metadata, Map<String, String> itemLabels,
+                      MetricItemType itemType) {
+        this.metadata = metadata;
+        this.itemLabels = itemLabels;
+        this.itemType = itemType;
+    }
+
+    synchronized void add(long timestamp, double value) {
+        rawPoints.append(timestamp, value);
+    }
+
+    /**
+     * Downsample the raw points older than the raw retention and drop all points older than
+     * the retention.
+     *
+     * @param now                    current time in milliseconds.
+     * @param rawRetentionMillis     period in which the raw points are kept.
+     * @param retentionMillis        period in which the downsampled points are kept.
+     * @param bucketMillis           size of the downsampling buckets.
+     */
+    synchronized void compact(long now, long rawRetentionMillis, long retentionMillis,
+                              long bucketMillis) {
+        rawPoints.removeBefore(now - rawRetentionMillis, (timestamp, value) -> {
+            long bucketStart = timestamp - Math.floorMod(timestamp, bucketMillis);
+            if (bucketStart != pendingBucketStart) {
+                flushPendingBucket();
+                pendingBucketStart = bucketStart;
+            }
+            pendingBucketSum += value;
+            pendingBucketCount++;
+        });
+        if (pendingBucketCount > 0 && pendingBucketStart + bucketMillis
+                <= now - rawRetentionMillis) {
+            // no raw point can fall into the bucket anymore.
+            flushPendingBucket();
+        }
+        downsampledPoints.removeBefore(now - retentionMillis, (timestamp, value) -> {
+        });
+    }
+
+    synchronized boolean isEmpty() {
+        return rawPoints.size() == 0 && downsampledPoints.size() == 0
+                && pendingBucketCount == 0;
+    }
+
+    /**
+     * Get the metric with the points within the time range.
+     */
+    synchronized Metric getMetric(long from, long to) {
+        List<MetricItem> items = new ArrayList<>();
+        downsampledPoints.forEach(from, to, (timestamp, value) ->
+                items.add(toMetricItem(timestamp, value)));
+        if (pendingBucketCount > 0 && pendingBucketStart >= from && pendingBucketStart <= to) {
+            items.add(toMetricItem(pendingBucketStart, pendingBucketSum / pendingBucketCount));
+        }
+        rawPoints.forEach(from, to, (timestamp, value) ->
+                items.add(toMetricItem(timestamp, value)));
+        return toMetric(items);
+    }
+
+    /**
+     * Get the metric with the last known point only.
+     */
+    synchronized Metric getLastKnownMetric() {
+        List<MetricItem> items = new ArrayList<>();
+        if (rawPoints.size() > 0) {
+            items.add(toMetricItem(rawPoints.getLastTimestamp(), rawPoints.getLastValue()));
+        } else if (pendingBucketCount > 0) {
+            items.add(toMetricItem(pendingBucketStart, pendingBucketSum / pendingBucketCount));
+        } else if (downsampledPoints.size() > 0) {
+            items.add(toMetricItem(downsampledPoints.getLastTimestamp(),
+                    downsampledPoints.getLastValue()));
+        }
+        return toMetric(items);
+    }
+
+    Metric getMetadata() {
+        return metadata;
+    }
+
+    private void flushPendingBucket() {
+        if (pendingBucketCount > 0) {
+            downsampledPoints.append(pendingBucketStart, pendingBucketSum / pendingBucketCount);
+        }
+        pendingBucketStart = -1;
+        pendingBucketSum = 0;
+        pendingBucketCount = 0;
+    }
+
+    private MetricItem toMetricItem(long timestamp, double value) {
+        MetricItem metricItem = new MetricItem();
+        metricItem.setLabels(itemLabels);
+        metricItem.setType(itemType);
+        metricItem.setTimeStamp(timestamp);
+        metricItem.setValue(value);
+        return metricItem;
+    }
+
+    private Metric toMetric(List<MetricItem> items) {
+        Metric metric = new Metric();
+        metric.setName(metadata.getName());
+        metric.setDescription(metadata.getDescription());
+        metric.setType(metadata.getType());
+        metric.setMonitorResourceType(metadata.getMonitorResourceType());
+        metric.setUnit(metadata.getUnit());
+        metric.setLabels(metadata.getLabels());
+        metric.setMetrics(items);
+        return metric;
+    }
+}
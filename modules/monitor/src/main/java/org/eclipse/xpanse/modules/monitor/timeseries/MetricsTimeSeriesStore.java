@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.monitor.timeseries;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.monitor.Metric;
+import org.eclipse.xpanse.modules.models.monitor.MetricItem;
+import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Local store of the metrics collected in the background for the deployed resources. The store
+ * answers metrics queries only for the periods it has collected completely, so that callers can
+ * fall back to the cloud provider for everything else.
+ */
+@Slf4j
+@Component
+public class MetricsTimeSeriesStore {
+
+    private final Map<String, ResourceTimeSeries> resources = new ConcurrentHashMap<>();
+    private final long rawRetentionMillis;
+    private final long retentionMillis;
+    private final long downsampleBucketMillis;
+
+    /**
+     * Constructor for MetricsTimeSeriesStore.
+     *
+     * @param rawRetentionInMinutes    period in which the collected points are kept as they are.
+     * @param retentionInHours         period in which the downsampled points are kept.
+     * @param downsampleBucketInMinutes size of the buckets the older points are averaged in.
+     */
+    public MetricsTimeSeriesStore(
+            @Value("${service.metrics.store.raw.retention.in.minutes:60}")
+            long rawRetentionInMinutes,
+            @Value("${service.metrics.store.retention.in.hours:24}") long retentionInHours,
+            @Value("${service.metrics.store.downsample.bucket.in.minutes:5}")
+            long downsampleBucketInMinutes) {
+        this.rawRetentionMillis = TimeUnit.MINUTES.toMillis(rawRetentionInMinutes);
+        this.retentionMillis =
+                Math.max(TimeUnit.HOURS.toMillis(retentionInHours), rawRetentionMillis);
+        this.downsampleBucketMillis = TimeUnit.MINUTES.toMillis(downsampleBucketInMinutes);
+    }
+
+    /**
+     * Add the metrics collected for a resource.
+     *
+     * @param resourceId    id of the resource.
+     * @param metrics       metrics collected for the resource.
+     * @param collectedFrom start of the collected period in milliseconds.
+     * @param collectedTo   end of the collected period in milliseconds.
+     */
+    public void addMetrics(String resourceId, List<Metric> metrics, long collectedFrom,
+                           long collectedTo) {
+        ResourceTimeSeries resource =
+                resources.computeIfAbsent(resourceId, id -> new ResourceTimeSeries());
+        for (Metric metric : metrics) {
+            if (CollectionUtils.isEmpty(metric.getMetrics())) {
+                continue;
+            }
+            MetricItem firstItem = metric.getMetrics().getFirst();
+            MetricsTimeSeries timeSeries = resource.series.computeIfAbsent(metric.getName(),
+                    name -> new MetricsTimeSeries(metric, firstItem.getLabels(),
+                            firstItem.getType()));
+            for (MetricItem item : metric.getMetrics()) {
+                if (Objects.nonNull(item.getTimeStamp()) && Objects.nonNull(item.getValue())) {
+                    timeSeries.add(item.getTimeStamp(), item.getValue().doubleValue());
+                }
+            }
+        }
+        resource.markCollected(collectedFrom, collectedTo);
+    }
+
+    /**
+     * Get the metrics of a resource from the store.
+     *
+     * @param resourceId          id of the resource.
+     * @param monitorType         type of the metrics, null for all.
+     * @param from                start of the period in milliseconds.
+     * @param to                  end of the period in milliseconds.
+     * @param onlyLastKnownMetric whether only the last known point is returned.
+     * @param maxStalenessMillis  maximum age of the last collection for the store to be used.
+     * @return metrics of the resource, or null if the store does not cover the query.
+     */
+    public List<Metric> getMetrics(String resourceId, MonitorResourceType monitorType, Long from,
+                                   Long to, boolean onlyLastKnownMetric,
+                                   long maxStalenessMillis) {
+        ResourceTimeSeries resource = resources.get(resourceId);
+        long now = System.currentTimeMillis();
+        if (Objects.isNull(resource) || !resource.isCovering(
+                onlyLastKnownMetric ? null : from, now - maxStalenessMillis)) {
+            return null;
+        }
+        List<Metric> metrics = new ArrayList<>();
+        for (MetricsTimeSeries timeSeries : resource.series.values()) {
+            if (Objects.nonNull(monitorType)
+                    && monitorType != timeSeries.getMetadata().getMonitorResourceType()) {
+                continue;
+            }
+            metrics.add(onlyLastKnownMetric ? timeSeries.getLastKnownMetric()
+                    : timeSeries.getMetric(from, Objects.isNull(to) ? now : to));
+        }
+        return metrics;
+    }
+
+    /**
+     * Get the end of the last collected period of the resource.
+     *
+     * @param resourceId id of the resource.
+     * @return end of the last collected period in milliseconds, null if never collected.
+     */
+    public Long getLastCollectedTime(String resourceId) {
+        ResourceTimeSeries resource = resources.get(resourceId);
+        return Objects.isNull(resource) ? null : resource.lastCollectedTo;
+    }
+
+    /**
+     * Downsample the older points and remove the points and resources beyond the retention.
+     */
+    public void compact() {
+        long now = System.currentTimeMillis();
+        resources.entrySet().removeIf(entry -> {
+            ResourceTimeSeries resource = entry.getValue();
+            resource.series.values().removeIf(timeSeries -> {
+                timeSeries.compact(now, rawRetentionMillis, retentionMillis,
+                        downsampleBucketMillis);
+                return timeSeries.isEmpty();
+            });
+            resource.trimCoverage(now - retentionMillis);
+            // resources not collected anymore are deleted or not monitored anymore.
+            return resource.lastCollectedTo < now - retentionMillis;
+        });
+    }
+
+    /**
+     * Remove all metrics of the resources not in the given set.
+     *
+     * @param resourceIds ids of the resources still being collected.
+     */
+    public void retainResources(Set<String> resourceIds) {
+        resources.keySet().retainAll(resourceIds);
+    }
+
+    int getResourcesCount() {
+        return resources.size();
+    }
+
+    private static final class ResourceTimeSeries {
+
+        private final Map<String, MetricsTimeSeries> series = new ConcurrentHashMap<>();
+        private volatile long coveredFrom = Long.MAX_VALUE;
+        private volatile long lastCollectedTo = Long.MIN_VALUE;
+
+        private synchronized void markCollected(long collectedFrom, long collectedTo) {
+            if (collectedFrom > lastCollectedTo && lastCollectedTo != Long.MIN_VALUE) {
+                // a gap in the collection, only the new period is complete.
+                coveredFrom = collectedFrom;
+            } else {
+                coveredFrom = Math.min(coveredFrom, collectedFrom);
+            }
+            lastCollectedTo = Math.max(lastCollectedTo, collectedTo);
+        }
+
+        private synchronized void trimCoverage(long retainedFrom) {
+            coveredFrom = Math.max(coveredFrom, retainedFrom);
+        }
+
+        private boolean isCovering(Long from, long collectedAfter) {
+            return lastCollectedTo >= collectedAfter
+                    && (Objects.isNull(from) || from >= coveredFrom);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.eclipse.xpanse.modules.monitor.timeseries;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.xpanse.modules.models.monitor.Metric;
+import org.eclipse.xpanse.modules.models.monitor.MetricItem;
+import org.eclipse.xpanse.modules.models.monitor.enums.MetricItemType;
+import org.eclipse.xpanse.modules.models.monitor.enums.MetricType;
+import org.eclipse.xpanse.modules.models.monitor.enums.MetricUnit;
+import org.eclipse.xpanse.modules.models.monitor.enums.MonitorResourceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MetricsTimeSeriesStoreTest {
+
+    private static final String RESOURCE_ID = "resource-id";
+    private static final long MAX_STALENESS = 120000;
+    private MetricsTimeSeriesStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new MetricsTimeSeriesStore(60, 24, 5);
+    }
+
+    @Test
+    void testGetMetricsFromCollectedPeriod() {
+        long now = System.currentTimeMillis();
+        store.addMetrics(RESOURCE_ID, List.of(
+                getMetric(MonitorResourceType.CPU, now - 60000, now - 30000, now),
+                getMetric(MonitorResourceType.MEM, now)), now - 120000, now);
+
+        List<Metric> metrics = store.getMetrics(RESOURCE_ID, MonitorResourceType.CPU,
+                now - 90000, now, false, MAX_STALENESS);
+        assertNotNull(metrics);
+        assertEquals(1, metrics.size());
+        assertEquals(3, metrics.getFirst().getMetrics().size());
+        assertEquals(now - 30000, metrics.getFirst().getMetrics().get(1).getTimeStamp());
+        assertEquals(1.0, metrics.getFirst().getMetrics().get(1).getValue());
+        assertEquals(Map.of("id", RESOURCE_ID), metrics.getFirst().getLabels());
+
+        List<Metric> lastKnownMetrics = store.getMetrics(RESOURCE_ID, null, null, null, true,
+                MAX_STALENESS);
+        assertNotNull(lastKnownMetrics);
+        assertEquals(2, lastKnownMetrics.size());
+        lastKnownMetrics.forEach(metric -> assertEquals(1, metric.getMetrics().size()));
+    }
+
+    @Test
+    void testGetMetricsNotCovered() {
+        long now = System.currentTimeMillis();
+        assertNull(store.getMetrics(RESOURCE_ID, null, now - 60000, now, false, MAX_STALENESS));
+
+        store.addMetrics(RESOURCE_ID, List.of(getMetric(MonitorResourceType.CPU, now)),
+                now - 60000, now);
+        // older than the collected period.
+        assertNull(store.getMetrics(RESOURCE_ID, null, now - 120000, now, false,
+                MAX_STALENESS));
+        // last collection too old.
+        store.addMetrics("other-resource", List.of(), now - 600000, now - 300000);
+        assertNull(store.getMetrics("other-resource", null, null, null, true, MAX_STALENESS));
+    }
+
+    @Test
+    void testCompactDownsamplesOldPoints() {
+        long now = System.currentTimeMillis();
+        long twoHoursAgo = now - 2 * 60 * 60 * 1000;
+        long bucketStart = twoHoursAgo - Math.floorMod(twoHoursAgo, 300000L);
+        store.addMetrics(RESOURCE_ID, List.of(getMetric(MonitorResourceType.CPU,
+                bucketStart, bucketStart + 60000, bucketStart + 120000, now)),
+                bucketStart, now);
+
+        store.compact();
+
+        List<Metric> metrics = store.getMetrics(RESOURCE_ID, MonitorResourceType.CPU,
+                bucketStart, now, false, MAX_STALENESS);
+        assertNotNull(metrics);
+        List<MetricItem> items = metrics.getFirst().getMetrics();
+        assertEquals(2, items.size());
+        assertEquals(bucketStart, items.getFirst().getTimeStamp());
+        assertEquals(1.0, items.getFirst().getValue());
+        assertEquals(now, items.get(1).getTimeStamp());
+    }
+
+    @Test
+    void testRetainResources() {
+        long now = System.currentTimeMillis();
+        store.addMetrics(RESOURCE_ID, List.of(getMetric(MonitorResourceType.CPU, now)),
+                now - 60000, now);
+        store.addMetrics("other-resource", List.of(getMetric(MonitorResourceType.CPU, now)),
+                now - 60000, now);
+        assertEquals(2, store.getResourcesCount());
+
+        store.retainResources(Set.of(RESOURCE_ID));
+
+        assertEquals(1, store.getResourcesCount());
+        assertNull(store.getLastCollectedTime("other-resource"));
+    }
+
+    private Metric getMetric(MonitorResourceType type, long... timestamps) {
+        Metric metric = new Metric();
+        metric.setName(type.toValue());
+        metric.setType(MetricType.GAUGE);
+        metric.setMonitorResourceType(type);
+        metric.setUnit(MetricUnit.PERCENTAGE);
+        metric.setLabels(Map.of("id", RESOURCE_ID));
+        List<MetricItem> items = new ArrayList<>();
+        for (long timestamp : timestamps) {
+            MetricItem item = new MetricItem();
+            item.setType(MetricItemType.VALUE);
+            item.setTimeStamp(timestamp);
+            item.setValue(1);
+            items.add(item);
+        }
+        metric.setMetrics(items);
+        return metric;
+    }
+}
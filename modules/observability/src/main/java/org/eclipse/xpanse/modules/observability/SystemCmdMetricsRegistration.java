@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.observability;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.common.systemcmd.SystemCmdMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers the metrics of the operating system commands executed by xpanse to OpenTelemetry.
+ * The values are read from {@link SystemCmdMetrics} each time the metrics are collected.
+ */
+@Slf4j
+@Component
+public class SystemCmdMetricsRegistration {
+
+    private static final String INSTRUMENTATION_SCOPE = "org.eclipse.xpanse.systemcmd";
+    private static final String METRIC_PREFIX = "xpanse.system.cmd.";
+
+    private final List<AutoCloseable> instruments = new ArrayList<>();
+
+    /**
+     * Constructor of SystemCmdMetricsRegistration.
+     *
+     * @param openTelemetry OpenTelemetry instance configured for the application.
+     */
+    @Autowired
+    public SystemCmdMetricsRegistration(OpenTelemetry openTelemetry) {
+        Meter meter = openTelemetry.getMeter(INSTRUMENTATION_SCOPE);
+        instruments.add(meter.upDownCounterBuilder(METRIC_PREFIX + "processes.running")
+                .setDescription("Number of operating system commands running.")
+                .setUnit("{process}")
+                .buildWithCallback(m -> m.record(SystemCmdMetrics.getRunningProcesses())));
+        instruments.add(meter.counterBuilder(METRIC_PREFIX + "commands.executed")
+                .setDescription("Number of operating system commands executed.")
+                .setUnit("{command}")
+                .buildWithCallback(m -> m.record(SystemCmdMetrics.getExecutedCommands())));
+        instruments.add(meter.counterBuilder(METRIC_PREFIX + "commands.failed")
+                .setDescription("Number of operating system commands failed.")
+                .setUnit("{command}")
+                .buildWithCallback(m -> m.record(SystemCmdMetrics.getFailedCommands())));
+        instruments.add(meter.counterBuilder(METRIC_PREFIX + "commands.timed_out")
+                .setDescription("Number of operating system commands killed after timeout.")
+                .setUnit("{command}")
+                .buildWithCallback(m -> m.record(SystemCmdMetrics.getTimedOutCommands())));
+        instruments.add(meter.counterBuilder(METRIC_PREFIX + "execution.time")
+                .setDescription("Total execution time of the operating system commands.")
+                .setUnit("ms")
+                .buildWithCallback(
+                        m -> m.record(SystemCmdMetrics.getTotalExecutionTimeInMillis())));
+        instruments.add(meter.gaugeBuilder(METRIC_PREFIX + "execution.time.max")
+                .setDescription("Maximum execution time of an operating system command.")
+                .setUnit("ms")
+                .ofLongs()
+                .buildWithCallback(
+                        m -> m.record(SystemCmdMetrics.getMaxExecutionTimeInMillis())));
+        instruments.add(meter.counterBuilder(METRIC_PREFIX + "output.read")
+                .setDescription("Bytes read from the output of the operating system commands.")
+                .setUnit("By")
+                .buildWithCallback(m -> m.record(SystemCmdMetrics.getBytesRead())));
+        instruments.add(meter.counterBuilder(METRIC_PREFIX + "output.truncated")
+                .setDescription("Number of command outputs truncated in the command result.")
+                .setUnit("{output}")
+                .buildWithCallback(m -> m.record(SystemCmdMetrics.getTruncatedOutputs())));
+    }
+
+    /**
+     * Removes the callbacks of the metrics when the application is stopped.
+     */
+    @PreDestroy
+    public void close() {
+        for (AutoCloseable instrument : instruments) {
+            try {
+                instrument.close();
+            } catch (Exception e) {
+                log.debug("Close instrument of system command metrics failed.", e);
+            }
+        }
+        instruments.clear();
+    }
+}
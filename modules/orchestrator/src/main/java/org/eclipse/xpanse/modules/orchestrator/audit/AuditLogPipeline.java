@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.modules.orchestrator.audit;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes the audit logs of the API requests in the background. The audit logs are put into a
+ * bounded queue, a scheduled task takes them from the queue and passes them in batches to the
+ * plugins of their cloud service providers. When the queue is full, the request thread waits
+ * for a short time for free space and then drops the audit log, the dropped audit logs are
+ * counted and reported in the log.
+ */
+@Slf4j
+@Component
+public class AuditLogPipeline {
+
+    private static final long DROPPED_WARNING_INTERVAL = 1000;
+
+    private final PluginManager pluginManager;
+    private final BlockingQueue<AuditLog> auditLogQueue;
+    private final int batchSize;
+    private final long enqueueTimeoutInMilliseconds;
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    /**
+     * Constructor for AuditLogPipeline.
+     *
+     * @param pluginManager                plugin manager.
+     * @param queueCapacity                maximum number of audit logs waiting to be written.
+     * @param batchSize                    maximum number of audit logs written at once.
+     * @param enqueueTimeoutInMilliseconds time to wait for free space in the full queue before
+     *                                     the audit log is dropped.
+     */
+    @Autowired
+    public AuditLogPipeline(
+            PluginManager pluginManager,
+            @Value("${audit.log.queue.capacity:10000}") int queueCapacity,
+            @Value("${audit.log.batch.size:100}") int batchSize,
+            @Value("${audit.log.enqueue.timeout.in.milliseconds:50}")
+            long enqueueTimeoutInMilliseconds) {
+        this.pluginManager = pluginManager;
+        this.auditLogQueue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.enqueueTimeoutInMilliseconds = enqueueTimeoutInMilliseconds;
+    }
+
+    /**
+     * Write the audit logs still in the queue before shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        writeQueuedAuditLogs();
+    }
+
+    /**
+     * Put the audit log into the queue to be written in the background.
+     *
+     * @param auditLog audit log of the API request.
+     * @return true if the audit log is queued, false if it is dropped because the queue is full.
+     */
+    public boolean submit(AuditLog auditLog) {
+        submittedCount.incrementAndGet();
+        try {
+            if (auditLogQueue.offer(auditLog, enqueueTimeoutInMilliseconds,
+                    TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long dropped = droppedCount.incrementAndGet();
+        if (dropped == 1 || dropped % DROPPED_WARNING_INTERVAL == 0) {
+            log.warn("Audit log queue is full, {} audit logs dropped so far.", dropped);
+        }
+        return false;
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public int getQueuedCount() {
+        return auditLogQueue.size();
+    }
+
+    /**
+     * Write the audit logs in the queue in batches, until the queue is empty.
+     */
+    @Scheduled(fixedDelayString = "${audit.log.write.interval.in.milliseconds:200}")
+    public void writeQueuedAuditLogs() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (auditLogQueue.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<AuditLog> batch) {
+        Map<Csp, List<AuditLog>> auditLogsByCsp = batch.stream().collect(
+                Collectors.groupingBy(AuditLog::getCsp, LinkedHashMap::new,
+                        Collectors.toList()));
+        auditLogsByCsp.forEach((csp, auditLogs) -> {
+            try {
+                pluginManager.getOrchestratorPlugin(csp).auditApiRequests(auditLogs);
+                writtenCount.addAndGet(auditLogs.size());
+            } catch (Exception e) {
+                failedCount.addAndGet(auditLogs.size());
+                log.error("Write {} audit logs of csp {} failed.", auditLogs.size(), csp, e);
+            }
+        });
+    }
+}
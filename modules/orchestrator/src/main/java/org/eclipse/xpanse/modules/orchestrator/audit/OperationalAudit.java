@@ -6,6 +6,7 @@
 package org.eclipse.xpanse.modules.orchestrator.audit;
 
 import jakarta.validation.constraints.NotNull;
+import java.util.List;
 
 /**
  * The interface for the Operational Audit.
@@ -17,4 +18,12 @@ public interface OperationalAudit {
      */
     void auditApiRequest(@NotNull AuditLog auditLog);
 
+    /**
+     * Audit a batch of API requests. Plugins which can write several audit logs at once
+     * override this method, by default the audit logs are written one by one.
+     */
+    default void auditApiRequests(@NotNull List<AuditLog> auditLogs) {
+        auditLogs.forEach(this::auditApiRequest);
+    }
+
 }
\ No newline at end of file
@@ -6,8 +6,12 @@
 
 package org.eclipse.xpanse.modules.orchestrator.monitor;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import org.eclipse.xpanse.modules.models.monitor.Metric;
+import org.slf4j.LoggerFactory;
 
 /**
  * The interface for the monitor metrics exporter.
@@ -31,4 +35,27 @@ public interface ServiceMetricsExporter {
      */
     List<Metric> getMetricsForService(ServiceMetricsRequest serviceMetricRequest);
 
+    /**
+     * Get metrics for several service instances with as few calls of the provider as possible.
+     * All requests are of the same user and their resources are in the same region. Providers
+     * without a batch query keep the default, and the services are then queried one by one.
+     *
+     * @param serviceMetricRequests The request models to query metrics for service instances.
+     * @return Returns the metric results by service id. Services whose query failed are missing.
+     */
+    default Map<UUID, List<Metric>> getMetricsForServices(
+            List<ServiceMetricsRequest> serviceMetricRequests) {
+        Map<UUID, List<Metric>> metricsByServiceId = new LinkedHashMap<>();
+        for (ServiceMetricsRequest serviceMetricRequest : serviceMetricRequests) {
+            try {
+                metricsByServiceId.put(serviceMetricRequest.getServiceId(),
+                        getMetricsForService(serviceMetricRequest));
+            } catch (RuntimeException e) {
+                // the other services are still queried, the caller handles the missing one.
+                LoggerFactory.getLogger(getClass()).warn("Get metrics of service {} failed.",
+                        serviceMetricRequest.getServiceId(), e);
+            }
+        }
+        return metricsByServiceId;
+    }
 }
@@ -6,7 +6,10 @@
 
 package org.eclipse.xpanse.modules.orchestrator.price;
 
+import java.util.List;
+import java.util.Map;
 import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
 
 /**
  * Interface to calculate the service price.
@@ -14,4 +17,31 @@ import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
 public interface ServicePriceCalculator {
 
     FlavorPriceResult getServiceFlavorPrice(ServiceFlavorPriceRequest request);
+
+    /**
+     * Get the prices of several flavors of a service with one call of the batch rating API of
+     * the provider. All requests are of the same user, in the same region and with the same
+     * billing mode. Providers without a batch rating API keep the default, and the flavors are
+     * then rated one by one.
+     *
+     * @param requests price requests of the flavors.
+     * @return price results by flavor name. Flavors missing in the result are rated one by one.
+     */
+    default Map<String, FlavorPriceResult> getServiceFlavorPricesInBatch(
+            List<ServiceFlavorPriceRequest> requests) {
+        return Map.of();
+    }
+
+    /**
+     * Whether the prices with the billing mode depend on the credentials of the user, for example
+     * when the provider rates the resources with the account of the user. Prices not depending
+     * on the user are pre-computed once for all users in the price catalog, prices depending on
+     * the user are catalogued for each user with the first request of the user.
+     *
+     * @param billingMode billing mode of the prices.
+     * @return true if the prices are rated with the credentials of the user.
+     */
+    default boolean isFlavorPriceUserSpecific(BillingMode billingMode) {
+        return false;
+    }
 }
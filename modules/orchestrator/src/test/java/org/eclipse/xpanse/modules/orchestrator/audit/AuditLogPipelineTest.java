@@ -0,0 +1,100 @@
+package org.eclipse.xpanse.modules.orchestrator.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.junit.jupiter.api.Test;
+
+class AuditLogPipelineTest {
+
+    private final PluginManager pluginManager = mock(PluginManager.class);
+    private final OrchestratorPlugin huaweiCloudPlugin = mock(OrchestratorPlugin.class);
+    private final OrchestratorPlugin openstackPlugin = mock(OrchestratorPlugin.class);
+
+    @Test
+    void testAuditLogsAreWrittenInBatchesPerCsp() {
+        when(pluginManager.getOrchestratorPlugin(Csp.HUAWEI_CLOUD)).thenReturn(huaweiCloudPlugin);
+        when(pluginManager.getOrchestratorPlugin(Csp.OPENSTACK_TESTLAB))
+                .thenReturn(openstackPlugin);
+        List<List<AuditLog>> huaweiCloudBatches = recordBatches(huaweiCloudPlugin);
+        List<List<AuditLog>> openstackBatches = recordBatches(openstackPlugin);
+        AuditLogPipeline auditLogPipeline = new AuditLogPipeline(pluginManager, 100, 10, 50);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(auditLogPipeline.submit(getAuditLog(Csp.HUAWEI_CLOUD)));
+            assertTrue(auditLogPipeline.submit(getAuditLog(Csp.OPENSTACK_TESTLAB)));
+        }
+        auditLogPipeline.shutdown();
+
+        assertEquals(3, huaweiCloudBatches.stream().mapToInt(List::size).sum());
+        assertEquals(3, openstackBatches.stream().mapToInt(List::size).sum());
+        huaweiCloudBatches.forEach(batch -> batch.forEach(
+                auditLog -> assertEquals(Csp.HUAWEI_CLOUD, auditLog.getCsp())));
+        assertEquals(6, auditLogPipeline.getSubmittedCount());
+        assertEquals(6, auditLogPipeline.getWrittenCount());
+        assertEquals(0, auditLogPipeline.getDroppedCount());
+    }
+
+    @Test
+    void testAuditLogsAreDroppedWhenQueueIsFull() {
+        when(pluginManager.getOrchestratorPlugin(Csp.HUAWEI_CLOUD)).thenReturn(huaweiCloudPlugin);
+        AuditLogPipeline auditLogPipeline = new AuditLogPipeline(pluginManager, 1, 10, 10);
+
+        assertTrue(auditLogPipeline.submit(getAuditLog(Csp.HUAWEI_CLOUD)));
+        assertFalse(auditLogPipeline.submit(getAuditLog(Csp.HUAWEI_CLOUD)));
+        auditLogPipeline.writeQueuedAuditLogs();
+        // the queue has free space again once the queued audit logs are written.
+        assertTrue(auditLogPipeline.submit(getAuditLog(Csp.HUAWEI_CLOUD)));
+        auditLogPipeline.shutdown();
+
+        assertEquals(3, auditLogPipeline.getSubmittedCount());
+        assertEquals(1, auditLogPipeline.getDroppedCount());
+        assertEquals(2, auditLogPipeline.getWrittenCount());
+        assertEquals(0, auditLogPipeline.getQueuedCount());
+    }
+
+    @Test
+    void testFailedAuditLogsAreCounted() {
+        when(pluginManager.getOrchestratorPlugin(Csp.HUAWEI_CLOUD)).thenReturn(huaweiCloudPlugin);
+        doThrow(new IllegalStateException("audit failed")).when(huaweiCloudPlugin)
+                .auditApiRequests(any());
+        AuditLogPipeline auditLogPipeline = new AuditLogPipeline(pluginManager, 100, 10, 50);
+
+        assertTrue(auditLogPipeline.submit(getAuditLog(Csp.HUAWEI_CLOUD)));
+        auditLogPipeline.shutdown();
+
+        verify(huaweiCloudPlugin).auditApiRequests(any());
+        assertEquals(1, auditLogPipeline.getFailedCount());
+        assertEquals(0, auditLogPipeline.getWrittenCount());
+    }
+
+    private List<List<AuditLog>> recordBatches(OrchestratorPlugin plugin) {
+        List<List<AuditLog>> batches = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            List<AuditLog> batch = invocation.getArgument(0);
+            batches.add(new ArrayList<>(batch));
+            return null;
+        }).when(plugin).auditApiRequests(any());
+        return batches;
+    }
+
+    private AuditLog getAuditLog(Csp csp) {
+        AuditLog auditLog = new AuditLog();
+        auditLog.setCsp(csp);
+        auditLog.setMethodName("deploy");
+        return auditLog;
+    }
+}
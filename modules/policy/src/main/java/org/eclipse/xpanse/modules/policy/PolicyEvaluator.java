@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.policy;
+
+import java.util.List;
+import org.eclipse.xpanse.modules.models.system.BackendSystemStatus;
+import org.eclipse.xpanse.modules.policy.policyman.generated.model.EvalResult;
+
+/**
+ * Validates the policies and evaluates inputs with the policies. The remote policy-man service
+ * is used by default, the local OPA executable is used with the profile 'opa-local'.
+ */
+public interface PolicyEvaluator {
+
+    /**
+     * Get system status of the policy evaluator.
+     *
+     * @return Returns BackendSystemStatus.
+     */
+    BackendSystemStatus getStatus();
+
+    /**
+     * Validate the policy.
+     *
+     * @param policy policy.
+     * @throws org.eclipse.xpanse.modules.models.policy.exceptions.PoliciesValidationFailedException
+     *         when the policy is not valid.
+     */
+    void validatePolicy(String policy);
+
+    /**
+     * Evaluate the input with the policies. The evaluation is successful only when the input
+     * meets all policies, otherwise the result holds the first policy not met.
+     *
+     * @param policies list of policies.
+     * @param input    input to evaluate.
+     * @return Returns the result of the evaluation.
+     */
+    EvalResult evaluatePolicies(List<String> policies, String input);
+}
@@ -6,6 +6,8 @@
 
 package org.eclipse.xpanse.modules.policy;
 
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.POLICY_EVALUATION_CACHE_NAME;
+
 import jakarta.annotation.Resource;
 import java.util.Arrays;
 import java.util.Collections;
@@ -27,6 +29,7 @@ import org.eclipse.xpanse.modules.models.policy.servicepolicy.ServicePolicyUpdat
 import org.eclipse.xpanse.modules.models.service.deploy.exceptions.FlavorInvalidException;
 import org.eclipse.xpanse.modules.security.UserServiceHelper;
 import org.springframework.beans.BeanUtils;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -74,6 +77,7 @@ public class ServicePolicyManager {
      * @param createRequest create policy request.
      * @return Returns created policy view object.
      */
+    @CacheEvict(cacheNames = POLICY_EVALUATION_CACHE_NAME, allEntries = true)
     public ServicePolicy addServicePolicy(ServicePolicyCreateRequest createRequest) {
         ServiceTemplateEntity existingServiceTemplate =
                 getServiceTemplateEntity(createRequest.getServiceTemplateId());
@@ -103,6 +107,7 @@ public class ServicePolicyManager {
      * @param updateRequest update policy request.
      * @return Returns updated policy view object.
      */
+    @CacheEvict(cacheNames = POLICY_EVALUATION_CACHE_NAME, allEntries = true)
     public ServicePolicy updateServicePolicy(UUID id, ServicePolicyUpdateRequest updateRequest) {
         ServicePolicyEntity existingPolicy = getServicePolicyEntity(id);
         ServicePolicyEntity policyToUpdate =
@@ -143,6 +148,7 @@ public class ServicePolicyManager {
      *
      * @param id the id of policy.
      */
+    @CacheEvict(cacheNames = POLICY_EVALUATION_CACHE_NAME, allEntries = true)
     public void deleteServicePolicy(UUID id) {
         getServicePolicyEntity(id);
         servicePolicyStorage.deletePolicyById(id);
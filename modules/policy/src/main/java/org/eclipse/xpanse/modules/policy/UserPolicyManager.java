@@ -6,6 +6,8 @@
 
 package org.eclipse.xpanse.modules.policy;
 
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.POLICY_EVALUATION_CACHE_NAME;
+
 import jakarta.annotation.Resource;
 import java.util.Comparator;
 import java.util.List;
@@ -24,6 +26,7 @@ import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicyQueryReques
 import org.eclipse.xpanse.modules.models.policy.userpolicy.UserPolicyUpdateRequest;
 import org.eclipse.xpanse.modules.security.UserServiceHelper;
 import org.springframework.beans.BeanUtils;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -82,6 +85,7 @@ public class UserPolicyManager {
      * @param createRequest create policy request.
      * @return Returns created policy view object.
      */
+    @CacheEvict(cacheNames = POLICY_EVALUATION_CACHE_NAME, allEntries = true)
     public UserPolicy addUserPolicy(UserPolicyCreateRequest createRequest) {
         policyManager.validatePolicy(createRequest.getPolicy());
         checkIfUserPolicyIsDuplicate(createRequest.getCsp(), createRequest.getPolicy());
@@ -96,6 +100,7 @@ public class UserPolicyManager {
      * @param updateRequest update policy request.
      * @return Returns updated policy view object.
      */
+    @CacheEvict(cacheNames = POLICY_EVALUATION_CACHE_NAME, allEntries = true)
     public UserPolicy updateUserPolicy(UUID id, UserPolicyUpdateRequest updateRequest) {
         UserPolicyEntity existingEntity = getUserPolicyEntity(id);
         UserPolicyEntity policyToUpdate = getUserPolicyToUpdate(updateRequest, existingEntity);
@@ -137,6 +142,7 @@ public class UserPolicyManager {
      *
      * @param id the id of policy.
      */
+    @CacheEvict(cacheNames = POLICY_EVALUATION_CACHE_NAME, allEntries = true)
     public void deleteUserPolicy(UUID id) {
         getUserPolicyEntity(id);
         userPolicyStorage.deletePolicyById(id);
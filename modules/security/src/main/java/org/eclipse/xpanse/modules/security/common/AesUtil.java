@@ -7,18 +7,17 @@
 package org.eclipse.xpanse.modules.security.common;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidAlgorithmParameterException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
@@ -31,11 +30,17 @@ import org.springframework.stereotype.Component;
 
 /**
  * AES encryption tool class.
+ *
+ * <p>The key is loaded once from the key file and reloaded only when the file is changed. The
+ * initialized {@link Cipher} instances are kept in a small pool of the key and reused by all
+ * calls. A {@link Cipher} is not thread-safe, so each call takes its own instance from the pool
+ * and returns it after {@code doFinal}, which resets the cipher to its initialized state.</p>
  */
 @Slf4j
 @Component
 public class AesUtil {
 
+    private static final int CIPHER_POOL_SIZE = 16;
     @Value("${aes.key.file.name}")
     private String aesKeyFileName;
     @Value("${aes.algorithm.type}")
@@ -44,51 +49,62 @@ public class AesUtil {
     private String vi;
     @Value("${aes.cipher.algorithm}")
     private String cipherAlgorithm;
+    @Value("${aes.key.file.check.interval.in.seconds:10}")
+    private long keyFileCheckIntervalInSeconds;
+    private volatile AesKey aesKey;
 
     /**
      * AES encryption.
      */
     public String encode(String content) {
-        try {
-            if (aesIsDisabled()) {
-                return content;
-            }
-            Cipher cipher = getCipher(Cipher.ENCRYPT_MODE);
-            if (Objects.isNull(cipher)) {
-                log.error("AES encode error, Get Cipher failed.");
-                throw new SensitiveFieldEncryptionOrDecryptionFailedException(
-                        "AES encode error, Get Cipher failed.");
-            }
-            byte[] byteEncode = content.getBytes(StandardCharsets.UTF_8);
-            byte[] byteAes = cipher.doFinal(byteEncode);
-            return Base64.encodeBase64String(byteAes);
-        } catch (Exception e) {
-            log.error("AES encode error ", e);
+        try (CipherLease cipherLease = new CipherLease(getAesKey())) {
+            return encodeValue(cipherLease, content);
         }
-        return content;
+    }
+
+    /**
+     * AES encryption of all values of the map. The key is resolved and a cipher is taken from the
+     * pool only once for the whole map.
+     *
+     * @param contents values to be encoded, mapped by their names.
+     * @return new map with the encoded values in the same order.
+     */
+    public Map<String, String> encode(Map<String, String> contents) {
+        Map<String, String> results = new LinkedHashMap<>();
+        if (Objects.isNull(contents)) {
+            return results;
+        }
+        try (CipherLease cipherLease = new CipherLease(getAesKey())) {
+            contents.forEach((name, value) -> results.put(name, encodeValue(cipherLease, value)));
+        }
+        return results;
     }
 
     /**
      * AES decryption.
      */
     public String decode(String content) {
-        try {
-            if (aesIsDisabled()) {
-                return content;
-            }
-            Cipher cipher = getCipher(Cipher.DECRYPT_MODE);
-            if (Objects.isNull(cipher)) {
-                log.error("AES decode error, Get Cipher failed.");
-                throw new SensitiveFieldEncryptionOrDecryptionFailedException(
-                        "AES decode error, Get Cipher failed.");
-            }
-            byte[] byteContent = Base64.decodeBase64(content);
-            byte[] byteDecode = cipher.doFinal(byteContent);
-            return new String(byteDecode, StandardCharsets.UTF_8);
-        } catch (IllegalBlockSizeException | BadPaddingException e) {
-            log.error("AES decode error ", e);
+        try (CipherLease cipherLease = new CipherLease(getAesKey())) {
+            return decodeValue(cipherLease, content);
         }
-        return content;
+    }
+
+    /**
+     * AES decryption of all values of the map. The key is resolved and a cipher is taken from the
+     * pool only once for the whole map.
+     *
+     * @param contents values to be decoded, mapped by their names.
+     * @return new map with the decoded values in the same order.
+     */
+    public Map<String, String> decode(Map<String, String> contents) {
+        Map<String, String> results = new LinkedHashMap<>();
+        if (Objects.isNull(contents)) {
+            return results;
+        }
+        try (CipherLease cipherLease = new CipherLease(getAesKey())) {
+            contents.forEach((name, value) -> results.put(name, decodeValue(cipherLease, value)));
+        }
+        return results;
     }
 
     /**
@@ -102,7 +118,27 @@ public class AesUtil {
 
     public Object decodeBackToOriginalType(DeployVariableDataType deployVariableDataType,
                                            String content) {
-        String decodedContent = decode(content);
+        return convertToOriginalType(deployVariableDataType, decode(content));
+    }
+
+    /**
+     * Decodes all values of the map and converts them back to their actual types. The key is
+     * resolved and a cipher is taken from the pool only once for the whole map.
+     *
+     * @param dataTypes types of the encoded values, mapped by their names.
+     * @param contents  encoded values, mapped by their names.
+     * @return new map with the decoded and converted values in the same order.
+     */
+    public Map<String, Object> decodeBackToOriginalType(
+            Map<String, DeployVariableDataType> dataTypes, Map<String, String> contents) {
+        Map<String, Object> results = new LinkedHashMap<>();
+        decode(contents).forEach((name, decodedContent) -> results.put(name,
+                convertToOriginalType(dataTypes.get(name), decodedContent)));
+        return results;
+    }
+
+    private Object convertToOriginalType(DeployVariableDataType deployVariableDataType,
+                                         String decodedContent) {
         switch (deployVariableDataType) {
             case NUMBER -> {
                 return Integer.valueOf(decodedContent);
@@ -116,29 +152,197 @@ public class AesUtil {
         }
     }
 
-    private Cipher getCipher(int mode) {
-        Cipher cipher;
-        try (InputStream is = new FileInputStream(
-                System.getProperty("user.dir") + File.separator + aesKeyFileName)) {
-            byte[] bytes = new byte[is.available()];
-            SecretKey secretKey = new SecretKeySpec(bytes, algorithmType);
-            cipher = Cipher.getInstance(cipherAlgorithm);
-            cipher.init(mode, secretKey, new IvParameterSpec(vi.getBytes()));
-            return cipher;
-        } catch (IOException | InvalidAlgorithmParameterException | NoSuchPaddingException
-                 | NoSuchAlgorithmException | InvalidKeyException e) {
+    private String encodeValue(CipherLease cipherLease, String content) {
+        if (Objects.isNull(content) || !cipherLease.aesKey.isEnabled()) {
+            return content;
+        }
+        try {
+            CipherPair cipherPair = cipherLease.take();
+            if (Objects.isNull(cipherPair)) {
+                log.error("AES encode error, Get Cipher failed.");
+                throw new SensitiveFieldEncryptionOrDecryptionFailedException(
+                        "AES encode error, Get Cipher failed.");
+            }
+            byte[] byteEncode = content.getBytes(StandardCharsets.UTF_8);
+            byte[] byteAes = cipherPair.encryptCipher.doFinal(byteEncode);
+            // a cipher failed in doFinal is not given back.
+            cipherLease.giveBack(cipherPair);
+            return Base64.encodeBase64String(byteAes);
+        } catch (Exception e) {
+            log.error("AES encode error ", e);
+        }
+        return content;
+    }
+
+    private String decodeValue(CipherLease cipherLease, String content) {
+        if (Objects.isNull(content) || !cipherLease.aesKey.isEnabled()) {
+            return content;
+        }
+        CipherPair cipherPair = cipherLease.take();
+        if (Objects.isNull(cipherPair)) {
+            log.error("AES decode error, Get Cipher failed.");
+            throw new SensitiveFieldEncryptionOrDecryptionFailedException(
+                    "AES decode error, Get Cipher failed.");
+        }
+        try {
+            byte[] byteContent = Base64.decodeBase64(content);
+            byte[] byteDecode = cipherPair.decryptCipher.doFinal(byteContent);
+            cipherLease.giveBack(cipherPair);
+            return new String(byteDecode, StandardCharsets.UTF_8);
+        } catch (IllegalBlockSizeException | BadPaddingException e) {
+            log.error("AES decode error ", e);
+        }
+        return content;
+    }
+
+    /**
+     * Take initialized ciphers of the key from the pool, or create new ones when the pool is
+     * empty. The lease of the caller returns them to the pool of the key after use.
+     */
+    private CipherPair borrowCipherPair(AesKey currentKey) {
+        CipherPair cipherPair = currentKey.cipherPool.poll();
+        if (Objects.nonNull(cipherPair) && cipherPair.isCreatedFor(cipherAlgorithm, vi)) {
+            return cipherPair;
+        }
+        try {
+            return new CipherPair(currentKey.getSecretKey(), cipherAlgorithm, vi);
+        } catch (GeneralSecurityException | RuntimeException e) {
             log.error("get Cipher error ", e);
+            return null;
         }
-        return null;
     }
 
     /**
-     * Whether to enable AES encryption and decryption.
+     * Get the key loaded from the key file. The file is checked for changes at most once per
+     * check interval and the key is reloaded only when the file is changed.
      */
-    private boolean aesIsDisabled() {
-        File file = new File(System.getProperty("user.dir")
-                + File.separator + aesKeyFileName);
-        return !file.exists() || file.length() == 0;
+    private AesKey getAesKey() {
+        AesKey currentKey = this.aesKey;
+        long now = System.nanoTime();
+        if (Objects.nonNull(currentKey) && currentKey.isValidFor(aesKeyFileName, algorithmType)
+                && now - currentKey.checkedAtNanos
+                < TimeUnit.SECONDS.toNanos(keyFileCheckIntervalInSeconds)) {
+            return currentKey;
+        }
+        synchronized (this) {
+            File keyFile = new File(System.getProperty("user.dir")
+                    + File.separator + aesKeyFileName);
+            long lastModified = keyFile.lastModified();
+            long length = keyFile.exists() ? keyFile.length() : 0;
+            currentKey = this.aesKey;
+            if (Objects.nonNull(currentKey) && currentKey.isValidFor(aesKeyFileName, algorithmType)
+                    && currentKey.lastModified == lastModified && currentKey.length == length) {
+                currentKey.checkedAtNanos = now;
+                return currentKey;
+            }
+            if (Objects.nonNull(currentKey)) {
+                log.info("AES key file {} changed. Reloading the key.", aesKeyFileName);
+            }
+            // key material derived as in previous versions to keep stored data decodable.
+            SecretKey secretKey = length == 0 || Objects.isNull(algorithmType)
+                    ? null : new SecretKeySpec(new byte[(int) length], algorithmType);
+            AesKey newKey = new AesKey(aesKeyFileName, algorithmType, lastModified, length,
+                    secretKey);
+            newKey.checkedAtNanos = now;
+            this.aesKey = newKey;
+            return newKey;
+        }
     }
 
+    /**
+     * Key loaded from the key file with the state of the file when it was loaded.
+     */
+    private static final class AesKey {
+
+        private final String keyFileName;
+        private final String algorithmType;
+        private final long lastModified;
+        private final long length;
+        private final SecretKey secretKey;
+        // ciphers of the key, dropped together with the key when the key file is changed.
+        private final BlockingQueue<CipherPair> cipherPool =
+                new ArrayBlockingQueue<>(CIPHER_POOL_SIZE);
+        private volatile long checkedAtNanos;
+
+        private AesKey(String keyFileName, String algorithmType, long lastModified, long length,
+                       SecretKey secretKey) {
+            this.keyFileName = keyFileName;
+            this.algorithmType = algorithmType;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.secretKey = secretKey;
+        }
+
+        private boolean isEnabled() {
+            return length > 0;
+        }
+
+        private SecretKey getSecretKey() {
+            return secretKey;
+        }
+
+        private boolean isValidFor(String keyFileName, String algorithmType) {
+            return Objects.equals(this.keyFileName, keyFileName)
+                    && Objects.equals(this.algorithmType, algorithmType);
+        }
+    }
+
+    /**
+     * Ciphers of the key used by one call, for a single value or for all values of a map. The
+     * ciphers are taken from the pool on first use and returned to it when the lease is closed.
+     */
+    private final class CipherLease implements AutoCloseable {
+
+        private final AesKey aesKey;
+        private CipherPair cipherPair;
+
+        private CipherLease(AesKey aesKey) {
+            this.aesKey = aesKey;
+        }
+
+        private CipherPair take() {
+            CipherPair takenCipherPair = Objects.nonNull(cipherPair)
+                    ? cipherPair : borrowCipherPair(aesKey);
+            cipherPair = null;
+            return takenCipherPair;
+        }
+
+        private void giveBack(CipherPair usedCipherPair) {
+            cipherPair = usedCipherPair;
+        }
+
+        @Override
+        public void close() {
+            if (Objects.nonNull(cipherPair)) {
+                aesKey.cipherPool.offer(cipherPair);
+            }
+        }
+    }
+
+    /**
+     * Encrypt and decrypt ciphers initialized with the same key, used by one call at a time.
+     */
+    private static final class CipherPair {
+
+        private final String cipherAlgorithm;
+        private final String vi;
+        private final Cipher encryptCipher;
+        private final Cipher decryptCipher;
+
+        private CipherPair(SecretKey secretKey, String cipherAlgorithm, String vi)
+                throws GeneralSecurityException {
+            this.cipherAlgorithm = cipherAlgorithm;
+            this.vi = vi;
+            IvParameterSpec ivParameterSpec = new IvParameterSpec(vi.getBytes());
+            this.encryptCipher = Cipher.getInstance(cipherAlgorithm);
+            this.encryptCipher.init(Cipher.ENCRYPT_MODE, secretKey, ivParameterSpec);
+            this.decryptCipher = Cipher.getInstance(cipherAlgorithm);
+            this.decryptCipher.init(Cipher.DECRYPT_MODE, secretKey, ivParameterSpec);
+        }
+
+        private boolean isCreatedFor(String cipherAlgorithm, String vi) {
+            return Objects.equals(this.cipherAlgorithm, cipherAlgorithm)
+                    && Objects.equals(this.vi, vi);
+        }
+    }
 }
@@ -1,5 +1,15 @@
 package org.eclipse.xpanse.modules.security.common;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.eclipse.xpanse.modules.models.common.exceptions.SensitiveFieldEncryptionOrDecryptionFailedException;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployVariableDataType;
 import org.junit.jupiter.api.Assertions;
@@ -141,4 +151,105 @@ class AesUtilTest {
         Assertions.assertTrue(decodedResult instanceof Integer);
         Assertions.assertEquals((Integer) decodedResult, number);
     }
+
+    @Test
+    void testDecodeMapBackToOriginalType() {
+        // SetUp
+        Map<String, String> contents = new LinkedHashMap<>();
+        contents.put("count", aesUtilTest.encode("111"));
+        contents.put("enabled", aesUtilTest.encode("true"));
+        contents.put("password", aesUtilTest.encode("HelloWorld"));
+        Map<String, DeployVariableDataType> dataTypes = Map.of(
+                "count", DeployVariableDataType.NUMBER,
+                "enabled", DeployVariableDataType.BOOLEAN,
+                "password", DeployVariableDataType.STRING);
+
+        // Run the test
+        final Map<String, Object> decoded =
+                aesUtilTest.decodeBackToOriginalType(dataTypes, contents);
+
+        // Verify the results
+        Assertions.assertEquals(111, decoded.get("count"));
+        Assertions.assertEquals(true, decoded.get("enabled"));
+        Assertions.assertEquals("HelloWorld", decoded.get("password"));
+    }
+
+    @Test
+    void testEncodeAndDecodeMap() {
+        // SetUp
+        Map<String, String> contents = new LinkedHashMap<>();
+        contents.put("password", "HelloWorld");
+        contents.put("token", "content");
+        contents.put("empty", null);
+
+        // Run the test
+        final Map<String, String> encoded = aesUtilTest.encode(contents);
+
+        // Verify the results
+        Assertions.assertEquals(contents.keySet(), encoded.keySet());
+        Assertions.assertNotEquals("HelloWorld", encoded.get("password"));
+        Assertions.assertNull(encoded.get("empty"));
+        Assertions.assertEquals(contents, aesUtilTest.decode(encoded));
+    }
+
+    @Test
+    void testDecodeMapWithInvalidValue() {
+        // SetUp
+        Map<String, String> contents = new LinkedHashMap<>();
+        contents.put("password", aesUtilTest.encode("HelloWorld"));
+        contents.put("invalid", "HelloWorld");
+        contents.put("token", aesUtilTest.encode("content"));
+
+        // Run the test
+        final Map<String, String> decoded = aesUtilTest.decode(contents);
+
+        // Verify the results
+        Assertions.assertEquals("HelloWorld", decoded.get("password"));
+        Assertions.assertEquals("HelloWorld", decoded.get("invalid"));
+        Assertions.assertEquals("content", decoded.get("token"));
+    }
+
+    @Test
+    void testEncodeAndDecodeOnVirtualThreads() throws Exception {
+        // SetUp
+        List<Future<String>> results = new ArrayList<>();
+
+        // Run the test
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                String string = "content-" + i;
+                results.add(executor.submit(
+                        () -> aesUtilTest.decode(aesUtilTest.encode(string))));
+            }
+        }
+
+        // Verify the results
+        for (int i = 0; i < results.size(); i++) {
+            Assertions.assertEquals("content-" + i, results.get(i).get());
+        }
+    }
+
+    @Test
+    void testKeyReloadedWhenKeyFileChanged() throws IOException {
+        // SetUp
+        File keyFile = new File("target/aes_sec_reload_test");
+        Files.createDirectories(keyFile.getParentFile().toPath());
+        Files.write(keyFile.toPath(), new byte[16]);
+        ReflectionTestUtils.setField(aesUtilTest, "aesKeyFileName", "target/aes_sec_reload_test");
+        String string = "HelloWorld";
+
+        try {
+            // Run the test
+            final String encodedWithOldKey = aesUtilTest.encode(string);
+            Assertions.assertEquals(string, aesUtilTest.decode(encodedWithOldKey));
+            Files.write(keyFile.toPath(), new byte[32]);
+            final String encodedWithNewKey = aesUtilTest.encode(string);
+
+            // Verify the results
+            Assertions.assertNotEquals(string, aesUtilTest.decode(encodedWithOldKey));
+            Assertions.assertEquals(string, aesUtilTest.decode(encodedWithNewKey));
+        } finally {
+            Files.deleteIfExists(keyFile.toPath());
+        }
+    }
 }
@@ -14,6 +14,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.async.TaskConfiguration;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
 import org.eclipse.xpanse.modules.database.service.DeployServiceStorage;
 import org.eclipse.xpanse.modules.database.service.ServiceQueryModel;
@@ -23,6 +24,8 @@ import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorag
 import org.eclipse.xpanse.modules.deployment.DeployerKindManager;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.common.exceptions.OpenApiFileGenerationException;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPage;
+import org.eclipse.xpanse.modules.models.common.pagination.KeysetPageRequest;
 import org.eclipse.xpanse.modules.models.service.utils.ServiceDeployVariablesJsonSchemaGenerator;
 import org.eclipse.xpanse.modules.models.servicetemplate.Deployment;
 import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
@@ -50,6 +53,10 @@ import org.eclipse.xpanse.modules.servicetemplate.utils.IconProcessorUtil;
 import org.eclipse.xpanse.modules.servicetemplate.utils.ServiceTemplateOpenApiGenerator;
 import org.semver4j.Semver;
 import org.semver4j.SemverException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
@@ -77,6 +84,8 @@ public class ServiceTemplateManage {
     private BillingConfigValidator billingConfigValidator;
     @Resource
     private PluginManager pluginManager;
+    @Value("${openapi.regenerate.on.startup:true}")
+    private boolean regenerateOpenApisOnStartup;
 
     /**
      * Update service template using id and the ocl model.
@@ -278,6 +287,19 @@ public class ServiceTemplateManage {
         return templateStorage.listServiceTemplates(query);
     }
 
+    /**
+     * Search one page of service templates with query model.
+     *
+     * @param query       service template query model.
+     * @param pageRequest page to be returned. All templates are returned when null.
+     * @return Returns page of service templates.
+     */
+    public KeysetPage<ServiceTemplateEntity> listServiceTemplates(
+            ServiceTemplateQueryModel query, KeysetPageRequest pageRequest) {
+        fillParamFromUserMetadata(query);
+        return templateStorage.listServiceTemplates(query, pageRequest);
+    }
+
     /**
      * Review service template registration.
      *
@@ -354,6 +376,20 @@ public class ServiceTemplateManage {
         serviceTemplateOpenApiGenerator.deleteServiceApi(id.toString());
     }
 
+    /**
+     * Generate the OpenApi documents of all service templates again once the application is
+     * ready, so that the documents follow the active plugins and the current configuration.
+     */
+    @Async(TaskConfiguration.ASYNC_EXECUTOR_NAME)
+    @EventListener(ApplicationReadyEvent.class)
+    public void regenerateOpenApis() {
+        if (!regenerateOpenApisOnStartup) {
+            return;
+        }
+        serviceTemplateOpenApiGenerator.regenerateServiceApis(
+                templateStorage.listServiceTemplates(new ServiceTemplateQueryModel()));
+    }
+
     /**
      * generate OpenApi for service template using the ID.
      *
@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.servicetemplate.price;
+
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.SERVICE_FLAVOR_PRICE_CACHE_NAME;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.cache.exceptions.CacheNotFoundException;
+import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
+import org.eclipse.xpanse.modules.orchestrator.price.ServiceFlavorPriceRequest;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Component which acts as the gateway to the prices of the service flavors stored in cache. The
+ * entries are keyed by the price request, the same key as the entries cached by
+ * {@code OrchestratorPlugin#getServiceFlavorPrice}, so the prices rated in batch and the prices
+ * rated one by one are shared.
+ */
+@Slf4j
+@Component
+public class ServiceFlavorPriceStore {
+
+    /**
+     * Methods to add the price of a service flavor into store.
+     *
+     * @param request price request of the flavor.
+     * @param price   price of the flavor.
+     * @return price of the flavor.
+     */
+    @CachePut(cacheNames = SERVICE_FLAVOR_PRICE_CACHE_NAME, key = "#request")
+    public FlavorPriceResult storeFlavorPrice(ServiceFlavorPriceRequest request,
+                                              FlavorPriceResult price) {
+        log.debug("Store price of service flavor {} into cache.", request.getFlavorName());
+        return price;
+    }
+
+    /**
+     * Methods to get the price of a service flavor from store.
+     *
+     * @param request price request of the flavor.
+     * @return price of the flavor.
+     */
+    @Cacheable(cacheNames = SERVICE_FLAVOR_PRICE_CACHE_NAME, key = "#request")
+    public FlavorPriceResult getFlavorPrice(ServiceFlavorPriceRequest request) {
+        throw new CacheNotFoundException("No price cache entry found for service flavor: "
+                + request.getFlavorName());
+    }
+
+    /**
+     * Methods to remove the price of a service flavor from store.
+     *
+     * @param request price request of the flavor.
+     */
+    @CacheEvict(cacheNames = SERVICE_FLAVOR_PRICE_CACHE_NAME, key = "#request")
+    public void deleteFlavorPrice(ServiceFlavorPriceRequest request) {
+        log.debug("Delete price of service flavor {} from cache.", request.getFlavorName());
+    }
+}
@@ -0,0 +1,483 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.servicetemplate.price;
+
+import static org.eclipse.xpanse.modules.database.serviceprice.ServicePriceSnapshotEntity.SHARED_PRICES_USER_ID;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.async.TaskConfiguration;
+import org.eclipse.xpanse.modules.cache.credential.CredentialChangedEvent;
+import org.eclipse.xpanse.modules.database.serviceprice.ServicePriceSnapshotEntity;
+import org.eclipse.xpanse.modules.database.serviceprice.ServicePriceSnapshotStorage;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateChangedEvent;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateQueryModel;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
+import org.eclipse.xpanse.modules.deployment.cache.CachedServiceTemplate;
+import org.eclipse.xpanse.modules.deployment.cache.ServiceTemplateCache;
+import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
+import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.eclipse.xpanse.modules.models.servicetemplate.ServiceFlavorWithPrice;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceRegistrationState;
+import org.eclipse.xpanse.modules.models.servicetemplate.exceptions.ServiceTemplateNotRegistered;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.eclipse.xpanse.modules.orchestrator.price.ServiceFlavorPriceRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Catalog of the pre-computed prices of the approved service templates in each of their regions
+ * with each of their billing modes. The prices are rated when a service template is approved or
+ * changed, and refreshed in the background before they become stale, so that the prices of the
+ * service catalog are served from memory. The rated prices are persisted as snapshots, so that
+ * the catalog is complete again right after a restart.
+ *
+ * <p>The prices rated by the provider with the account of the user, for example pay per use
+ * prices of HuaweiCloud, are kept per user. They are rated with the first request of the user and
+ * refreshed in the background as long as the user keeps requesting them. The prices of a user
+ * are removed when the credentials of the user are changed.</p>
+ */
+@Slf4j
+@Component
+public class ServicePriceCatalog {
+
+    private static final long REFRESH_CHECK_INTERVAL_IN_SECONDS = 60;
+
+    private final Map<PriceCatalogKey, CatalogEntry> catalogEntries = new ConcurrentHashMap<>();
+    private final Set<PriceCatalogKey> missingKeys = ConcurrentHashMap.newKeySet();
+    private final Set<PriceCatalogKey> refreshingKeys = ConcurrentHashMap.newKeySet();
+    private final Map<PriceCatalogKey, OffsetDateTime> userPricesRequestedTimes =
+            new ConcurrentHashMap<>();
+    private final PluginManager pluginManager;
+    private final ServiceTemplateCache serviceTemplateCache;
+    private final ServiceTemplateStorage serviceTemplateStorage;
+    private final ServicePriceSnapshotStorage servicePriceSnapshotStorage;
+    private final ServicePricingEngine servicePricingEngine;
+    private final ServiceFlavorPriceStore serviceFlavorPriceStore;
+    private final boolean isCatalogEnabled;
+    private final Duration refreshInterval;
+    private final Duration refreshAhead;
+
+    /**
+     * Constructor for ServicePriceCatalog.
+     *
+     * @param pluginManager               manager of the orchestrator plugins.
+     * @param serviceTemplateCache        cache of the service templates.
+     * @param serviceTemplateStorage      storage of the service templates.
+     * @param servicePriceSnapshotStorage storage of the snapshots of the prices.
+     * @param servicePricingEngine        rates the flavors with the cloud service providers.
+     * @param serviceFlavorPriceStore     cache of the prices rated by the plugins.
+     * @param isCatalogEnabled            whether the prices are served from the catalog.
+     * @param refreshIntervalInMinutes    age after which a price in the catalog is stale.
+     * @param refreshAheadInMinutes       period before a price becomes stale in which it is
+     *                                    refreshed in the background.
+     */
+    @Autowired
+    public ServicePriceCatalog(
+            PluginManager pluginManager,
+            ServiceTemplateCache serviceTemplateCache,
+            ServiceTemplateStorage serviceTemplateStorage,
+            ServicePriceSnapshotStorage servicePriceSnapshotStorage,
+            ServicePricingEngine servicePricingEngine,
+            ServiceFlavorPriceStore serviceFlavorPriceStore,
+            @Value("${service.price.catalog.enabled:true}") boolean isCatalogEnabled,
+            @Value("${service.price.catalog.refresh.interval.in.minutes:60}")
+            long refreshIntervalInMinutes,
+            @Value("${service.price.catalog.refresh.ahead.in.minutes:10}")
+            long refreshAheadInMinutes) {
+        this.pluginManager = pluginManager;
+        this.serviceTemplateCache = serviceTemplateCache;
+        this.serviceTemplateStorage = serviceTemplateStorage;
+        this.servicePriceSnapshotStorage = servicePriceSnapshotStorage;
+        this.servicePricingEngine = servicePricingEngine;
+        this.serviceFlavorPriceStore = serviceFlavorPriceStore;
+        this.isCatalogEnabled = isCatalogEnabled;
+        this.refreshInterval = Duration.ofMinutes(refreshIntervalInMinutes);
+        this.refreshAhead = Duration.ofMinutes(Math.min(refreshAheadInMinutes,
+                refreshIntervalInMinutes));
+    }
+
+    /**
+     * Load the persisted snapshots and rate the prices missing in the catalog once the
+     * application is ready.
+     */
+    @Async(TaskConfiguration.ASYNC_EXECUTOR_NAME)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCatalog() {
+        if (!isCatalogEnabled) {
+            return;
+        }
+        loadSnapshots();
+        precomputeApprovedServiceTemplates();
+    }
+
+    /**
+     * Rate the prices of the changed service template again once the change is committed.
+     *
+     * @param event service template changed event.
+     */
+    @Async(TaskConfiguration.ASYNC_EXECUTOR_NAME)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceTemplateChanged(ServiceTemplateChangedEvent event) {
+        if (!isCatalogEnabled || Objects.isNull(event.serviceTemplateId())) {
+            return;
+        }
+        precomputeServiceTemplate(event.serviceTemplateId());
+    }
+
+    /**
+     * Remove the prices rated with the credentials of the user once the credentials are changed.
+     * The prices are rated again with the next request of the user.
+     *
+     * @param event credential changed event.
+     */
+    @EventListener
+    public void onCredentialChanged(CredentialChangedEvent event) {
+        if (!isCatalogEnabled || Objects.isNull(event.key())) {
+            return;
+        }
+        String userId = event.key().userId();
+        boolean isAnyUser = StringUtils.isBlank(userId);
+        List<PriceCatalogKey> userKeys = catalogEntries.keySet().stream()
+                .filter(key -> Objects.nonNull(key.userId()))
+                .filter(key -> isAnyUser || userId.equals(key.userId()))
+                .toList();
+        userKeys.forEach(this::removeUserPrices);
+    }
+
+    /**
+     * Get the prices of all flavors of the service template in the region with the billing mode
+     * from the catalog. Prices missing in the catalog are rated and added to the catalog.
+     *
+     * @param serviceTemplate service template.
+     * @param regionName      name of the region.
+     * @param billingMode     billing mode.
+     * @param userId          id of the user requesting the prices.
+     * @return prices by flavor name, null if the prices are not served from the catalog.
+     */
+    public Map<String, FlavorPriceResult> getFlavorPrices(CachedServiceTemplate serviceTemplate,
+                                                          String regionName,
+                                                          BillingMode billingMode,
+                                                          String userId) {
+        if (!isCatalogEnabled || !isCatalogued(serviceTemplate, regionName)) {
+            return null;
+        }
+        boolean isUserSpecific = pluginManager.getOrchestratorPlugin(serviceTemplate.csp())
+                .isFlavorPriceUserSpecific(billingMode);
+        if (isUserSpecific && StringUtils.isBlank(userId)) {
+            return null;
+        }
+        PriceCatalogKey key = new PriceCatalogKey(serviceTemplate.id(), regionName, billingMode,
+                isUserSpecific ? userId : null);
+        CatalogEntry catalogEntry = catalogEntries.get(key);
+        if (Objects.isNull(catalogEntry) && !missingKeys.contains(key)) {
+            catalogEntry = refresh(key, serviceTemplate);
+        }
+        if (Objects.isNull(catalogEntry)) {
+            // rating failed before, the prices are rated with the request and retried later.
+            return null;
+        }
+        if (isUserSpecific) {
+            userPricesRequestedTimes.put(key, OffsetDateTime.now());
+        }
+        Map<String, FlavorPriceResult> flavorPrices = new HashMap<>();
+        for (Map.Entry<String, FlavorPriceResult> price : catalogEntry.flavorPrices().entrySet()) {
+            flavorPrices.put(price.getKey(), toCatalogPrice(price.getValue(), billingMode,
+                    catalogEntry));
+        }
+        return flavorPrices;
+    }
+
+    /**
+     * Rate again the prices which become stale soon, and the prices whose rating failed before.
+     */
+    @Scheduled(initialDelay = REFRESH_CHECK_INTERVAL_IN_SECONDS,
+            fixedDelay = REFRESH_CHECK_INTERVAL_IN_SECONDS, timeUnit = TimeUnit.SECONDS)
+    public void refreshDuePrices() {
+        if (!isCatalogEnabled) {
+            return;
+        }
+        Duration refreshAge = refreshInterval.minus(refreshAhead);
+        List<PriceCatalogKey> dueKeys = new ArrayList<>(missingKeys);
+        catalogEntries.forEach((key, catalogEntry) -> {
+            if (!isOlderThan(catalogEntry, refreshAge)) {
+                return;
+            }
+            if (Objects.nonNull(key.userId()) && !isRequestedSince(key, refreshInterval)) {
+                // prices of users no longer requesting them are not rated in the background.
+                removeUserPrices(key);
+                return;
+            }
+            dueKeys.add(key);
+        });
+        for (PriceCatalogKey key : dueKeys) {
+            try {
+                refresh(key, serviceTemplateCache.getServiceTemplate(key.serviceTemplateId()));
+            } catch (ServiceTemplateNotRegistered e) {
+                removeServiceTemplate(key.serviceTemplateId());
+            } catch (RuntimeException e) {
+                log.error("Refresh prices of service template {} in region {} with billing "
+                        + "mode {} failed.", key.serviceTemplateId(), key.regionName(),
+                        key.billingMode(), e);
+            }
+        }
+    }
+
+    void precomputeServiceTemplate(UUID serviceTemplateId) {
+        removeServiceTemplate(serviceTemplateId);
+        try {
+            CachedServiceTemplate serviceTemplate =
+                    serviceTemplateCache.getServiceTemplate(serviceTemplateId);
+            precompute(serviceTemplate);
+        } catch (ServiceTemplateNotRegistered e) {
+            log.debug("Service template {} removed from the price catalog.", serviceTemplateId);
+        } catch (RuntimeException e) {
+            log.error("Pre-compute prices of service template {} failed.", serviceTemplateId, e);
+        }
+    }
+
+    private void precomputeApprovedServiceTemplates() {
+        ServiceTemplateQueryModel query = new ServiceTemplateQueryModel(null, null, null, null,
+                null, ServiceRegistrationState.APPROVED, false);
+        List<ServiceTemplateEntity> serviceTemplates =
+                serviceTemplateStorage.listServiceTemplates(query);
+        for (ServiceTemplateEntity serviceTemplate : serviceTemplates) {
+            try {
+                precompute(serviceTemplateCache.getServiceTemplate(serviceTemplate.getId()));
+            } catch (RuntimeException e) {
+                log.error("Pre-compute prices of service template {} failed.",
+                        serviceTemplate.getId(), e);
+            }
+        }
+    }
+
+    private void precompute(CachedServiceTemplate serviceTemplate) {
+        if (serviceTemplate.serviceRegistrationState() != ServiceRegistrationState.APPROVED
+                || Objects.isNull(serviceTemplate.ocl())
+                || Objects.isNull(serviceTemplate.ocl().getBilling())
+                || Objects.isNull(serviceTemplate.ocl().getCloudServiceProvider())) {
+            return;
+        }
+        List<BillingMode> billingModes = serviceTemplate.ocl().getBilling().getBillingModes();
+        List<Region> regions = serviceTemplate.ocl().getCloudServiceProvider().getRegions();
+        if (Objects.isNull(billingModes) || Objects.isNull(regions)) {
+            return;
+        }
+        OrchestratorPlugin orchestratorPlugin =
+                pluginManager.getOrchestratorPlugin(serviceTemplate.csp());
+        for (Region region : regions) {
+            for (BillingMode billingMode : billingModes) {
+                if (orchestratorPlugin.isFlavorPriceUserSpecific(billingMode)) {
+                    // no user to rate them with before the first request of a user.
+                    continue;
+                }
+                PriceCatalogKey key = new PriceCatalogKey(serviceTemplate.id(),
+                        region.getName(), billingMode, null);
+                if (!catalogEntries.containsKey(key)
+                        && isCatalogued(serviceTemplate, region.getName())) {
+                    refresh(key, serviceTemplate);
+                }
+            }
+        }
+    }
+
+    private CatalogEntry refresh(PriceCatalogKey key, CachedServiceTemplate serviceTemplate) {
+        if (!refreshingKeys.add(key)) {
+            // rated by another thread right now.
+            return catalogEntries.get(key);
+        }
+        try {
+            OrchestratorPlugin orchestratorPlugin =
+                    pluginManager.getOrchestratorPlugin(serviceTemplate.csp());
+            List<ServiceFlavorPriceRequest> requests = getPriceRequests(key, serviceTemplate);
+            // the plugins cache their prices, which would be saved as rated now otherwise.
+            requests.forEach(serviceFlavorPriceStore::deleteFlavorPrice);
+            Map<String, FlavorPriceResult> flavorPrices =
+                    servicePricingEngine.getFlavorPrices(orchestratorPlugin, requests);
+            if (flavorPrices.values().stream().anyMatch(price -> !price.isSuccessful())) {
+                // the previous prices are kept and served as stale until rated again.
+                log.warn("Rating prices of service template {} in region {} with billing mode {}"
+                        + " failed, retry with the next refresh.", key.serviceTemplateId(),
+                        key.regionName(), key.billingMode());
+                if (!catalogEntries.containsKey(key) && Objects.isNull(key.userId())) {
+                    // the prices of a user are rated again with the next request of the user.
+                    missingKeys.add(key);
+                }
+                return catalogEntries.get(key);
+            }
+            CatalogEntry catalogEntry = new CatalogEntry(flavorPrices, OffsetDateTime.now());
+            storeSnapshot(key, catalogEntry);
+            catalogEntries.put(key, catalogEntry);
+            missingKeys.remove(key);
+            log.debug("Rated {} prices of service template {} in region {} with billing mode {}.",
+                    flavorPrices.size(), key.serviceTemplateId(), key.regionName(),
+                    key.billingMode());
+            return catalogEntry;
+        } finally {
+            refreshingKeys.remove(key);
+        }
+    }
+
+    private List<ServiceFlavorPriceRequest> getPriceRequests(
+            PriceCatalogKey key, CachedServiceTemplate serviceTemplate) {
+        List<ServiceFlavorPriceRequest> requests = new ArrayList<>();
+        for (ServiceFlavorWithPrice flavor : serviceTemplate.flavorsByName().values()) {
+            if (Objects.isNull(flavor.getPricing())) {
+                continue;
+            }
+            try {
+                ServicePricesManager.validateFlavorPriceMode(flavor.getPricing(),
+                        key.billingMode());
+            } catch (RuntimeException e) {
+                // the invalid flavors are reported by the price manager with each request.
+                continue;
+            }
+            // without a user, the price is shared by all users.
+            ServiceFlavorPriceRequest request = new ServiceFlavorPriceRequest();
+            request.setUserId(key.userId());
+            request.setServiceTemplateId(serviceTemplate.id().toString());
+            request.setFlavorName(flavor.getName());
+            request.setRegionName(key.regionName());
+            request.setFlavorRatingMode(flavor.getPricing());
+            request.setBillingMode(key.billingMode());
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    private boolean isCatalogued(CachedServiceTemplate serviceTemplate, String regionName) {
+        return serviceTemplate.serviceRegistrationState() == ServiceRegistrationState.APPROVED
+                && Objects.nonNull(serviceTemplate.ocl())
+                && Objects.nonNull(serviceTemplate.ocl().getCloudServiceProvider())
+                && Objects.nonNull(serviceTemplate.ocl().getCloudServiceProvider().getRegions())
+                && serviceTemplate.ocl().getCloudServiceProvider().getRegions().stream()
+                .anyMatch(region -> Objects.equals(region.getName(), regionName));
+    }
+
+    void loadSnapshots() {
+        for (ServicePriceSnapshotEntity snapshot : servicePriceSnapshotStorage.listSnapshots()) {
+            Map<String, FlavorPriceResult> flavorPrices = new LinkedHashMap<>();
+            snapshot.getFlavorPrices().forEach(price ->
+                    flavorPrices.put(price.getFlavorName(), price));
+            String userId = SHARED_PRICES_USER_ID.equals(snapshot.getUserId())
+                    ? null : snapshot.getUserId();
+            PriceCatalogKey key = new PriceCatalogKey(snapshot.getServiceTemplateId(),
+                    snapshot.getRegionName(), snapshot.getBillingMode(), userId);
+            catalogEntries.putIfAbsent(key,
+                    new CatalogEntry(flavorPrices, snapshot.getCalculatedTime()));
+            if (Objects.nonNull(userId)) {
+                // kept until the next refresh, unless the user requests them again.
+                userPricesRequestedTimes.putIfAbsent(key, snapshot.getCalculatedTime());
+            }
+        }
+        log.info("Loaded {} price snapshots into the price catalog.", catalogEntries.size());
+    }
+
+    private void storeSnapshot(PriceCatalogKey key, CatalogEntry catalogEntry) {
+        ServicePriceSnapshotEntity snapshot = new ServicePriceSnapshotEntity();
+        snapshot.setServiceTemplateId(key.serviceTemplateId());
+        snapshot.setRegionName(key.regionName());
+        snapshot.setBillingMode(key.billingMode());
+        snapshot.setUserId(Objects.requireNonNullElse(key.userId(), SHARED_PRICES_USER_ID));
+        snapshot.setFlavorPrices(new ArrayList<>(catalogEntry.flavorPrices().values()));
+        snapshot.setCalculatedTime(catalogEntry.calculatedTime());
+        try {
+            try {
+                servicePriceSnapshotStorage.storeAndFlush(snapshot);
+            } catch (DataIntegrityViolationException e) {
+                // another instance added the snapshot first, replace its prices with ours.
+                log.info("Price snapshot of service template {} added concurrently, updating it.",
+                        key.serviceTemplateId());
+                servicePriceSnapshotStorage.storeAndFlush(snapshot);
+            }
+        } catch (RuntimeException e) {
+            // the prices are still served from memory, only a restart rates them again.
+            log.error("Store price snapshot of service template {} failed.",
+                    key.serviceTemplateId(), e);
+        }
+    }
+
+    private void removeServiceTemplate(UUID serviceTemplateId) {
+        catalogEntries.keySet().removeIf(key -> serviceTemplateId.equals(key.serviceTemplateId()));
+        missingKeys.removeIf(key -> serviceTemplateId.equals(key.serviceTemplateId()));
+        userPricesRequestedTimes.keySet()
+                .removeIf(key -> serviceTemplateId.equals(key.serviceTemplateId()));
+        servicePriceSnapshotStorage.deleteSnapshotsOfServiceTemplate(serviceTemplateId);
+    }
+
+    private void removeUserPrices(PriceCatalogKey key) {
+        catalogEntries.remove(key);
+        userPricesRequestedTimes.remove(key);
+        try {
+            servicePriceSnapshotStorage.deleteSnapshot(key.serviceTemplateId(),
+                    key.regionName(), key.billingMode(), key.userId());
+        } catch (RuntimeException e) {
+            // loaded again with the next restart, and then removed with the next refresh.
+            log.error("Delete price snapshot of service template {} failed.",
+                    key.serviceTemplateId(), e);
+        }
+    }
+
+    private boolean isOlderThan(CatalogEntry catalogEntry, Duration age) {
+        return !catalogEntry.calculatedTime().plus(age).isAfter(OffsetDateTime.now());
+    }
+
+    private boolean isRequestedSince(PriceCatalogKey key, Duration age) {
+        OffsetDateTime requestedTime = userPricesRequestedTimes.get(key);
+        return Objects.nonNull(requestedTime)
+                && requestedTime.plus(age).isAfter(OffsetDateTime.now());
+    }
+
+    private FlavorPriceResult toCatalogPrice(FlavorPriceResult price, BillingMode billingMode,
+                                             CatalogEntry catalogEntry) {
+        // the entries are shared by all requests, they are copied instead of changed.
+        FlavorPriceResult catalogPrice = new FlavorPriceResult();
+        catalogPrice.setFlavorName(price.getFlavorName());
+        catalogPrice.setBillingMode(billingMode);
+        catalogPrice.setRecurringPrice(price.getRecurringPrice());
+        catalogPrice.setOneTimePaymentPrice(price.getOneTimePaymentPrice());
+        catalogPrice.setSuccessful(true);
+        catalogPrice.setCalculatedTime(catalogEntry.calculatedTime());
+        catalogPrice.setIsStale(isOlderThan(catalogEntry, refreshInterval));
+        return catalogPrice;
+    }
+
+    int getCatalogEntriesCount() {
+        return catalogEntries.size();
+    }
+
+    // the user id is null for the prices shared by all users.
+    private record PriceCatalogKey(UUID serviceTemplateId, String regionName,
+                                   BillingMode billingMode, String userId) {
+    }
+
+    private record CatalogEntry(Map<String, FlavorPriceResult> flavorPrices,
+                                OffsetDateTime calculatedTime) {
+    }
+}
@@ -8,13 +8,14 @@ package org.eclipse.xpanse.modules.servicetemplate.price;
 
 import jakarta.annotation.Resource;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
-import org.eclipse.xpanse.modules.database.servicetemplate.DatabaseServiceTemplateStorage;
-import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
+import org.eclipse.xpanse.modules.deployment.cache.CachedServiceTemplate;
+import org.eclipse.xpanse.modules.deployment.cache.ServiceTemplateCache;
 import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
 import org.eclipse.xpanse.modules.models.billing.Price;
 import org.eclipse.xpanse.modules.models.billing.RatingMode;
@@ -44,7 +45,13 @@ public class ServicePricesManager {
     private UserServiceHelper userServiceHelper;
 
     @Resource
-    private DatabaseServiceTemplateStorage templateStorage;
+    private ServiceTemplateCache serviceTemplateCache;
+
+    @Resource
+    private ServicePricingEngine servicePricingEngine;
+
+    @Resource
+    private ServicePriceCatalog servicePriceCatalog;
 
 
     /**
@@ -60,14 +67,14 @@ public class ServicePricesManager {
                                                      String region,
                                                      BillingMode billingMode,
                                                      String flavorName) {
-        ServiceTemplateEntity serviceTemplate = getServiceTemplate(templateId);
+        CachedServiceTemplate serviceTemplate = getServiceTemplate(templateId);
         RatingMode flavorPriceMode =
                 getServiceFlavorRatingMode(serviceTemplate, flavorName);
         validateFlavorPriceMode(flavorPriceMode, billingMode);
         ServiceFlavorPriceRequest serviceFlavorPriceRequest =
                 getServiceFlavorPriceRequest(templateId, flavorName, flavorPriceMode, region,
                         billingMode);
-        Csp csp = serviceTemplate.getCsp();
+        Csp csp = serviceTemplate.csp();
         OrchestratorPlugin orchestratorPlugin = pluginManager.getOrchestratorPlugin(csp);
         FlavorPriceResult priceResult =
                 orchestratorPlugin.getServiceFlavorPrice(serviceFlavorPriceRequest);
@@ -89,26 +96,21 @@ public class ServicePricesManager {
     public List<FlavorPriceResult> getPricesByService(String templateId,
                                                       String region,
                                                       BillingMode billingMode) {
-        ServiceTemplateEntity serviceTemplate = getServiceTemplate(templateId);
-        List<ServiceFlavorWithPrice> flavors =
-                serviceTemplate.getOcl().getFlavors().getServiceFlavors();
-        Csp csp = serviceTemplate.getCsp();
+        CachedServiceTemplate serviceTemplate = getServiceTemplate(templateId);
+        Collection<ServiceFlavorWithPrice> flavors = serviceTemplate.flavorsByName().values();
+        Csp csp = serviceTemplate.csp();
         OrchestratorPlugin orchestratorPlugin = pluginManager.getOrchestratorPlugin(csp);
         List<FlavorPriceResult> priceResults = new ArrayList<>();
+        List<ServiceFlavorPriceRequest> serviceFlavorPriceRequests = new ArrayList<>();
         for (ServiceFlavorWithPrice flavor : flavors) {
-            ServiceFlavorPriceRequest serviceFlavorPriceRequest =
-                    getServiceFlavorPriceRequest(templateId, flavor.getName(), flavor.getPricing(),
-                            region, billingMode);
             FlavorPriceResult flavorPriceResult = new FlavorPriceResult();
             flavorPriceResult.setFlavorName(flavor.getName());
             flavorPriceResult.setBillingMode(billingMode);
             flavorPriceResult.setSuccessful(true);
             try {
                 validateFlavorPriceMode(flavor.getPricing(), billingMode);
-                FlavorPriceResult flavorPrice =
-                        orchestratorPlugin.getServiceFlavorPrice(serviceFlavorPriceRequest);
-                flavorPriceResult.setRecurringPrice(flavorPrice.getRecurringPrice());
-                flavorPriceResult.setOneTimePaymentPrice(flavorPrice.getOneTimePaymentPrice());
+                serviceFlavorPriceRequests.add(getServiceFlavorPriceRequest(templateId,
+                        flavor.getName(), flavor.getPricing(), region, billingMode));
             } catch (Exception e) {
                 log.error("Get price of service flavor {} failed. {}", flavor.getName(),
                         e.getMessage());
@@ -117,6 +119,29 @@ public class ServicePricesManager {
             }
             priceResults.add(flavorPriceResult);
         }
+        Map<String, FlavorPriceResult> flavorPrices =
+                servicePriceCatalog.getFlavorPrices(serviceTemplate, region, billingMode,
+                        userServiceHelper.getCurrentUserId());
+        if (Objects.isNull(flavorPrices)) {
+            // the flavors are rated together, so the provider latency is paid once per page.
+            flavorPrices = servicePricingEngine.getFlavorPrices(orchestratorPlugin,
+                    serviceFlavorPriceRequests);
+        }
+        for (FlavorPriceResult flavorPriceResult : priceResults) {
+            FlavorPriceResult flavorPrice = flavorPrices.get(flavorPriceResult.getFlavorName());
+            if (Objects.isNull(flavorPrice)) {
+                continue;
+            }
+            if (flavorPrice.isSuccessful()) {
+                flavorPriceResult.setRecurringPrice(flavorPrice.getRecurringPrice());
+                flavorPriceResult.setOneTimePaymentPrice(flavorPrice.getOneTimePaymentPrice());
+                flavorPriceResult.setCalculatedTime(flavorPrice.getCalculatedTime());
+                flavorPriceResult.setIsStale(flavorPrice.getIsStale());
+            } else {
+                flavorPriceResult.setSuccessful(false);
+                flavorPriceResult.setErrorMessage(flavorPrice.getErrorMessage());
+            }
+        }
         return priceResults;
     }
 
@@ -136,9 +161,9 @@ public class ServicePricesManager {
         return serviceFlavorPriceRequest;
     }
 
-    private ServiceTemplateEntity getServiceTemplate(String templateId) {
-        ServiceTemplateEntity serviceTemplate =
-                templateStorage.getServiceTemplateById(UUID.fromString(templateId));
+    private CachedServiceTemplate getServiceTemplate(String templateId) {
+        CachedServiceTemplate serviceTemplate =
+                serviceTemplateCache.getServiceTemplate(UUID.fromString(templateId));
         if (Objects.isNull(serviceTemplate)) {
             String errMsg = String.format("Service template with id %s not found.", templateId);
             log.error(errMsg);
@@ -147,26 +172,23 @@ public class ServicePricesManager {
         return serviceTemplate;
     }
 
-    private RatingMode getServiceFlavorRatingMode(ServiceTemplateEntity serviceTemplate,
+    private RatingMode getServiceFlavorRatingMode(CachedServiceTemplate serviceTemplate,
                                                   String flavorName) {
-        Optional<ServiceFlavorWithPrice> flavorOptional =
-                serviceTemplate.getOcl().getFlavors().getServiceFlavors().stream()
-                        .filter(serviceFlavor -> serviceFlavor.getName().equals(flavorName))
-                        .findFirst();
-        if (flavorOptional.isEmpty()) {
+        ServiceFlavorWithPrice flavor = serviceTemplate.getFlavor(flavorName);
+        if (Objects.isNull(flavor)) {
             String errMsg = String.format("Flavor %s not found in service template with id %s.",
-                    flavorName, serviceTemplate.getId());
+                    flavorName, serviceTemplate.id());
             throw new ServicePriceCalculationFailed(errMsg);
         }
-        if (Objects.isNull(flavorOptional.get().getPricing())) {
+        if (Objects.isNull(flavor.getPricing())) {
             String errMsg = String.format("Flavor %s in service template with id %s has no "
-                    + "pricing.", flavorName, serviceTemplate.getId());
+                    + "pricing.", flavorName, serviceTemplate.id());
             throw new ServicePriceCalculationFailed(errMsg);
         }
-        return flavorOptional.get().getPricing();
+        return flavor.getPricing();
     }
 
-    private void validateFlavorPriceMode(RatingMode flavorPriceMode, BillingMode billingMode) {
+    static void validateFlavorPriceMode(RatingMode flavorPriceMode, BillingMode billingMode) {
         ResourceUsage resourceUsage = flavorPriceMode.getResourceUsage();
         if (BillingMode.PAY_PER_USE.equals(billingMode) && Objects.isNull(resourceUsage)) {
             String errorMsg = "BillingMode 'Pay-Per-Use' can not be supported due to "
@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.servicetemplate.price;
+
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.async.ServiceThreadPoolTaskExecutor;
+import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.price.ServiceFlavorPriceRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rates the flavors of a service with the cloud service provider. The flavors are rated with the
+ * batch rating API of the provider where it exists, the remaining flavors are rated concurrently
+ * with a bounded number of calls to the provider. Identical requests in flight are sent to the
+ * provider only once, and flavors not rated within the timeout are returned as failed, so one
+ * slow rating does not fail the prices of the other flavors.
+ */
+@Slf4j
+@Component
+public class ServicePricingEngine {
+
+    private final Map<ServiceFlavorPriceRequest, CompletableFuture<FlavorPriceResult>>
+            inFlightRatings = new ConcurrentHashMap<>();
+    private final long flavorTimeoutMillis;
+    private final ServiceThreadPoolTaskExecutor ratingExecutor;
+
+    /**
+     * Constructor for ServicePricingEngine.
+     *
+     * @param maxConcurrentRatings maximum number of ratings sent to the providers at once.
+     * @param flavorTimeoutSeconds seconds after which a flavor not yet rated is returned as failed.
+     */
+    public ServicePricingEngine(
+            @Value("${service.price.calculation.max.concurrent.ratings:8}")
+            int maxConcurrentRatings,
+            @Value("${service.price.calculation.flavor.timeout.in.seconds:10}")
+            long flavorTimeoutSeconds) {
+        this.flavorTimeoutMillis = TimeUnit.SECONDS.toMillis(flavorTimeoutSeconds);
+        this.ratingExecutor = new ServiceThreadPoolTaskExecutor();
+        this.ratingExecutor.setCorePoolSize(Math.max(1, maxConcurrentRatings));
+        this.ratingExecutor.setMaxPoolSize(Math.max(1, maxConcurrentRatings));
+        this.ratingExecutor.setThreadNamePrefix("service-price-rating-");
+        this.ratingExecutor.initialize();
+    }
+
+    /**
+     * Stop the ratings not finished yet.
+     */
+    @PreDestroy
+    public void shutdown() {
+        ratingExecutor.shutdown();
+    }
+
+    /**
+     * Get the prices of the flavors of a service. All requests are of the same user, in the same
+     * region and with the same billing mode.
+     *
+     * @param orchestratorPlugin plugin of the cloud service provider.
+     * @param requests           price requests of the flavors.
+     * @return price results by flavor name, failed results for the flavors not rated.
+     */
+    public Map<String, FlavorPriceResult> getFlavorPrices(
+            OrchestratorPlugin orchestratorPlugin, List<ServiceFlavorPriceRequest> requests) {
+        Map<String, FlavorPriceResult> priceResults = new HashMap<>();
+        if (requests.size() > 1) {
+            getFlavorPricesInBatch(orchestratorPlugin, requests).forEach((flavorName, price) ->
+                    priceResults.put(flavorName, getSuccessfulResult(flavorName, price)));
+        }
+        long deadlineNanos = getDeadlineNanos();
+        Map<String, CompletableFuture<FlavorPriceResult>> ratings = new HashMap<>();
+        for (ServiceFlavorPriceRequest request : requests) {
+            if (!priceResults.containsKey(request.getFlavorName())) {
+                ratings.put(request.getFlavorName(), rate(orchestratorPlugin, request));
+            }
+        }
+        ratings.forEach((flavorName, rating) ->
+                priceResults.put(flavorName, waitForRating(flavorName, rating, deadlineNanos)));
+        return priceResults;
+    }
+
+    private Map<String, FlavorPriceResult> getFlavorPricesInBatch(
+            OrchestratorPlugin orchestratorPlugin, List<ServiceFlavorPriceRequest> requests) {
+        try {
+            Map<String, FlavorPriceResult> batchResults = CompletableFuture.supplyAsync(
+                            () -> orchestratorPlugin.getServiceFlavorPricesInBatch(requests),
+                            ratingExecutor)
+                    .get(flavorTimeoutMillis, TimeUnit.MILLISECONDS);
+            return Objects.isNull(batchResults) ? Map.of() : batchResults;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Batch rating of {} flavors failed, rating the flavors one by one. {}",
+                    requests.size(), e.getMessage());
+            return Map.of();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Map.of();
+        }
+    }
+
+    private CompletableFuture<FlavorPriceResult> rate(OrchestratorPlugin orchestratorPlugin,
+                                                      ServiceFlavorPriceRequest request) {
+        CompletableFuture<FlavorPriceResult> newRating = new CompletableFuture<>();
+        CompletableFuture<FlavorPriceResult> inFlightRating =
+                inFlightRatings.putIfAbsent(request, newRating);
+        if (Objects.nonNull(inFlightRating)) {
+            return inFlightRating;
+        }
+        CompletableFuture.supplyAsync(
+                        () -> orchestratorPlugin.getServiceFlavorPrice(request), ratingExecutor)
+                .whenComplete((result, throwable) -> {
+                    inFlightRatings.remove(request, newRating);
+                    if (Objects.isNull(throwable)) {
+                        newRating.complete(result);
+                    } else {
+                        newRating.completeExceptionally(throwable);
+                    }
+                });
+        return newRating;
+    }
+
+    private FlavorPriceResult waitForRating(String flavorName,
+                                            CompletableFuture<FlavorPriceResult> rating,
+                                            long deadlineNanos) {
+        try {
+            return getSuccessfulResult(flavorName,
+                    rating.get(remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS));
+        } catch (ExecutionException e) {
+            Throwable cause = Objects.isNull(e.getCause()) ? e : e.getCause();
+            log.error("Get price of service flavor {} failed. {}", flavorName,
+                    cause.getMessage());
+            return getFailedResult(flavorName, cause.getMessage());
+        } catch (TimeoutException e) {
+            String errorMsg = String.format("Get price of service flavor %s timed out after %d "
+                    + "milliseconds.", flavorName, flavorTimeoutMillis);
+            log.error(errorMsg);
+            return getFailedResult(flavorName, errorMsg);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return getFailedResult(flavorName, "Get price of service flavor interrupted.");
+        }
+    }
+
+    private long getDeadlineNanos() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flavorTimeoutMillis);
+    }
+
+    private long remainingNanos(long deadlineNanos) {
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    private FlavorPriceResult getSuccessfulResult(String flavorName, FlavorPriceResult price) {
+        // the results of the plugins may be cached, they are copied instead of changed.
+        FlavorPriceResult priceResult = new FlavorPriceResult();
+        priceResult.setFlavorName(flavorName);
+        priceResult.setRecurringPrice(price.getRecurringPrice());
+        priceResult.setOneTimePaymentPrice(price.getOneTimePaymentPrice());
+        priceResult.setSuccessful(true);
+        return priceResult;
+    }
+
+    private FlavorPriceResult getFailedResult(String flavorName, String errorMsg) {
+        FlavorPriceResult priceResult = new FlavorPriceResult();
+        priceResult.setFlavorName(flavorName);
+        priceResult.setSuccessful(false);
+        priceResult.setErrorMessage(errorMsg);
+        return priceResult;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.servicetemplate.utils;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.CodegenConfigLoader;
+import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
+import org.openapitools.codegen.templating.MustacheEngineAdapter;
+import org.openapitools.codegen.utils.ImplementationVersion;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders the HTML document of an OpenAPI specification with the html2 generator of
+ * openapi-generator, inside the current JVM. The template engine is shared by all renderings.
+ */
+@Slf4j
+@Component
+public class OpenApiHtmlRenderer {
+
+    private static final String GENERATOR_NAME = "html2";
+    private static final String GENERATED_HTML_FILE_NAME = "index.html";
+    private final TemplatingEngineAdapter templatingEngine = new MustacheEngineAdapter();
+
+    /**
+     * Get the version of the generator. Documents rendered by different versions of the
+     * generator differ.
+     *
+     * @return version of the generator.
+     */
+    public String getVersion() {
+        return GENERATOR_NAME + ":" + ImplementationVersion.read();
+    }
+
+    /**
+     * Render the HTML document of the OpenAPI specification.
+     *
+     * @param apiDocs  OpenAPI specification in JSON or YAML.
+     * @param htmlFile file to which the HTML document is written. The file is replaced at once,
+     *                 so it is never read half written.
+     */
+    public void render(String apiDocs, Path htmlFile) throws IOException {
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        SwaggerParseResult parseResult =
+                new OpenAPIParser().readContents(apiDocs, null, parseOptions);
+        OpenAPI openApi = parseResult.getOpenAPI();
+        if (Objects.isNull(openApi)) {
+            throw new IOException("Invalid OpenAPI specification: " + parseResult.getMessages());
+        }
+        Path outputDir = Files.createTempDirectory(htmlFile.toAbsolutePath().getParent(),
+                ".openapi-");
+        try {
+            CodegenConfig codegenConfig = CodegenConfigLoader.forName(GENERATOR_NAME);
+            codegenConfig.setOutputDir(outputDir.toString());
+            codegenConfig.setTemplatingEngine(templatingEngine);
+            DefaultGenerator generator = new DefaultGenerator();
+            generator.setGenerateMetadata(false);
+            generator.opts(new ClientOptInput().openAPI(openApi).config(codegenConfig))
+                    .generate();
+            Path generatedHtml = outputDir.resolve(GENERATED_HTML_FILE_NAME);
+            if (!Files.exists(generatedHtml)) {
+                throw new IOException("No HTML document generated by " + GENERATOR_NAME + ".");
+            }
+            Files.move(generatedHtml, htmlFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            FileUtils.deleteQuietly(outputDir.toFile());
+        }
+    }
+}
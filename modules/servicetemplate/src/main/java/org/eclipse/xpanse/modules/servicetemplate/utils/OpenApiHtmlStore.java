@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ *
+ */
+
+package org.eclipse.xpanse.modules.servicetemplate.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.common.openapi.OpenApiGeneratorJarManage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content-addressed store of the rendered OpenAPI HTML documents.
+ *
+ * <p>Each document is rendered once per distinct specification into the cache directory, named
+ * by the digest of the specification and of the generator version. The published document is a
+ * copy of the cached one in the OpenAPI work directory, from where it is served. The digest is
+ * the ETag of the published document.
+ */
+@Slf4j
+@Component
+public class OpenApiHtmlStore {
+
+    private static final String CACHE_DIR_NAME = ".cache";
+    private static final String HTML_FILE_EXTENSION = ".html";
+    private final OpenApiGeneratorJarManage openApiGeneratorJarManage;
+    private final OpenApiHtmlRenderer openApiHtmlRenderer;
+    private final Map<String, String> publishedDigests = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> renderLocks = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for OpenApiHtmlStore.
+     *
+     * @param openApiGeneratorJarManage provides the OpenAPI work directory.
+     * @param openApiHtmlRenderer       renders the HTML documents.
+     */
+    @Autowired
+    public OpenApiHtmlStore(OpenApiGeneratorJarManage openApiGeneratorJarManage,
+                            OpenApiHtmlRenderer openApiHtmlRenderer) {
+        this.openApiGeneratorJarManage = openApiGeneratorJarManage;
+        this.openApiHtmlRenderer = openApiHtmlRenderer;
+    }
+
+    /**
+     * Publish the HTML document of the OpenAPI specification. The document is only rendered
+     * when no document of the same specification is in the cache.
+     *
+     * @param fileName name of the published HTML file.
+     * @param apiDocs  OpenAPI specification.
+     * @return digest of the published document.
+     */
+    public String publish(String fileName, String apiDocs) throws IOException {
+        String digest = getDigest(openApiHtmlRenderer.getVersion() + "\n" + apiDocs);
+        Path publishedHtml = getWorkdir().resolve(fileName);
+        if (digest.equals(publishedDigests.get(fileName)) && Files.exists(publishedHtml)) {
+            return digest;
+        }
+        Path cachedHtml = getCachedHtml(digest);
+        ReentrantLock renderLock = renderLocks.computeIfAbsent(digest, key -> new ReentrantLock());
+        renderLock.lock();
+        try {
+            if (!Files.exists(cachedHtml)) {
+                openApiHtmlRenderer.render(apiDocs, cachedHtml);
+                log.info("Rendered openApi html file:{} into the cache.", cachedHtml.getFileName());
+            }
+        } finally {
+            renderLock.unlock();
+            renderLocks.remove(digest, renderLock);
+        }
+        Path tempHtml = Files.createTempFile(getWorkdir(), ".publish-", HTML_FILE_EXTENSION);
+        try {
+            Files.copy(cachedHtml, tempHtml, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempHtml, publishedHtml, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempHtml);
+        }
+        String previousDigest = publishedDigests.put(fileName, digest);
+        if (Objects.nonNull(previousDigest) && !previousDigest.equals(digest)) {
+            deleteIfUnreferenced(previousDigest);
+        }
+        return digest;
+    }
+
+    /**
+     * Check if the HTML document is published.
+     *
+     * @param fileName name of the published HTML file.
+     * @return true if the document is published.
+     */
+    public boolean exists(String fileName) {
+        return Files.exists(getWorkdir().resolve(fileName));
+    }
+
+    /**
+     * Delete the published HTML document.
+     *
+     * @param fileName name of the published HTML file.
+     */
+    public void delete(String fileName) throws IOException {
+        Files.deleteIfExists(getWorkdir().resolve(fileName));
+        String digest = publishedDigests.remove(fileName);
+        if (Objects.nonNull(digest)) {
+            deleteIfUnreferenced(digest);
+        }
+    }
+
+    /**
+     * Get the ETag of the published HTML document.
+     *
+     * @param fileName name of the published HTML file.
+     * @return ETag or null when the document is not published by this store.
+     */
+    public String getEtag(String fileName) {
+        return Objects.isNull(fileName) ? null : publishedDigests.get(fileName);
+    }
+
+    /**
+     * Delete the cached documents which are not published anymore.
+     */
+    public void deleteUnreferenced() throws IOException {
+        Set<String> referencedFileNames = new HashSet<>();
+        publishedDigests.values()
+                .forEach(digest -> referencedFileNames.add(digest + HTML_FILE_EXTENSION));
+        try (DirectoryStream<Path> cachedFiles = Files.newDirectoryStream(getCacheDir(),
+                "*" + HTML_FILE_EXTENSION)) {
+            for (Path cachedFile : cachedFiles) {
+                if (!referencedFileNames.contains(cachedFile.getFileName().toString())) {
+                    Files.deleteIfExists(cachedFile);
+                }
+            }
+        }
+    }
+
+    private void deleteIfUnreferenced(String digest) throws IOException {
+        if (!publishedDigests.containsValue(digest)) {
+            Files.deleteIfExists(getCachedHtml(digest));
+        }
+    }
+
+    private Path getCachedHtml(String digest) throws IOException {
+        return getCacheDir().resolve(digest + HTML_FILE_EXTENSION);
+    }
+
+    private Path getCacheDir() throws IOException {
+        return Files.createDirectories(getWorkdir().resolve(CACHE_DIR_NAME));
+    }
+
+    private Path getWorkdir() {
+        return Path.of(openApiGeneratorJarManage.getOpenApiWorkdir());
+    }
+
+    private String getDigest(String content) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(
+                    messageDigest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
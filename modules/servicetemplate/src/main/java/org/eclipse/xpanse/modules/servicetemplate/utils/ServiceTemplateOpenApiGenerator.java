@@ -9,24 +9,20 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.constraints.NotNull;
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.eclipse.xpanse.common.openapi.OpenApiGeneratorJarManage;
 import org.eclipse.xpanse.common.openapi.OpenApiUrlManage;
 import org.eclipse.xpanse.modules.async.TaskConfiguration;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
@@ -42,13 +38,15 @@ import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceHostingTyp
 import org.eclipse.xpanse.modules.models.servicetemplate.exceptions.ServiceTemplateNotRegistered;
 import org.eclipse.xpanse.modules.orchestrator.PluginManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
 /**
- * Bean to generate OpenApi files for registered services.
+ * Bean to generate OpenApi files for registered services. The HTML documents are rendered in the
+ * current JVM and published through the {@link OpenApiHtmlStore}.
  */
 @Component
 @Slf4j
@@ -61,8 +59,10 @@ public class ServiceTemplateOpenApiGenerator {
     private static final String JSON_SCHEMA_DEF_EXAMPLE_KEYWORD = "examples";
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final OpenApiUrlManage openApiUrlManage;
-    private final OpenApiGeneratorJarManage openApiGeneratorJarManage;
+    private final OpenApiHtmlStore openApiHtmlStore;
     private final PluginManager pluginManager;
+    private final int maxConcurrentGenerations;
+    private final Executor generationExecutor;
     @Value("${enable.web.security:false}")
     private Boolean webSecurityIsEnabled;
     @Value("${enable.role.protection:false}")
@@ -71,16 +71,26 @@ public class ServiceTemplateOpenApiGenerator {
     /**
      * Constructor to instantiate ServiceTemplateOpenApiGenerator bean.
      *
-     * @param openApiUrlManage          OpenApiUrlManage bean
-     * @param openApiGeneratorJarManage OpenApiGeneratorJarManage bean
+     * @param openApiUrlManage         OpenApiUrlManage bean
+     * @param openApiHtmlStore         OpenApiHtmlStore bean
+     * @param pluginManager            PluginManager bean
+     * @param maxConcurrentGenerations maximum number of documents generated in parallel when
+     *                                 the documents of many services are generated again.
+     * @param generationExecutor       executor generating the documents in parallel.
      */
     @Autowired
-    public ServiceTemplateOpenApiGenerator(OpenApiUrlManage openApiUrlManage,
-                                           OpenApiGeneratorJarManage openApiGeneratorJarManage,
-                                           PluginManager pluginManager) {
+    public ServiceTemplateOpenApiGenerator(
+            OpenApiUrlManage openApiUrlManage,
+            OpenApiHtmlStore openApiHtmlStore,
+            PluginManager pluginManager,
+            @Value("${openapi.generator.max.concurrent.generations:2}")
+            int maxConcurrentGenerations,
+            @Qualifier(TaskConfiguration.ASYNC_EXECUTOR_NAME) Executor generationExecutor) {
         this.openApiUrlManage = openApiUrlManage;
-        this.openApiGeneratorJarManage = openApiGeneratorJarManage;
+        this.openApiHtmlStore = openApiHtmlStore;
         this.pluginManager = pluginManager;
+        this.maxConcurrentGenerations = Math.max(1, maxConcurrentGenerations);
+        this.generationExecutor = generationExecutor;
     }
 
     /**
@@ -94,9 +104,7 @@ public class ServiceTemplateOpenApiGenerator {
             throw new ServiceTemplateNotRegistered("Registered service is null.");
         }
         String id = serviceTemplateEntity.getId().toString();
-        File apiFile = new File(this.openApiGeneratorJarManage.getOpenApiWorkdir(),
-                id + OPENAPI_FILE_EXTENSION);
-        if (apiFile.exists()) {
+        if (openApiHtmlStore.exists(id + OPENAPI_FILE_EXTENSION)) {
             return this.openApiUrlManage.getOpenApiUrl(id);
         } else {
             return createServiceApi(serviceTemplateEntity);
@@ -114,20 +122,52 @@ public class ServiceTemplateOpenApiGenerator {
     }
 
     /**
-     * Update OpenApi document for registered service.
+     * Update OpenApi document for registered service. The old document is served until the new
+     * one is published.
      *
      * @param registerService Registered services.
      */
     @Async(TaskConfiguration.ASYNC_EXECUTOR_NAME)
     public void updateServiceApi(ServiceTemplateEntity registerService) {
-        File file = new File(this.openApiGeneratorJarManage.getOpenApiWorkdir(),
-                registerService.getId() + OPENAPI_FILE_EXTENSION);
-        if (file.exists()) {
-            log.info("Delete old openApi file:{}, success:{}", file.getName(), file.delete());
-        }
         createServiceApi(registerService);
     }
 
+    /**
+     * Generate the OpenApi documents of the registered services again, in parallel. Documents
+     * whose specification did not change are taken from the cache. The services are split into
+     * at most the maximum number of concurrent generations, each generated one by one.
+     *
+     * @param registerServices Registered services.
+     */
+    public void regenerateServiceApis(List<ServiceTemplateEntity> registerServices) {
+        List<List<ServiceTemplateEntity>> generations = new ArrayList<>();
+        for (int i = 0; i < registerServices.size(); i++) {
+            if (i < maxConcurrentGenerations) {
+                generations.add(new ArrayList<>());
+            }
+            generations.get(i % maxConcurrentGenerations).add(registerServices.get(i));
+        }
+        List<CompletableFuture<Void>> futures = generations.stream()
+                .map(services -> CompletableFuture.runAsync(
+                        () -> services.forEach(this::regenerateServiceApi), generationExecutor))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        try {
+            openApiHtmlStore.deleteUnreferenced();
+        } catch (IOException e) {
+            log.error("Delete unreferenced openApi html files failed.", e);
+        }
+        log.info("Regenerated openApi of {} services.", registerServices.size());
+    }
+
+    private void regenerateServiceApi(ServiceTemplateEntity registerService) {
+        try {
+            createServiceApi(registerService);
+        } catch (RuntimeException e) {
+            log.error("Regenerate openApi of service {} failed.", registerService.getId(), e);
+        }
+    }
+
     /**
      * Delete OpenApi document for registered service using the ID.
      *
@@ -135,10 +175,11 @@ public class ServiceTemplateOpenApiGenerator {
      */
     @Async(TaskConfiguration.ASYNC_EXECUTOR_NAME)
     public void deleteServiceApi(String id) {
-        File file = new File(this.openApiGeneratorJarManage.getOpenApiWorkdir(),
-                id + OPENAPI_FILE_EXTENSION);
-        if (file.exists()) {
-            log.info("Delete openApi html file:{}, success:{}", file.getName(), file.delete());
+        try {
+            openApiHtmlStore.delete(id + OPENAPI_FILE_EXTENSION);
+            log.info("Deleted openApi html file of service:{}.", id);
+        } catch (IOException e) {
+            log.error("Delete openApi html file of service:{} failed.", id, e);
         }
     }
 
@@ -150,81 +191,19 @@ public class ServiceTemplateOpenApiGenerator {
     public String createServiceApi(ServiceTemplateEntity registerService) {
         // ID of registered service.
         String serviceId = registerService.getId().toString();
-        String yamlFileName = serviceId + ".yaml";
-        String openApiDir = this.openApiGeneratorJarManage.getOpenApiWorkdir();
-        File yamlFile = new File(openApiDir, yamlFileName);
-        File htmlFile = new File(openApiDir, serviceId + OPENAPI_FILE_EXTENSION);
         try {
-            if (yamlFile.exists()) {
-                log.info("Service openApi is being generated. serviceId:{}", serviceId);
-                return this.openApiUrlManage.getOpenApiUrl(serviceId);
-            } else {
-                String apiDocsJson = getApiDocsJson(registerService);
-                try (FileWriter apiWriter = new FileWriter(yamlFile.getPath())) {
-                    apiWriter.write(apiDocsJson);
-                }
-                log.info("Service openApi yamlFile:{} create successful.", yamlFile.getPath());
-            }
-            File jarPath = getJarPath();
-            if (yamlFile.exists() && jarPath.exists()) {
-                String comm = String.format("java -jar %s generate -g html2 " + "-i %s -o %s",
-                        jarPath.getPath(), yamlFile.getPath(), openApiDir);
-                Process exec = Runtime.getRuntime().exec(comm.split("\\s+"));
-                StringBuilder stdErrOut = new StringBuilder();
-                BufferedReader outputReader =
-                        new BufferedReader(new InputStreamReader(exec.getErrorStream()));
-                String line;
-                while ((line = outputReader.readLine()) != null) {
-                    stdErrOut.append(line);
-                    log.error(line);
-                }
-                exec.waitFor();
-                if (exec.exitValue() != 0) {
-                    log.error("Create service openApi html file failed." + stdErrOut);
-                }
-                // Modify the file name to serviceId.html
-                File tempHtmlFile = new File(openApiDir, "index.html");
-                if (tempHtmlFile.exists() && (tempHtmlFile.renameTo(htmlFile))) {
-                    log.info("Created service openApi html file:{} successfully.",
-                            htmlFile.getName());
-                    if (htmlFile.exists()) {
-                        return this.openApiUrlManage.getOpenApiUrl(serviceId);
-                    }
-
-                }
-            } else {
-                log.error("Not generating {} file. Missing json or openapi-generator jar file",
-                        htmlFile.getName());
-            }
-            return StringUtils.EMPTY;
-        } catch (IOException | InterruptedException | RuntimeException ex) {
+            String digest = openApiHtmlStore.publish(serviceId + OPENAPI_FILE_EXTENSION,
+                    getApiDocsJson(registerService));
+            log.info("Published service openApi html file of service:{} with digest:{}.",
+                    serviceId, digest);
+            return this.openApiUrlManage.getOpenApiUrl(serviceId);
+        } catch (IOException | RuntimeException ex) {
             log.error("Create service openApi html file error:", ex);
             throw new OpenApiFileGenerationException(
                     "Create service openApi html file error: " + ex.getMessage());
-        } finally {
-            // Delete the temp file named serviceId.yaml
-            if (yamlFile.exists()) {
-                try {
-                    Files.delete(yamlFile.toPath());
-                    log.info("Deleted temp yaml file:{} successfully.", yamlFile.getName());
-                } catch (IOException ioException) {
-                    log.info("Deleting temp yaml file:{} failed.", yamlFile.getName(), ioException);
-
-                }
-            }
         }
     }
 
-    /**
-     * Get the path of the openapi-generator-cli.jar used.
-     *
-     * @return File The openapi-generator-cli.jar path.
-     */
-    private File getJarPath() throws IOException {
-        return this.openApiGeneratorJarManage.getCliFile();
-    }
-
-
     private String getApiDocsJson(ServiceTemplateEntity registerService) {
         if (Objects.isNull(registerService)) {
             return StringUtils.EMPTY;
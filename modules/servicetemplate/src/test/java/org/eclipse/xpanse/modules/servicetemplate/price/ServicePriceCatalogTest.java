@@ -0,0 +1,254 @@
+package org.eclipse.xpanse.modules.servicetemplate.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.eclipse.xpanse.modules.database.serviceprice.ServicePriceSnapshotEntity;
+import org.eclipse.xpanse.modules.database.serviceprice.ServicePriceSnapshotStorage;
+import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
+import org.eclipse.xpanse.modules.deployment.cache.CachedServiceTemplate;
+import org.eclipse.xpanse.modules.deployment.cache.ServiceTemplateCache;
+import org.eclipse.xpanse.modules.cache.credential.CredentialCacheKey;
+import org.eclipse.xpanse.modules.cache.credential.CredentialChangedEvent;
+import org.eclipse.xpanse.modules.models.billing.Billing;
+import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
+import org.eclipse.xpanse.modules.models.billing.Price;
+import org.eclipse.xpanse.modules.models.billing.RatingMode;
+import org.eclipse.xpanse.modules.models.billing.ResourceUsage;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.eclipse.xpanse.modules.models.credential.enums.CredentialType;
+import org.eclipse.xpanse.modules.models.servicetemplate.CloudServiceProvider;
+import org.eclipse.xpanse.modules.models.servicetemplate.Ocl;
+import org.eclipse.xpanse.modules.models.servicetemplate.Region;
+import org.eclipse.xpanse.modules.models.servicetemplate.ServiceFlavorWithPrice;
+import org.eclipse.xpanse.modules.models.servicetemplate.enums.ServiceRegistrationState;
+import org.eclipse.xpanse.modules.models.servicetemplate.exceptions.ServiceTemplateNotRegistered;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.PluginManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class ServicePriceCatalogTest {
+
+    private static final String REGION_NAME = "region";
+    private static final String USER_ID = "userId";
+
+    private final PluginManager pluginManager = mock(PluginManager.class);
+    private final ServiceTemplateCache serviceTemplateCache = mock(ServiceTemplateCache.class);
+    private final ServiceTemplateStorage serviceTemplateStorage =
+            mock(ServiceTemplateStorage.class);
+    private final ServicePriceSnapshotStorage servicePriceSnapshotStorage =
+            mock(ServicePriceSnapshotStorage.class);
+    private final ServicePricingEngine servicePricingEngine = mock(ServicePricingEngine.class);
+    private final ServiceFlavorPriceStore serviceFlavorPriceStore =
+            mock(ServiceFlavorPriceStore.class);
+    private final OrchestratorPlugin orchestratorPlugin = mock(OrchestratorPlugin.class);
+    private final CachedServiceTemplate serviceTemplate = getServiceTemplate();
+    private ServicePriceCatalog servicePriceCatalog;
+
+    @BeforeEach
+    void setUp() {
+        when(pluginManager.getOrchestratorPlugin(Csp.HUAWEI_CLOUD)).thenReturn(orchestratorPlugin);
+        when(serviceTemplateCache.getServiceTemplate(serviceTemplate.id()))
+                .thenReturn(serviceTemplate);
+        when(servicePricingEngine.getFlavorPrices(any(), any())).thenReturn(
+                Map.of("small", getPrice()));
+        servicePriceCatalog = getServicePriceCatalog(60);
+    }
+
+    @Test
+    void testGetFlavorPricesFromMemory() {
+        Map<String, FlavorPriceResult> firstPrices = servicePriceCatalog.getFlavorPrices(
+                serviceTemplate, REGION_NAME, BillingMode.FIXED, USER_ID);
+        Map<String, FlavorPriceResult> secondPrices = servicePriceCatalog.getFlavorPrices(
+                serviceTemplate, REGION_NAME, BillingMode.FIXED, USER_ID);
+
+        assertEquals(BigDecimal.ONE, secondPrices.get("small").getRecurringPrice().getCost());
+        assertEquals(BillingMode.FIXED, secondPrices.get("small").getBillingMode());
+        assertNotNull(secondPrices.get("small").getCalculatedTime());
+        assertFalse(secondPrices.get("small").getIsStale());
+        assertEquals(firstPrices, secondPrices);
+        verify(servicePricingEngine, times(1)).getFlavorPrices(any(), any());
+        verify(servicePriceSnapshotStorage, times(1)).storeAndFlush(any());
+    }
+
+    @Test
+    void testStoreSnapshotAddedConcurrently() {
+        when(servicePriceSnapshotStorage.storeAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenReturn(new ServicePriceSnapshotEntity());
+
+        assertNotNull(servicePriceCatalog.getFlavorPrices(serviceTemplate, REGION_NAME,
+                BillingMode.FIXED, USER_ID));
+        // stored again to update the snapshot added by the other instance.
+        verify(servicePriceSnapshotStorage, times(2)).storeAndFlush(any());
+    }
+
+    @Test
+    void testUserSpecificPricesAreCataloguedPerUser() {
+        when(orchestratorPlugin.isFlavorPriceUserSpecific(BillingMode.PAY_PER_USE))
+                .thenReturn(true);
+
+        assertNotNull(servicePriceCatalog.getFlavorPrices(serviceTemplate, REGION_NAME,
+                BillingMode.PAY_PER_USE, USER_ID));
+        assertNotNull(servicePriceCatalog.getFlavorPrices(serviceTemplate, REGION_NAME,
+                BillingMode.PAY_PER_USE, USER_ID));
+        assertNotNull(servicePriceCatalog.getFlavorPrices(serviceTemplate, REGION_NAME,
+                BillingMode.PAY_PER_USE, "otherUserId"));
+        assertNull(servicePriceCatalog.getFlavorPrices(serviceTemplate, REGION_NAME,
+                BillingMode.PAY_PER_USE, null));
+        assertNull(servicePriceCatalog.getFlavorPrices(serviceTemplate, "unknown",
+                BillingMode.FIXED, USER_ID));
+        // rated once for each user.
+        verify(servicePricingEngine, times(2)).getFlavorPrices(any(), any());
+        ArgumentCaptor<ServicePriceSnapshotEntity> snapshotCaptor =
+                ArgumentCaptor.forClass(ServicePriceSnapshotEntity.class);
+        verify(servicePriceSnapshotStorage, times(2)).storeAndFlush(snapshotCaptor.capture());
+        assertEquals(USER_ID, snapshotCaptor.getAllValues().getFirst().getUserId());
+    }
+
+    @Test
+    void testUserSpecificPricesRemovedWithChangedCredentials() {
+        when(orchestratorPlugin.isFlavorPriceUserSpecific(BillingMode.PAY_PER_USE))
+                .thenReturn(true);
+        servicePriceCatalog.getFlavorPrices(serviceTemplate, REGION_NAME, BillingMode.FIXED,
+                USER_ID);
+        servicePriceCatalog.getFlavorPrices(serviceTemplate, REGION_NAME,
+                BillingMode.PAY_PER_USE, USER_ID);
+        assertEquals(2, servicePriceCatalog.getCatalogEntriesCount());
+
+        servicePriceCatalog.onCredentialChanged(new CredentialChangedEvent(
+                new CredentialCacheKey(Csp.HUAWEI_CLOUD, CredentialType.VARIABLES, "AK_SK",
+                        USER_ID)));
+
+        // the prices shared by all users are kept.
+        assertEquals(1, servicePriceCatalog.getCatalogEntriesCount());
+        verify(servicePriceSnapshotStorage).deleteSnapshot(serviceTemplate.id(), REGION_NAME,
+                BillingMode.PAY_PER_USE, USER_ID);
+    }
+
+    @Test
+    void testFailedRatingIsNotCatalogued() {
+        FlavorPriceResult failedPrice = new FlavorPriceResult();
+        failedPrice.setSuccessful(false);
+        when(servicePricingEngine.getFlavorPrices(any(), any())).thenReturn(
+                Map.of("small", failedPrice));
+
+        assertNull(servicePriceCatalog.getFlavorPrices(serviceTemplate, REGION_NAME,
+                BillingMode.FIXED, USER_ID));
+        // not rated again with each request, but with the next refresh.
+        assertNull(servicePriceCatalog.getFlavorPrices(serviceTemplate, REGION_NAME,
+                BillingMode.FIXED, USER_ID));
+        verify(servicePricingEngine, times(1)).getFlavorPrices(any(), any());
+        verify(servicePriceSnapshotStorage, never()).storeAndFlush(any());
+
+        when(servicePricingEngine.getFlavorPrices(any(), any())).thenReturn(
+                Map.of("small", getPrice()));
+        servicePriceCatalog.refreshDuePrices();
+
+        assertEquals(1, servicePriceCatalog.getCatalogEntriesCount());
+    }
+
+    @Test
+    void testLoadSnapshots() {
+        ServicePriceSnapshotEntity snapshot = new ServicePriceSnapshotEntity();
+        snapshot.setServiceTemplateId(serviceTemplate.id());
+        snapshot.setRegionName(REGION_NAME);
+        snapshot.setBillingMode(BillingMode.FIXED, USER_ID);
+        snapshot.setFlavorPrices(List.of(getPrice()));
+        snapshot.setCalculatedTime(OffsetDateTime.now().minusHours(2));
+        when(servicePriceSnapshotStorage.listSnapshots()).thenReturn(List.of(snapshot));
+
+        servicePriceCatalog.loadSnapshots();
+        Map<String, FlavorPriceResult> prices = servicePriceCatalog.getFlavorPrices(
+                serviceTemplate, REGION_NAME, BillingMode.FIXED, USER_ID);
+
+        assertEquals(BigDecimal.ONE, prices.get("small").getRecurringPrice().getCost());
+        assertTrue(prices.get("small").getIsStale());
+        verify(servicePricingEngine, never()).getFlavorPrices(any(), any());
+    }
+
+    @Test
+    void testRefreshDuePrices() {
+        servicePriceCatalog = getServicePriceCatalog(0);
+        servicePriceCatalog.getFlavorPrices(serviceTemplate, REGION_NAME, BillingMode.FIXED, USER_ID);
+
+        servicePriceCatalog.refreshDuePrices();
+
+        verify(servicePricingEngine, times(2)).getFlavorPrices(any(), any());
+        // the prices cached by the plugin are removed before each rating.
+        verify(serviceFlavorPriceStore, times(2)).deleteFlavorPrice(any());
+    }
+
+    @Test
+    void testPrecomputeChangedServiceTemplate() {
+        servicePriceCatalog.precomputeServiceTemplate(serviceTemplate.id());
+
+        // one entry for each billing mode of the region.
+        assertEquals(2, servicePriceCatalog.getCatalogEntriesCount());
+
+        when(serviceTemplateCache.getServiceTemplate(serviceTemplate.id())).thenThrow(
+                new ServiceTemplateNotRegistered("not found"));
+        servicePriceCatalog.precomputeServiceTemplate(serviceTemplate.id());
+
+        assertEquals(0, servicePriceCatalog.getCatalogEntriesCount());
+        verify(servicePriceSnapshotStorage, times(2))
+                .deleteSnapshotsOfServiceTemplate(serviceTemplate.id());
+    }
+
+    private ServicePriceCatalog getServicePriceCatalog(long refreshIntervalInMinutes) {
+        return new ServicePriceCatalog(pluginManager, serviceTemplateCache,
+                serviceTemplateStorage, servicePriceSnapshotStorage, servicePricingEngine,
+                serviceFlavorPriceStore, true, refreshIntervalInMinutes, 10);
+    }
+
+    private CachedServiceTemplate getServiceTemplate() {
+        Region region = new Region();
+        region.setName(REGION_NAME);
+        CloudServiceProvider cloudServiceProvider = new CloudServiceProvider();
+        cloudServiceProvider.setName(Csp.HUAWEI_CLOUD);
+        cloudServiceProvider.setRegions(List.of(region));
+        Billing billing = new Billing();
+        billing.setBillingModes(List.of(BillingMode.FIXED, BillingMode.PAY_PER_USE));
+        Ocl ocl = new Ocl();
+        ocl.setCloudServiceProvider(cloudServiceProvider);
+        ocl.setBilling(billing);
+        RatingMode ratingMode = new RatingMode();
+        ratingMode.setFixedPrice(getPrice().getRecurringPrice());
+        ratingMode.setResourceUsage(new ResourceUsage());
+        ServiceFlavorWithPrice flavor = new ServiceFlavorWithPrice();
+        flavor.setName("small");
+        flavor.setPricing(ratingMode);
+        return new CachedServiceTemplate(UUID.randomUUID(), "name", "v1", Csp.HUAWEI_CLOUD,
+                null, null, null, ServiceRegistrationState.APPROVED, ocl, null,
+                Map.of("small", flavor), Set.of(), List.of());
+    }
+
+    private FlavorPriceResult getPrice() {
+        Price recurringPrice = new Price();
+        recurringPrice.setCost(BigDecimal.ONE);
+        FlavorPriceResult priceResult = new FlavorPriceResult();
+        priceResult.setFlavorName("small");
+        priceResult.setRecurringPrice(recurringPrice);
+        priceResult.setSuccessful(true);
+        return priceResult;
+    }
+}
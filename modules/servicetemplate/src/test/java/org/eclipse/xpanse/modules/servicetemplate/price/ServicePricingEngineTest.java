@@ -0,0 +1,139 @@
+package org.eclipse.xpanse.modules.servicetemplate.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
+import org.eclipse.xpanse.modules.models.billing.Price;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
+import org.eclipse.xpanse.modules.models.billing.exceptions.ServicePriceCalculationFailed;
+import org.eclipse.xpanse.modules.orchestrator.OrchestratorPlugin;
+import org.eclipse.xpanse.modules.orchestrator.price.ServiceFlavorPriceRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ServicePricingEngineTest {
+
+    private final ServicePricingEngine servicePricingEngine = new ServicePricingEngine(4, 2);
+    private final OrchestratorPlugin orchestratorPlugin = mock(OrchestratorPlugin.class);
+
+    @AfterEach
+    void tearDown() {
+        servicePricingEngine.shutdown();
+    }
+
+    @Test
+    void testGetFlavorPricesConcurrently() throws Exception {
+        CountDownLatch allRatingsStarted = new CountDownLatch(3);
+        when(orchestratorPlugin.getServiceFlavorPricesInBatch(any())).thenReturn(Map.of());
+        when(orchestratorPlugin.getServiceFlavorPrice(any())).thenAnswer(invocation -> {
+            allRatingsStarted.countDown();
+            // each rating waits until all of them run at the same time.
+            assertTrue(allRatingsStarted.await(5, TimeUnit.SECONDS));
+            return getPrice(BigDecimal.ONE);
+        });
+
+        Map<String, FlavorPriceResult> results = servicePricingEngine.getFlavorPrices(
+                orchestratorPlugin, List.of(getRequest("small"), getRequest("medium"),
+                        getRequest("large")));
+
+        assertEquals(3, results.size());
+        results.forEach((flavorName, result) -> {
+            assertTrue(result.isSuccessful());
+            assertEquals(flavorName, result.getFlavorName());
+            assertEquals(BigDecimal.ONE, result.getRecurringPrice().getCost());
+        });
+    }
+
+    @Test
+    void testGetFlavorPricesWithBatchRating() {
+        when(orchestratorPlugin.getServiceFlavorPricesInBatch(any())).thenReturn(
+                Map.of("small", getPrice(BigDecimal.ONE)));
+        when(orchestratorPlugin.getServiceFlavorPrice(any())).thenReturn(
+                getPrice(BigDecimal.TEN));
+
+        Map<String, FlavorPriceResult> results = servicePricingEngine.getFlavorPrices(
+                orchestratorPlugin, List.of(getRequest("small"), getRequest("large")));
+
+        assertEquals(BigDecimal.ONE, results.get("small").getRecurringPrice().getCost());
+        assertEquals(BigDecimal.TEN, results.get("large").getRecurringPrice().getCost());
+        verify(orchestratorPlugin, times(1)).getServiceFlavorPrice(any());
+    }
+
+    @Test
+    void testGetFlavorPricesWithPartialResults() {
+        ServiceFlavorPriceRequest failedRequest = getRequest("failed");
+        ServiceFlavorPriceRequest slowRequest = getRequest("slow");
+        when(orchestratorPlugin.getServiceFlavorPricesInBatch(any())).thenReturn(Map.of());
+        when(orchestratorPlugin.getServiceFlavorPrice(any())).thenReturn(
+                getPrice(BigDecimal.ONE));
+        when(orchestratorPlugin.getServiceFlavorPrice(failedRequest)).thenThrow(
+                new ServicePriceCalculationFailed("rating failed"));
+        when(orchestratorPlugin.getServiceFlavorPrice(slowRequest)).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return getPrice(BigDecimal.ONE);
+        });
+
+        Map<String, FlavorPriceResult> results = servicePricingEngine.getFlavorPrices(
+                orchestratorPlugin, List.of(getRequest("small"), failedRequest, slowRequest));
+
+        assertTrue(results.get("small").isSuccessful());
+        assertFalse(results.get("failed").isSuccessful());
+        assertEquals("rating failed", results.get("failed").getErrorMessage());
+        assertFalse(results.get("slow").isSuccessful());
+        assertTrue(results.get("slow").getErrorMessage().contains("timed out"));
+    }
+
+    @Test
+    void testIdenticalRequestsInFlightAreCoalesced() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(orchestratorPlugin.getServiceFlavorPrice(any())).thenAnswer(invocation -> {
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return getPrice(BigDecimal.ONE);
+        });
+
+        CompletableFuture<Map<String, FlavorPriceResult>> firstResults =
+                CompletableFuture.supplyAsync(() -> servicePricingEngine.getFlavorPrices(
+                        orchestratorPlugin, List.of(getRequest("small"))));
+        CompletableFuture<Map<String, FlavorPriceResult>> secondResults =
+                CompletableFuture.supplyAsync(() -> servicePricingEngine.getFlavorPrices(
+                        orchestratorPlugin, List.of(getRequest("small"))));
+        Thread.sleep(200);
+        release.countDown();
+
+        assertTrue(firstResults.get(5, TimeUnit.SECONDS).get("small").isSuccessful());
+        assertTrue(secondResults.get(5, TimeUnit.SECONDS).get("small").isSuccessful());
+        verify(orchestratorPlugin, times(1)).getServiceFlavorPrice(any());
+        verify(orchestratorPlugin, never()).getServiceFlavorPricesInBatch(any());
+    }
+
+    private ServiceFlavorPriceRequest getRequest(String flavorName) {
+        ServiceFlavorPriceRequest request = new ServiceFlavorPriceRequest();
+        request.setFlavorName(flavorName);
+        request.setUserId("userId");
+        request.setRegionName("region");
+        request.setBillingMode(BillingMode.PAY_PER_USE);
+        return request;
+    }
+
+    private FlavorPriceResult getPrice(BigDecimal cost) {
+        Price recurringPrice = new Price();
+        recurringPrice.setCost(cost);
+        FlavorPriceResult priceResult = new FlavorPriceResult();
+        priceResult.setRecurringPrice(recurringPrice);
+        return priceResult;
+    }
+}
@@ -0,0 +1,104 @@
+package org.eclipse.xpanse.modules.servicetemplate.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.eclipse.xpanse.common.openapi.OpenApiGeneratorJarManage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OpenApiHtmlStoreTest {
+
+    private final OpenApiHtmlRenderer openApiHtmlRenderer = mock(OpenApiHtmlRenderer.class);
+    @TempDir
+    private Path workdir;
+    private OpenApiHtmlStore openApiHtmlStore;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        OpenApiGeneratorJarManage openApiGeneratorJarManage =
+                mock(OpenApiGeneratorJarManage.class);
+        when(openApiGeneratorJarManage.getOpenApiWorkdir()).thenReturn(workdir.toString());
+        when(openApiHtmlRenderer.getVersion()).thenReturn("html2:7.7.0");
+        doAnswer(invocation -> {
+            Files.writeString(invocation.getArgument(1), "<html>"
+                    + invocation.getArgument(0) + "</html>");
+            return null;
+        }).when(openApiHtmlRenderer).render(any(), any());
+        openApiHtmlStore = new OpenApiHtmlStore(openApiGeneratorJarManage, openApiHtmlRenderer);
+    }
+
+    @Test
+    void testPublishRendersEachSpecificationOnce() throws Exception {
+        String digest = openApiHtmlStore.publish("service1.html", "apiDocs");
+
+        assertEquals(digest, openApiHtmlStore.publish("service2.html", "apiDocs"));
+        assertEquals(digest, openApiHtmlStore.publish("service1.html", "apiDocs"));
+        verify(openApiHtmlRenderer, times(1)).render(eq("apiDocs"), any());
+        assertEquals("<html>apiDocs</html>",
+                Files.readString(workdir.resolve("service1.html")));
+        assertEquals("<html>apiDocs</html>",
+                Files.readString(workdir.resolve("service2.html")));
+        assertEquals(digest, openApiHtmlStore.getEtag("service1.html"));
+    }
+
+    @Test
+    void testPublishChangedSpecification() throws Exception {
+        String digest = openApiHtmlStore.publish("service1.html", "apiDocs");
+
+        String changedDigest = openApiHtmlStore.publish("service1.html", "changedApiDocs");
+
+        assertNotEquals(digest, changedDigest);
+        assertEquals(changedDigest, openApiHtmlStore.getEtag("service1.html"));
+        assertEquals("<html>changedApiDocs</html>",
+                Files.readString(workdir.resolve("service1.html")));
+        assertEquals(1, countCachedFiles());
+    }
+
+    @Test
+    void testDelete() throws Exception {
+        openApiHtmlStore.publish("service1.html", "apiDocs");
+        openApiHtmlStore.publish("service2.html", "apiDocs");
+
+        openApiHtmlStore.delete("service1.html");
+
+        assertFalse(openApiHtmlStore.exists("service1.html"));
+        assertNull(openApiHtmlStore.getEtag("service1.html"));
+        assertEquals(1, countCachedFiles());
+
+        openApiHtmlStore.delete("service2.html");
+
+        assertEquals(0, countCachedFiles());
+    }
+
+    @Test
+    void testDeleteUnreferenced() throws Exception {
+        openApiHtmlStore.publish("service1.html", "apiDocs");
+        Files.writeString(workdir.resolve(".cache").resolve("unreferenced.html"), "<html/>");
+
+        openApiHtmlStore.deleteUnreferenced();
+
+        assertEquals(1, countCachedFiles());
+        assertTrue(openApiHtmlStore.exists("service1.html"));
+    }
+
+    private long countCachedFiles() throws Exception {
+        try (Stream<Path> cachedFiles = Files.list(workdir.resolve(".cache"))) {
+            return cachedFiles.count();
+        }
+    }
+}
@@ -28,14 +28,21 @@ import com.huaweicloud.sdk.iam.v3.IamClient;
 import com.huaweicloud.sdk.iam.v3.model.KeystoneListProjectsRequest;
 import com.huaweicloud.sdk.iam.v3.model.KeystoneListProjectsResponse;
 import com.huaweicloud.sdk.vpc.v2.VpcClient;
+import jakarta.annotation.PreDestroy;
 import jakarta.annotation.Resource;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.xpanse.modules.cache.client.CspClientCacheKey;
+import org.eclipse.xpanse.modules.cache.client.CspClientsStore;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.common.exceptions.ClientApiCallFailedException;
+import org.eclipse.xpanse.plugins.huaweicloudsdk.common.HuaweiCloudSdkClients;
+import org.eclipse.xpanse.plugins.huaweicloudsdk.common.HuaweiCloudSdkHttpResources;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -52,6 +59,11 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
     @Resource
     private FlexibleEngineRetryStrategy flexibleEngineRetryStrategy;
 
+    @Resource
+    private CspClientsStore cspClientsStore;
+
+    private final HuaweiCloudSdkHttpResources httpResources = new HuaweiCloudSdkHttpResources();
+
     /**
      * Get client for service ECS.
      *
@@ -60,8 +72,8 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service ECS.
      */
     public EcsClient getEcsClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, ECS_ENDPOINT_PREFIX, regionName);
-        return new EcsClient(hcClient);
+        return getClient(credential, regionName, EcsClient.class, ECS_ENDPOINT_PREFIX,
+                EcsClient::new);
     }
 
     /**
@@ -72,8 +84,8 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service CES.
      */
     public CesClient getCesClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, CES_ENDPOINT_PREFIX, regionName);
-        return new CesClient(hcClient);
+        return getClient(credential, regionName, CesClient.class, CES_ENDPOINT_PREFIX,
+                CesClient::new);
     }
 
     /**
@@ -84,8 +96,8 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service VPC.
      */
     public VpcClient getVpcClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, VPC_ENDPOINT_PREFIX, regionName);
-        return new VpcClient(hcClient);
+        return getClient(credential, regionName, VpcClient.class, VPC_ENDPOINT_PREFIX,
+                VpcClient::new);
     }
 
     /**
@@ -96,8 +108,8 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service EIP.
      */
     public EipClient getEipClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, EIP_ENDPOINT_PREFIX, regionName);
-        return new EipClient(hcClient);
+        return getClient(credential, regionName, EipClient.class, EIP_ENDPOINT_PREFIX,
+                EipClient::new);
     }
 
     /**
@@ -108,14 +120,23 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
      * @return client for service EVS.
      */
     public EvsClient getEvsClient(ICredential credential, String regionName) {
-        HcClient hcClient = getHcClient(credential, EVS_ENDPOINT_PREFIX, regionName);
-        return new EvsClient(hcClient);
+        return getClient(credential, regionName, EvsClient.class, EVS_ENDPOINT_PREFIX,
+                EvsClient::new);
+    }
+
+    /**
+     * Release the connection pool and thread pools shared by the SDK clients.
+     */
+    @PreDestroy
+    public void releaseHttpResources() {
+        httpResources.close();
     }
 
-    private HcClient getHcClient(ICredential credential, String servicePrefix, String regionName) {
+    private HcClient getHcClient(HttpConfig httpConfig, ICredential credentialWithProjectId,
+                                 String servicePrefix, String regionName) {
         String endpoint = PROTOCOL_HTTPS + servicePrefix + regionName + ENDPOINT_SUFFIX;
-        HcClient hcClient = new HcClient(getHttpConfig());
-        hcClient.withCredential(getCredentialWithProjectId(credential, regionName));
+        HcClient hcClient = new HcClient(httpConfig);
+        hcClient.withCredential(credentialWithProjectId);
         hcClient.withEndpoints(List.of(endpoint));
         return hcClient;
     }
@@ -133,10 +154,19 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
     }
 
     private String getProjectId(ICredential credential, String regionName) {
+        String credentialFingerprint = HuaweiCloudSdkClients.getCredentialFingerprint(credential);
+        if (Objects.isNull(credentialFingerprint)) {
+            return queryProjectId(credential, regionName);
+        }
+        return cspClientsStore.getProjectId(Csp.FLEXIBLE_ENGINE, credentialFingerprint,
+                regionName, () -> queryProjectId(credential, regionName));
+    }
+
+    private String queryProjectId(ICredential credential, String regionName) {
         String projectId = null;
         try {
             String endpoint = PROTOCOL_HTTPS + IAM_ENDPOINT_PREFIX + regionName + ENDPOINT_SUFFIX;
-            HcClient hcClient = new HcClient(HttpConfig.getDefaultHttpConfig());
+            HcClient hcClient = new HcClient(httpResources.getHttpConfig());
             hcClient.withCredential(credential);
             hcClient.withEndpoints(List.of(endpoint));
             IamClient iamClient = new IamClient(hcClient);
@@ -159,8 +189,23 @@ public class FlexibleEngineClient extends FlexibleEngineCredentials {
         }
     }
 
+    private <T> T getClient(ICredential credential, String regionName, Class<T> clientType,
+                            String servicePrefix, Function<HcClient, T> serviceClientBuilder) {
+        // the project id is queried before the lookup, not while the store builds the client.
+        ICredential credentialWithProjectId = getCredentialWithProjectId(credential, regionName);
+        Function<HttpConfig, T> clientBuilder = httpConfig -> serviceClientBuilder.apply(
+                getHcClient(httpConfig, credentialWithProjectId, servicePrefix, regionName));
+        CspClientCacheKey key = HuaweiCloudSdkClients.getClientKey(Csp.FLEXIBLE_ENGINE,
+                credential, regionName, clientType);
+        if (Objects.isNull(key)) {
+            return clientBuilder.apply(getHttpConfig());
+        }
+        return cspClientsStore.getClient(key, clientType,
+                () -> HuaweiCloudSdkClients.buildClient(getHttpConfig(), clientBuilder));
+    }
+
     private HttpConfig getHttpConfig() {
-        HttpConfig httpConfig = HttpConfig.getDefaultHttpConfig();
+        HttpConfig httpConfig = httpResources.getHttpConfig();
         if (sdkHttpDebugLogsEnabled) {
             HttpListener requestListener =
                     HttpListener.forRequestListener(this::outputRequestInfo);
@@ -4,6 +4,7 @@ import com.huaweicloud.sdk.core.auth.ICredential;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.eclipse.xpanse.modules.cache.client.CspClientsStore;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
 import org.eclipse.xpanse.modules.models.credential.CredentialVariable;
@@ -14,6 +15,7 @@ import org.eclipse.xpanse.plugins.flexibleengine.monitor.constant.FlexibleEngine
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 class FlexibleEngineClientTest {
 
@@ -22,6 +24,8 @@ class FlexibleEngineClientTest {
     @BeforeEach
     void setUp() {
         testClient = new FlexibleEngineClient();
+        ReflectionTestUtils.setField(testClient, "cspClientsStore",
+                new CspClientsStore(100, 60));
     }
 
     @Test
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.plugins.huaweicloudsdk.common;
+
+import com.huaweicloud.sdk.core.auth.BasicCredentials;
+import com.huaweicloud.sdk.core.auth.GlobalCredentials;
+import com.huaweicloud.sdk.core.auth.ICredential;
+import com.huaweicloud.sdk.core.http.HttpConfig;
+import java.util.Objects;
+import java.util.function.Function;
+import org.eclipse.xpanse.modules.cache.client.CspClient;
+import org.eclipse.xpanse.modules.cache.client.CspClientCacheKey;
+import org.eclipse.xpanse.modules.cache.client.CspClientsStore;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+
+/**
+ * Builds the keys and the clients of the Huawei Cloud SDK kept in the {@link CspClientsStore}.
+ * The SDK is used by the plugins of Huawei Cloud and FlexibleEngine.
+ */
+public final class HuaweiCloudSdkClients {
+
+    private HuaweiCloudSdkClients() {
+        // private constructor to block instantiation.
+    }
+
+    /**
+     * Build the key of an SDK client in the clients store.
+     *
+     * @param csp        cloud service provider.
+     * @param credential credential used by the client.
+     * @param region     region of the client.
+     * @param clientType type of the client.
+     * @return key of the client, null if clients with this type of credential are not stored.
+     */
+    public static CspClientCacheKey getClientKey(Csp csp, ICredential credential, String region,
+                                                 Class<?> clientType) {
+        String credentialFingerprint = getCredentialFingerprint(credential);
+        if (Objects.isNull(credentialFingerprint)) {
+            return null;
+        }
+        return new CspClientCacheKey(csp, credentialFingerprint, region,
+                clientType.getSimpleName());
+    }
+
+    /**
+     * Compute the fingerprint of an SDK credential.
+     *
+     * @param credential credential of the SDK.
+     * @return fingerprint of the credential, null if the type of credential is not supported.
+     */
+    public static String getCredentialFingerprint(ICredential credential) {
+        if (credential instanceof BasicCredentials basicCredentials) {
+            return CspClientsStore.getCredentialFingerprint(
+                    BasicCredentials.class.getSimpleName(), basicCredentials.getAk(),
+                    basicCredentials.getSk(), basicCredentials.getProjectId());
+        }
+        if (credential instanceof GlobalCredentials globalCredentials) {
+            return CspClientsStore.getCredentialFingerprint(
+                    GlobalCredentials.class.getSimpleName(), globalCredentials.getAk(),
+                    globalCredentials.getSk(), globalCredentials.getDomainId());
+        }
+        return null;
+    }
+
+    /**
+     * Build an SDK client to be kept in the clients store. The client uses the connection pool
+     * and thread pools shared by all clients of the cloud service provider, see
+     * {@link HuaweiCloudSdkHttpResources}, so nothing has to be released when it is removed.
+     *
+     * @param httpConfig    http config with the shared resources of the cloud service provider.
+     * @param clientBuilder builds the client with the http config.
+     * @return client without resources of its own.
+     */
+    public static <T> CspClient<T> buildClient(HttpConfig httpConfig,
+                                               Function<HttpConfig, T> clientBuilder) {
+        return new CspClient<>(clientBuilder.apply(httpConfig), null);
+    }
+}
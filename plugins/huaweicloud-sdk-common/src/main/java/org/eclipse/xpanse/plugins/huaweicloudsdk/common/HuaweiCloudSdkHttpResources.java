@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.plugins.huaweicloudsdk.common;
+
+import com.huaweicloud.sdk.core.http.HttpConfig;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import org.eclipse.xpanse.modules.cache.client.CspClientsStore;
+
+/**
+ * Connection pool and thread pools of the Huawei Cloud SDK shared by all clients of one cloud
+ * service provider. Without them each http config of the SDK creates its own connection pool and
+ * executor, so every client kept in the {@link CspClientsStore} would hold its own idle
+ * connections to the same endpoints.
+ */
+public class HuaweiCloudSdkHttpResources implements AutoCloseable {
+
+    private static final int MAX_IDLE_CONNECTIONS = 20;
+    private static final long KEEP_ALIVE_DURATION_IN_MINUTES = 5;
+
+    private final ConnectionPool connectionPool =
+            new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_DURATION_IN_MINUTES,
+                    TimeUnit.MINUTES);
+    private final Dispatcher dispatcher = new Dispatcher();
+    private final ExecutorService executorService = new ForkJoinPool();
+
+    /**
+     * Get a new http config which uses the shared connection pool and thread pools.
+     *
+     * @return http config of the SDK.
+     */
+    public HttpConfig getHttpConfig() {
+        return HttpConfig.getDefaultHttpConfig()
+                .withConnectionPool(connectionPool)
+                .withDispatcher(dispatcher)
+                .withExecutorService(executorService);
+    }
+
+    @Override
+    public void close() {
+        // calls still running keep their connections, only the idle ones are closed.
+        connectionPool.evictAll();
+        dispatcher.executorService().shutdown();
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,48 @@
+package org.eclipse.xpanse.plugins.huaweicloudsdk.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.huaweicloud.sdk.core.auth.BasicCredentials;
+import com.huaweicloud.sdk.core.auth.GlobalCredentials;
+import com.huaweicloud.sdk.core.http.HttpConfig;
+import org.eclipse.xpanse.modules.cache.client.CspClient;
+import org.eclipse.xpanse.modules.cache.client.CspClientCacheKey;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
+import org.junit.jupiter.api.Test;
+
+class HuaweiCloudSdkClientsTest {
+
+    @Test
+    void testGetClientKey() {
+        BasicCredentials credential = new BasicCredentials().withAk("ak").withSk("sk");
+        CspClientCacheKey huaweiKey = HuaweiCloudSdkClients.getClientKey(Csp.HUAWEI_CLOUD,
+                credential, "region", Object.class);
+        CspClientCacheKey flexibleEngineKey = HuaweiCloudSdkClients.getClientKey(
+                Csp.FLEXIBLE_ENGINE, credential, "region", Object.class);
+
+        assertEquals(huaweiKey.credentialFingerprint(),
+                flexibleEngineKey.credentialFingerprint());
+        assertEquals("Object", huaweiKey.service());
+        assertNotEquals(huaweiKey, flexibleEngineKey);
+        assertNotEquals(huaweiKey.credentialFingerprint(),
+                HuaweiCloudSdkClients.getCredentialFingerprint(
+                        new GlobalCredentials().withAk("ak").withSk("sk")));
+        assertNull(HuaweiCloudSdkClients.getClientKey(Csp.HUAWEI_CLOUD, null, "region",
+                Object.class));
+    }
+
+    @Test
+    void testBuildClient() {
+        HttpConfig httpConfig = HttpConfig.getDefaultHttpConfig();
+        Object client = new Object();
+
+        CspClient<Object> cspClient = HuaweiCloudSdkClients.buildClient(httpConfig,
+                config -> config == httpConfig ? client : null);
+
+        assertSame(client, cspClient.client());
+        assertNull(cspClient.resources());
+    }
+}
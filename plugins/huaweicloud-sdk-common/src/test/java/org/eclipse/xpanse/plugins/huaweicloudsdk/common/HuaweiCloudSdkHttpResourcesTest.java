@@ -0,0 +1,35 @@
+package org.eclipse.xpanse.plugins.huaweicloudsdk.common;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.huaweicloud.sdk.core.http.HttpConfig;
+import org.junit.jupiter.api.Test;
+
+class HuaweiCloudSdkHttpResourcesTest {
+
+    @Test
+    void testGetHttpConfigSharesResources() {
+        HuaweiCloudSdkHttpResources httpResources = new HuaweiCloudSdkHttpResources();
+
+        HttpConfig httpConfig = httpResources.getHttpConfig();
+        HttpConfig otherHttpConfig = httpResources.getHttpConfig();
+
+        assertNotSame(httpConfig, otherHttpConfig);
+        assertSame(httpConfig.getConnectionPool(), otherHttpConfig.getConnectionPool());
+        assertSame(httpConfig.getDispatcher(), otherHttpConfig.getDispatcher());
+        assertSame(httpConfig.getExecutorService(), otherHttpConfig.getExecutorService());
+    }
+
+    @Test
+    void testCloseReleasesResources() {
+        HuaweiCloudSdkHttpResources httpResources = new HuaweiCloudSdkHttpResources();
+        HttpConfig httpConfig = httpResources.getHttpConfig();
+
+        httpResources.close();
+
+        assertTrue(httpConfig.getExecutorService().isShutdown());
+        assertTrue(httpConfig.getDispatcher().executorService().isShutdown());
+    }
+}
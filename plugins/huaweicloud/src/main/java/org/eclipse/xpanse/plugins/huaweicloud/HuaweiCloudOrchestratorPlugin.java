@@ -15,9 +15,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.cache.exceptions.CacheNotFoundException;
 import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
 import org.eclipse.xpanse.modules.models.credential.CredentialVariable;
@@ -33,6 +36,7 @@ import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.price.ServiceFlavorPriceRequest;
 import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageRequest;
+import org.eclipse.xpanse.modules.servicetemplate.price.ServiceFlavorPriceStore;
 import org.eclipse.xpanse.plugins.huaweicloud.manage.HuaweiCloudResourceManager;
 import org.eclipse.xpanse.plugins.huaweicloud.manage.HuaweiCloudVmStateManager;
 import org.eclipse.xpanse.plugins.huaweicloud.monitor.HuaweiCloudMetricsService;
@@ -60,6 +64,8 @@ public class HuaweiCloudOrchestratorPlugin implements OrchestratorPlugin {
     private HuaweiCloudResourceManager huaweiCloudResourceManager;
     @Resource
     private HuaweiCloudPriceCalculator huaweiCloudPriceCalculator;
+    @Resource
+    private ServiceFlavorPriceStore serviceFlavorPriceStore;
 
     @Value("${huaweicloud.auto.approve.service.template.enabled:false}")
     private boolean huaweiCloudAutoApproveServiceTemplateEnabled;
@@ -158,6 +164,18 @@ public class HuaweiCloudOrchestratorPlugin implements OrchestratorPlugin {
         return huaweiCloudMetricsService.getMetricsByService(serviceMetricRequest);
     }
 
+    /**
+     * Get metrics for several service instances with batch queries of Cloud Eye.
+     *
+     * @param serviceMetricRequests The request models to query metrics for service instances.
+     * @return Returns the metric results by service id.
+     */
+    @Override
+    public Map<UUID, List<Metric>> getMetricsForServices(
+            List<ServiceMetricsRequest> serviceMetricRequests) {
+        return huaweiCloudMetricsService.getMetricsByServices(serviceMetricRequests);
+    }
+
     @Override
     public boolean startService(ServiceStateManageRequest serviceStateManageRequest) {
         return huaweiCloudVmStateManager.startService(serviceStateManageRequest);
@@ -184,4 +202,39 @@ public class HuaweiCloudOrchestratorPlugin implements OrchestratorPlugin {
     public FlavorPriceResult getServiceFlavorPrice(ServiceFlavorPriceRequest request) {
         return huaweiCloudPriceCalculator.getServiceFlavorPrice(request);
     }
+
+    @Override
+    public Map<String, FlavorPriceResult> getServiceFlavorPricesInBatch(
+            List<ServiceFlavorPriceRequest> requests) {
+        Map<String, FlavorPriceResult> flavorPrices = new HashMap<>();
+        List<ServiceFlavorPriceRequest> uncachedRequests = new ArrayList<>();
+        for (ServiceFlavorPriceRequest request : requests) {
+            try {
+                flavorPrices.put(request.getFlavorName(),
+                        serviceFlavorPriceStore.getFlavorPrice(request));
+            } catch (CacheNotFoundException e) {
+                uncachedRequests.add(request);
+            }
+        }
+        if (uncachedRequests.isEmpty()) {
+            return flavorPrices;
+        }
+        // only the prices missing in the cache are rated, and cached as if rated one by one.
+        Map<String, FlavorPriceResult> ratedPrices =
+                huaweiCloudPriceCalculator.getServiceFlavorPricesInBatch(uncachedRequests);
+        for (ServiceFlavorPriceRequest request : uncachedRequests) {
+            FlavorPriceResult ratedPrice = ratedPrices.get(request.getFlavorName());
+            if (Objects.nonNull(ratedPrice)) {
+                flavorPrices.put(request.getFlavorName(),
+                        serviceFlavorPriceStore.storeFlavorPrice(request, ratedPrice));
+            }
+        }
+        return flavorPrices;
+    }
+
+    @Override
+    public boolean isFlavorPriceUserSpecific(BillingMode billingMode) {
+        // pay per use prices are rated with the account of the user in BSS.
+        return billingMode == BillingMode.PAY_PER_USE;
+    }
 }
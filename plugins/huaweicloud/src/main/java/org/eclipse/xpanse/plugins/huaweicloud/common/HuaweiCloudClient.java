@@ -27,10 +27,18 @@ import com.huaweicloud.sdk.iam.v3.model.KeystoneListProjectsResponse;
 import com.huaweicloud.sdk.iam.v3.region.IamRegion;
 import com.huaweicloud.sdk.vpc.v2.VpcClient;
 import com.huaweicloud.sdk.vpc.v2.region.VpcRegion;
+import jakarta.annotation.PreDestroy;
 import jakarta.annotation.Resource;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.cache.client.CspClientCacheKey;
+import org.eclipse.xpanse.modules.cache.client.CspClientsStore;
+import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.common.exceptions.ClientApiCallFailedException;
+import org.eclipse.xpanse.plugins.huaweicloudsdk.common.HuaweiCloudSdkClients;
+import org.eclipse.xpanse.plugins.huaweicloudsdk.common.HuaweiCloudSdkHttpResources;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -48,6 +56,11 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
     @Resource
     private HuaweiCloudRetryStrategy huaweiCloudRetryStrategy;
 
+    @Resource
+    private CspClientsStore cspClientsStore;
+
+    private final HuaweiCloudSdkHttpResources httpResources = new HuaweiCloudSdkHttpResources();
+
     /**
      * Get HuaweiCloud CES Client.
      *
@@ -55,11 +68,12 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public CesClient getCesClient(ICredential credential, String regionName) {
-        return CesClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(credential)
-                .withRegion(CesRegion.valueOf(regionName))
-                .build();
+        return getClient(credential, regionName, CesClient.class,
+                httpConfig -> CesClient.newBuilder()
+                        .withHttpConfig(httpConfig)
+                        .withCredential(credential)
+                        .withRegion(CesRegion.valueOf(regionName))
+                        .build());
     }
 
     /**
@@ -69,10 +83,12 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public EcsClient getEcsClient(ICredential credential, String regionName) {
-        return EcsClient.newBuilder()
-                .withCredential(credential)
-                .withRegion(EcsRegion.valueOf(regionName))
-                .build();
+        return getClient(credential, regionName, EcsClient.class,
+                httpConfig -> EcsClient.newBuilder()
+                        .withHttpConfig(httpConfig)
+                        .withCredential(credential)
+                        .withRegion(EcsRegion.valueOf(regionName))
+                        .build());
     }
 
     /**
@@ -82,11 +98,12 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public VpcClient getVpcClient(ICredential credential, String regionName) {
-        return VpcClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(credential)
-                .withRegion(VpcRegion.valueOf(regionName))
-                .build();
+        return getClient(credential, regionName, VpcClient.class,
+                httpConfig -> VpcClient.newBuilder()
+                        .withHttpConfig(httpConfig)
+                        .withCredential(credential)
+                        .withRegion(VpcRegion.valueOf(regionName))
+                        .build());
     }
 
     /**
@@ -96,11 +113,12 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public EipClient getEipClient(ICredential credential, String regionName) {
-        return EipClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(credential)
-                .withRegion(EipRegion.valueOf(regionName))
-                .build();
+        return getClient(credential, regionName, EipClient.class,
+                httpConfig -> EipClient.newBuilder()
+                        .withHttpConfig(httpConfig)
+                        .withCredential(credential)
+                        .withRegion(EipRegion.valueOf(regionName))
+                        .build());
     }
 
     /**
@@ -110,11 +128,12 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName region.
      */
     public EvsClient getEvsClient(ICredential credential, String regionName) {
-        return EvsClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(credential)
-                .withRegion(EvsRegion.valueOf(regionName))
-                .build();
+        return getClient(credential, regionName, EvsClient.class,
+                httpConfig -> EvsClient.newBuilder()
+                        .withHttpConfig(httpConfig)
+                        .withCredential(credential)
+                        .withRegion(EvsRegion.valueOf(regionName))
+                        .build());
     }
 
     /**
@@ -124,11 +143,12 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param regionName       region.
      */
     public IamClient getIamClient(ICredential globalCredential, String regionName) {
-        return IamClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(globalCredential)
-                .withRegion(IamRegion.valueOf(regionName))
-                .build();
+        return getClient(globalCredential, regionName, IamClient.class,
+                httpConfig -> IamClient.newBuilder()
+                        .withHttpConfig(httpConfig)
+                        .withCredential(globalCredential)
+                        .withRegion(IamRegion.valueOf(regionName))
+                        .build());
     }
 
     /**
@@ -137,12 +157,13 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param globalCredential ICredential
      */
     public BssClient getBssClient(ICredential globalCredential) {
-        return BssClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(globalCredential)
-                // The fixed BssRegion maps the endpoint 'https://bss.myhuaweicloud.com'
-                .withRegion(BssRegion.CN_NORTH_1)
-                .build();
+        return getClient(globalCredential, BssRegion.CN_NORTH_1.getId(), BssClient.class,
+                httpConfig -> BssClient.newBuilder()
+                        .withHttpConfig(httpConfig)
+                        .withCredential(globalCredential)
+                        // The fixed BssRegion maps the endpoint 'https://bss.myhuaweicloud.com'
+                        .withRegion(BssRegion.CN_NORTH_1)
+                        .build());
     }
 
     /**
@@ -151,12 +172,14 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @param globalCredential ICredential
      */
     public BssintlClient getBssintlClient(ICredential globalCredential) {
-        return BssintlClient.newBuilder()
-                .withHttpConfig(getHttpConfig())
-                .withCredential(globalCredential)
-                // The fixed BssintlRegion maps the endpoint 'https://bss-intl.myhuaweicloud.com'.
-                .withRegion(BssintlRegion.AP_SOUTHEAST_1)
-                .build();
+        return getClient(globalCredential, BssintlRegion.AP_SOUTHEAST_1.getId(),
+                BssintlClient.class, httpConfig -> BssintlClient.newBuilder()
+                        .withHttpConfig(httpConfig)
+                        .withCredential(globalCredential)
+                        // The fixed BssintlRegion maps the endpoint
+                        // 'https://bss-intl.myhuaweicloud.com'.
+                        .withRegion(BssintlRegion.AP_SOUTHEAST_1)
+                        .build());
     }
 
 
@@ -168,6 +191,24 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
      * @return projectId.
      */
     public String getProjectId(ICredential globalCredential, String regionName) {
+        String credentialFingerprint =
+                HuaweiCloudSdkClients.getCredentialFingerprint(globalCredential);
+        if (Objects.isNull(credentialFingerprint)) {
+            return queryProjectId(globalCredential, regionName);
+        }
+        return cspClientsStore.getProjectId(Csp.HUAWEI_CLOUD, credentialFingerprint,
+                regionName, () -> queryProjectId(globalCredential, regionName));
+    }
+
+    /**
+     * Release the connection pool and thread pools shared by the SDK clients.
+     */
+    @PreDestroy
+    public void releaseHttpResources() {
+        httpResources.close();
+    }
+
+    private String queryProjectId(ICredential globalCredential, String regionName) {
         String projectId = null;
         try {
             IamClient iamClient = getIamClient(globalCredential, regionName);
@@ -190,8 +231,19 @@ public class HuaweiCloudClient extends HuaweiCloudCredentials {
         }
     }
 
+    private <T> T getClient(ICredential credential, String regionName, Class<T> clientType,
+                            Function<HttpConfig, T> clientBuilder) {
+        CspClientCacheKey key = HuaweiCloudSdkClients.getClientKey(Csp.HUAWEI_CLOUD, credential,
+                regionName, clientType);
+        if (Objects.isNull(key)) {
+            return clientBuilder.apply(getHttpConfig());
+        }
+        return cspClientsStore.getClient(key, clientType,
+                () -> HuaweiCloudSdkClients.buildClient(getHttpConfig(), clientBuilder));
+    }
+
     private HttpConfig getHttpConfig() {
-        HttpConfig httpConfig = HttpConfig.getDefaultHttpConfig();
+        HttpConfig httpConfig = httpResources.getHttpConfig();
         if (sdkHttpDebugLogsEnabled) {
             HttpListener requestListener =
                     HttpListener.forRequestListener(this::outputRequestInfo);
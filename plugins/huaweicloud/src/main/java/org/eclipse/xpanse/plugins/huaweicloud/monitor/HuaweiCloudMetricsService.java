@@ -18,9 +18,12 @@ import com.huaweicloud.sdk.core.auth.ICredential;
 import jakarta.annotation.Resource;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsCacheKey;
@@ -38,6 +41,7 @@ import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
 import org.eclipse.xpanse.plugins.huaweicloud.common.HuaweiCloudClient;
 import org.eclipse.xpanse.plugins.huaweicloud.common.HuaweiCloudRetryStrategy;
+import org.eclipse.xpanse.plugins.huaweicloud.monitor.constant.HuaweiCloudMonitorConstants;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
@@ -123,34 +127,11 @@ public class HuaweiCloudMetricsService {
         List<DeployResource> deployResources = serviceMetricRequest.getDeployResources();
         String regionName = deployResources.getFirst().getProperties().get("region");
         try {
-            AbstractCredentialInfo credential = credentialCenter.getCredential(
-                    Csp.HUAWEI_CLOUD, CredentialType.VARIABLES, serviceMetricRequest.getUserId());
-            MonitorResourceType monitorResourceType = serviceMetricRequest.getMonitorResourceType();
-            ICredential icredential = huaweiCloudClient.getCredential(credential);
-            CesClient client = huaweiCloudClient.getCesClient(icredential, regionName);
-            Map<String, List<MetricInfoList>> deployResourceMetricInfoMap = new HashMap<>();
-            for (DeployResource deployResource : deployResources) {
-                Map<MonitorResourceType, MetricInfoList> targetMetricsMap =
-                        getTargetMetricsMap(deployResource, monitorResourceType, client);
-                List<MetricInfoList> targetMetricInfoList =
-                        targetMetricsMap.values().stream().toList();
-                deployResourceMetricInfoMap.put(deployResource.getResourceId(),
-                        targetMetricInfoList);
-            }
-            BatchListMetricDataRequest batchListMetricDataRequest =
-                    huaweiCloudDataModelConverter.buildBatchListMetricDataRequest(
-                            serviceMetricRequest, deployResourceMetricInfoMap);
-            BatchListMetricDataResponse batchListMetricDataResponse =
-                    client.batchListMetricDataInvoker(batchListMetricDataRequest)
-                            .retryTimes(huaweiCloudRetryStrategy.getRetryMaxAttempts())
-                            .retryCondition(huaweiCloudRetryStrategy::matchRetryCondition)
-                            .backoffStrategy(huaweiCloudRetryStrategy)
-                            .invoke();
-            List<Metric> metrics =
-                    huaweiCloudDataModelConverter.convertBatchListMetricDataResponseToMetric(
-                            batchListMetricDataResponse, deployResourceMetricInfoMap,
-                            deployResources,
-                            serviceMetricRequest.isOnlyLastKnownMetric());
+            CesClient client = getCesClient(serviceMetricRequest.getUserId(), regionName);
+            Map<String, List<MetricInfoList>> deployResourceMetricInfoMap =
+                    getDeployResourceMetricInfoMap(serviceMetricRequest, client);
+            List<Metric> metrics = batchListMetrics(client, serviceMetricRequest,
+                    deployResourceMetricInfoMap);
             doCacheActionForServiceMetrics(serviceMetricRequest, deployResourceMetricInfoMap,
                     metrics);
             return metrics;
@@ -161,6 +142,142 @@ public class HuaweiCloudMetricsService {
         }
     }
 
+    /**
+     * Get metrics of several deployed services of the same user in the same region. The metrics
+     * of all services are queried together with as few batch queries as the limit of metrics per
+     * query allows. Services without metrics available yet are left out of the result.
+     *
+     * @param serviceMetricRequests The request models to query metrics.
+     * @return Returns the metric results by service id.
+     */
+    @Retryable(retryFor = ClientApiCallFailedException.class,
+            maxAttemptsExpression = "${http.request.retry.max.attempts}",
+            backoff = @Backoff(delayExpression = "${http.request.retry.delay.milliseconds}"))
+    public Map<UUID, List<Metric>> getMetricsByServices(
+            List<ServiceMetricsRequest> serviceMetricRequests) {
+        ServiceMetricsRequest firstRequest = serviceMetricRequests.getFirst();
+        String regionName =
+                firstRequest.getDeployResources().getFirst().getProperties().get("region");
+        try {
+            CesClient client = getCesClient(firstRequest.getUserId(), regionName);
+            Map<ServiceMetricsRequest, Map<String, List<MetricInfoList>>> serviceMetricInfoMap =
+                    new LinkedHashMap<>();
+            for (ServiceMetricsRequest serviceMetricRequest : serviceMetricRequests) {
+                try {
+                    serviceMetricInfoMap.put(serviceMetricRequest,
+                            getDeployResourceMetricInfoMap(serviceMetricRequest, client));
+                } catch (MetricsDataNotYetAvailableException e) {
+                    log.warn("No metrics available yet for service {}.",
+                            serviceMetricRequest.getServiceId());
+                }
+            }
+            List<Metric> metrics = batchListMetricsOfServices(client, serviceMetricInfoMap);
+            Map<UUID, List<Metric>> metricsByServiceId = new LinkedHashMap<>();
+            for (Map.Entry<ServiceMetricsRequest, Map<String, List<MetricInfoList>>> entry
+                    : serviceMetricInfoMap.entrySet()) {
+                List<Metric> serviceMetrics = metrics.stream()
+                        .filter(metric -> entry.getValue()
+                                .containsKey(metric.getLabels().get("id")))
+                        .collect(Collectors.toCollection(ArrayList::new));
+                try {
+                    doCacheActionForServiceMetrics(entry.getKey(), entry.getValue(),
+                            serviceMetrics);
+                    metricsByServiceId.put(entry.getKey().getServiceId(), serviceMetrics);
+                } catch (MetricsDataNotYetAvailableException e) {
+                    log.warn("No metrics available yet for service {}.",
+                            entry.getKey().getServiceId());
+                }
+            }
+            return metricsByServiceId;
+        } catch (Exception e) {
+            log.error("Get metrics of services {} failed.", serviceMetricRequests.stream()
+                    .map(ServiceMetricsRequest::getServiceId).toList());
+            huaweiCloudRetryStrategy.handleAuthExceptionForSpringRetry(e);
+            throw new ClientApiCallFailedException(e.getMessage());
+        }
+    }
+
+    private CesClient getCesClient(String userId, String regionName) {
+        AbstractCredentialInfo credential = credentialCenter.getCredential(
+                Csp.HUAWEI_CLOUD, CredentialType.VARIABLES, userId);
+        ICredential icredential = huaweiCloudClient.getCredential(credential);
+        return huaweiCloudClient.getCesClient(icredential, regionName);
+    }
+
+    private Map<String, List<MetricInfoList>> getDeployResourceMetricInfoMap(
+            ServiceMetricsRequest serviceMetricRequest, CesClient client) {
+        Map<String, List<MetricInfoList>> deployResourceMetricInfoMap = new HashMap<>();
+        for (DeployResource deployResource : serviceMetricRequest.getDeployResources()) {
+            Map<MonitorResourceType, MetricInfoList> targetMetricsMap =
+                    getTargetMetricsMap(deployResource,
+                            serviceMetricRequest.getMonitorResourceType(), client);
+            deployResourceMetricInfoMap.put(deployResource.getResourceId(),
+                    targetMetricsMap.values().stream().toList());
+        }
+        return deployResourceMetricInfoMap;
+    }
+
+    private List<Metric> batchListMetricsOfServices(
+            CesClient client,
+            Map<ServiceMetricsRequest, Map<String, List<MetricInfoList>>> serviceMetricInfoMap) {
+        List<Metric> metrics = new ArrayList<>();
+        if (serviceMetricInfoMap.isEmpty()) {
+            return metrics;
+        }
+        // one query covers the time ranges of all services, the points are split per resource.
+        ServiceMetricsRequest firstRequest = serviceMetricInfoMap.keySet().iterator().next();
+        Long from = serviceMetricInfoMap.keySet().stream().map(ServiceMetricsRequest::getFrom)
+                .filter(Objects::nonNull).min(Long::compare).orElse(null);
+        Long to = serviceMetricInfoMap.keySet().stream().map(ServiceMetricsRequest::getTo)
+                .filter(Objects::nonNull).max(Long::compare).orElse(null);
+        Map<String, List<MetricInfoList>> deployResourceMetricInfoMap = new HashMap<>();
+        Map<String, DeployResource> deployResources = new LinkedHashMap<>();
+        serviceMetricInfoMap.forEach((serviceMetricRequest, metricInfoMap) -> {
+            deployResourceMetricInfoMap.putAll(metricInfoMap);
+            serviceMetricRequest.getDeployResources().forEach(deployResource ->
+                    deployResources.putIfAbsent(deployResource.getResourceId(), deployResource));
+        });
+        List<List<DeployResource>> chunks = new ArrayList<>();
+        int chunkMetricsCount = 0;
+        for (DeployResource deployResource : deployResources.values()) {
+            int metricsCount = deployResourceMetricInfoMap.get(deployResource.getResourceId())
+                    .size();
+            if (chunks.isEmpty() || chunkMetricsCount + metricsCount
+                    > HuaweiCloudMonitorConstants.MAX_METRICS_PER_BATCH_QUERY) {
+                chunks.add(new ArrayList<>());
+                chunkMetricsCount = 0;
+            }
+            chunks.getLast().add(deployResource);
+            chunkMetricsCount += metricsCount;
+        }
+        for (List<DeployResource> chunk : chunks) {
+            ServiceMetricsRequest chunkRequest = new ServiceMetricsRequest(null, chunk,
+                    firstRequest.getMonitorResourceType(), from, to,
+                    firstRequest.getGranularity(), firstRequest.isOnlyLastKnownMetric(),
+                    firstRequest.getUserId());
+            metrics.addAll(batchListMetrics(client, chunkRequest, deployResourceMetricInfoMap));
+        }
+        return metrics;
+    }
+
+    private List<Metric> batchListMetrics(
+            CesClient client, ServiceMetricsRequest serviceMetricRequest,
+            Map<String, List<MetricInfoList>> deployResourceMetricInfoMap) {
+        BatchListMetricDataRequest batchListMetricDataRequest =
+                huaweiCloudDataModelConverter.buildBatchListMetricDataRequest(
+                        serviceMetricRequest, deployResourceMetricInfoMap);
+        BatchListMetricDataResponse batchListMetricDataResponse =
+                client.batchListMetricDataInvoker(batchListMetricDataRequest)
+                        .retryTimes(huaweiCloudRetryStrategy.getRetryMaxAttempts())
+                        .retryCondition(huaweiCloudRetryStrategy::matchRetryCondition)
+                        .backoffStrategy(huaweiCloudRetryStrategy)
+                        .invoke();
+        return huaweiCloudDataModelConverter.convertBatchListMetricDataResponseToMetric(
+                batchListMetricDataResponse, deployResourceMetricInfoMap,
+                serviceMetricRequest.getDeployResources(),
+                serviceMetricRequest.isOnlyLastKnownMetric());
+    }
+
     private void doCacheActionForResourceMetrics(ResourceMetricsRequest resourceMetricRequest,
                                                  MonitorResourceType monitorResourceType,
                                                  Metric metric) {
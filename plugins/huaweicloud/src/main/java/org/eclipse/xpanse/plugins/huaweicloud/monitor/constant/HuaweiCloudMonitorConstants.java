@@ -63,6 +63,11 @@ public class HuaweiCloudMonitorConstants extends HuaweiCloudConstants {
      */
     public static final int PERIOD_ONE_DAY_INT = 86400;
 
+    /**
+     * Maximum number of metrics queried with one batch query of monitoring data.
+     */
+    public static final int MAX_METRICS_PER_BATCH_QUERY = 500;
+
     public static final long FIVE_MINUTES_MILLISECONDS = 5 * 60 * 1000;
 
     public static final long FOUR_HOUR_MILLISECONDS = 4 * 3600 * 1000L;
@@ -8,6 +8,7 @@ package org.eclipse.xpanse.plugins.huaweicloud.price;
 
 import com.huaweicloud.sdk.bssintl.v2.BssintlClient;
 import com.huaweicloud.sdk.bssintl.v2.model.DemandProductInfo;
+import com.huaweicloud.sdk.bssintl.v2.model.DemandProductRatingResult;
 import com.huaweicloud.sdk.bssintl.v2.model.ListOnDemandResourceRatingsRequest;
 import com.huaweicloud.sdk.bssintl.v2.model.ListOnDemandResourceRatingsResponse;
 import com.huaweicloud.sdk.bssintl.v2.model.RateOnDemandReq;
@@ -15,6 +16,8 @@ import com.huaweicloud.sdk.core.auth.ICredential;
 import com.huaweicloud.sdk.core.exception.ClientRequestException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -52,6 +55,7 @@ public class HuaweiCloudPriceCalculator {
     private static final BigDecimal HOURS_PER_YEAR = BigDecimal.valueOf(24 * 365L);
     private static final int SCALE = 4;
     private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
+    private static final int MAX_PRODUCTS_PER_RATING_REQUEST = 100;
     @jakarta.annotation.Resource
     private CredentialCenter credentialCenter;
     @jakarta.annotation.Resource
@@ -80,6 +84,110 @@ public class HuaweiCloudPriceCalculator {
     }
 
 
+    /**
+     * Get the prices of the flavors with the billing mode pay per use with one rating request
+     * to the international website. The credential and the project of the user are resolved
+     * once for all flavors. Flavors not rated here, for example of users of the chinese
+     * website, are rated one by one.
+     *
+     * @param requests price requests of the flavors
+     * @return prices by flavor name
+     */
+    public Map<String, FlavorPriceResult> getServiceFlavorPricesInBatch(
+            List<ServiceFlavorPriceRequest> requests) {
+        List<ServiceFlavorPriceRequest> payPerUseRequests = requests.stream()
+                .filter(request -> request.getBillingMode() == BillingMode.PAY_PER_USE)
+                .filter(request -> !request.getFlavorRatingMode().getResourceUsage()
+                        .getResources().isEmpty())
+                .toList();
+        if (payPerUseRequests.isEmpty()) {
+            return Map.of();
+        }
+        ServiceFlavorPriceRequest firstRequest = payPerUseRequests.getFirst();
+        AbstractCredentialInfo credential =
+                credentialCenter.getCredential(Csp.HUAWEI_CLOUD, CredentialType.VARIABLES,
+                        firstRequest.getUserId());
+        Map<String, String> credentialVariablesMap =
+                huaweiCloudClient.getCredentialVariablesMap((CredentialVariables) credential);
+        ICredential globalCredential =
+                huaweiCloudClient.getGlobalCredential(credentialVariablesMap);
+        String projectId =
+                huaweiCloudClient.getProjectId(globalCredential, firstRequest.getRegionName());
+        // the id of each product tells the flavor it belongs to.
+        Map<String, String> flavorNamesByProductId = new HashMap<>();
+        List<DemandProductInfo> productInfos = new ArrayList<>();
+        for (ServiceFlavorPriceRequest request : payPerUseRequests) {
+            for (Resource resource : request.getFlavorRatingMode().getResourceUsage()
+                    .getResources()) {
+                DemandProductInfo productInfo =
+                        convertToDemandProductInfo(resource, request.getRegionName());
+                flavorNamesByProductId.put(productInfo.getId(), request.getFlavorName());
+                productInfos.add(productInfo);
+            }
+        }
+        if (productInfos.size() > MAX_PRODUCTS_PER_RATING_REQUEST) {
+            return Map.of();
+        }
+        RateOnDemandReq rateOnDemandReq = new RateOnDemandReq();
+        rateOnDemandReq.setProjectId(projectId);
+        rateOnDemandReq.setInquiryPrecision(0);
+        rateOnDemandReq.setProductInfos(productInfos);
+        ListOnDemandResourceRatingsRequest batchRequest = new ListOnDemandResourceRatingsRequest();
+        batchRequest.setBody(rateOnDemandReq);
+        ListOnDemandResourceRatingsResponse response;
+        try {
+            log.info("Calling the API of the international website to calculate the price of {} "
+                    + "flavors.", payPerUseRequests.size());
+            response = huaweiCloudClient.getBssintlClient(globalCredential)
+                    .listOnDemandResourceRatingsInvoker(batchRequest)
+                    .retryTimes(huaweiCloudRetryStrategy.getRetryMaxAttempts())
+                    .retryCondition(huaweiCloudRetryStrategy::matchRetryCondition)
+                    .backoffStrategy(huaweiCloudRetryStrategy)
+                    .invoke();
+        } catch (ClientRequestException e) {
+            log.error("Call the API of the international website to calculate the price of the "
+                    + "flavors failed. {}", e.getMessage());
+            return Map.of();
+        }
+        return convertBatchRatingsResponseToFlavorPrices(payPerUseRequests,
+                flavorNamesByProductId, response);
+    }
+
+    private Map<String, FlavorPriceResult> convertBatchRatingsResponseToFlavorPrices(
+            List<ServiceFlavorPriceRequest> requests, Map<String, String> flavorNamesByProductId,
+            ListOnDemandResourceRatingsResponse response) {
+        Map<String, BigDecimal> amountsByFlavorName = new HashMap<>();
+        Map<String, Integer> ratedProductsByFlavorName = new HashMap<>();
+        if (Objects.nonNull(response.getProductRatingResults())) {
+            for (DemandProductRatingResult result : response.getProductRatingResults()) {
+                String flavorName = flavorNamesByProductId.get(result.getId());
+                if (Objects.nonNull(flavorName) && Objects.nonNull(result.getAmount())) {
+                    amountsByFlavorName.merge(flavorName, result.getAmount(), BigDecimal::add);
+                    ratedProductsByFlavorName.merge(flavorName, 1, Integer::sum);
+                }
+            }
+        }
+        Map<String, FlavorPriceResult> flavorPrices = new HashMap<>();
+        for (ServiceFlavorPriceRequest request : requests) {
+            ResourceUsage resourceUsage = request.getFlavorRatingMode().getResourceUsage();
+            // flavors with products missing in the response are rated one by one.
+            if (!Objects.equals(resourceUsage.getResources().size(),
+                    ratedProductsByFlavorName.get(request.getFlavorName()))) {
+                continue;
+            }
+            Price recurringPrice = new Price();
+            recurringPrice.setCost(amountsByFlavorName.get(request.getFlavorName()));
+            recurringPrice.setCurrency(Currency.getByValue(response.getCurrency()));
+            recurringPrice.setPeriod(PricingPeriod.HOURLY);
+            FlavorPriceResult flavorPriceResult = new FlavorPriceResult();
+            flavorPriceResult.setRecurringPrice(recurringPrice);
+            addExtraPaymentPrice(flavorPriceResult, resourceUsage.getMarkUpPrice());
+            addExtraPaymentPrice(flavorPriceResult, resourceUsage.getLicensePrice());
+            flavorPrices.put(request.getFlavorName(), flavorPriceResult);
+        }
+        return flavorPrices;
+    }
+
     private FlavorPriceResult getServiceFlavorPriceWithPayPerUse(
             ServiceFlavorPriceRequest request) {
         ResourceUsage resourceUsage = request.getFlavorRatingMode().getResourceUsage();
@@ -3,13 +3,19 @@ package org.eclipse.xpanse.plugins.huaweicloud;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.cache.exceptions.CacheNotFoundException;
 import org.eclipse.xpanse.modules.database.resource.DeployResourceEntity;
+import org.eclipse.xpanse.modules.models.billing.FlavorPriceResult;
+import org.eclipse.xpanse.modules.models.billing.enums.BillingMode;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
 import org.eclipse.xpanse.modules.models.credential.enums.CredentialType;
@@ -22,9 +28,12 @@ import org.eclipse.xpanse.modules.models.service.enums.DeployResourceKind;
 import org.eclipse.xpanse.modules.models.servicetemplate.enums.DeployerKind;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ResourceMetricsRequest;
 import org.eclipse.xpanse.modules.orchestrator.monitor.ServiceMetricsRequest;
+import org.eclipse.xpanse.modules.orchestrator.price.ServiceFlavorPriceRequest;
 import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageRequest;
+import org.eclipse.xpanse.modules.servicetemplate.price.ServiceFlavorPriceStore;
 import org.eclipse.xpanse.plugins.huaweicloud.manage.HuaweiCloudVmStateManager;
 import org.eclipse.xpanse.plugins.huaweicloud.monitor.HuaweiCloudMetricsService;
+import org.eclipse.xpanse.plugins.huaweicloud.price.HuaweiCloudPriceCalculator;
 import org.eclipse.xpanse.plugins.huaweicloud.resourcehandler.HuaweiCloudTerraformResourceHandler;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -41,6 +50,10 @@ class HuaweiCloudOrchestratorPluginTest {
     private HuaweiCloudVmStateManager mockHuaweiCloudVmStateManager;
     @Mock
     private HuaweiCloudTerraformResourceHandler mockHuaweiCloudTerraformResourceHandler;
+    @Mock
+    private HuaweiCloudPriceCalculator mockHuaweiCloudPriceCalculator;
+    @Mock
+    private ServiceFlavorPriceStore mockServiceFlavorPriceStore;
 
     @InjectMocks
     private HuaweiCloudOrchestratorPlugin huaweiCloudOrchestratorPluginUnderTest;
@@ -435,4 +448,55 @@ class HuaweiCloudOrchestratorPluginTest {
         // Verify the results
         assertThat(result).isTrue();
     }
+
+    @Test
+    void testGetServiceFlavorPricesInBatch_RatesOnlyUncachedFlavors() {
+        // Setup
+        final ServiceFlavorPriceRequest cachedRequest = getPriceRequest("flavor-1");
+        final ServiceFlavorPriceRequest uncachedRequest = getPriceRequest("flavor-2");
+        final FlavorPriceResult cachedPrice = new FlavorPriceResult();
+        final FlavorPriceResult ratedPrice = new FlavorPriceResult();
+        when(mockServiceFlavorPriceStore.getFlavorPrice(cachedRequest)).thenReturn(cachedPrice);
+        when(mockServiceFlavorPriceStore.getFlavorPrice(uncachedRequest)).thenThrow(
+                new CacheNotFoundException("not cached"));
+        when(mockHuaweiCloudPriceCalculator.getServiceFlavorPricesInBatch(
+                List.of(uncachedRequest))).thenReturn(Map.of("flavor-2", ratedPrice));
+        when(mockServiceFlavorPriceStore.storeFlavorPrice(uncachedRequest, ratedPrice))
+                .thenReturn(ratedPrice);
+
+        // Run the test
+        final Map<String, FlavorPriceResult> result = huaweiCloudOrchestratorPluginUnderTest
+                .getServiceFlavorPricesInBatch(List.of(cachedRequest, uncachedRequest));
+
+        // Verify the results
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(
+                Map.of("flavor-1", cachedPrice, "flavor-2", ratedPrice));
+        verify(mockServiceFlavorPriceStore).storeFlavorPrice(uncachedRequest, ratedPrice);
+    }
+
+    @Test
+    void testGetServiceFlavorPricesInBatch_AllFlavorsCached() {
+        // Setup
+        final ServiceFlavorPriceRequest cachedRequest = getPriceRequest("flavor-1");
+        final FlavorPriceResult cachedPrice = new FlavorPriceResult();
+        when(mockServiceFlavorPriceStore.getFlavorPrice(cachedRequest)).thenReturn(cachedPrice);
+
+        // Run the test
+        final Map<String, FlavorPriceResult> result = huaweiCloudOrchestratorPluginUnderTest
+                .getServiceFlavorPricesInBatch(List.of(cachedRequest));
+
+        // Verify the results
+        assertThat(result).containsExactlyEntriesOf(Map.of("flavor-1", cachedPrice));
+        verify(mockHuaweiCloudPriceCalculator, never()).getServiceFlavorPricesInBatch(any());
+    }
+
+    private ServiceFlavorPriceRequest getPriceRequest(String flavorName) {
+        final ServiceFlavorPriceRequest request = new ServiceFlavorPriceRequest();
+        request.setServiceTemplateId(UUID.randomUUID().toString());
+        request.setFlavorName(flavorName);
+        request.setUserId("userId");
+        request.setRegionName("regionName");
+        request.setBillingMode(BillingMode.PAY_PER_USE);
+        return request;
+    }
 }
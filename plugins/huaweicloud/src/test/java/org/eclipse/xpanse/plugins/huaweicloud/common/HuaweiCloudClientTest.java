@@ -5,6 +5,7 @@ import com.huaweicloud.sdk.core.exception.SdkException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.eclipse.xpanse.modules.cache.client.CspClientsStore;
 import org.eclipse.xpanse.modules.models.common.enums.Csp;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
 import org.eclipse.xpanse.modules.models.credential.CredentialVariable;
@@ -15,6 +16,7 @@ import org.eclipse.xpanse.plugins.huaweicloud.monitor.constant.HuaweiCloudMonito
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 class HuaweiCloudClientTest {
 
@@ -23,6 +25,8 @@ class HuaweiCloudClientTest {
     @BeforeEach
     void setUp() {
         testClient = new HuaweiCloudClient();
+        ReflectionTestUtils.setField(testClient, "cspClientsStore",
+                new CspClientsStore(100, 60));
     }
 
     @Test
@@ -1,5 +1,7 @@
 package org.eclipse.xpanse.plugins.huaweicloud.monitor;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -356,6 +358,29 @@ class HuaweiCloudMonitorIntegrationTest {
         Assertions.assertEquals(4, metrics.getFirst().getMetrics().size());
     }
 
+    @Test
+    void testGetMetricsForServicesWithOneBatchQuery() {
+        // Setup
+        ServiceMetricsRequest serviceMetricRequest = setUpServiceMetricRequest(null,
+                System.currentTimeMillis() - HuaweiCloudMonitorConstants.ONE_DAY_MILLISECONDS,
+                System.currentTimeMillis(), false);
+        ServiceMetricsRequest otherServiceMetricRequest = setUpServiceMetricRequest(null,
+                System.currentTimeMillis() - HuaweiCloudMonitorConstants.FOUR_HOUR_MILLISECONDS,
+                System.currentTimeMillis(), false);
+        mockAllRequestForService();
+
+        // Run the test
+        Map<UUID, List<Metric>> metrics = plugin.getMetricsForServices(
+                List.of(serviceMetricRequest, otherServiceMetricRequest));
+
+        // Verify the results
+        Assertions.assertEquals(2, metrics.size());
+        Assertions.assertEquals(4, metrics.get(serviceMetricRequest.getServiceId()).size());
+        Assertions.assertEquals(4, metrics.get(otherServiceMetricRequest.getServiceId()).size());
+        wireMockExtension.verify(1,
+                postRequestedFor(urlPathMatching("/V1.0/.*/batch-query-metric-data")));
+    }
+
 
     private CredentialVariables getCredentialDefinition() {
         CredentialVariables credentialVariables =
@@ -15,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.xpanse.modules.credential.CredentialCenter;
 import org.eclipse.xpanse.modules.database.service.DeployServiceEntity;
+import org.eclipse.xpanse.modules.database.service.DeployServiceFetchPlan;
 import org.eclipse.xpanse.modules.database.service.DeployServiceStorage;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateEntity;
 import org.eclipse.xpanse.modules.database.servicetemplate.ServiceTemplateStorage;
@@ -24,6 +25,7 @@ import org.eclipse.xpanse.modules.models.common.exceptions.ClientAuthenticationF
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
 import org.eclipse.xpanse.modules.models.credential.enums.CredentialType;
 import org.eclipse.xpanse.plugins.openstack.common.auth.constants.OpenstackCommonEnvironmentConstants;
+import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.KeystoneTokenCache;
 import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.OpenstackKeystoneManager;
 import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.ScsKeystoneManager;
 import org.openstack4j.api.OSClient;
@@ -54,6 +56,8 @@ public class ProviderAuthInfoResolver {
     private OpenstackKeystoneManager openstackKeystoneManager;
     @Resource
     private ScsKeystoneManager scsKeystoneManager;
+    @Resource
+    private KeystoneTokenCache keystoneTokenCache;
 
     /**
      * Get the mapping key of the env variable OS_AUTH_URL by csp.
@@ -141,7 +145,7 @@ public class ProviderAuthInfoResolver {
      */
     private String getAuthUrlFromDeploymentVariables(Csp csp, UUID serviceId) {
         DeployServiceEntity deployServiceEntity = deployServiceStorage.findDeployServiceById(
-                serviceId);
+                serviceId, DeployServiceFetchPlan.BASIC);
         ServiceTemplateEntity serviceTemplateEntity = serviceTemplateStorage.getServiceTemplateById(
                 deployServiceEntity.getServiceTemplateId());
         Map<String, Object> serviceRequestVariables =
@@ -177,6 +181,10 @@ public class ProviderAuthInfoResolver {
         AuthenticationException authenticationException = getAuthenticationException(ex);
         if (Objects.nonNull(authenticationException)) {
             int statusCode = authenticationException.getStatus();
+            if (statusCode == HttpStatus.UNAUTHORIZED.value()) {
+                // the cached token was revoked, the next attempt must authenticate again.
+                keystoneTokenCache.invalidateTokenOfCurrentClient();
+            }
             if (statusCode == HttpStatus.UNAUTHORIZED.value()
                     || statusCode == HttpStatus.FORBIDDEN.value()) {
                 throw new ClientAuthenticationFailedException(ex.getMessage());
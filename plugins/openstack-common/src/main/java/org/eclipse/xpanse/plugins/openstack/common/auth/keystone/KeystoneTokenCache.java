@@ -0,0 +1,288 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * SPDX-FileCopyrightText: Huawei Inc.
+ */
+
+package org.eclipse.xpanse.plugins.openstack.common.auth.keystone;
+
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.xpanse.modules.async.ServiceThreadPoolTaskExecutor;
+import org.openstack4j.api.OSClient;
+import org.openstack4j.model.identity.v3.Token;
+import org.openstack4j.openstack.internal.OSClientSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the Keystone tokens of the authenticated users. The tokens are reused until shortly
+ * before they expire, so that not every API call needs a Keystone authentication round-trip.
+ * A token used shortly before it expires is refreshed in the background with the credential of
+ * the caller. The cache keeps only the tokens, never the credentials used to request them.
+ * The refreshes run on a small pool of their own, a refresh which finds the pool busy is skipped
+ * and tried again by the next caller, so that the callers never run it themselves.
+ */
+@Slf4j
+@Component
+public class KeystoneTokenCache {
+
+    private static final long EVICTION_CHECK_INTERVAL_IN_SECONDS = 60;
+
+    private final Map<TokenKey, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<TokenKey, CompletableFuture<Token>> authentications =
+            new ConcurrentHashMap<>();
+    private final boolean isTokenCacheEnabled;
+    private final long minRemainingValidityInSeconds;
+    private final long refreshBeforeExpiryInSeconds;
+    private final Executor refreshExecutor;
+
+    /**
+     * Constructor for KeystoneTokenCache.
+     *
+     * @param isTokenCacheEnabled           whether the tokens are cached.
+     * @param minRemainingValidityInSeconds minimum validity a cached token must have to be used.
+     * @param refreshBeforeExpiryInSeconds  period before the expiry in which the tokens used are
+     *                                      refreshed in the background.
+     * @param refreshPoolSize               maximum number of tokens refreshed at once.
+     */
+    @Autowired
+    public KeystoneTokenCache(
+            @Value("${openstack.keystone.token.cache.enabled:true}") boolean isTokenCacheEnabled,
+            @Value("${openstack.keystone.token.min.remaining.validity.in.seconds:60}")
+            long minRemainingValidityInSeconds,
+            @Value("${openstack.keystone.token.refresh.before.expiry.in.seconds:300}")
+            long refreshBeforeExpiryInSeconds,
+            @Value("${openstack.keystone.token.refresh.pool.size:2}") int refreshPoolSize) {
+        this(isTokenCacheEnabled, minRemainingValidityInSeconds, refreshBeforeExpiryInSeconds,
+                createRefreshExecutor(refreshPoolSize));
+    }
+
+    KeystoneTokenCache(boolean isTokenCacheEnabled, long minRemainingValidityInSeconds,
+                       long refreshBeforeExpiryInSeconds, Executor refreshExecutor) {
+        this.isTokenCacheEnabled = isTokenCacheEnabled;
+        this.minRemainingValidityInSeconds = minRemainingValidityInSeconds;
+        this.refreshBeforeExpiryInSeconds = refreshBeforeExpiryInSeconds;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Stop the refreshes not finished yet.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor instanceof ServiceThreadPoolTaskExecutor executor) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Get a valid token for the user and the project. A new token is requested from Keystone
+     * only when no cached token is valid. The authenticator is not kept by the cache, it is used
+     * only by this call and by the background refresh started by this call.
+     *
+     * @param tokenKey      key of the user and project scope of the token.
+     * @param authenticator authenticates with Keystone and returns the authenticated client.
+     * @return valid token.
+     */
+    public Token getToken(TokenKey tokenKey, Supplier<OSClient.OSClientV3> authenticator) {
+        if (!isTokenCacheEnabled) {
+            return authenticator.get().getToken();
+        }
+        CachedToken cachedToken = tokens.get(tokenKey);
+        if (Objects.nonNull(cachedToken) && isUsable(cachedToken.token)) {
+            refreshIfExpiring(tokenKey, cachedToken, authenticator);
+            return cachedToken.token;
+        }
+        // one authentication per key, concurrent callers wait for the same token. The
+        // authentication runs outside the maps, so that it does not block the other keys.
+        CompletableFuture<Token> authentication = new CompletableFuture<>();
+        CompletableFuture<Token> runningAuthentication =
+                authentications.putIfAbsent(tokenKey, authentication);
+        if (Objects.nonNull(runningAuthentication)) {
+            return waitForAuthentication(runningAuthentication);
+        }
+        try {
+            Token token = authenticate(tokenKey, authenticator);
+            authentication.complete(token);
+            return token;
+        } catch (RuntimeException e) {
+            authentication.completeExceptionally(e);
+            throw e;
+        } finally {
+            authentications.remove(tokenKey, authentication);
+        }
+    }
+
+    /**
+     * Remove the token used by the client of the current thread from the cache. Used when the
+     * token is rejected by the cloud provider.
+     */
+    public void invalidateTokenOfCurrentClient() {
+        OSClientSession<?, ?> session = OSClientSession.getCurrent();
+        if (session instanceof OSClient.OSClientV3 client
+                && Objects.nonNull(client.getToken())) {
+            invalidateToken(client.getToken().getId());
+        }
+    }
+
+    /**
+     * Remove the token with the id from the cache.
+     *
+     * @param tokenId id of the token.
+     */
+    public void invalidateToken(String tokenId) {
+        if (tokens.entrySet().removeIf(entry ->
+                Objects.equals(entry.getValue().token.getId(), tokenId))) {
+            log.info("Invalidated cached keystone token.");
+        }
+    }
+
+    private Token authenticate(TokenKey tokenKey, Supplier<OSClient.OSClientV3> authenticator) {
+        // the token may have been stored by an authentication finished in the meantime.
+        CachedToken cachedToken = tokens.get(tokenKey);
+        if (Objects.nonNull(cachedToken) && isUsable(cachedToken.token)) {
+            return cachedToken.token;
+        }
+        Token token = authenticator.get().getToken();
+        tokens.put(tokenKey, new CachedToken(token));
+        return token;
+    }
+
+    private Token waitForAuthentication(CompletableFuture<Token> authentication) {
+        try {
+            return authentication.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    int getCachedTokensCount() {
+        return tokens.size();
+    }
+
+    /**
+     * Remove the tokens which are no longer usable from the cache.
+     */
+    @Scheduled(initialDelay = EVICTION_CHECK_INTERVAL_IN_SECONDS,
+            fixedDelay = EVICTION_CHECK_INTERVAL_IN_SECONDS, timeUnit = TimeUnit.SECONDS)
+    public void evictExpiredTokens() {
+        // tokens not used until they expire are not refreshed, so they are removed here.
+        tokens.entrySet().removeIf(entry -> !isUsable(entry.getValue().token));
+    }
+
+    private void refreshIfExpiring(TokenKey tokenKey, CachedToken cachedToken,
+                                   Supplier<OSClient.OSClientV3> authenticator) {
+        long remainingValidity = getExpiresAt(cachedToken.token) - System.currentTimeMillis();
+        if (remainingValidity > TimeUnit.SECONDS.toMillis(refreshBeforeExpiryInSeconds)
+                || !cachedToken.isRefreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> refreshToken(tokenKey, cachedToken, authenticator));
+        } catch (RejectedExecutionException e) {
+            // the token is still usable, the next caller tries again.
+            log.debug("Skipped refresh of keystone token of user {} for project {}, all refresh"
+                    + " threads are busy.", tokenKey.userName(), tokenKey.project());
+            cachedToken.isRefreshing.set(false);
+        }
+    }
+
+    private void refreshToken(TokenKey tokenKey, CachedToken cachedToken,
+                              Supplier<OSClient.OSClientV3> authenticator) {
+        try {
+            Token refreshedToken = authenticator.get().getToken();
+            tokens.replace(tokenKey, cachedToken, new CachedToken(refreshedToken));
+            log.info("Refreshed keystone token of user {} for project {}.",
+                    tokenKey.userName(), tokenKey.project());
+        } catch (RuntimeException e) {
+            log.error("Refresh keystone token of user {} for project {} failed.",
+                    tokenKey.userName(), tokenKey.project(), e);
+            // the next caller tries again while the token is still usable.
+            cachedToken.isRefreshing.set(false);
+        }
+    }
+
+    private static Executor createRefreshExecutor(int refreshPoolSize) {
+        ServiceThreadPoolTaskExecutor executor = new ServiceThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, refreshPoolSize));
+        executor.setMaxPoolSize(Math.max(1, refreshPoolSize));
+        // no queue, the refreshes not started at once are rejected and skipped.
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("keystone-token-refresh-");
+        executor.initialize();
+        return executor;
+    }
+
+    private boolean isUsable(Token token) {
+        return getExpiresAt(token) - System.currentTimeMillis()
+                > TimeUnit.SECONDS.toMillis(minRemainingValidityInSeconds);
+    }
+
+    private long getExpiresAt(Token token) {
+        // tokens without expiry are never reused.
+        return Objects.isNull(token.getExpires()) ? 0 : token.getExpires().getTime();
+    }
+
+    /**
+     * Key of a token in the cache. The password is kept only as a hash, so that a changed
+     * password results in a new token.
+     *
+     * @param authUrl       authentication URL of the cloud provider.
+     * @param userName      name of the user.
+     * @param passwordHash  hash of the password of the user.
+     * @param userDomain    domain of the user.
+     * @param project       project in the scope of the token.
+     * @param projectDomain domain of the project.
+     */
+    public record TokenKey(String authUrl, String userName, String passwordHash,
+                           String userDomain, String project, String projectDomain) {
+
+        /**
+         * Create the key of a token.
+         */
+        public static TokenKey of(String authUrl, String userName, String password,
+                                  String userDomain, String project, String projectDomain) {
+            return new TokenKey(authUrl, userName, hash(password), userDomain, project,
+                    projectDomain);
+        }
+
+        private static String hash(String value) {
+            try {
+                MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+                return HexFormat.of().formatHex(
+                        messageDigest.digest(value.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class CachedToken {
+
+        private final Token token;
+        private final AtomicBoolean isRefreshing = new AtomicBoolean();
+
+        private CachedToken(Token token) {
+            this.token = token;
+        }
+    }
+}
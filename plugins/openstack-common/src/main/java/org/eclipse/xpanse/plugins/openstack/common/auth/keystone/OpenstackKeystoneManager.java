@@ -19,9 +19,11 @@ import org.eclipse.xpanse.modules.models.credential.enums.CredentialType;
 import org.eclipse.xpanse.modules.models.credential.exceptions.CredentialsNotFoundException;
 import org.eclipse.xpanse.plugins.openstack.common.auth.constants.OpenstackCommonEnvironmentConstants;
 import org.openstack4j.api.OSClient;
+import org.openstack4j.api.types.Facing;
 import org.openstack4j.core.transport.Config;
 import org.openstack4j.core.transport.ProxyHost;
 import org.openstack4j.model.common.Identifier;
+import org.openstack4j.model.identity.v3.Token;
 import org.openstack4j.openstack.OSFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
@@ -34,15 +36,19 @@ import org.springframework.stereotype.Component;
 public class OpenstackKeystoneManager {
 
     private final Environment environment;
+    private final KeystoneTokenCache keystoneTokenCache;
 
     /**
      * Constructor for OpenstackKeystoneManager.
      *
-     * @param environment Environment Bean
+     * @param environment        Environment Bean
+     * @param keystoneTokenCache KeystoneTokenCache Bean
      */
     @Autowired
-    public OpenstackKeystoneManager(Environment environment) {
+    public OpenstackKeystoneManager(Environment environment,
+                                    KeystoneTokenCache keystoneTokenCache) {
         this.environment = environment;
+        this.keystoneTokenCache = keystoneTokenCache;
     }
 
     private String getIpAddressFromUrl(String url) {
@@ -100,8 +106,6 @@ public class OpenstackKeystoneManager {
                             + " variables to connect to Openstack API is not found");
         }
         OSFactory.enableHttpLoggingFilter(true);
-        // there is no need to return the authenticated client because the below method already sets
-        // the authentication details in the thread context.
         String serviceTenant =
                 this.environment.getProperty(OpenstackCommonEnvironmentConstants.SERVICE_PROJECT);
         String proxyHost =
@@ -110,15 +114,24 @@ public class OpenstackKeystoneManager {
                 this.environment.getProperty(OpenstackCommonEnvironmentConstants.PROXY_PORT);
         String sslDisabled = this.environment.getProperty(
                 OpenstackCommonEnvironmentConstants.SSL_VERIFICATION_DISABLED);
-        return OSFactory
+        Config config = buildClientConfig(authUrl, proxyHost, proxyPort, sslDisabled);
+        String project = Objects.isNull(serviceTenant) ? tenant : serviceTenant;
+        KeystoneTokenCache.TokenKey tokenKey = KeystoneTokenCache.TokenKey.of(authUrl, userName,
+                password, userDomain, project, projectDomain);
+        String user = userName;
+        String secret = password;
+        String domainOfUser = userDomain;
+        String domainOfProject = projectDomain;
+        Token token = keystoneTokenCache.getToken(tokenKey, () -> OSFactory
                 .builderV3()
-                .withConfig(buildClientConfig(authUrl, proxyHost, proxyPort, sslDisabled))
-                .credentials(userName, password, Identifier.byName(userDomain))
-                .scopeToProject(
-                        Identifier.byName(Objects.isNull(serviceTenant) ? tenant : serviceTenant),
-                        Identifier.byName(projectDomain))
+                .withConfig(config)
+                .credentials(user, secret, Identifier.byName(domainOfUser))
+                .scopeToProject(Identifier.byName(project), Identifier.byName(domainOfProject))
                 .endpoint(authUrl)
-                .authenticate();
+                .authenticate());
+        // the client created from the token sets the authentication details in the thread
+        // context without another round-trip to Keystone.
+        return OSFactory.clientFromToken(token, Facing.PUBLIC, config);
     }
 
     private Config buildClientConfig(String url, String proxyHost, String proxyPort,
@@ -6,6 +6,7 @@
 
 package org.eclipse.xpanse.plugins.openstack.common.auth.keystone;
 
+import jakarta.annotation.Resource;
 import java.util.List;
 import java.util.Objects;
 import org.eclipse.xpanse.modules.models.credential.AbstractCredentialInfo;
@@ -16,6 +17,7 @@ import org.eclipse.xpanse.modules.models.credential.exceptions.CredentialsNotFou
 import org.eclipse.xpanse.plugins.openstack.common.auth.constants.OpenstackCommonEnvironmentConstants;
 import org.openstack4j.api.OSClient;
 import org.openstack4j.model.common.Identifier;
+import org.openstack4j.model.identity.v3.Token;
 import org.openstack4j.openstack.OSFactory;
 import org.springframework.stereotype.Component;
 
@@ -25,6 +27,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class ScsKeystoneManager {
 
+    @Resource
+    private KeystoneTokenCache keystoneTokenCache;
+
     /**
      * Get the Openstack API client based on the credential information.
      *
@@ -65,15 +70,22 @@ public class ScsKeystoneManager {
                             + " variables to connect to Openstack API is not found");
         }
         OSFactory.enableHttpLoggingFilter(true);
-        // there is no need to return the authenticated client because the below method already sets
-        // the authentication details in the thread context.
-        return OSFactory
+        KeystoneTokenCache.TokenKey tokenKey = KeystoneTokenCache.TokenKey.of(authUrl, userName,
+                password, domain, tenant, domain);
+        String user = userName;
+        String secret = password;
+        String project = tenant;
+        String userDomain = domain;
+        Token token = keystoneTokenCache.getToken(tokenKey, () -> OSFactory
                 .builderV3()
-                .credentials(userName, password, Identifier.byName(domain))
+                .credentials(user, secret, Identifier.byName(userDomain))
                 .scopeToProject(
-                        Identifier.byName(tenant),
-                        Identifier.byName(domain))
+                        Identifier.byName(project),
+                        Identifier.byName(userDomain))
                 .endpoint(authUrl)
-                .authenticate();
+                .authenticate());
+        // the client created from the token sets the authentication details in the thread
+        // context without another round-trip to Keystone.
+        return OSFactory.clientFromToken(token);
     }
 }
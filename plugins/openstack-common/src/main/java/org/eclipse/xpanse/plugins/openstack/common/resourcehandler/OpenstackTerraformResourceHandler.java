@@ -8,7 +8,6 @@ package org.eclipse.xpanse.plugins.openstack.common.resourcehandler;
 
 import static org.eclipse.xpanse.modules.deployment.deployers.terraform.terraformlocal.TerraformLocalDeployment.STATE_FILE_NAME;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +20,7 @@ import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfSta
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfStateResource;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.resources.TfStateResourceInstance;
 import org.eclipse.xpanse.modules.deployment.deployers.terraform.utils.TfResourceTransUtils;
+import org.eclipse.xpanse.modules.deployment.deployers.terraform.utils.TfStateParser;
 import org.eclipse.xpanse.modules.models.service.deploy.DeployResource;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployResourceHandler;
 import org.eclipse.xpanse.modules.orchestrator.deployment.DeployResourceProperties;
@@ -34,8 +34,6 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class OpenstackTerraformResourceHandler implements DeployResourceHandler {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
     /**
      * Handler of Openstack for the DeployResult.
      *
@@ -44,10 +42,13 @@ public class OpenstackTerraformResourceHandler implements DeployResourceHandler
     @Override
     public void handler(DeployResult deployResult) {
         List<DeployResource> deployResourceList = new ArrayList<>();
+        Set<String> supportTypes =
+                OpenstackTerraformResourceProperties.getTerraformResourceTypes();
         TfState tfState;
         try {
             var stateFile = deployResult.getPrivateProperties().get(STATE_FILE_NAME);
-            tfState = objectMapper.readValue(stateFile, TfState.class);
+            // only the resources of the supported types are read from the state.
+            tfState = TfStateParser.parse(stateFile, supportTypes);
         } catch (IOException ex) {
             log.error("Parse terraform state content failed.");
             throw new TerraformExecutorException("Parse terraform state content failed.", ex);
@@ -59,14 +60,7 @@ public class OpenstackTerraformResourceHandler implements DeployResourceHandler
                     deployResult.getProperties().put(outputKey, tfOutput.getValue());
                 }
             }
-            Set<String> supportTypes =
-                    OpenstackTerraformResourceProperties.getTerraformResourceTypes();
             for (TfStateResource tfStateResource : tfState.getResources()) {
-                if (!supportTypes.contains(tfStateResource.getType())) {
-                    log.info("The resource type {} is unsupported to parse.",
-                            tfStateResource.getType());
-                    continue;
-                }
                 DeployResourceProperties deployResourceProperties =
                         OpenstackTerraformResourceProperties.getDeployResourceProperties(
                                 tfStateResource.getType());
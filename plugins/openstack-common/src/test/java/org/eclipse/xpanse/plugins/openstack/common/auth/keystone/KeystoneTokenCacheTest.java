@@ -0,0 +1,213 @@
+package org.eclipse.xpanse.plugins.openstack.common.auth.keystone;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openstack4j.api.OSClient;
+import org.openstack4j.model.identity.v3.Token;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class KeystoneTokenCacheTest {
+
+    private final ThreadPoolTaskExecutor refreshExecutor = new ThreadPoolTaskExecutor();
+    private final KeystoneTokenCache keystoneTokenCache =
+            new KeystoneTokenCache(true, 60, 300, refreshExecutor);
+    private final KeystoneTokenCache.TokenKey tokenKey = KeystoneTokenCache.TokenKey.of(
+            "http://127.0.0.1/identity/v3", "user", "password", "Default", "project", "Default");
+    private final AtomicInteger authenticationCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        refreshExecutor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshExecutor.shutdown();
+    }
+
+    @Test
+    void testGetTokenReusesValidToken() {
+        Supplier<OSClient.OSClientV3> authenticator = getAuthenticator(3600);
+
+        Token token = keystoneTokenCache.getToken(tokenKey, authenticator);
+
+        Assertions.assertSame(token, keystoneTokenCache.getToken(tokenKey, authenticator));
+        Assertions.assertEquals(1, authenticationCount.get());
+    }
+
+    @Test
+    void testGetTokenAuthenticatesAgainWhenTokenExpires() {
+        Supplier<OSClient.OSClientV3> authenticator = getAuthenticator(30);
+
+        keystoneTokenCache.getToken(tokenKey, authenticator);
+        keystoneTokenCache.getToken(tokenKey, authenticator);
+
+        Assertions.assertEquals(2, authenticationCount.get());
+    }
+
+    @Test
+    void testGetTokenWithDifferentPassword() {
+        Supplier<OSClient.OSClientV3> authenticator = getAuthenticator(3600);
+        KeystoneTokenCache.TokenKey otherTokenKey = KeystoneTokenCache.TokenKey.of(
+                "http://127.0.0.1/identity/v3", "user", "changed", "Default", "project",
+                "Default");
+
+        keystoneTokenCache.getToken(tokenKey, authenticator);
+        keystoneTokenCache.getToken(otherTokenKey, authenticator);
+
+        Assertions.assertEquals(2, authenticationCount.get());
+        Assertions.assertEquals(2, keystoneTokenCache.getCachedTokensCount());
+    }
+
+    @Test
+    void testInvalidateToken() {
+        Supplier<OSClient.OSClientV3> authenticator = getAuthenticator(3600);
+        Token token = keystoneTokenCache.getToken(tokenKey, authenticator);
+
+        keystoneTokenCache.invalidateToken(token.getId());
+
+        Assertions.assertEquals(0, keystoneTokenCache.getCachedTokensCount());
+        Assertions.assertNotSame(token, keystoneTokenCache.getToken(tokenKey, authenticator));
+        Assertions.assertEquals(2, authenticationCount.get());
+    }
+
+    @Test
+    void testGetTokenRefreshesExpiringTokenInBackground() throws InterruptedException {
+        // the refreshed token is not expiring, so it is not refreshed again.
+        Supplier<OSClient.OSClientV3> authenticator = getAuthenticator(200, 3600);
+        Token token = keystoneTokenCache.getToken(tokenKey, authenticator);
+
+        // the expiring token is still returned while it is refreshed.
+        Assertions.assertSame(token, keystoneTokenCache.getToken(tokenKey, authenticator));
+
+        Token refreshedToken = waitForRefreshedToken(token, authenticator);
+        Assertions.assertEquals("token-2", refreshedToken.getId());
+        Assertions.assertEquals(2, authenticationCount.get());
+        Assertions.assertEquals(1, keystoneTokenCache.getCachedTokensCount());
+    }
+
+    @Test
+    void testGetTokenAuthenticatesOnceForConcurrentCallers() throws Exception {
+        CountDownLatch authenticationStarted = new CountDownLatch(1);
+        CountDownLatch authenticationReleased = new CountDownLatch(1);
+        Supplier<OSClient.OSClientV3> validAuthenticator = getAuthenticator(3600);
+        Supplier<OSClient.OSClientV3> authenticator = () -> {
+            authenticationStarted.countDown();
+            try {
+                authenticationReleased.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return validAuthenticator.get();
+        };
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Token>> tokens = new ArrayList<>();
+            tokens.add(callers.submit(() -> keystoneTokenCache.getToken(tokenKey, authenticator)));
+            Assertions.assertTrue(authenticationStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                tokens.add(callers.submit(
+                        () -> keystoneTokenCache.getToken(tokenKey, authenticator)));
+            }
+            // a token of another user is not blocked by the running authentication.
+            KeystoneTokenCache.TokenKey otherTokenKey = KeystoneTokenCache.TokenKey.of(
+                    "http://127.0.0.1/identity/v3", "other", "password", "Default", "project",
+                    "Default");
+            Assertions.assertNotNull(keystoneTokenCache.getToken(otherTokenKey,
+                    validAuthenticator));
+            authenticationReleased.countDown();
+
+            Token token = tokens.getFirst().get(5, TimeUnit.SECONDS);
+            for (Future<Token> otherToken : tokens) {
+                Assertions.assertSame(token, otherToken.get(5, TimeUnit.SECONDS));
+            }
+            Assertions.assertEquals(2, authenticationCount.get());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetTokenSkipsRefreshWhenExecutorIsBusy() {
+        KeystoneTokenCache busyCache = new KeystoneTokenCache(true, 60, 300, task -> {
+            throw new RejectedExecutionException("busy");
+        });
+        Supplier<OSClient.OSClientV3> authenticator = getAuthenticator(200);
+        Token token = busyCache.getToken(tokenKey, authenticator);
+
+        // the refresh is not run by the caller, the expiring token is returned.
+        Assertions.assertSame(token, busyCache.getToken(tokenKey, authenticator));
+        Assertions.assertSame(token, busyCache.getToken(tokenKey, authenticator));
+        Assertions.assertEquals(1, authenticationCount.get());
+    }
+
+    @Test
+    void testEvictExpiredTokens() {
+        keystoneTokenCache.getToken(tokenKey, getAuthenticator(30));
+
+        keystoneTokenCache.evictExpiredTokens();
+
+        Assertions.assertEquals(0, keystoneTokenCache.getCachedTokensCount());
+        Assertions.assertEquals(1, authenticationCount.get());
+    }
+
+    @Test
+    void testGetTokenWithCacheDisabled() {
+        KeystoneTokenCache disabledCache =
+                new KeystoneTokenCache(false, 60, 300, refreshExecutor);
+        Supplier<OSClient.OSClientV3> authenticator = getAuthenticator(3600);
+
+        disabledCache.getToken(tokenKey, authenticator);
+        disabledCache.getToken(tokenKey, authenticator);
+
+        Assertions.assertEquals(2, authenticationCount.get());
+        Assertions.assertEquals(0, disabledCache.getCachedTokensCount());
+    }
+
+    private Token waitForRefreshedToken(Token token,
+                                        Supplier<OSClient.OSClientV3> authenticator)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        Token cachedToken = keystoneTokenCache.getToken(tokenKey, authenticator);
+        while (cachedToken == token && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            cachedToken = keystoneTokenCache.getToken(tokenKey, authenticator);
+        }
+        return cachedToken;
+    }
+
+    private Supplier<OSClient.OSClientV3> getAuthenticator(long validityInSeconds) {
+        return getAuthenticator(validityInSeconds, validityInSeconds);
+    }
+
+    private Supplier<OSClient.OSClientV3> getAuthenticator(long firstValidityInSeconds,
+                                                           long validityInSeconds) {
+        return () -> {
+            int count = authenticationCount.incrementAndGet();
+            Token token = mock(Token.class);
+            when(token.getId()).thenReturn("token-" + count);
+            when(token.getExpires()).thenReturn(Date.from(Instant.now().plusSeconds(
+                    count == 1 ? firstValidityInSeconds : validityInSeconds)));
+            OSClient.OSClientV3 client = mock(OSClient.OSClientV3.class);
+            when(client.getToken()).thenReturn(token);
+            return client;
+        };
+    }
+}
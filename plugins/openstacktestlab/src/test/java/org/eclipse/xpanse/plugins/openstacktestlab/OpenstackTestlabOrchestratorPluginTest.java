@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import org.eclipse.xpanse.modules.async.TaskConfiguration;
 import org.eclipse.xpanse.modules.cache.monitor.MonitorMetricsStore;
 import org.eclipse.xpanse.modules.credential.CredentialCenter;
 import org.eclipse.xpanse.modules.database.resource.DeployResourceEntity;
@@ -64,6 +65,7 @@ import org.eclipse.xpanse.modules.orchestrator.servicestate.ServiceStateManageRe
 import org.eclipse.xpanse.modules.security.common.AesUtil;
 import org.eclipse.xpanse.plugins.openstack.common.auth.ProviderAuthInfoResolver;
 import org.eclipse.xpanse.plugins.openstack.common.auth.constants.OpenstackCommonEnvironmentConstants;
+import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.KeystoneTokenCache;
 import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.OpenstackKeystoneManager;
 import org.eclipse.xpanse.plugins.openstack.common.auth.keystone.ScsKeystoneManager;
 import org.eclipse.xpanse.plugins.openstack.common.manage.OpenstackResourceManager;
@@ -95,7 +97,8 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
         MeasuresService.class, MetricsQueryBuilder.class, CredentialCenter.class, AesUtil.class,
         MonitorMetricsStore.class, OpenstackTerraformResourceHandler.class, PluginManager.class,
         ServiceTemplateStorage.class, OpenstackResourceManager.class,
-        OpenstackServicePriceCalculator.class, ProviderAuthInfoResolver.class
+        OpenstackServicePriceCalculator.class, ProviderAuthInfoResolver.class,
+        KeystoneTokenCache.class, TaskConfiguration.class
 })
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestPropertySource(properties = {"OPENSTACK_TESTLAB_AUTH_URL=http://127.0.0.1/identity/v3"})
@@ -260,7 +263,7 @@ class OpenstackTestlabOrchestratorPluginTest {
         deployment.setVariables(variables);
         ocl.setDeployment(deployment);
         serviceTemplateEntity.setOcl(ocl);
-        when(this.databaseDeployServiceStorage.findDeployServiceById(any())).thenReturn(
+        when(this.databaseDeployServiceStorage.findDeployServiceById(any(), any())).thenReturn(
                 deployServiceEntity);
         when(this.serviceTemplateStorage.getServiceTemplateById(any())).thenReturn(
                 serviceTemplateEntity);
@@ -18,6 +18,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry class to xpanse runtime. This class can be directly executed to start the server.
@@ -25,6 +26,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @EnableCaching
 @EnableRetry
 @EnableAsync(proxyTargetClass = true)
+@EnableScheduling
 @EnableJpaRepositories(basePackages = "org.eclipse.xpanse")
 @EntityScan(basePackages = "org.eclipse.xpanse")
 @ComponentScan(basePackages = "org.eclipse.xpanse")
@@ -6,6 +6,7 @@
 
 package org.eclipse.xpanse.runtime;
 
+import static org.eclipse.xpanse.modules.cache.consts.CacheConstants.POLICY_EVALUATION_CACHE_NAME;
 import static org.eclipse.xpanse.modules.logging.LoggingKeyConstant.HEADER_TRACKING_ID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -27,6 +28,7 @@ import com.huaweicloud.sdk.core.invoker.SyncInvoker;
 import com.huaweicloud.sdk.ecs.v2.model.NovaAvailabilityZone;
 import com.huaweicloud.sdk.ecs.v2.model.NovaListAvailabilityZonesRequest;
 import com.huaweicloud.sdk.ecs.v2.model.NovaListAvailabilityZonesResponse;
+import jakarta.annotation.Resource;
 import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
@@ -81,6 +83,7 @@ import org.springframework.beans.BeanUtils;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -103,6 +106,8 @@ class ServiceDeployerApiTest extends ApisTestCommon {
     private PoliciesValidateApi mockPoliciesValidateApi;
     @MockBean
     private PoliciesEvaluationApi mockPoliciesEvaluationApi;
+    @Resource
+    private CacheManager cacheManager;
 
     @Test
     @WithJwt(file = "jwt_user.json")
@@ -184,6 +189,8 @@ class ServiceDeployerApiTest extends ApisTestCommon {
         // Configure PoliciesEvaluationApi.evaluatePoliciesPost(...).
         when(mockPoliciesEvaluationApi.evaluatePoliciesPost(any(EvalCmdList.class))).thenReturn(
                 evalResult);
+        // the cached results of the same deployment plans must not hide the changed result.
+        Objects.requireNonNull(cacheManager.getCache(POLICY_EVALUATION_CACHE_NAME)).clear();
     }
 
     void testGetAvailabilityZonesApiWell() throws Exception {
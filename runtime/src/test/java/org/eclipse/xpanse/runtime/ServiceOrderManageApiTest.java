@@ -96,6 +96,13 @@ class ServiceOrderManageApiTest extends ApisTestCommon {
         assertThat(orderDetails.getTaskType()).isEqualTo(ServiceOrderType.DEPLOY);
         assertThat(orderDetails.getServiceId()).isEqualTo(serviceId);
 
+        MockHttpServletResponse orderOutputResponse = getOrderOutputTail(orderId);
+        assertEquals(HttpStatus.OK.value(), orderOutputResponse.getStatus());
+        List<String> orderOutput = objectMapper.readValue(
+                orderOutputResponse.getContentAsString(), new TypeReference<>() {
+                });
+        assertThat(orderOutput).isNotEmpty();
+
         MockHttpServletResponse serviceOrdersResponse =
                 listServiceOrders(serviceId, ServiceOrderType.DEPLOY, TaskStatus.SUCCESSFUL);
 
@@ -239,6 +246,13 @@ class ServiceOrderManageApiTest extends ApisTestCommon {
                 .andReturn().getResponse();
     }
 
+    MockHttpServletResponse getOrderOutputTail(UUID orderId) throws Exception {
+        return mockMvc.perform(
+                        get("/xpanse/services/orders/{orderId}/output", orderId).accept(
+                                MediaType.APPLICATION_JSON))
+                .andReturn().getResponse();
+    }
+
     MockHttpServletResponse deleteOrderByOrderId(UUID orderId)
             throws Exception {
         return mockMvc.perform(
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
@@ -130,7 +131,7 @@ class ServiceStateManageApiTest extends ApisTestCommon {
         Response result1 = Response.errorResponse(ResultType.SERVICE_DEPLOYMENT_NOT_FOUND,
                 Collections.singletonList(String.format("Service with id %s has no vm resources.",
                         service1.getId())));
-        when(mockDeployServiceStorage.findDeployServiceById(service1.getId())).thenReturn(service1);
+        mockFindDeployServiceById(service1);
         // run the test
         final MockHttpServletResponse response1 = startService(service1.getId());
         // Verify the results
@@ -146,7 +147,7 @@ class ServiceStateManageApiTest extends ApisTestCommon {
                         String.format("Can't find suitable plugin for the Csp %s",
                                 Csp.AWS.toValue())));
 
-        when(mockDeployServiceStorage.findDeployServiceById(service2.getId())).thenReturn(service2);
+        mockFindDeployServiceById(service2);
         // run the test
         final MockHttpServletResponse response2 = startService(service2.getId());
 
@@ -161,7 +162,7 @@ class ServiceStateManageApiTest extends ApisTestCommon {
         Response result3 = Response.errorResponse(ResultType.ACCESS_DENIED,
                 Collections.singletonList("No permissions to manage status of the service "
                         + "belonging to other users."));
-        when(mockDeployServiceStorage.findDeployServiceById(service3.getId())).thenReturn(service3);
+        mockFindDeployServiceById(service3);
         // run the test
         final MockHttpServletResponse response3 = startService(service3.getId());
         // Verify the results
@@ -176,7 +177,7 @@ class ServiceStateManageApiTest extends ApisTestCommon {
                 Collections.singletonList(
                         String.format("Service with id %s is %s.", service4.getId(),
                                 service4.getServiceDeploymentState())));
-        when(mockDeployServiceStorage.findDeployServiceById(service4.getId())).thenReturn(service4);
+        mockFindDeployServiceById(service4);
         // run the test
         final MockHttpServletResponse response4 = startService(service4.getId());
         // Verify the results
@@ -187,7 +188,7 @@ class ServiceStateManageApiTest extends ApisTestCommon {
         // Setup
         DeployServiceEntity service5 = setUpWellDeployServiceEntity();
         service5.setServiceState(ServiceState.STARTING);
-        when(mockDeployServiceStorage.findDeployServiceById(service5.getId())).thenReturn(service5);
+        mockFindDeployServiceById(service5);
         Response errorResult5 = Response.errorResponse(ResultType.SERVICE_STATE_INVALID,
                 Collections.singletonList(String.format(
                         "Service %s with a running management task, please try again later.",
@@ -202,7 +203,7 @@ class ServiceStateManageApiTest extends ApisTestCommon {
         // Setup
         DeployServiceEntity service6 = setUpWellDeployServiceEntity();
         service6.setServiceState(ServiceState.RUNNING);
-        when(mockDeployServiceStorage.findDeployServiceById(service6.getId())).thenReturn(service6);
+        mockFindDeployServiceById(service6);
         Response errorResult6 = Response.errorResponse(ResultType.SERVICE_STATE_INVALID,
                 Collections.singletonList(
                         String.format("Service %s with state RUNNING is not supported to start.",
@@ -221,7 +222,7 @@ class ServiceStateManageApiTest extends ApisTestCommon {
                 Collections.singletonList(String.format(
                         "Service %s with a running management task, please try again later.",
                         service7.getId())));
-        when(mockDeployServiceStorage.findDeployServiceById(service7.getId())).thenReturn(service7);
+        mockFindDeployServiceById(service7);
         // run the test
         final MockHttpServletResponse response7 = stopService(service7.getId());
         // Verify the results
@@ -231,7 +232,7 @@ class ServiceStateManageApiTest extends ApisTestCommon {
 
         DeployServiceEntity service8 = setUpWellDeployServiceEntity();
         service8.setServiceState(ServiceState.STOPPED);
-        when(mockDeployServiceStorage.findDeployServiceById(service8.getId())).thenReturn(service8);
+        mockFindDeployServiceById(service8);
         Response errorResult8 = Response.errorResponse(ResultType.SERVICE_STATE_INVALID,
                 Collections.singletonList(
                         String.format("Service %s with state STOPPED is not supported to stop.",
@@ -245,7 +246,7 @@ class ServiceStateManageApiTest extends ApisTestCommon {
 
         DeployServiceEntity service9 = setUpWellDeployServiceEntity();
         service9.setServiceState(ServiceState.STOPPED);
-        when(mockDeployServiceStorage.findDeployServiceById(service9.getId())).thenReturn(service9);
+        mockFindDeployServiceById(service9);
         Response errorResult9 = Response.errorResponse(ResultType.SERVICE_STATE_INVALID,
                 Collections.singletonList(
                         String.format("Service %s with state STOPPED is not supported to restart.",
@@ -281,7 +282,7 @@ class ServiceStateManageApiTest extends ApisTestCommon {
         // Setup
         DeployServiceEntity service = setUpWellDeployServiceEntity();
         service.setServiceState(ServiceState.STOPPED);
-        when(mockDeployServiceStorage.findDeployServiceById(service.getId())).thenReturn(service);
+        mockFindDeployServiceById(service);
         when(huaweiCloudClient.getEcsClient(any(), any())).thenReturn(mockEcsClient);
         addCredentialForHuaweiCloud();
         testServiceStateManageApisWithHuaweiCloudSdk(service);
@@ -471,7 +472,7 @@ class ServiceStateManageApiTest extends ApisTestCommon {
         // Setup
         DeployServiceEntity service = setUpWellDeployServiceEntity();
         service.setCsp(Csp.FLEXIBLE_ENGINE);
-        when(mockDeployServiceStorage.findDeployServiceById(service.getId())).thenReturn(service);
+        mockFindDeployServiceById(service);
         when(flexibleEngineClient.getEcsClient(any(), any())).thenReturn(mockEcsClient);
         addCredentialForFlexibleEngine();
         testServiceStateManageApisWithHuaweiCloudSdk(service);
@@ -482,7 +483,7 @@ class ServiceStateManageApiTest extends ApisTestCommon {
         addCredentialForOpenstack(Csp.OPENSTACK_TESTLAB);
         DeployServiceEntity service = setUpWellDeployServiceEntity();
         service.setCsp(Csp.OPENSTACK_TESTLAB);
-        when(mockDeployServiceStorage.findDeployServiceById(service.getId())).thenReturn(service);
+        mockFindDeployServiceById(service);
         testServiceStateManageApisWithOpenstackSdk(service);
         deleteCredential(Csp.OPENSTACK_TESTLAB, CredentialType.VARIABLES, "USERNAME_PASSWORD");
     }
@@ -688,4 +689,10 @@ class ServiceStateManageApiTest extends ApisTestCommon {
                         delete("/xpanse/services/tasks/{id}", taskId).accept(MediaType.APPLICATION_JSON))
                 .andReturn().getResponse();
     }
+
+    private void mockFindDeployServiceById(DeployServiceEntity service) {
+        when(mockDeployServiceStorage.findDeployServiceById(service.getId())).thenReturn(service);
+        when(mockDeployServiceStorage.findDeployServiceById(eq(service.getId()), any()))
+                .thenReturn(service);
+    }
 }
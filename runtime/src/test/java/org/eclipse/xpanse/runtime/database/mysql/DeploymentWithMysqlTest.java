@@ -54,6 +54,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.BeanUtils;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.context.request.async.DeferredResult;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -283,7 +284,8 @@ class DeploymentWithMysqlTest extends AbstractMysqlIntegrationTest {
 
     void testListServiceOrders(UUID serviceId) {
         List<ServiceOrderDetails> serviceOrders =
-                serviceOrderManageApi.listServiceOrders(serviceId.toString(), null, null);
+                serviceOrderManageApi.listServiceOrders(serviceId.toString(), null, null,
+                        null, null, new MockHttpServletResponse());
         Assertions.assertNotNull(serviceOrders);
     }
 
@@ -8,6 +8,7 @@ package org.eclipse.xpanse.runtime.modules.servicetemplate.utils;
 import java.io.File;
 import java.net.URI;
 import java.net.URL;
+import java.util.List;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.xpanse.common.openapi.OpenApiGeneratorJarManage;
@@ -21,6 +22,8 @@ import org.eclipse.xpanse.modules.models.servicetemplate.utils.OclLoader;
 import org.eclipse.xpanse.modules.orchestrator.PluginManager;
 import org.eclipse.xpanse.modules.servicetemplate.utils.AvailabilityZoneSchemaValidator;
 import org.eclipse.xpanse.modules.servicetemplate.utils.DeployVariableSchemaValidator;
+import org.eclipse.xpanse.modules.servicetemplate.utils.OpenApiHtmlRenderer;
+import org.eclipse.xpanse.modules.servicetemplate.utils.OpenApiHtmlStore;
 import org.eclipse.xpanse.modules.servicetemplate.utils.ServiceTemplateOpenApiGenerator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +40,7 @@ class ServiceTemplateOpenApiGeneratorTest {
     private final String ID = "488adf44-b48f-43fb-9b7f-61e79f40016a";
     private final UUID RANDOM_UUID = UUID.fromString(ID);
     private OpenApiGeneratorJarManage openApiGeneratorJarManage;
+    private OpenApiHtmlStore openApiHtmlStore;
     @InjectMocks
     private ServiceTemplateOpenApiGenerator openApiGenerator;
 
@@ -50,8 +54,10 @@ class ServiceTemplateOpenApiGeneratorTest {
         openApiGeneratorJarManage =
                 new OpenApiGeneratorJarManage(clientDownloadURL, openApiPath);
         PluginManager pluginManager = new PluginManager();
+        openApiHtmlStore =
+                new OpenApiHtmlStore(openApiGeneratorJarManage, new OpenApiHtmlRenderer());
         openApiGenerator = new ServiceTemplateOpenApiGenerator(
-                openApiUrlManage, openApiGeneratorJarManage, pluginManager);
+                openApiUrlManage, openApiHtmlStore, pluginManager, 2, Runnable::run);
     }
 
     void setConfiguration(Boolean webSecurityIsEnabled, Boolean roleProtectionIsEnabled) {
@@ -99,8 +105,13 @@ class ServiceTemplateOpenApiGeneratorTest {
     void updateServiceApi() throws Exception {
         ServiceTemplateEntity serviceTemplateEntity = getServiceTemplateEntity(
                 URI.create("file:src/test/resources/ocl_terraform_test.yml").toURL());
+        String etag = openApiHtmlStore.getEtag(ID + ".html");
+        Assertions.assertNotNull(etag);
         Assertions.assertDoesNotThrow(
                 () -> openApiGenerator.updateServiceApi(serviceTemplateEntity));
+        Assertions.assertEquals(etag, openApiHtmlStore.getEtag(ID + ".html"));
+        openApiGenerator.regenerateServiceApis(List.of(serviceTemplateEntity));
+        Assertions.assertEquals(etag, openApiHtmlStore.getEtag(ID + ".html"));
     }
 
     void deleteServiceApi() {